@@ -1,7 +1,9 @@
 package kt.aivle.analytics.adapter.in.web;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.http.ResponseEntity;
@@ -13,9 +15,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import kt.aivle.analytics.adapter.in.web.dto.response.BatchJobStatusResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.BatchOperationResponse;
+import kt.aivle.analytics.adapter.in.web.dto.response.PartitionCheckpointResponse;
 import kt.aivle.analytics.application.port.in.EmotionAnalysisUseCase;
 import kt.aivle.analytics.application.port.in.MetricsCollectionUseCase;
 import kt.aivle.analytics.application.service.BatchJobMonitor;
+import kt.aivle.analytics.application.service.BatchScheduler;
 import kt.aivle.common.code.CommonResponseCode;
 import kt.aivle.common.exception.BusinessException;
 import kt.aivle.common.response.ApiResponse;
@@ -31,13 +35,14 @@ public class BatchController {
     private final MetricsCollectionUseCase metricsCollectionUseCase;
     private final EmotionAnalysisUseCase emotionAnalysisUseCase;
     private final BatchJobMonitor batchJobMonitor;
+    private final BatchScheduler batchScheduler;
     
     // 공통 예외 처리 메서드
     private ResponseEntity<ApiResponse<BatchOperationResponse>> executeBatchOperation(
         String operationName, 
         Runnable operation
     ) {
-        try {
+        return handleBatchOperation(operationName, () -> {
             operation.run();
             BatchOperationResponse response = BatchOperationResponse.builder()
                 .operationName(operationName)
@@ -47,6 +52,15 @@ public class BatchController {
                 .build();
             
             return ResponseEntity.ok(ApiResponse.of(CommonResponseCode.OK, response));
+        });
+    }
+    
+    private ResponseEntity<ApiResponse<BatchOperationResponse>> handleBatchOperation(
+        String operationName, 
+        Supplier<ResponseEntity<ApiResponse<BatchOperationResponse>>> operation
+    ) {
+        try {
+            return operation.get();
         } catch (BusinessException e) {
             log.error("Business error during {}: {}", operationName, e.getMessage(), e);
             BatchOperationResponse response = BatchOperationResponse.builder()
@@ -72,12 +86,31 @@ public class BatchController {
         }
     }
     
+    // 배치 작업 시작 - 완료를 기다리지 않고 실행 ID를 반환 (진행/결과는 /status, /cursors로 확인)
+    private ResponseEntity<ApiResponse<BatchOperationResponse>> launchBatchJob(
+        String operationName,
+        Supplier<Long> launcher
+    ) {
+        return handleBatchOperation(operationName, () -> {
+            Long jobExecutionId = launcher.get();
+            BatchOperationResponse response = BatchOperationResponse.builder()
+                .operationName(operationName)
+                .status("STARTED")
+                .executedAt(LocalDateTime.now())
+                .message(operationName + " started")
+                .jobExecutionId(jobExecutionId)
+                .build();
+
+            return ResponseEntity.accepted().body(ApiResponse.of(CommonResponseCode.ACCEPTED, response));
+        });
+    }
+    
     // POST /api/analytics/batch/accounts/metrics
     @PostMapping("/accounts/metrics")
     public ResponseEntity<ApiResponse<BatchOperationResponse>> collectAllAccountMetrics() {
         log.info("Manual account metrics collection requested");
         
-        return executeBatchOperation("account metrics collection", () -> metricsCollectionUseCase.collectAccountMetrics());
+        return launchBatchJob("account metrics collection", batchScheduler::runAccountMetricsCollectionJob);
     }
     
     // POST /api/analytics/batch/accounts/{accountId}/metrics
@@ -93,7 +126,7 @@ public class BatchController {
     public ResponseEntity<ApiResponse<BatchOperationResponse>> collectAllPostMetrics() {
         log.info("Manual post metrics collection requested");
         
-        return executeBatchOperation("post metrics collection", () -> metricsCollectionUseCase.collectPostMetrics());
+        return launchBatchJob("post metrics collection", batchScheduler::runPostMetricsCollectionJob);
     }
     
     // POST /api/analytics/batch/posts/{postId}/metrics
@@ -109,7 +142,7 @@ public class BatchController {
     public ResponseEntity<ApiResponse<BatchOperationResponse>> collectAllPostComments() {
         log.info("Manual post comments collection requested");
         
-        return executeBatchOperation("post comments collection", () -> metricsCollectionUseCase.collectPostComments());
+        return launchBatchJob("post comments collection", batchScheduler::runPostCommentsCollectionJob);
     }
     
     // POST /api/analytics/batch/posts/{postId}/comments
@@ -125,11 +158,7 @@ public class BatchController {
     public ResponseEntity<ApiResponse<BatchOperationResponse>> collectAllMetrics() {
         log.info("Manual all metrics collection requested");
         
-        return executeBatchOperation("all metrics collection", () -> {
-            metricsCollectionUseCase.collectAccountMetrics();
-            metricsCollectionUseCase.collectPostMetrics();
-            metricsCollectionUseCase.collectPostComments();
-        });
+        return launchBatchJob("all metrics collection", batchScheduler::runDailyMetricsCollectionJobNow);
     }
     
     // POST /api/analytics/batch/emotion-analysis
@@ -177,6 +206,31 @@ public class BatchController {
         return ResponseEntity.ok(ApiResponse.of(CommonResponseCode.OK, response));
     }
     
+    // GET /api/analytics/batch/cursors
+    @GetMapping("/cursors")
+    public ResponseEntity<ApiResponse<List<PartitionCheckpointResponse>>> getPartitionCheckpoints() {
+        log.info("Batch partition checkpoints requested");
+        
+        List<PartitionCheckpointResponse> response = batchJobMonitor.getPartitionCheckpoints().stream()
+            .map(checkpoint -> PartitionCheckpointResponse.builder()
+                .jobName(checkpoint.jobName())
+                .jobInstanceId(checkpoint.jobInstanceId())
+                .jobExecutionId(checkpoint.jobExecutionId())
+                .jobStatus(checkpoint.jobStatus())
+                .stepName(checkpoint.stepName())
+                .status(checkpoint.status())
+                .minId(checkpoint.minId())
+                .maxId(checkpoint.maxId())
+                .lastProcessedId(checkpoint.lastProcessedId())
+                .readCount(checkpoint.readCount())
+                .writeCount(checkpoint.writeCount())
+                .updatedAt(checkpoint.updatedAt())
+                .build())
+            .toList();
+        
+        return ResponseEntity.ok(ApiResponse.of(CommonResponseCode.OK, response));
+    }
+    
     private BatchJobStatusResponse convertToBatchJobStatusResponse(String jobName, BatchJobMonitor.BatchJobStatus status) {
         return BatchJobStatusResponse.builder()
             .jobName(jobName)
@@ -185,6 +239,7 @@ public class BatchController {
             .endTime(status.getEndTime())
             .progress(status.getProcessed())
             .totalItems(status.getTotal())
+            .throughput(status.getThroughput())
             .errorMessage(status.getError())
             .build();
     }
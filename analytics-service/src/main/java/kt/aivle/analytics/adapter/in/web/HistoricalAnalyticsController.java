@@ -11,8 +11,10 @@ import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kt.aivle.analytics.adapter.in.web.dto.response.AccountMetricsResponse;
+import kt.aivle.analytics.adapter.in.web.dto.response.AccountMetricsSeriesResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.EmotionAnalysisResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostMetricsResponse;
+import kt.aivle.analytics.adapter.in.web.dto.response.PostMetricsSeriesResponse;
 import kt.aivle.analytics.application.port.in.AnalyticsQueryUseCase;
 import kt.aivle.common.code.CommonResponseCode;
 import kt.aivle.common.response.ApiResponse;
@@ -52,6 +54,35 @@ public class HistoricalAnalyticsController {
         return ResponseEntity.ok(ApiResponse.of(CommonResponseCode.OK, response));
     }
     
+    @Operation(summary = "게시물 메트릭 시계열 조회", description = "기간(from~to)의 게시물 메트릭을 points개 이하의 구간별 최댓값으로 다운샘플링하여 조회합니다.")
+    @GetMapping("/posts/metrics/series")
+    public ResponseEntity<ApiResponse<PostMetricsSeriesResponse>> getHistoricalPostMetricsSeries(
+            @RequestParam("from") String fromStr,
+            @RequestParam("to") String toStr,
+            @RequestParam("accountId") Long accountId,
+            @RequestParam(value = "postId", required = false) Long postId,
+            @RequestParam(value = "points", required = false) Integer points,
+            @RequestHeader("X-USER-ID") Long userId) {
+        
+        PostMetricsSeriesResponse response = analyticsQueryUseCase.getHistoricalPostMetricsSeries(userId, fromStr, toStr, accountId, postId, points);
+        
+        return ResponseEntity.ok(ApiResponse.of(CommonResponseCode.OK, response));
+    }
+    
+    @Operation(summary = "계정 메트릭 시계열 조회", description = "기간(from~to)의 계정 메트릭을 points개 이하의 구간별 최댓값으로 다운샘플링하여 조회합니다.")
+    @GetMapping("/accounts/metrics/series")
+    public ResponseEntity<ApiResponse<AccountMetricsSeriesResponse>> getHistoricalAccountMetricsSeries(
+            @RequestParam("from") String fromStr,
+            @RequestParam("to") String toStr,
+            @RequestParam("accountId") Long accountId,
+            @RequestParam(value = "points", required = false) Integer points,
+            @RequestHeader("X-USER-ID") Long userId) {
+        
+        AccountMetricsSeriesResponse response = analyticsQueryUseCase.getHistoricalAccountMetricsSeries(userId, fromStr, toStr, accountId, points);
+        
+        return ResponseEntity.ok(ApiResponse.of(CommonResponseCode.OK, response));
+    }
+    
     
     @Operation(summary = "히스토리 게시물 감정분석 조회", description = "특정 날짜의 게시물 댓글 감정분석 결과와 키워드를 조회합니다.")
     @GetMapping("/posts/emotion-analysis")
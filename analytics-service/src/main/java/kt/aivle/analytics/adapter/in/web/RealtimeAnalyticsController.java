@@ -3,6 +3,8 @@ package kt.aivle.analytics.adapter.in.web;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -13,8 +15,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import kt.aivle.analytics.adapter.in.web.dto.response.AccountMetricsResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostCommentsPageResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostMetricsResponse;
+import kt.aivle.analytics.adapter.in.web.dto.response.ReportJobResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.ReportResponse;
 import kt.aivle.analytics.application.port.in.AnalyticsQueryUseCase;
+import kt.aivle.analytics.application.port.in.ReportJobUseCase;
 import kt.aivle.common.code.CommonResponseCode;
 import kt.aivle.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class RealtimeAnalyticsController {
     
     private final AnalyticsQueryUseCase analyticsQueryUseCase;
+    private final ReportJobUseCase reportJobUseCase;
     
     @Operation(summary = "실시간 게시물 메트릭 조회", description = "특정 게시물의 실시간 메트릭을 조회합니다.")
     @GetMapping("/posts/metrics")
@@ -68,7 +73,7 @@ public class RealtimeAnalyticsController {
         return ResponseEntity.ok(ApiResponse.of(CommonResponseCode.OK, response));
     }
     
-    @Operation(summary = "AI 분석 보고서 조회", description = "특정 게시물의 AI 분석 보고서를 조회합니다. (캐시 포함)")
+    @Operation(summary = "AI 분석 보고서 조회", description = "특정 게시물의 AI 분석 보고서를 조회합니다. (캐시 포함, 생성이 끝날 때까지 응답 대기 - 작업 API 사용 권장)")
     @GetMapping("/posts/report")
     public ResponseEntity<ApiResponse<ReportResponse>> generateReport(
             @RequestParam("accountId") Long accountId,
@@ -84,7 +89,29 @@ public class RealtimeAnalyticsController {
         return ResponseEntity.ok(ApiResponse.of(CommonResponseCode.OK, response));
     }
     
-
+    @Operation(summary = "AI 분석 보고서 생성 작업 등록", description = "보고서 생성 작업을 등록하고 작업 ID를 바로 반환합니다. 결과는 작업 조회 API 또는 WebSocket(subscribe_job)으로 받습니다.")
+    @PostMapping("/posts/report/jobs")
+    public ResponseEntity<ApiResponse<ReportJobResponse>> enqueueReport(
+            @RequestParam("accountId") Long accountId,
+            @RequestParam("postId") Long postId,
+            @RequestHeader("X-USER-ID") Long userId,
+            @RequestHeader("X-STORE-ID") Long storeId) {
+        
+        ReportJobResponse response = reportJobUseCase.enqueueReport(userId, accountId, postId, storeId);
+        
+        return ResponseEntity.accepted().body(ApiResponse.of(CommonResponseCode.ACCEPTED, response));
+    }
+    
+    @Operation(summary = "AI 분석 보고서 생성 작업 조회", description = "보고서 생성 작업 상태를 조회합니다. 완료된 작업은 보고서를 포함합니다.")
+    @GetMapping("/posts/report/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<ReportJobResponse>> getReportJob(
+            @PathVariable("jobId") Long jobId,
+            @RequestParam("accountId") Long accountId) {
+        
+        ReportJobResponse response = reportJobUseCase.getReportJob(accountId, jobId);
+        
+        return ResponseEntity.ok(ApiResponse.of(CommonResponseCode.OK, response));
+    }
 }
 
 
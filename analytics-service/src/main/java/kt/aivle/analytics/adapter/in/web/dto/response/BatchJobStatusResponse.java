@@ -18,5 +18,6 @@ public class BatchJobStatusResponse {
     private LocalDateTime endTime;
     private Integer progress;
     private Integer totalItems;
+    private Double throughput;
     private String errorMessage;
 }
@@ -18,4 +18,5 @@ public class BatchOperationResponse {
     private String message;
     private Long processedCount;
     private Long failedCount;
+    private Long jobExecutionId;
 }
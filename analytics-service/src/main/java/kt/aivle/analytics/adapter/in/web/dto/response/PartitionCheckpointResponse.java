@@ -0,0 +1,27 @@
+package kt.aivle.analytics.adapter.in.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartitionCheckpointResponse {
+    private String jobName;
+    private Long jobInstanceId;
+    private Long jobExecutionId;
+    private String jobStatus;
+    private String stepName;        // 파티션 스텝 (예: collectPostMetricsWorkerStep:partition0)
+    private String status;
+    private Long minId;             // 파티션 구간 (minId, maxId]
+    private Long maxId;
+    private Long lastProcessedId;   // 마지막 커밋된 청크의 끝 ID (재시작 시 이후부터 수집)
+    private Long readCount;
+    private Long writeCount;
+    private LocalDateTime updatedAt;
+}
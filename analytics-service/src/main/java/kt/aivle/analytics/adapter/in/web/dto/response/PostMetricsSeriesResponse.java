@@ -0,0 +1,22 @@
+package kt.aivle.analytics.adapter.in.web.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostMetricsSeriesResponse {
+    private Long postId;           // Local DB ID
+    private Long accountId;        // Local Account ID
+    private LocalDate from;        // 조회 시작일 (포함)
+    private LocalDate to;          // 조회 종료일 (포함)
+    private long rawCount;         // 다운샘플링 전 원본 데이터 수
+    private List<PostMetricsResponse> points; // 시간순 데이터 포인트 (구간별 최댓값)
+}
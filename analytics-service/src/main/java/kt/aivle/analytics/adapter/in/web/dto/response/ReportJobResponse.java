@@ -0,0 +1,23 @@
+package kt.aivle.analytics.adapter.in.web.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobResponse {
+    private Long jobId;
+    private Long postId;
+    private String status;          // QUEUED, RUNNING, COMPLETED, FAILED
+    private Integer attempts;       // 처리 시도 횟수
+    private ReportResponse report;  // COMPLETED일 때만
+    private String errorMessage;    // 재시도 대기 또는 FAILED일 때 마지막 오류
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,99 @@
+package kt.aivle.analytics.adapter.in.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import kt.aivle.analytics.adapter.in.websocket.dto.MessageType;
+import kt.aivle.analytics.adapter.in.websocket.dto.WebSocketResponseMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보고서 진행/완료 이벤트를 Redis pub/sub으로 모든 인스턴스에 전달
+ * - 보고서를 생성하는 인스턴스와 클라이언트가 연결된 인스턴스가 달라도 이벤트가 전달됨
+ * - 마지막 진행/완료 이벤트(조각 제외)는 잠시 보관하여 다른 연결에서 이어받을 때 먼저 전송
+ * - Redis 장애 시에는 이 인스턴스의 세션에만 직접 전달
+ * 메시지 형식: 보고서 키 + 줄바꿈 + WebSocket 메시지 JSON
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportEventRelay implements MessageListener {
+
+    private static final String CHANNEL = "analytics:report-ws:events";
+    private static final String LAST_EVENT_KEY_PREFIX = "analytics:report-ws:last:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ReportSessionRegistry sessionRegistry;
+    private final ObjectMapper objectMapper;
+
+    // 이어받기용 마지막 이벤트 보관 기간 (보고서 캐시 TTL과 같게)
+    @Value("${app.websocket.last-event-ttl-seconds:3600}")
+    private long lastEventTtlSeconds;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    void publish(String reportKey, WebSocketResponseMessage<?> message) {
+        String jsonMessage;
+        try {
+            jsonMessage = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.error("[WebSocket] 메시지 직렬화 실패 - reportKey: {}, error: {}", reportKey, e.getMessage());
+            return;
+        }
+
+        try {
+            if (message.getType() != MessageType.CHUNK) {
+                redisTemplate.opsForValue().set(LAST_EVENT_KEY_PREFIX + reportKey, jsonMessage, Duration.ofSeconds(lastEventTtlSeconds));
+            }
+            redisTemplate.convertAndSend(CHANNEL, reportKey + "\n" + jsonMessage);
+        } catch (Exception e) {
+            log.warn("[WebSocket] 이벤트 발행 실패, 로컬 세션에만 전달 - reportKey: {}, error: {}", reportKey, e.getMessage());
+            sessionRegistry.deliver(reportKey, jsonMessage);
+        }
+    }
+
+    /**
+     * 이어받기 - 보관 중인 마지막 이벤트를 세션에 전송
+     * @return 마지막 이벤트가 있었는지 여부
+     */
+    boolean replayLastEvent(String reportKey, ReportSession reportSession) {
+        try {
+            String lastEvent = redisTemplate.opsForValue().get(LAST_EVENT_KEY_PREFIX + reportKey);
+            if (lastEvent == null) {
+                return false;
+            }
+            reportSession.send(lastEvent);
+            return true;
+        } catch (Exception e) {
+            log.warn("[WebSocket] 마지막 이벤트 조회 실패 - reportKey: {}, error: {}", reportKey, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\n');
+        if (separator < 0) {
+            return;
+        }
+        sessionRegistry.deliver(body.substring(0, separator), body.substring(separator + 1));
+    }
+}
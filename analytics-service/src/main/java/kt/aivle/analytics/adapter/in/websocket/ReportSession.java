@@ -0,0 +1,83 @@
+package kt.aivle.analytics.adapter.in.websocket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import kt.aivle.analytics.adapter.in.web.dto.response.ReportResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket 연결 하나의 보고서 작업 상태
+ * - 요청 ID별 진행 중 작업 (한 세션에서 여러 보고서를 동시에 생성)
+ * - 수신 중인 요청 ID (다른 인스턴스에서 시작된 보고서를 이어받은 경우 포함)
+ * - 전송은 크기/시간 제한이 있는 버퍼를 거침: 느린 클라이언트는 오래된 메시지부터 버리고, 전송이 멈추면 연결 종료
+ */
+@Slf4j
+class ReportSession {
+
+    private final WebSocketSession session;
+    private final Map<String, CompletableFuture<ReportResponse>> tasks = new ConcurrentHashMap<>();
+    private final Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+
+    ReportSession(WebSocketSession session, int sendTimeLimitMillis, int bufferSizeLimit) {
+        this.session = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, bufferSizeLimit,
+            ConcurrentWebSocketSessionDecorator.OverflowStrategy.DROP);
+    }
+
+    String getId() {
+        return session.getId();
+    }
+
+    boolean isOpen() {
+        return session.isOpen();
+    }
+
+    void send(String jsonMessage) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(new TextMessage(jsonMessage));
+        } catch (IOException | IllegalStateException e) {
+            log.warn("[WebSocket] 메시지 전송 실패 - sessionId: {}, error: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * @return 같은 요청 ID의 작업이 이미 있거나 세션별 최대 작업 수를 넘으면 false
+     */
+    synchronized boolean startTask(String requestId, int maxTasks) {
+        if (tasks.containsKey(requestId) || tasks.size() >= maxTasks) {
+            return false;
+        }
+        tasks.put(requestId, new CompletableFuture<>());
+        return true;
+    }
+
+    void attachTask(String requestId, CompletableFuture<ReportResponse> task) {
+        tasks.computeIfPresent(requestId, (id, placeholder) -> task);
+    }
+
+    void finishTask(String requestId) {
+        tasks.remove(requestId);
+    }
+
+    void subscribe(String requestId) {
+        subscriptions.add(requestId);
+    }
+
+    void unsubscribe(String requestId) {
+        subscriptions.remove(requestId);
+    }
+
+    Set<String> getSubscriptions() {
+        return subscriptions;
+    }
+}
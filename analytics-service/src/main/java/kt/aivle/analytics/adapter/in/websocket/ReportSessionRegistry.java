@@ -0,0 +1,79 @@
+package kt.aivle.analytics.adapter.in.websocket;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 인스턴스에 연결된 보고서 WebSocket 세션 목록
+ * 보고서 이벤트는 보고서 키(계정 ID + 요청 ID)를 수신 중인 로컬 세션에만 전달합니다.
+ */
+@Slf4j
+@Component
+public class ReportSessionRegistry {
+
+    private final Map<String, ReportSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<ReportSession>> subscribers = new ConcurrentHashMap<>();
+
+    // 느린 클라이언트 전송 제한 - 전송이 이 시간 이상 멈추면 연결 종료, 버퍼가 넘치면 오래된 메시지부터 버림
+    @Value("${app.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${app.websocket.buffer-size-limit:524288}")
+    private int bufferSizeLimit;
+
+    ReportSession register(WebSocketSession session) {
+        ReportSession reportSession = new ReportSession(session, sendTimeLimitMillis, bufferSizeLimit);
+        sessions.put(session.getId(), reportSession);
+        return reportSession;
+    }
+
+    ReportSession get(WebSocketSession session) {
+        return sessions.get(session.getId());
+    }
+
+    /**
+     * 세션 종료 - 수신만 해제하고 진행 중인 보고서는 계속 생성 (완성된 보고서는 캐시되고 다른 연결에서 이어받을 수 있음)
+     */
+    void unregister(WebSocketSession session) {
+        ReportSession reportSession = sessions.remove(session.getId());
+        if (reportSession == null) {
+            return;
+        }
+        reportSession.getSubscriptions().forEach(reportKey -> removeSubscriber(reportKey, reportSession));
+    }
+
+    void subscribe(String reportKey, ReportSession reportSession) {
+        reportSession.subscribe(reportKey);
+        subscribers.computeIfAbsent(reportKey, key -> ConcurrentHashMap.newKeySet()).add(reportSession);
+    }
+
+    void unsubscribe(String reportKey, ReportSession reportSession) {
+        reportSession.unsubscribe(reportKey);
+        removeSubscriber(reportKey, reportSession);
+    }
+
+    /**
+     * 보고서 이벤트를 수신 중인 로컬 세션에 전달
+     */
+    void deliver(String reportKey, String jsonMessage) {
+        Set<ReportSession> targets = subscribers.get(reportKey);
+        if (targets == null) {
+            return;
+        }
+        targets.forEach(target -> target.send(jsonMessage));
+    }
+
+    private void removeSubscriber(String reportKey, ReportSession reportSession) {
+        subscribers.computeIfPresent(reportKey, (key, targets) -> {
+            targets.remove(reportSession);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+}
@@ -1,23 +1,29 @@
 package kt.aivle.analytics.adapter.in.websocket;
 
-import java.io.IOException;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.CompletionException;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import kt.aivle.analytics.adapter.in.web.dto.response.ReportJobResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.ReportResponse;
 import kt.aivle.analytics.adapter.in.websocket.dto.MessageType;
 import kt.aivle.analytics.adapter.in.websocket.dto.ReportRequestMessage;
 import kt.aivle.analytics.adapter.in.websocket.dto.WebSocketResponseMessage;
 import kt.aivle.analytics.application.port.in.AnalyticsQueryUseCase;
+import kt.aivle.analytics.application.event.ReportJobFinishedEvent;
+import kt.aivle.analytics.application.port.in.ProgressCallback;
+import kt.aivle.analytics.application.port.in.ReportJobUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,18 +32,26 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ReportWebSocketHandler extends TextWebSocketHandler {
 
+    // 보고서 조각 전송 중 진행률 (AI 생성 단계 시작 값과 동일)
+    private static final int REPORT_STREAMING_PERCENTAGE = 60;
+
     private final AnalyticsQueryUseCase analyticsQueryUseCase;
+    private final ReportJobUseCase reportJobUseCase;
     private final ObjectMapper objectMapper;
+    private final ReportSessionRegistry sessionRegistry;
+    private final ReportEventRelay eventRelay;
     
-    private final AtomicLong taskCounter = new AtomicLong(0);
-    private final ConcurrentHashMap<String, CompletableFuture<ReportResponse>> activeTasks = new ConcurrentHashMap<>();
+    // 한 세션에서 동시에 생성할 수 있는 보고서 수
+    @Value("${app.websocket.max-reports-per-session:3}")
+    private int maxReportsPerSession;
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         log.info("[WebSocket] 연결 수립: {}", session.getId());
+        ReportSession reportSession = sessionRegistry.register(session);
         
         // 연결 성공 메시지 전송
-        sendMessage(session, WebSocketResponseMessage.<Void>builder()
+        sendDirect(reportSession, WebSocketResponseMessage.<Void>builder()
             .type(MessageType.PROGRESS)
             .percentage(0)
             .message("WebSocket 연결이 성공했습니다!")
@@ -49,19 +63,26 @@ public class ReportWebSocketHandler extends TextWebSocketHandler {
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         String payload = message.getPayload();
         log.info("[WebSocket] 메시지 수신: {}", payload);
+        
+        ReportSession reportSession = sessionRegistry.get(session);
+        if (reportSession == null) {
+            return;
+        }
 
         try {
             ReportRequestMessage request = objectMapper.readValue(payload, ReportRequestMessage.class);
             
-            if ("generate_report".equals(request.getAction())) {
-                processReportAsync(session, request);
-            } else {
-                sendMessage(session, WebSocketResponseMessage.error("지원하지 않는 액션: " + request.getAction()));
+            switch (request.getAction() != null ? request.getAction() : "") {
+                case "generate_report" -> processReportAsync(reportSession, request);
+                case "resume_report" -> resumeReport(reportSession, request);
+                case "cancel_report" -> cancelReport(reportSession, request);
+                case "subscribe_job" -> subscribeJob(reportSession, request);
+                default -> sendDirect(reportSession, WebSocketResponseMessage.error("지원하지 않는 액션: " + request.getAction()));
             }
             
         } catch (Exception e) {
             log.error("[WebSocket] 메시지 처리 오류: {}", e.getMessage(), e);
-            sendMessage(session, WebSocketResponseMessage.error("메시지 처리 오류: " + e.getMessage()));
+            sendDirect(reportSession, WebSocketResponseMessage.error("메시지 처리 오류: " + e.getMessage()));
         }
     }
 
@@ -69,81 +90,185 @@ public class ReportWebSocketHandler extends TextWebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         log.info("[WebSocket] 연결 종료: {} - {}", session.getId(), status);
         
-        // 활성 작업 정리
-        activeTasks.values().forEach(task -> task.cancel(true));
-        activeTasks.clear();
+        // 이 세션의 수신만 해제 (다른 세션의 작업과 생성 중인 보고서에는 영향 없음)
+        sessionRegistry.unregister(session);
     }
 
-    private void processReportAsync(WebSocketSession session, ReportRequestMessage request) {
-        String taskId = "task-" + taskCounter.incrementAndGet();
+    private void processReportAsync(ReportSession reportSession, ReportRequestMessage request) {
+        String requestId = request.getRequestId() != null && !request.getRequestId().isBlank()
+            ? request.getRequestId()
+            : UUID.randomUUID().toString();
+        String reportKey = reportKey(request.getAccountId(), requestId);
         
-        log.info("[WebSocket] AI 분석 보고서 생성 요청 - postId: {}, accountId: {}, storeId: {}", 
-            request.getPostId(), request.getAccountId(), request.getStoreId());
+        log.info("[WebSocket] AI 분석 보고서 생성 요청 - requestId: {}, postId: {}, accountId: {}, storeId: {}", 
+            requestId, request.getPostId(), request.getAccountId(), request.getStoreId());
         
-        // 중복 요청 방지: 이미 진행 중인 작업이 있는지 확인
-        if (!activeTasks.isEmpty()) {
-            log.info("[WebSocket] 이미 진행 중인 작업이 있습니다. 요청을 무시합니다. - sessionId: {}", session.getId());
-            return; // 조용히 무시
+        // 같은 요청 ID 중복 실행과 세션별 동시 작업 수 초과만 거절 (다른 요청/세션은 영향 없음)
+        if (!reportSession.startTask(reportKey, maxReportsPerSession)) {
+            log.info("[WebSocket] 보고서 요청 거절 - sessionId: {}, requestId: {}", reportSession.getId(), requestId);
+            sendDirect(reportSession, withRequestId(WebSocketResponseMessage.error(
+                "이미 진행 중인 요청이거나 동시에 생성할 수 있는 보고서 수(" + maxReportsPerSession + ")를 넘었습니다."), requestId));
+            return;
         }
+        sessionRegistry.subscribe(reportKey, reportSession);
         
         // 진행률 전송 시작
-        sendMessage(session, WebSocketResponseMessage.progress(10, "AI 분석 보고서 생성을 시작합니다..."));
+        publish(reportKey, requestId, WebSocketResponseMessage.progress(10, "AI 분석 보고서 생성을 시작합니다..."));
         
         // accountId로 userId 조회 후 AI 분석 진행
         // userId는 sns_account 테이블에서 조회하여 사용
-        CompletableFuture<ReportResponse> reportFuture = analyticsQueryUseCase.generateReportAsync(
-            request.getAccountId(), 
-            request.getPostId(), 
-            request.getStoreId(),
-            (progress, message) -> {
-                // 진행률 콜백으로 WebSocket 메시지 전송
-                sendMessage(session, WebSocketResponseMessage.progress(progress, message));
-            }
-        )
-        .whenComplete((reportResponse, throwable) -> {
+        CompletableFuture<ReportResponse> reportFuture;
+        try {
+            reportFuture = analyticsQueryUseCase.generateReportAsync(
+                request.getAccountId(), 
+                request.getPostId(), 
+                request.getStoreId(),
+                new ProgressCallback() {
+                    @Override
+                    public void onProgress(int percentage, String message) {
+                        // 진행률은 이벤트로 발행되어 이 보고서를 수신 중인 모든 인스턴스의 세션에 전달
+                        publish(reportKey, requestId, WebSocketResponseMessage.progress(percentage, message));
+                    }
+                    
+                    @Override
+                    public void onChunk(String chunk) {
+                        // AI 서버에서 받은 마크다운 조각을 바로 전달 (완료 메시지에는 전체 보고서 포함)
+                        publish(reportKey, requestId, WebSocketResponseMessage.chunk(chunk, REPORT_STREAMING_PERCENTAGE));
+                    }
+                }
+            );
+        } catch (Exception e) {
+            reportFuture = CompletableFuture.failedFuture(e);
+        }
+        
+        reportFuture = reportFuture.whenComplete((reportResponse, throwable) -> {
             if (throwable != null) {
-                // 에러 발생 시
-                log.error("[WebSocket] AI 분석 처리 오류: {}", throwable.getMessage(), throwable);
-                sendMessage(session, WebSocketResponseMessage.error("AI 분석 처리 오류: " + throwable.getMessage()));
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable;
+                log.error("[WebSocket] AI 분석 처리 오류 - requestId: {}, error: {}", requestId, cause.getMessage(), cause);
+                publish(reportKey, requestId, WebSocketResponseMessage.error("AI 분석 처리 오류: " + cause.getMessage()));
             } else {
                 // 성공 시 최종 완료 메시지 전송
-                sendMessage(session, WebSocketResponseMessage.complete(reportResponse, "AI 분석 보고서가 완성되었습니다!"));
+                publish(reportKey, requestId, WebSocketResponseMessage.complete(reportResponse, "AI 분석 보고서가 완성되었습니다!"));
             }
             
-            // 작업 정리
-            activeTasks.remove(taskId);
-            
-            // 완료 후 연결 유지를 위한 지연 (캐싱된 데이터 처리 시 중요)
-            if (isSessionActive(session)) {
-                try {
-                    Thread.sleep(200); // 200ms 지연으로 연결 안정화
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
+            // 작업 정리 (완료 이벤트가 전달되도록 수신은 연결 종료/취소 시 해제)
+            reportSession.finishTask(reportKey);
         });
         
-        // 작업 추적 - 실제 CompletableFuture를 저장
-        activeTasks.put(taskId, reportFuture);
+        // 작업 추적 - 실제 CompletableFuture를 저장 (이미 끝났으면 추적하지 않음)
+        if (!reportFuture.isDone()) {
+            reportSession.attachTask(reportKey, reportFuture);
+        }
+    }
+    
+    /**
+     * 다른 연결(다른 인스턴스 포함)에서 시작한 보고서를 이어받기 - 마지막 이벤트를 먼저 보내고 이후 이벤트를 수신
+     */
+    private void resumeReport(ReportSession reportSession, ReportRequestMessage request) {
+        if (request.getRequestId() == null || request.getAccountId() == null) {
+            sendDirect(reportSession, WebSocketResponseMessage.error("이어받을 보고서의 requestId와 accountId가 필요합니다."));
+            return;
+        }
+        String reportKey = reportKey(request.getAccountId(), request.getRequestId());
+        
+        sessionRegistry.subscribe(reportKey, reportSession);
+        if (!eventRelay.replayLastEvent(reportKey, reportSession)) {
+            sessionRegistry.unsubscribe(reportKey, reportSession);
+            sendDirect(reportSession, withRequestId(
+                WebSocketResponseMessage.error("이어받을 보고서를 찾을 수 없습니다."), request.getRequestId()));
+            return;
+        }
+        log.info("[WebSocket] 보고서 이어받기 - sessionId: {}, requestId: {}", reportSession.getId(), request.getRequestId());
+    }
+    
+    /**
+     * 이 세션의 보고서 수신 중단 (이미 시작된 생성은 계속되어 캐시에 저장됨)
+     */
+    private void cancelReport(ReportSession reportSession, ReportRequestMessage request) {
+        if (request.getRequestId() == null || request.getAccountId() == null) {
+            sendDirect(reportSession, WebSocketResponseMessage.error("취소할 보고서의 requestId와 accountId가 필요합니다."));
+            return;
+        }
+        String reportKey = reportKey(request.getAccountId(), request.getRequestId());
+        
+        sessionRegistry.unsubscribe(reportKey, reportSession);
+        reportSession.finishTask(reportKey);
+        sendDirect(reportSession, withRequestId(
+            WebSocketResponseMessage.progress(0, "보고서 수신을 중단했습니다."), request.getRequestId()));
     }
     
-    private void sendMessage(WebSocketSession session, WebSocketResponseMessage<?> message) {
+    /**
+     * REST로 등록한 보고서 작업의 완료 알림 수신 - 현재 상태를 먼저 보내고, 완료/실패 시 이벤트로 결과 전달
+     */
+    private void subscribeJob(ReportSession reportSession, ReportRequestMessage request) {
+        if (request.getJobId() == null || request.getAccountId() == null) {
+            sendDirect(reportSession, WebSocketResponseMessage.error("보고서 작업의 jobId와 accountId가 필요합니다."));
+            return;
+        }
+        String requestId = jobRequestId(request.getJobId());
+        String reportKey = reportKey(request.getAccountId(), requestId);
+        
+        // 상태 조회 전에 수신을 시작해야 조회 직후 끝난 작업의 알림도 받음
+        sessionRegistry.subscribe(reportKey, reportSession);
+        try {
+            ReportJobResponse reportJob = reportJobUseCase.getReportJob(request.getAccountId(), request.getJobId());
+            sendDirect(reportSession, withRequestId(jobMessage(reportJob), requestId));
+        } catch (Exception e) {
+            sessionRegistry.unsubscribe(reportKey, reportSession);
+            sendDirect(reportSession, withRequestId(WebSocketResponseMessage.error(e.getMessage()), requestId));
+        }
+    }
+    
+    /**
+     * 보고서 작업이 끝나면 작업을 수신 중인 세션(다른 인스턴스 포함)에 결과 전달
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportJobFinished(ReportJobFinishedEvent event) {
+        String requestId = jobRequestId(event.jobId());
+        try {
+            ReportJobResponse reportJob = reportJobUseCase.getReportJob(event.accountId(), event.jobId());
+            publish(reportKey(event.accountId(), requestId), requestId, jobMessage(reportJob));
+        } catch (Exception e) {
+            log.warn("[WebSocket] 보고서 작업 알림 실패 - jobId: {}, error: {}", event.jobId(), e.getMessage());
+        }
+    }
+    
+    private WebSocketResponseMessage<?> jobMessage(ReportJobResponse reportJob) {
+        return switch (reportJob.getStatus()) {
+            case "COMPLETED" -> WebSocketResponseMessage.complete(reportJob.getReport(), "AI 분석 보고서가 완성되었습니다!");
+            case "FAILED" -> WebSocketResponseMessage.error("AI 분석 처리 오류: " + reportJob.getErrorMessage());
+            case "RUNNING" -> WebSocketResponseMessage.progress(10, "AI 분석 보고서를 생성하고 있습니다.");
+            default -> WebSocketResponseMessage.progress(0, "보고서 생성 대기 중입니다.");
+        };
+    }
+    
+    private String jobRequestId(Long jobId) {
+        return "job:" + jobId;
+    }
+    
+    private void publish(String reportKey, String requestId, WebSocketResponseMessage<?> message) {
+        eventRelay.publish(reportKey, withRequestId(message, requestId));
+    }
+    
+    // 이벤트를 거치지 않고 이 세션에만 전송 (연결/요청 오류 응답)
+    private void sendDirect(ReportSession reportSession, WebSocketResponseMessage<?> message) {
         try {
-            // 세션 상태 확인
-            if (!isSessionActive(session)) {
-                log.warn("[WebSocket] 비활성 세션에 메시지 전송 시도 - sessionId: {}", session.getId());
-                return;
-            }
-            
             String jsonMessage = objectMapper.writeValueAsString(message);
-            session.sendMessage(new TextMessage(jsonMessage));
+            reportSession.send(jsonMessage);
             log.info("[WebSocket] 메시지 전송: {}", jsonMessage);
-        } catch (IOException e) {
-            log.error("[WebSocket] 메시지 전송 실패: {}", e.getMessage(), e);
+        } catch (JsonProcessingException e) {
+            log.error("[WebSocket] 메시지 직렬화 실패: {}", e.getMessage(), e);
         }
     }
     
-    private boolean isSessionActive(WebSocketSession session) {
-        return session != null && session.isOpen();
+    private <T> WebSocketResponseMessage<T> withRequestId(WebSocketResponseMessage<T> message, String requestId) {
+        message.setRequestId(requestId);
+        return message;
+    }
+    
+    // 요청 ID는 클라이언트가 정하므로 계정 단위로 구분
+    private String reportKey(Long accountId, String requestId) {
+        return accountId + ":" + requestId;
     }
 }
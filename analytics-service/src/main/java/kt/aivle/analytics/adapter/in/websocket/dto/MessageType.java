@@ -2,6 +2,7 @@ package kt.aivle.analytics.adapter.in.websocket.dto;
 
 public enum MessageType {
     PROGRESS,   // 진행상황
+    CHUNK,      // 보고서 마크다운 조각 (스트리밍)
     COMPLETE,   // 완료
     ERROR       // 에러
 }
@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ReportRequestMessage {
-    private String action;
+    private String action;              // generate_report, resume_report, cancel_report, subscribe_job
+    private String requestId;           // 세션 내 보고서 식별자 (없으면 서버가 생성), 다른 인스턴스에서 이어받을 때도 사용
+    private Long jobId;                 // subscribe_job: REST로 등록한 보고서 작업 ID
     private Long postId;
     private Long accountId;
     private Long storeId;
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class WebSocketResponseMessage<T> {
-    private MessageType type;           // PROGRESS, COMPLETE, ERROR
+    private MessageType type;           // PROGRESS, CHUNK, COMPLETE, ERROR
+    private String requestId;           // 보고서 요청 식별자 (한 세션에서 여러 보고서를 구분)
     private T result;                   // 제네릭 결과 타입 (null 가능)
     private int percentage;             // 0-100 진행률
     private String message;             // 상태 메시지
@@ -26,6 +27,16 @@ public class WebSocketResponseMessage<T> {
             .build();
     }
     
+    // result에 마크다운 조각, 진행률은 AI 생성 단계 값 유지
+    public static WebSocketResponseMessage<String> chunk(String chunk, int percentage) {
+        return WebSocketResponseMessage.<String>builder()
+            .type(MessageType.CHUNK)
+            .result(chunk)
+            .percentage(percentage)
+            .timestamp(System.currentTimeMillis())
+            .build();
+    }
+    
     public static <T> WebSocketResponseMessage<T> complete(T result, String message) {
         return WebSocketResponseMessage.<T>builder()
             .type(MessageType.COMPLETE)
@@ -1,9 +1,8 @@
 package kt.aivle.analytics.adapter.out.event;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
 import org.springframework.stereotype.Component;
@@ -20,6 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SnsServiceAdapter implements SnsServicePort {
 
+    private static final Duration REPLY_TIMEOUT = Duration.ofSeconds(60);
+
     private final ReplyingKafkaTemplate<String, PostInfoRequestMessage, PostInfoResponseMessage> replyingKafkaTemplate;
 
     @Override
@@ -36,19 +37,17 @@ public class SnsServiceAdapter implements SnsServicePort {
         ProducerRecord<String, PostInfoRequestMessage> record =
                 new ProducerRecord<>(Topics.POST_INFO_REQUEST, String.valueOf(postId), request);
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                ConsumerRecord<String, PostInfoResponseMessage> response = 
-                    replyingKafkaTemplate.sendAndReceive(record).get(60, TimeUnit.SECONDS);
-                
+        // 응답 대기에 스레드를 점유하지 않도록 요청/응답 future를 그대로 반환 (응답 제한 시간은 템플릿에 전달)
+        return replyingKafkaTemplate.sendAndReceive(record, REPLY_TIMEOUT)
+            .thenApply(response -> {
                 log.info("📨 [KAFKA] Received response - postId: {}, topic: {}, partition: {}, offset: {}, title: {}", 
                         postId, response.topic(), response.partition(), response.offset(), response.value().getTitle());
-                
                 return response.value();
-            } catch (Exception e) {
-                log.error("❌ [KAFKA] Failed - postId: {}, topic: {}, error: {}", postId, Topics.POST_INFO_REQUEST, e.getMessage());
-                throw new RuntimeException(e);
-            }
-        });
+            })
+            .whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    log.error("❌ [KAFKA] Failed - postId: {}, topic: {}, error: {}", postId, Topics.POST_INFO_REQUEST, throwable.getMessage());
+                }
+            });
     }
 }
@@ -1,10 +1,16 @@
 package kt.aivle.analytics.adapter.out.infrastructure;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +20,9 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import kt.aivle.analytics.adapter.out.infrastructure.dto.AiReportRequest;
 import kt.aivle.analytics.adapter.out.infrastructure.dto.AiReportResponse;
 import kt.aivle.analytics.application.port.out.dto.AiAnalysisRequest;
@@ -34,12 +43,19 @@ public class AiAnalysisAdapter implements AiAnalysisPort {
     
     private final RestTemplate restTemplate;
     private final PostCommentKeywordRepositoryPort keywordRepository;
+    private final ObjectMapper objectMapper;
+    
+    // 스트리밍 응답은 도착하는 대로 처리하므로 응답 대기에 스레드를 점유하지 않는 JDK HttpClient 사용
+    private final HttpClient streamingHttpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(60))
+        .build();
     
     @Value("${ai.origin-url}")
     private String aiOriginUrl;
     
-    // 처리 중인 AI 분석 작업을 추적하는 캐시
-    private final Map<Long, CompletableFuture<AiReportResponse>> processingTasks = new ConcurrentHashMap<>();
+    // 스트리밍 보고서 전체 제한 시간 (기존 동기 호출 읽기 타임아웃과 동일)
+    @Value("${app.report.streaming.timeout-seconds:900}")
+    private long streamingTimeoutSeconds;
     
     @Override
     public AiAnalysisResponse analyzeComments(List<SnsPostCommentMetric> comments, Long postId) {
@@ -103,43 +119,14 @@ public class AiAnalysisAdapter implements AiAnalysisPort {
         }
     }
     
+    /**
+     * 같은 보고서의 중복 생성 방지는 서비스 계층의 보고서 임대(ReportLeasePort)가 인스턴스 간에 담당
+     */
     @Override
     public AiReportResponse generateReport(AiReportRequest request, Long storeId) {
-        Long postId = request.getMetrics().getPostId();
-        log.info("[AI] adapter request - postId: {}, storeId: {}", postId, storeId);
-        try {
-            // 1. 이미 처리 중인지 확인
-            CompletableFuture<AiReportResponse> existingTask = processingTasks.get(postId);
-            if (existingTask != null && !existingTask.isDone()) {
-                log.info("🔄 [AI] Already processing postId: {}, waiting for existing task", postId);
-                try {
-                    return existingTask.get(10, TimeUnit.MINUTES); // 기존 작업 완료 대기
-                } catch (Exception e) {
-                    log.warn("Existing task failed for postId: {}, starting new one", postId);
-                    processingTasks.remove(postId);
-                }
-            }
-            
-            // 2. 새 작업 시작
-            CompletableFuture<AiReportResponse> newTask = CompletableFuture.supplyAsync(() -> {
-                try {
-                    return callAiService(request, storeId);
-                } finally {
-                    processingTasks.remove(postId); // 완료 후 제거
-                }
-            });
-            
-            processingTasks.put(postId, newTask);
-            
-            log.info("🤖 [AI] Starting new analysis - postId: {}, title: {}", postId, request.getTitle());
-            
-            return newTask.get(10, TimeUnit.MINUTES);
-            
-        } catch (Exception e) {
-            processingTasks.remove(postId);
-            log.error("❌ [AI] Failed - postId: {}, error: {}", postId, e.getMessage());
-            throw new BusinessException(AnalyticsErrorCode.AI_ANALYSIS_ERROR);
-        }
+        log.info("🤖 [AI] adapter request - postId: {}, storeId: {}, title: {}",
+            request.getMetrics().getPostId(), storeId, request.getTitle());
+        return callAiService(request, storeId);
     }
     
     private AiReportResponse callAiService(AiReportRequest request, Long storeId) {
@@ -169,4 +156,53 @@ public class AiAnalysisAdapter implements AiAnalysisPort {
             throw new BusinessException(AnalyticsErrorCode.AI_ANALYSIS_ERROR);
         }
     }
+    
+    @Override
+    public CompletableFuture<AiReportResponse> streamReport(AiReportRequest request, Long storeId, Consumer<String> chunkListener) {
+        Long postId = request.getMetrics().getPostId();
+        log.info("🤖 [AI] streaming request - postId: {}, storeId: {}, title: {}", postId, storeId, request.getTitle());
+        
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(URI.create(aiOriginUrl + "/api/analysis/report/stream"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(request), StandardCharsets.UTF_8))
+                .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("❌ [AI] Failed to build streaming request - postId: {}, error: {}", postId, e.getMessage());
+            return CompletableFuture.failedFuture(new BusinessException(AnalyticsErrorCode.AI_ANALYSIS_ERROR));
+        }
+        
+        AiReportStreamParser parser = new AiReportStreamParser(chunkListener);
+        // 2xx 응답만 SSE로 해석하고, 오류 응답은 본문을 그대로 읽어 로그로 남김
+        HttpResponse.BodyHandler<String> bodyHandler = responseInfo -> responseInfo.statusCode() / 100 == 2
+            ? HttpResponse.BodySubscribers.fromLineSubscriber(parser, AiReportStreamParser::getMarkdown, null)
+            : HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8);
+        
+        CompletableFuture<HttpResponse<String>> exchange = streamingHttpClient.sendAsync(httpRequest, bodyHandler);
+        // orTimeout은 결과 future만 실패시키므로 복사본에 적용하고, 실패 시 원래 교환과 본문 구독을 직접 취소
+        return exchange.copy()
+            .orTimeout(streamingTimeoutSeconds, TimeUnit.SECONDS)
+            .handle((response, throwable) -> {
+                if (throwable != null) {
+                    exchange.cancel(true);
+                    parser.cancel();
+                    log.error("❌ [AI] Streaming failed - postId: {}, error: {}", postId, throwable.toString());
+                    throw new BusinessException(AnalyticsErrorCode.AI_ANALYSIS_ERROR);
+                }
+                if (response.statusCode() / 100 != 2) {
+                    log.error("❌ [AI] Streaming rejected - postId: {}, status: {}, body: {}", postId, response.statusCode(), response.body());
+                    throw new BusinessException(AnalyticsErrorCode.AI_ANALYSIS_ERROR);
+                }
+                if (parser.getErrorMessage() != null || !parser.isCompleted() || response.body().isEmpty()) {
+                    log.error("❌ [AI] Streaming ended without report - postId: {}, completed: {}, error: {}",
+                        postId, parser.isCompleted(), parser.getErrorMessage());
+                    throw new BusinessException(AnalyticsErrorCode.AI_ANALYSIS_ERROR);
+                }
+                
+                log.info("✅ [AI] Streaming completed - postId: {}, length: {}", postId, response.body().length());
+                return new AiReportResponse(response.body());
+            });
+    }
 }
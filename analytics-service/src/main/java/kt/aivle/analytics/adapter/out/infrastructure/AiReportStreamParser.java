@@ -0,0 +1,132 @@
+package kt.aivle.analytics.adapter.out.infrastructure;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 보고서 스트리밍 응답(text/event-stream) 파서
+ * - 기본 이벤트(message)의 data는 마크다운 조각으로, 도착 즉시 chunkListener에 전달하고 누적
+ * - event: done 또는 data: [DONE] 이면 정상 완료, event: error 이면 data를 오류 메시지로 보관
+ * - 여러 줄 data는 SSE 규칙대로 줄바꿈으로 이어 붙임
+ * - 제한 시간 초과 등으로 cancel()되면 구독을 취소하고 이후 도착한 줄은 무시
+ */
+@Slf4j
+class AiReportStreamParser implements Flow.Subscriber<String> {
+
+    private static final String DONE_EVENT = "done";
+    private static final String DONE_DATA = "[DONE]";
+    private static final String ERROR_EVENT = "error";
+
+    private final Consumer<String> chunkListener;
+    private final StringBuilder markdown = new StringBuilder();
+
+    private volatile Flow.Subscription subscription;
+    private volatile boolean cancelled;
+
+    private String eventName;
+    private StringBuilder eventData;
+    private boolean completed;
+    private String errorMessage;
+
+    AiReportStreamParser(Consumer<String> chunkListener) {
+        this.chunkListener = chunkListener;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (cancelled) {
+            return;
+        }
+        if (line.isEmpty()) {
+            dispatch();
+        } else if (line.startsWith(":")) {
+            // 주석(keep-alive)
+        } else if (line.startsWith("event:")) {
+            eventName = fieldValue(line, "event:");
+        } else if (line.startsWith("data:")) {
+            if (eventData == null) {
+                eventData = new StringBuilder();
+            } else {
+                eventData.append('\n');
+            }
+            eventData.append(fieldValue(line, "data:"));
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        // 요청 future가 같은 오류로 실패하므로 여기서는 처리하지 않음
+    }
+
+    @Override
+    public void onComplete() {
+        if (!cancelled) {
+            dispatch();
+        }
+    }
+
+    /**
+     * 응답 본문 구독 취소 - 더 이상 조각을 전달하지 않음
+     */
+    void cancel() {
+        cancelled = true;
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    String getMarkdown() {
+        return markdown.toString();
+    }
+
+    boolean isCompleted() {
+        return completed;
+    }
+
+    String getErrorMessage() {
+        return errorMessage;
+    }
+
+    private void dispatch() {
+        if (eventData == null && eventName == null) {
+            return;
+        }
+        String data = eventData != null ? eventData.toString() : "";
+
+        if (DONE_EVENT.equals(eventName) || DONE_DATA.equals(data)) {
+            completed = true;
+        } else if (ERROR_EVENT.equals(eventName)) {
+            errorMessage = data;
+        } else if (!data.isEmpty()) {
+            markdown.append(data);
+            try {
+                chunkListener.accept(data);
+            } catch (Exception e) {
+                // 전달 실패(세션 종료 등)는 보고서 생성에 영향을 주지 않음
+                log.warn("Failed to forward report chunk: {}", e.getMessage());
+            }
+        }
+
+        eventName = null;
+        eventData = null;
+    }
+
+    // "data: x" 형식에서 콜론 뒤 공백 하나만 제거
+    private String fieldValue(String line, String prefix) {
+        String value = line.substring(prefix.length());
+        return value.startsWith(" ") ? value.substring(1) : value;
+    }
+}
@@ -0,0 +1,177 @@
+package kt.aivle.analytics.adapter.out.infrastructure;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kt.aivle.analytics.application.port.out.infrastructure.BatchCoordinationPort;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 배치 실행 조정
+ * - 잠금: SET NX PX로 잡고 보유하는 동안 TTL의 1/3 주기로 연장 (인스턴스가 죽으면 연장이 멈춰 TTL 후 만료)
+ * - 실행 소유: 이 인스턴스에서 실행 중인 JobExecution마다 TTL 키를 두고 같은 주기로 갱신 (키가 없으면 소유 프로세스가 죽은 것)
+ * - Redis 장애 시 잠금은 획득 실패, 소유 확인은 살아 있는 것으로 처리 (중복 실행/잘못된 복구보다 이번 회차를 건너뛰는 쪽을 택함)
+ */
+@Slf4j
+@Component
+public class RedisBatchCoordinationAdapter implements BatchCoordinationPort {
+
+    private static final String LOCK_KEY_PREFIX = "analytics:batch:lock:";
+    private static final String EXECUTION_KEY_PREFIX = "analytics:batch:execution:";
+
+    // 자신의 토큰일 때만 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "return redis.call('DEL', KEYS[1]) end " +
+        "return 0",
+        Long.class);
+
+    // 자신의 토큰일 때만 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+        "return 0",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    // 프로세스마다 새 ID (같은 호스트에서 재기동해도 이전 프로세스와 구분)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final ScheduledExecutorService renewScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "batch-coordination-renew");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 보유 중인 잠금의 연장 작업 (토큰별)
+    private final Map<String, ScheduledFuture<?>> lockRenewals = new ConcurrentHashMap<>();
+
+    // 이 인스턴스에서 실행 중인 JobExecution
+    private final Set<Long> runningExecutions = ConcurrentHashMap.newKeySet();
+
+    public RedisBatchCoordinationAdapter(StringRedisTemplate redisTemplate,
+                                         @Value("${app.batch.coordination.ttl-seconds:60}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        long intervalMillis = ttl.toMillis() / 3;
+        renewScheduler.scheduleAtFixedRate(this::renewExecutions, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewScheduler.shutdownNow();
+    }
+
+    @Override
+    public String tryLock(String lockName) {
+        String token = instanceId + ":" + UUID.randomUUID();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(lockName), token, ttl);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return null;
+            }
+        } catch (Exception e) {
+            log.warn("Batch lock unavailable - lock: {}, error: {}", lockName, e.getMessage());
+            return null;
+        }
+
+        long intervalMillis = ttl.toMillis() / 3;
+        lockRenewals.put(token, renewScheduler.scheduleAtFixedRate(() -> renewLock(lockName, token),
+            intervalMillis, intervalMillis, TimeUnit.MILLISECONDS));
+        return token;
+    }
+
+    @Override
+    public void unlock(String lockName, String token) {
+        ScheduledFuture<?> renewal = lockRenewals.remove(token);
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(lockName)), token);
+        } catch (Exception e) {
+            // 해제 실패 시 연장이 멈췄으므로 TTL 후 만료
+            log.warn("Failed to release batch lock - lock: {}, error: {}", lockName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void registerExecution(Long jobExecutionId) {
+        runningExecutions.add(jobExecutionId);
+        writeExecutionKey(jobExecutionId);
+    }
+
+    @Override
+    public void unregisterExecution(Long jobExecutionId) {
+        runningExecutions.remove(jobExecutionId);
+        try {
+            redisTemplate.delete(executionKey(jobExecutionId));
+        } catch (Exception e) {
+            log.warn("Failed to unregister batch execution - executionId: {}, error: {}", jobExecutionId, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isExecutionOwnerAlive(Long jobExecutionId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(executionKey(jobExecutionId)));
+        } catch (Exception e) {
+            log.warn("Failed to check batch execution owner - executionId: {}, error: {}", jobExecutionId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void renewLock(String lockName, String token) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(lockKey(lockName)), token,
+                String.valueOf(ttl.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.warn("Batch lock lost while held - lock: {}", lockName);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to renew batch lock - lock: {}, error: {}", lockName, e.getMessage());
+        }
+    }
+
+    private void renewExecutions() {
+        runningExecutions.forEach(this::writeExecutionKey);
+    }
+
+    private void writeExecutionKey(Long jobExecutionId) {
+        try {
+            redisTemplate.opsForValue().set(executionKey(jobExecutionId), instanceId, ttl);
+        } catch (Exception e) {
+            log.warn("Failed to refresh batch execution owner - executionId: {}, error: {}", jobExecutionId, e.getMessage());
+        }
+    }
+
+    private String lockKey(String lockName) {
+        return LOCK_KEY_PREFIX + lockName;
+    }
+
+    private String executionKey(Long jobExecutionId) {
+        return EXECUTION_KEY_PREFIX + jobExecutionId;
+    }
+}
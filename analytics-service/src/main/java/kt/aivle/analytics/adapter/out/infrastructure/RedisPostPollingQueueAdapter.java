@@ -0,0 +1,62 @@
+package kt.aivle.analytics.adapter.out.infrastructure;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import kt.aivle.analytics.application.port.out.infrastructure.PostPollingQueuePort;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis Sorted Set 기반 게시물 수집 대기열 (score = 다음 수집 시각 epoch millis)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisPostPollingQueueAdapter implements PostPollingQueuePort {
+    
+    private static final String QUEUE_KEY = "analytics:post-metrics:due";
+    
+    // 만료된 항목 조회와 수집 시각 연기를 원자적으로 수행하여 인스턴스 간 중복 수집 방지
+    // (대기열에서 제거하지 않으므로 처리 중 장애가 나도 lease 만료 후 다시 수집됨)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>(
+        "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+        "for _, id in ipairs(ids) do redis.call('ZADD', KEYS[1], 'XX', ARGV[3], id) end " +
+        "return ids",
+        List.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    @Override
+    public void schedule(Long postId, Instant dueAt) {
+        redisTemplate.opsForZSet().add(QUEUE_KEY, String.valueOf(postId), dueAt.toEpochMilli());
+    }
+    
+    @Override
+    public void scheduleIfAbsent(Long postId, Instant dueAt) {
+        redisTemplate.opsForZSet().addIfAbsent(QUEUE_KEY, String.valueOf(postId), dueAt.toEpochMilli());
+    }
+    
+    @Override
+    public List<Long> claimDue(Instant now, int limit, Duration lease) {
+        List<?> ids = redisTemplate.execute(CLAIM_DUE_SCRIPT, List.of(QUEUE_KEY),
+            String.valueOf(now.toEpochMilli()), String.valueOf(limit), String.valueOf(now.plus(lease).toEpochMilli()));
+        
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+            .map(id -> Long.valueOf(id.toString()))
+            .toList();
+    }
+    
+    @Override
+    public void remove(Long postId) {
+        redisTemplate.opsForZSet().remove(QUEUE_KEY, String.valueOf(postId));
+    }
+}
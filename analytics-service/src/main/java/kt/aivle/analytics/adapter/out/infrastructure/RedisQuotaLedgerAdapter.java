@@ -0,0 +1,91 @@
+package kt.aivle.analytics.adapter.out.infrastructure;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import kt.aivle.analytics.application.port.out.infrastructure.QuotaLedgerPort;
+import kt.aivle.analytics.domain.model.QuotaPriority;
+import kt.aivle.analytics.domain.model.YouTubeEndpoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 YouTube 할당량 장부
+ * 일자(PT)별 키에 사용 unit을 누적하며, 한도 확인과 차감을 Lua 스크립트로 원자적으로 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisQuotaLedgerAdapter implements QuotaLedgerPort {
+    
+    private static final String KEY_PREFIX = "analytics:youtube-quota:";
+    // YouTube 할당량은 태평양 시간 자정에 초기화됨
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+    
+    // 사용량 + 비용이 한도를 넘으면 -1, 아니면 차감 후 누적 사용량 반환
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+        "local used = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+        "local cost = tonumber(ARGV[1]) " +
+        "if used + cost > tonumber(ARGV[2]) then return -1 end " +
+        "local total = redis.call('INCRBY', KEYS[1], cost) " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+        "return total",
+        Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    @Value("${app.youtube.quota.daily-limit:10000}")
+    private long dailyLimit;
+    
+    // 실시간 조회용으로 남겨둘 비율 (배치는 이 비율만큼 덜 사용)
+    @Value("${app.youtube.quota.interactive-reserve-ratio:0.2}")
+    private double interactiveReserveRatio;
+    
+    @Override
+    public boolean tryConsume(YouTubeEndpoint endpoint, QuotaPriority priority) {
+        long limit = priority == QuotaPriority.BATCH ? batchLimit() : dailyLimit;
+        
+        try {
+            Long total = redisTemplate.execute(CONSUME_SCRIPT, List.of(todayKey()),
+                String.valueOf(endpoint.getQuotaCost()), String.valueOf(limit), String.valueOf(KEY_TTL.toSeconds()));
+            
+            if (total == null || total < 0) {
+                log.warn("YouTube quota budget exhausted - priority: {}, endpoint: {}, limit: {}", priority, endpoint, limit);
+                return false;
+            }
+            return true;
+            
+        } catch (Exception e) {
+            // 장부 장애 시에도 수집/조회는 진행 (YouTube 403 응답으로 초과를 감지)
+            log.error("Failed to charge YouTube quota ledger, allowing call - endpoint: {}: {}", endpoint, e.getMessage());
+            return true;
+        }
+    }
+    
+    @Override
+    public void markExhausted() {
+        try {
+            redisTemplate.opsForValue().set(todayKey(), String.valueOf(dailyLimit), KEY_TTL);
+            log.warn("YouTube quota marked as exhausted for {}", LocalDate.now(QUOTA_ZONE));
+        } catch (Exception e) {
+            log.error("Failed to mark YouTube quota as exhausted: {}", e.getMessage());
+        }
+    }
+    
+    private long batchLimit() {
+        return (long) (dailyLimit * (1.0 - interactiveReserveRatio));
+    }
+    
+    private String todayKey() {
+        return KEY_PREFIX + LocalDate.now(QUOTA_ZONE);
+    }
+}
@@ -0,0 +1,190 @@
+package kt.aivle.analytics.adapter.out.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kt.aivle.analytics.application.port.out.infrastructure.ReportLeasePort;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 AI 보고서 생성 임대
+ * - SET NX PX로 임대를 잡고, 생성하는 동안 TTL의 1/3 주기로 연장 (인스턴스가 죽으면 연장이 멈춰 TTL 후 만료)
+ * - 해제 시 pub/sub으로 완료를 알리고, 대기 측은 알림을 놓치거나 임대가 만료된 경우를 위해 보유 여부도 주기적으로 확인
+ *   (대기는 스레드를 점유하지 않음 - 알림 또는 예약된 확인 작업이 future를 완료)
+ * - 임대 획득 시 Redis 장애면 임대 없이 생성하도록 허용하되, 대기 중 확인 실패는 보유 중으로 간주 (대기 측이 한꺼번에 재생성하지 않도록)
+ */
+@Slf4j
+@Component
+public class RedisReportLeaseAdapter implements ReportLeasePort, MessageListener {
+
+    private static final String KEY_PREFIX = "analytics:report-lease:";
+    private static final String RELEASE_CHANNEL = "analytics:report-lease:released";
+    private static final long HELD_CHECK_INTERVAL_MILLIS = 1000;
+
+    // 자신의 토큰일 때만 삭제 후 완료 알림
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "redis.call('DEL', KEYS[1]) " +
+        "redis.call('PUBLISH', ARGV[2], ARGV[3]) " +
+        "return 1 end " +
+        "return 0",
+        Long.class);
+
+    // 자신의 토큰일 때만 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+        "return 0",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Duration leaseTtl;
+
+    // 임대 연장과 대기 중 보유 여부 확인 (Redis 단건 명령만 실행)
+    private final ScheduledExecutorService leaseScheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "report-lease-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이 인스턴스가 보유 중인 임대의 연장 작업 (토큰별)
+    private final Map<String, ScheduledFuture<?>> renewals = new ConcurrentHashMap<>();
+
+    // 보고서별 완료 알림 대기
+    private final Map<String, Set<CompletableFuture<Boolean>>> releaseWaiters = new ConcurrentHashMap<>();
+
+    public RedisReportLeaseAdapter(StringRedisTemplate redisTemplate,
+                                   RedisMessageListenerContainer redisMessageListenerContainer,
+                                   @Value("${app.report.lease.ttl-seconds:30}") long leaseTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RELEASE_CHANNEL));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        leaseScheduler.shutdownNow();
+    }
+
+    @Override
+    public String tryAcquire(String reportKey) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey(reportKey), token, leaseTtl);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return null;
+            }
+        } catch (Exception e) {
+            // 임대를 확인할 수 없으면 직접 생성 (연장/해제는 아무 일도 하지 않음)
+            log.warn("Report lease unavailable, generating without lease - reportKey: {}, error: {}", reportKey, e.getMessage());
+            return token;
+        }
+
+        long renewIntervalMillis = leaseTtl.toMillis() / 3;
+        renewals.put(token, leaseScheduler.scheduleAtFixedRate(() -> renew(reportKey, token),
+            renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS));
+        return token;
+    }
+
+    @Override
+    public void release(String reportKey, String token) {
+        ScheduledFuture<?> renewal = renewals.remove(token);
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(reportKey)), token, RELEASE_CHANNEL, reportKey);
+        } catch (Exception e) {
+            // 해제 실패 시 연장이 멈췄으므로 TTL 후 만료
+            log.warn("Failed to release report lease - reportKey: {}, error: {}", reportKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> awaitRelease(String reportKey, Duration timeout) {
+        CompletableFuture<Boolean> released = new CompletableFuture<>();
+        releaseWaiters.computeIfAbsent(reportKey, key -> ConcurrentHashMap.newKeySet()).add(released);
+
+        // 알림을 놓쳤거나 보유 인스턴스가 죽어 만료된 경우 (첫 확인은 등록 직후 - 등록 전에 해제된 경우)
+        ScheduledFuture<?> heldCheck = leaseScheduler.scheduleWithFixedDelay(() -> {
+            if (!isHeld(reportKey)) {
+                released.complete(true);
+            }
+        }, 0, HELD_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> expiry = leaseScheduler.schedule(() -> released.complete(false),
+            timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        released.whenComplete((result, throwable) -> {
+            heldCheck.cancel(false);
+            expiry.cancel(false);
+            releaseWaiters.computeIfPresent(reportKey, (key, waiters) -> {
+                waiters.remove(released);
+                return waiters.isEmpty() ? null : waiters;
+            });
+        });
+        return released;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String reportKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        Set<CompletableFuture<Boolean>> waiters = releaseWaiters.remove(reportKey);
+        if (waiters != null) {
+            waiters.forEach(released -> released.complete(true));
+        }
+    }
+
+    private void renew(String reportKey, String token) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(leaseKey(reportKey)), token,
+                String.valueOf(leaseTtl.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.warn("Report lease lost before completion - reportKey: {}", reportKey);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to renew report lease - reportKey: {}, error: {}", reportKey, e.getMessage());
+        }
+    }
+
+    // Redis 장애 시에는 보유 중으로 보고 다음 확인까지 대기 (복구되지 않으면 대기 시간 초과로 실패)
+    private boolean isHeld(String reportKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey(reportKey)));
+        } catch (Exception e) {
+            log.warn("Failed to check report lease - reportKey: {}, error: {}", reportKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private String leaseKey(String reportKey) {
+        return KEY_PREFIX + reportKey;
+    }
+}
@@ -2,17 +2,22 @@ package kt.aivle.analytics.adapter.out.infrastructure;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.youtube.YouTube;
+import com.google.api.services.youtube.model.Channel;
 import com.google.api.services.youtube.model.ChannelListResponse;
 import com.google.api.services.youtube.model.CommentThread;
 import com.google.api.services.youtube.model.CommentThreadListResponse;
+import com.google.api.services.youtube.model.Video;
 import com.google.api.services.youtube.model.VideoListResponse;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -23,11 +28,13 @@ import kt.aivle.analytics.adapter.in.web.dto.response.PostCommentsPageResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostCommentsResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostMetricsResponse;
 import kt.aivle.analytics.application.port.out.infrastructure.ExternalApiPort;
+import kt.aivle.analytics.application.port.out.infrastructure.QuotaLedgerPort;
 import kt.aivle.analytics.application.port.out.repository.SnsAccountRepositoryPort;
 import kt.aivle.analytics.application.port.out.repository.SnsPostRepositoryPort;
 import kt.aivle.analytics.domain.entity.SnsAccount;
 import kt.aivle.analytics.domain.entity.SnsPost;
 import kt.aivle.analytics.domain.model.SnsType;
+import kt.aivle.analytics.domain.model.YouTubeEndpoint;
 import kt.aivle.analytics.exception.AnalyticsErrorCode;
 import kt.aivle.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -38,11 +45,20 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class YouTubeApiAdapter implements ExternalApiPort {
     
+    // videos.list / channels.list 의 id 파라미터 최대 개수
+    private static final int MAX_IDS_PER_REQUEST = 50;
+    
+    // videos.list 응답 필드 제한 - 통계와 게시 시각만 받음 (snippet의 제목/설명/썸네일은 받지 않음, 할당량 비용은 동일)
+    private static final List<String> VIDEO_PARTS = List.of("statistics", "snippet");
+    private static final String VIDEO_FIELDS = "items(id,statistics,snippet/publishedAt)";
+    
     @Value("${app.youtube.api.key}")
     private String apiKey;
     
     private final SnsPostRepositoryPort snsPostRepositoryPort;
     private final SnsAccountRepositoryPort snsAccountRepositoryPort;
+    private final YouTubeRateLimiter rateLimiter;
+    private final QuotaLedgerPort quotaLedgerPort;
     private YouTube youtubeClient;
     
     @Override
@@ -53,6 +69,7 @@ public class YouTubeApiAdapter implements ExternalApiPort {
                 .setKey(apiKey)
                 .setId(List.of(channelId));
             
+            rateLimiter.acquire(YouTubeEndpoint.CHANNELS_LIST);
             ChannelListResponse response = request.execute();
             
             if (response.getItems() == null || response.getItems().isEmpty()) {
@@ -60,12 +77,7 @@ public class YouTubeApiAdapter implements ExternalApiPort {
                 return null;
             }
             
-            com.google.api.services.youtube.model.ChannelStatistics statistics = response.getItems().get(0).getStatistics();
-            
-            return new ChannelStatistics(
-                statistics.getSubscriberCount() != null ? statistics.getSubscriberCount().longValue() : 0L,
-                statistics.getViewCount() != null ? statistics.getViewCount().longValue() : 0L
-            );
+            return toChannelStatistics(response.getItems().get(0).getStatistics());
             
         } catch (IOException e) {
             handleYouTubeApiError(e, "channel statistics");
@@ -73,14 +85,50 @@ public class YouTubeApiAdapter implements ExternalApiPort {
         }
     }
     
+    @Override
+    public Map<String, ChannelStatistics> getChannelStatistics(List<String> channelIds) {
+        Map<String, ChannelStatistics> result = new HashMap<>();
+        
+        for (int i = 0; i < channelIds.size(); i += MAX_IDS_PER_REQUEST) {
+            List<String> chunk = channelIds.subList(i, Math.min(i + MAX_IDS_PER_REQUEST, channelIds.size()));
+            
+            try {
+                YouTube.Channels.List request = getYouTubeClient().channels()
+                    .list(List.of("statistics"))
+                    .setKey(apiKey)
+                    .setId(chunk);
+                
+                rateLimiter.acquire(YouTubeEndpoint.CHANNELS_LIST);
+                ChannelListResponse response = request.execute();
+                
+                if (response.getItems() != null) {
+                    for (Channel channel : response.getItems()) {
+                        result.put(channel.getId(), toChannelStatistics(channel.getStatistics()));
+                    }
+                }
+                
+            } catch (IOException e) {
+                handleYouTubeApiError(e, "channel statistics (bulk)");
+            }
+            
+            chunk.stream()
+                .filter(channelId -> !result.containsKey(channelId))
+                .forEach(channelId -> log.warn("Channel not found: {}", channelId));
+        }
+        
+        return result;
+    }
+    
     @Override
     public VideoStatistics getVideoStatistics(String videoId) {
         try {
             YouTube.Videos.List request = getYouTubeClient().videos()
-                .list(List.of("statistics"))
+                .list(VIDEO_PARTS)
+                .setFields(VIDEO_FIELDS)
                 .setKey(apiKey)
                 .setId(List.of(videoId));
             
+            rateLimiter.acquire(YouTubeEndpoint.VIDEOS_LIST);
             VideoListResponse response = request.execute();
             
             if (response.getItems() == null || response.getItems().isEmpty()) {
@@ -88,13 +136,7 @@ public class YouTubeApiAdapter implements ExternalApiPort {
                 return null;
             }
             
-            com.google.api.services.youtube.model.VideoStatistics statistics = response.getItems().get(0).getStatistics();
-            
-            return new VideoStatistics(
-                statistics.getViewCount() != null ? statistics.getViewCount().longValue() : 0L,
-                statistics.getLikeCount() != null ? statistics.getLikeCount().longValue() : 0L,
-                statistics.getCommentCount() != null ? statistics.getCommentCount().longValue() : 0L
-            );
+            return toVideoStatistics(response.getItems().get(0));
             
         } catch (IOException e) {
             handleYouTubeApiError(e, "video statistics");
@@ -102,6 +144,42 @@ public class YouTubeApiAdapter implements ExternalApiPort {
         }
     }
     
+    @Override
+    public Map<String, VideoStatistics> getVideoStatistics(List<String> videoIds) {
+        Map<String, VideoStatistics> result = new HashMap<>();
+        
+        for (int i = 0; i < videoIds.size(); i += MAX_IDS_PER_REQUEST) {
+            List<String> chunk = videoIds.subList(i, Math.min(i + MAX_IDS_PER_REQUEST, videoIds.size()));
+            
+            try {
+                YouTube.Videos.List request = getYouTubeClient().videos()
+                    .list(VIDEO_PARTS)
+                    .setFields(VIDEO_FIELDS)
+                    .setKey(apiKey)
+                    .setId(chunk);
+                
+                rateLimiter.acquire(YouTubeEndpoint.VIDEOS_LIST);
+                VideoListResponse response = request.execute();
+                
+                if (response.getItems() != null) {
+                    for (Video video : response.getItems()) {
+                        result.put(video.getId(), toVideoStatistics(video));
+                    }
+                }
+                
+            } catch (IOException e) {
+                handleYouTubeApiError(e, "video statistics (bulk)");
+            }
+            
+            // 응답에 포함되지 않은 ID는 삭제되었거나 비공개 처리된 영상
+            chunk.stream()
+                .filter(videoId -> !result.containsKey(videoId))
+                .forEach(videoId -> log.warn("Video not found: {}", videoId));
+        }
+        
+        return result;
+    }
+    
     @Override
     public PostCommentsPageResponse getVideoCommentsWithPagination(String videoId, String pageToken, int maxResults) {
         try {
@@ -115,6 +193,7 @@ public class YouTubeApiAdapter implements ExternalApiPort {
                 request.setPageToken(pageToken);
             }
             
+            rateLimiter.acquire(YouTubeEndpoint.COMMENT_THREADS_LIST);
             CommentThreadListResponse response = request.execute();
             
             List<PostCommentsResponse> comments = response.getItems() != null 
@@ -227,6 +306,27 @@ public class YouTubeApiAdapter implements ExternalApiPort {
     
 
     
+    private ChannelStatistics toChannelStatistics(com.google.api.services.youtube.model.ChannelStatistics statistics) {
+        return new ChannelStatistics(
+            statistics.getSubscriberCount() != null ? statistics.getSubscriberCount().longValue() : 0L,
+            statistics.getViewCount() != null ? statistics.getViewCount().longValue() : 0L
+        );
+    }
+    
+    private VideoStatistics toVideoStatistics(Video video) {
+        var statistics = video.getStatistics();
+        var snippet = video.getSnippet();
+        return new VideoStatistics(
+            statistics.getViewCount() != null ? statistics.getViewCount().longValue() : 0L,
+            statistics.getLikeCount() != null ? statistics.getLikeCount().longValue() : 0L,
+            statistics.getCommentCount() != null ? statistics.getCommentCount().longValue() : 0L,
+            snippet != null && snippet.getPublishedAt() != null
+                ? ZonedDateTime.parse(snippet.getPublishedAt().toStringRfc3339())
+                    .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime()
+                : null
+        );
+    }
+    
     private PostCommentsResponse toPostCommentsResponse(CommentThread commentThread) {
         var snippet = commentThread.getSnippet().getTopLevelComment().getSnippet();
         
@@ -255,6 +355,7 @@ public class YouTubeApiAdapter implements ExternalApiPort {
                     errorMessage.toLowerCase().contains("exceeded")) {
                     
                     log.warn("YouTube API quota exceeded detected: {}", errorMessage);
+                    quotaLedgerPort.markExhausted();
                     throw new BusinessException(AnalyticsErrorCode.YOUTUBE_QUOTA_EXCEEDED);
                 }
             }
@@ -271,7 +372,8 @@ public class YouTubeApiAdapter implements ExternalApiPort {
         throw new BusinessException(AnalyticsErrorCode.YOUTUBE_API_ERROR);
     }
     
-    private YouTube getYouTubeClient() {
+    // 병렬 수집 스레드에서 동시에 호출되므로 동기화
+    private synchronized YouTube getYouTubeClient() {
         if (youtubeClient == null) {
             try {
                 youtubeClient = new YouTube.Builder(
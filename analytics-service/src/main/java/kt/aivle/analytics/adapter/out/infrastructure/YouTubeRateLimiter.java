@@ -0,0 +1,69 @@
+package kt.aivle.analytics.adapter.out.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kt.aivle.analytics.domain.model.YouTubeEndpoint;
+import kt.aivle.analytics.exception.AnalyticsErrorCode;
+import kt.aivle.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * YouTube API 호출용 토큰 버킷 (quota unit 단위)
+ * 병렬 수집 시 모든 스레드가 하나의 버킷을 공유하여 초당 소비 unit을 제한합니다.
+ */
+@Slf4j
+@Component
+public class YouTubeRateLimiter {
+
+    private final double unitsPerSecond;
+    private final double capacity;
+
+    private double availableUnits;
+    private long lastRefillNanos;
+
+    public YouTubeRateLimiter(
+            @Value("${app.youtube.rate-limit.units-per-second:20}") double unitsPerSecond,
+            @Value("${app.youtube.rate-limit.burst-capacity:50}") double capacity) {
+        this.unitsPerSecond = unitsPerSecond;
+        this.capacity = capacity;
+        this.availableUnits = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 엔드포인트 비용만큼 unit을 확보할 때까지 대기합니다.
+     */
+    public void acquire(YouTubeEndpoint endpoint) {
+        long waitNanos;
+        while ((waitNanos = tryAcquire(endpoint.getQuotaCost())) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("YouTube rate limiter wait interrupted - endpoint: {}", endpoint);
+                throw new BusinessException(AnalyticsErrorCode.YOUTUBE_API_ERROR);
+            }
+        }
+    }
+
+    // 확보 성공 시 0, 실패 시 필요한 대기 시간(ns) 반환
+    private synchronized long tryAcquire(int units) {
+        refill();
+        if (availableUnits >= units) {
+            availableUnits -= units;
+            return 0L;
+        }
+        double missingUnits = units - availableUnits;
+        return Math.max(1L, (long) (missingUnits / unitsPerSecond * TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double refilled = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1) * unitsPerSecond;
+        availableUnits = Math.min(capacity, availableUnits + refilled);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,105 @@
+package kt.aivle.analytics.adapter.out.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import kt.aivle.analytics.adapter.out.persistence.repository.AccountMetricRollupJpaRepository;
+import kt.aivle.analytics.application.port.out.repository.AccountMetricRollupRepositoryPort;
+import kt.aivle.analytics.domain.entity.AccountMetricRollup;
+import kt.aivle.analytics.domain.model.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class AccountMetricRollupRepository implements AccountMetricRollupRepositoryPort {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO account_metric_rollup " +
+        "(account_id, granularity, bucket_start, last_fetched_at, sample_count, " +
+        "followers_last, followers_delta, followers_min, followers_max, " +
+        "views_last, views_delta, views_min, views_max, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE last_fetched_at = VALUES(last_fetched_at), sample_count = VALUES(sample_count), " +
+        "followers_last = VALUES(followers_last), followers_delta = VALUES(followers_delta), followers_min = VALUES(followers_min), followers_max = VALUES(followers_max), " +
+        "views_last = VALUES(views_last), views_delta = VALUES(views_delta), views_min = VALUES(views_min), views_max = VALUES(views_max), " +
+        "updated_at = VALUES(updated_at)";
+
+    private final AccountMetricRollupJpaRepository accountMetricRollupJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void upsertAll(List<AccountMetricRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AccountMetricRollup rollup = rollups.get(i);
+                ps.setLong(1, rollup.getAccountId());
+                ps.setString(2, rollup.getGranularity().name());
+                ps.setTimestamp(3, Timestamp.valueOf(rollup.getBucketStart()));
+                ps.setTimestamp(4, Timestamp.valueOf(rollup.getLastFetchedAt()));
+                ps.setInt(5, rollup.getSampleCount());
+                ps.setObject(6, rollup.getFollowersLast(), Types.BIGINT);
+                ps.setObject(7, rollup.getFollowersDelta(), Types.BIGINT);
+                ps.setObject(8, rollup.getFollowersMin(), Types.BIGINT);
+                ps.setObject(9, rollup.getFollowersMax(), Types.BIGINT);
+                ps.setObject(10, rollup.getViewsLast(), Types.BIGINT);
+                ps.setObject(11, rollup.getViewsDelta(), Types.BIGINT);
+                ps.setObject(12, rollup.getViewsMin(), Types.BIGINT);
+                ps.setObject(13, rollup.getViewsMax(), Types.BIGINT);
+                ps.setTimestamp(14, now);
+                ps.setTimestamp(15, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rollups.size();
+            }
+        });
+    }
+
+    @Override
+    public Optional<LocalDateTime> findMaxLastFetchedAt(RollupGranularity granularity) {
+        return Optional.ofNullable(accountMetricRollupJpaRepository.findMaxLastFetchedAt(granularity));
+    }
+
+    @Override
+    public Optional<AccountMetricRollup> findLatestBefore(Long accountId, RollupGranularity granularity, LocalDateTime before) {
+        return accountMetricRollupJpaRepository
+            .findTopByAccountIdAndGranularityAndBucketStartLessThanOrderByBucketStartDesc(accountId, granularity, before);
+    }
+
+    @Override
+    public Optional<AccountMetricRollup> findByAccountIdAndBucket(Long accountId, RollupGranularity granularity, LocalDateTime bucketStart) {
+        return accountMetricRollupJpaRepository.findByAccountIdAndGranularityAndBucketStart(accountId, granularity, bucketStart);
+    }
+
+    @Override
+    public List<AccountMetricRollup> findByAccountIdInRange(Long accountId, RollupGranularity granularity, LocalDateTime start, LocalDateTime end) {
+        return accountMetricRollupJpaRepository.findByAccountIdInRange(accountId, granularity, start, end);
+    }
+
+    @Override
+    public List<AccountMetricRollup> findByAccountIdsFrom(Collection<Long> accountIds, RollupGranularity granularity, LocalDateTime start) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        return accountMetricRollupJpaRepository.findByAccountIdsFrom(accountIds, granularity, start);
+    }
+}
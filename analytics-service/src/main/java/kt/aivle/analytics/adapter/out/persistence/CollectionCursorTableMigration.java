@@ -0,0 +1,45 @@
+package kt.aivle.analytics.adapter.out.persistence;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * collection_cursor 테이블 제거
+ * 수집 작업의 진행 위치는 Spring Batch JobRepository의 파티션별 스텝 ExecutionContext(lastId)에 저장되며,
+ * 실패/중단된 실행은 같은 JobParameters로 재시작해 완료된 파티션을 건너뛰고 이어서 수집합니다.
+ * 이전에 작업별 진행 위치를 저장하던 collection_cursor 테이블은 더 이상 읽거나 쓰지 않고,
+ * ddl-auto=update는 엔티티가 없어진 테이블을 지우지 않으므로 기동 시 남아 있으면 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectionCursorTableMigration {
+
+    private static final String TABLE_EXISTS_SQL =
+        "SELECT COUNT(*) FROM information_schema.tables " +
+        "WHERE table_schema = DATABASE() AND table_name = 'collection_cursor'";
+
+    private static final String DROP_TABLE_SQL = "DROP TABLE IF EXISTS collection_cursor";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Integer.class);
+            if (count == null || count == 0) {
+                return;
+            }
+
+            jdbcTemplate.execute(DROP_TABLE_SQL);
+            log.info("🧹 사용하지 않는 collection_cursor 테이블 삭제 완료 (진행 위치는 JobRepository 체크포인트 사용)");
+        } catch (Exception e) {
+            log.warn("Failed to drop collection_cursor table: {}", e.getMessage());
+        }
+    }
+}
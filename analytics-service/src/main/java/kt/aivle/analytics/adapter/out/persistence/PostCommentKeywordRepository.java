@@ -1,10 +1,19 @@
 package kt.aivle.analytics.adapter.out.persistence;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import kt.aivle.analytics.adapter.out.persistence.repository.PostCommentKeywordJpaRepository;
 import kt.aivle.analytics.application.port.out.repository.PostCommentKeywordRepositoryPort;
@@ -16,23 +25,57 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PostCommentKeywordRepository implements PostCommentKeywordRepositoryPort {
     
+    // 배치 내 키워드는 서비스에서 중복 제거되어 frequency=1로 들어오므로, 누적값은 키워드를 반환한 배치 수
+    // 빈도 컬럼 추가 이전 행은 frequency가 NULL일 수 있음
+    private static final String MERGE_SQL =
+        "INSERT INTO post_comment_keyword (post_id, keyword, sentiment, frequency, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE frequency = COALESCE(frequency, 0) + VALUES(frequency), updated_at = VALUES(updated_at)";
+    
     private final PostCommentKeywordJpaRepository postCommentKeywordJpaRepository;
-
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.analytics.keywords.top-k:20}")
+    private int topK;
     
     @Override
     public Map<SentimentType, List<String>> findKeywordsByPostIdGroupedBySentiment(Long postId) {
-        List<PostCommentKeyword> keywords = postCommentKeywordJpaRepository.findByPostId(postId);
-        
-        return keywords.stream()
-            .collect(Collectors.groupingBy(
-                PostCommentKeyword::getSentiment,
-                Collectors.mapping(PostCommentKeyword::getKeyword, Collectors.toList())
-            ));
+        // 감정별로 (post_id, sentiment, frequency) 인덱스를 역순으로 읽어 상위 K개만 조회
+        Map<SentimentType, List<String>> grouped = new EnumMap<>(SentimentType.class);
+        for (SentimentType sentiment : SentimentType.values()) {
+            List<String> keywords = postCommentKeywordJpaRepository.findTopKeywords(postId, sentiment, PageRequest.of(0, topK));
+            if (!keywords.isEmpty()) {
+                grouped.put(sentiment, keywords);
+            }
+        }
+        return grouped;
     }
     
     @Override
-    public void saveAll(List<PostCommentKeyword> keywords) {
-        postCommentKeywordJpaRepository.saveAll(keywords);
+    @Transactional
+    public void mergeFrequencies(List<PostCommentKeyword> keywords) {
+        if (keywords.isEmpty()) {
+            return;
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(MERGE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PostCommentKeyword keyword = keywords.get(i);
+                ps.setLong(1, keyword.getPostId());
+                ps.setString(2, keyword.getKeyword());
+                ps.setString(3, keyword.getSentiment().name());
+                ps.setLong(4, keyword.getFrequency());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+            
+            @Override
+            public int getBatchSize() {
+                return keywords.size();
+            }
+        });
     }
     
     @Override
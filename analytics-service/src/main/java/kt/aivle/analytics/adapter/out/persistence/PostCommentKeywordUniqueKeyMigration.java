@@ -0,0 +1,79 @@
+package kt.aivle.analytics.adapter.out.persistence;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * post_comment_keyword 유니크 키(uk_keyword_post_sentiment_keyword) 적용
+ * 빈도 누적 도입 이전에는 배치마다 (post_id, sentiment, keyword) 행이 새로 저장되어 중복 행이 있으면
+ * 스키마 갱신 시 유니크 키 생성이 실패하고, 키가 없으면 빈도 병합(ON DUPLICATE KEY)이 동작하지 않습니다.
+ * 기동 시 키가 없으면 중복 행을 가장 오래된 행으로 합치고(빈도 합산, NULL은 1건) 키를 추가합니다.
+ * 키가 이미 있으면 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentKeywordUniqueKeyMigration {
+
+    private static final String UNIQUE_KEY = "uk_keyword_post_sentiment_keyword";
+
+    private static final String KEY_EXISTS_SQL =
+        "SELECT COUNT(*) FROM information_schema.statistics " +
+        "WHERE table_schema = DATABASE() AND table_name = 'post_comment_keyword' AND index_name = ?";
+
+    // 중복 그룹의 가장 오래된 행에 그룹 빈도 합계를 기록
+    private static final String MERGE_DUPLICATES_SQL =
+        "UPDATE post_comment_keyword k " +
+        "JOIN (SELECT MIN(id) AS keep_id, SUM(COALESCE(frequency, 1)) AS total FROM post_comment_keyword " +
+        "      GROUP BY post_id, sentiment, keyword HAVING COUNT(*) > 1) d ON k.id = d.keep_id " +
+        "SET k.frequency = d.total";
+
+    private static final String DELETE_DUPLICATES_SQL =
+        "DELETE k FROM post_comment_keyword k " +
+        "JOIN (SELECT MIN(id) AS keep_id, post_id, sentiment, keyword FROM post_comment_keyword " +
+        "      GROUP BY post_id, sentiment, keyword HAVING COUNT(*) > 1) d " +
+        "ON k.post_id = d.post_id AND k.sentiment = d.sentiment AND k.keyword = d.keyword AND k.id <> d.keep_id";
+
+    private static final String FILL_NULL_FREQUENCY_SQL =
+        "UPDATE post_comment_keyword SET frequency = 1 WHERE frequency IS NULL";
+
+    private static final String ADD_UNIQUE_KEY_SQL =
+        "ALTER TABLE post_comment_keyword ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (post_id, sentiment, keyword)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            if (uniqueKeyExists()) {
+                return;
+            }
+
+            int[] result = transactionTemplate.execute(status -> new int[] {
+                jdbcTemplate.update(MERGE_DUPLICATES_SQL),
+                jdbcTemplate.update(DELETE_DUPLICATES_SQL),
+                jdbcTemplate.update(FILL_NULL_FREQUENCY_SQL)
+            });
+            log.info("🔧 키워드 중복 행 정리 - 병합 그룹: {}, 삭제 행: {}, 빈도 보정 행: {}", result[0], result[1], result[2]);
+
+            // DDL은 암묵적으로 커밋되므로 정리 트랜잭션과 분리
+            jdbcTemplate.execute(ADD_UNIQUE_KEY_SQL);
+            log.info("✅ post_comment_keyword 유니크 키 추가 완료: {}", UNIQUE_KEY);
+        } catch (Exception e) {
+            // 다른 인스턴스가 먼저 적용했거나 정리 중 새 중복이 들어온 경우 - 다음 기동 시 다시 시도
+            log.warn("Failed to apply post_comment_keyword unique key: {}", e.getMessage());
+        }
+    }
+
+    private boolean uniqueKeyExists() {
+        Integer count = jdbcTemplate.queryForObject(KEY_EXISTS_SQL, Integer.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+}
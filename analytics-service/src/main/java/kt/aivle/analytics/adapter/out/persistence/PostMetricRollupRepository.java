@@ -0,0 +1,111 @@
+package kt.aivle.analytics.adapter.out.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import kt.aivle.analytics.adapter.out.persistence.repository.PostMetricRollupJpaRepository;
+import kt.aivle.analytics.application.port.out.repository.PostMetricRollupRepositoryPort;
+import kt.aivle.analytics.domain.entity.PostMetricRollup;
+import kt.aivle.analytics.domain.model.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PostMetricRollupRepository implements PostMetricRollupRepositoryPort {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO post_metric_rollup " +
+        "(post_id, granularity, bucket_start, last_fetched_at, sample_count, " +
+        "views_last, views_delta, views_min, views_max, " +
+        "likes_last, likes_delta, likes_min, likes_max, " +
+        "comments_last, comments_delta, comments_min, comments_max, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE last_fetched_at = VALUES(last_fetched_at), sample_count = VALUES(sample_count), " +
+        "views_last = VALUES(views_last), views_delta = VALUES(views_delta), views_min = VALUES(views_min), views_max = VALUES(views_max), " +
+        "likes_last = VALUES(likes_last), likes_delta = VALUES(likes_delta), likes_min = VALUES(likes_min), likes_max = VALUES(likes_max), " +
+        "comments_last = VALUES(comments_last), comments_delta = VALUES(comments_delta), comments_min = VALUES(comments_min), comments_max = VALUES(comments_max), " +
+        "updated_at = VALUES(updated_at)";
+
+    private final PostMetricRollupJpaRepository postMetricRollupJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void upsertAll(List<PostMetricRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PostMetricRollup rollup = rollups.get(i);
+                ps.setLong(1, rollup.getPostId());
+                ps.setString(2, rollup.getGranularity().name());
+                ps.setTimestamp(3, Timestamp.valueOf(rollup.getBucketStart()));
+                ps.setTimestamp(4, Timestamp.valueOf(rollup.getLastFetchedAt()));
+                ps.setInt(5, rollup.getSampleCount());
+                ps.setObject(6, rollup.getViewsLast(), Types.BIGINT);
+                ps.setObject(7, rollup.getViewsDelta(), Types.BIGINT);
+                ps.setObject(8, rollup.getViewsMin(), Types.BIGINT);
+                ps.setObject(9, rollup.getViewsMax(), Types.BIGINT);
+                ps.setObject(10, rollup.getLikesLast(), Types.BIGINT);
+                ps.setObject(11, rollup.getLikesDelta(), Types.BIGINT);
+                ps.setObject(12, rollup.getLikesMin(), Types.BIGINT);
+                ps.setObject(13, rollup.getLikesMax(), Types.BIGINT);
+                ps.setObject(14, rollup.getCommentsLast(), Types.BIGINT);
+                ps.setObject(15, rollup.getCommentsDelta(), Types.BIGINT);
+                ps.setObject(16, rollup.getCommentsMin(), Types.BIGINT);
+                ps.setObject(17, rollup.getCommentsMax(), Types.BIGINT);
+                ps.setTimestamp(18, now);
+                ps.setTimestamp(19, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rollups.size();
+            }
+        });
+    }
+
+    @Override
+    public Optional<LocalDateTime> findMaxLastFetchedAt(RollupGranularity granularity) {
+        return Optional.ofNullable(postMetricRollupJpaRepository.findMaxLastFetchedAt(granularity));
+    }
+
+    @Override
+    public Optional<PostMetricRollup> findLatestBefore(Long postId, RollupGranularity granularity, LocalDateTime before) {
+        return postMetricRollupJpaRepository
+            .findTopByPostIdAndGranularityAndBucketStartLessThanOrderByBucketStartDesc(postId, granularity, before);
+    }
+
+    @Override
+    public Optional<PostMetricRollup> findByPostIdAndBucket(Long postId, RollupGranularity granularity, LocalDateTime bucketStart) {
+        return postMetricRollupJpaRepository.findByPostIdAndGranularityAndBucketStart(postId, granularity, bucketStart);
+    }
+
+    @Override
+    public List<PostMetricRollup> findByPostIdInRange(Long postId, RollupGranularity granularity, LocalDateTime start, LocalDateTime end) {
+        return postMetricRollupJpaRepository.findByPostIdInRange(postId, granularity, start, end);
+    }
+
+    @Override
+    public List<PostMetricRollup> findByPostIdsFrom(Collection<Long> postIds, RollupGranularity granularity, LocalDateTime start) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return postMetricRollupJpaRepository.findByPostIdsFrom(postIds, granularity, start);
+    }
+}
@@ -0,0 +1,39 @@
+package kt.aivle.analytics.adapter.out.persistence;
+
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import kt.aivle.analytics.adapter.out.persistence.repository.PostReportJpaRepository;
+import kt.aivle.analytics.application.port.out.repository.PostReportRepositoryPort;
+import kt.aivle.analytics.domain.entity.PostReport;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PostReportRepository implements PostReportRepositoryPort {
+
+    private final PostReportJpaRepository postReportJpaRepository;
+
+    @Override
+    public Optional<PostReport> findById(Long id) {
+        return postReportJpaRepository.findById(id);
+    }
+
+    @Override
+    public Optional<PostReport> findByFingerprint(Long postId, Long storeId, String inputFingerprint) {
+        return postReportJpaRepository.findByPostIdAndStoreIdAndInputFingerprint(postId, storeId, inputFingerprint);
+    }
+
+    @Override
+    public PostReport save(PostReport postReport) {
+        try {
+            return postReportJpaRepository.saveAndFlush(postReport);
+        } catch (DataIntegrityViolationException e) {
+            // 임대 없이 생성된 경우(Redis 장애) 같은 지문이 동시에 저장될 수 있음 - 먼저 저장된 보고서 사용
+            return findByFingerprint(postReport.getPostId(), postReport.getStoreId(), postReport.getInputFingerprint())
+                .orElseThrow(() -> e);
+        }
+    }
+}
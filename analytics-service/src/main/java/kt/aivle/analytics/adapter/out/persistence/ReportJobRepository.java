@@ -0,0 +1,97 @@
+package kt.aivle.analytics.adapter.out.persistence;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import kt.aivle.analytics.adapter.out.persistence.repository.ReportJobJpaRepository;
+import kt.aivle.analytics.application.port.out.repository.ReportJobRepositoryPort;
+import kt.aivle.analytics.domain.entity.ReportJob;
+import kt.aivle.analytics.domain.model.ReportJobStatus;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ReportJobRepository implements ReportJobRepositoryPort {
+
+    // 처리 가능한 작업 잠금 - 다른 인스턴스가 잠근 행은 기다리지 않고 건너뜀 (MySQL 8+)
+    private static final String CLAIM_SELECT_SQL =
+        "SELECT id FROM report_job " +
+        "WHERE status IN ('QUEUED', 'RUNNING') AND available_at <= ? " +
+        "ORDER BY available_at, id LIMIT ? " +
+        "FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_UPDATE_SQL_PREFIX =
+        "UPDATE report_job SET status = 'RUNNING', attempts = attempts + 1, version = version + 1, available_at = ?, updated_at = ? WHERE id IN ";
+
+    private static final List<ReportJobStatus> UNFINISHED = List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING);
+    private static final List<ReportJobStatus> FINISHED = List.of(ReportJobStatus.COMPLETED, ReportJobStatus.FAILED);
+
+    private final ReportJobJpaRepository reportJobJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ReportJob save(ReportJob reportJob) {
+        return reportJobJpaRepository.save(reportJob);
+    }
+
+    @Override
+    public ReportJob enqueue(ReportJob reportJob) {
+        Optional<ReportJob> unfinished = findUnfinished(reportJob.getAccountId(), reportJob.getPostId(), reportJob.getStoreId());
+        if (unfinished.isPresent()) {
+            return unfinished.get();
+        }
+
+        try {
+            return reportJobJpaRepository.saveAndFlush(reportJob);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 등록으로 active_key 유니크 키 충돌 - 먼저 저장된 작업 사용
+            return findUnfinished(reportJob.getAccountId(), reportJob.getPostId(), reportJob.getStoreId())
+                .orElseThrow(() -> e);
+        }
+    }
+
+    @Override
+    public Optional<ReportJob> findById(Long id) {
+        return reportJobJpaRepository.findById(id);
+    }
+
+    @Override
+    public Optional<ReportJob> findUnfinished(Long accountId, Long postId, Long storeId) {
+        return reportJobJpaRepository.findFirstByAccountIdAndPostIdAndStoreIdAndStatusInOrderByIdDesc(
+            accountId, postId, storeId, UNFINISHED);
+    }
+
+    @Override
+    @Transactional
+    public List<ReportJob> claimAvailable(int limit, LocalDateTime leaseUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = jdbcTemplate.queryForList(CLAIM_SELECT_SQL, Long.class, Timestamp.valueOf(now), limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(Timestamp.valueOf(leaseUntil));
+        args.add(Timestamp.valueOf(now));
+        args.addAll(ids);
+        jdbcTemplate.update(CLAIM_UPDATE_SQL_PREFIX + "(" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")",
+            args.toArray());
+
+        return reportJobJpaRepository.findAllById(ids);
+    }
+
+    @Override
+    @Transactional
+    public int deleteFinishedBefore(LocalDateTime before) {
+        return reportJobJpaRepository.deleteByStatusInAndUpdatedAtBefore(FINISHED, before);
+    }
+}
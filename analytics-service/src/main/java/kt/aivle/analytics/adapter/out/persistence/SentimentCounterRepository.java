@@ -0,0 +1,163 @@
+package kt.aivle.analytics.adapter.out.persistence;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import kt.aivle.analytics.adapter.out.persistence.repository.SentimentCounterJpaRepository;
+import kt.aivle.analytics.application.port.out.repository.SentimentCounterRepositoryPort;
+import kt.aivle.analytics.domain.entity.SentimentCounter;
+import kt.aivle.analytics.domain.model.SentimentCounterScope;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class SentimentCounterRepository implements SentimentCounterRepositoryPort {
+
+    private static final String INCREMENT_SQL =
+        "INSERT INTO sentiment_counter " +
+        "(scope, owner_id, bucket_date, positive_count, neutral_count, negative_count, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE positive_count = positive_count + VALUES(positive_count), " +
+        "neutral_count = neutral_count + VALUES(neutral_count), " +
+        "negative_count = negative_count + VALUES(negative_count), " +
+        "updated_at = VALUES(updated_at)";
+
+    private static final String LOCK_POST_SQL = "SELECT id FROM sns_post WHERE id = ? FOR UPDATE";
+    private static final String LOCK_ACCOUNT_SQL = "SELECT id FROM sns_account WHERE id = ? FOR UPDATE";
+
+    private static final String DELETE_SQL =
+        "DELETE FROM sentiment_counter WHERE scope = ? AND owner_id = ?";
+
+    // 감정별 개수 (sentiment가 NULL인 댓글은 어느 쪽에도 포함되지 않음)
+    private static final String COUNT_COLUMNS =
+        "COALESCE(SUM(c.sentiment = 'POSITIVE'), 0), " +
+        "COALESCE(SUM(c.sentiment = 'NEUTRAL'), 0), " +
+        "COALESCE(SUM(c.sentiment = 'NEGATIVE'), 0)";
+
+    private static final String POST_SOURCE =
+        " FROM sns_post_comment_metric c WHERE c.post_id = ?";
+
+    private static final String ACCOUNT_SOURCE =
+        " FROM sns_post_comment_metric c JOIN sns_post p ON p.id = c.post_id WHERE p.account_id = ?";
+
+    private static final String INSERT_SELECT_PREFIX =
+        "INSERT INTO sentiment_counter " +
+        "(scope, owner_id, bucket_date, positive_count, neutral_count, negative_count, created_at, updated_at) ";
+
+    // 재계산 값으로 덮어씀 (잠금 없이 호출되거나 삭제 후 다른 트랜잭션이 먼저 넣은 행이 있어도 중복 키 오류 없이 반영)
+    private static final String OVERWRITE_SUFFIX =
+        " ON DUPLICATE KEY UPDATE positive_count = VALUES(positive_count), " +
+        "neutral_count = VALUES(neutral_count), " +
+        "negative_count = VALUES(negative_count), " +
+        "updated_at = VALUES(updated_at)";
+
+    private static final String DAILY_BUCKET = "DATE(COALESCE(c.published_at, c.created_at))";
+
+    private final SentimentCounterJpaRepository sentimentCounterJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockOwner(SentimentCounterScope scope, Long ownerId) {
+        // 대상 행이 없으면(삭제된 게시물/계정) 잠글 행이 없으므로 그대로 진행
+        jdbcTemplate.queryForList(scope == SentimentCounterScope.POST ? LOCK_POST_SQL : LOCK_ACCOUNT_SQL, Long.class, ownerId);
+    }
+
+    @Override
+    @Transactional
+    public void incrementAll(List<SentimentCounter> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SentimentCounter delta = deltas.get(i);
+                ps.setString(1, delta.getScope().name());
+                ps.setLong(2, delta.getOwnerId());
+                ps.setDate(3, Date.valueOf(delta.getBucketDate()));
+                ps.setLong(4, delta.getPositiveCount());
+                ps.setLong(5, delta.getNeutralCount());
+                ps.setLong(6, delta.getNegativeCount());
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(SentimentCounterScope scope, Long ownerId, boolean includeDailyBuckets) {
+        String source = sourceOf(scope);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(DELETE_SQL, scope.name(), ownerId);
+
+        // 전체 누적 행
+        jdbcTemplate.update(
+            INSERT_SELECT_PREFIX + "SELECT ?, ?, ?, " + COUNT_COLUMNS + ", ?, ?" + source + OVERWRITE_SUFFIX,
+            scope.name(), ownerId, Date.valueOf(SentimentCounter.TOTAL_BUCKET), now, now, ownerId);
+
+        // 댓글 게시일 기준 일 단위 행
+        if (includeDailyBuckets) {
+            jdbcTemplate.update(
+                INSERT_SELECT_PREFIX + "SELECT ?, ?, " + DAILY_BUCKET + ", " + COUNT_COLUMNS + ", ?, ?" + source +
+                    " AND c.sentiment IS NOT NULL GROUP BY " + DAILY_BUCKET + OVERWRITE_SUFFIX,
+                scope.name(), ownerId, now, now, ownerId);
+        }
+    }
+
+    @Override
+    public void deleteAll(SentimentCounterScope scope, Long ownerId) {
+        jdbcTemplate.update(DELETE_SQL, scope.name(), ownerId);
+    }
+
+    @Override
+    public Optional<SentimentCounter> findTotal(SentimentCounterScope scope, Long ownerId) {
+        return sentimentCounterJpaRepository.findByScopeAndOwnerIdAndBucketDate(scope, ownerId, SentimentCounter.TOTAL_BUCKET);
+    }
+
+    @Override
+    public List<SentimentCounter> findDailyInRange(SentimentCounterScope scope, Long ownerId, LocalDate from, LocalDate to) {
+        // 전체 누적 행(TOTAL_BUCKET)은 일 단위 조회에서 제외
+        LocalDate firstDailyBucket = SentimentCounter.TOTAL_BUCKET.plusDays(1);
+        return sentimentCounterJpaRepository.findDailyInRange(
+            scope, ownerId, from.isBefore(firstDailyBucket) ? firstDailyBucket : from, to);
+    }
+
+    @Override
+    public SentimentCounter countFromComments(SentimentCounterScope scope, Long ownerId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT " + COUNT_COLUMNS + sourceOf(scope),
+            (rs, rowNum) -> SentimentCounter.builder()
+                .scope(scope)
+                .ownerId(ownerId)
+                .bucketDate(SentimentCounter.TOTAL_BUCKET)
+                .positiveCount(rs.getLong(1))
+                .neutralCount(rs.getLong(2))
+                .negativeCount(rs.getLong(3))
+                .build(),
+            ownerId);
+    }
+
+    private String sourceOf(SentimentCounterScope scope) {
+        return scope == SentimentCounterScope.POST ? POST_SOURCE : ACCOUNT_SOURCE;
+    }
+}
@@ -2,10 +2,15 @@ package kt.aivle.analytics.adapter.out.persistence;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import kt.aivle.analytics.adapter.out.persistence.repository.SnsAccountMetricJpaRepository;
 import kt.aivle.analytics.application.port.out.repository.SnsAccountMetricRepositoryPort;
@@ -23,6 +28,11 @@ public class SnsAccountMetricRepository implements SnsAccountMetricRepositoryPor
         return snsAccountMetricJpaRepository.save(snsAccountMetric);
     }
 
+    @Override
+    public void saveAll(List<SnsAccountMetric> snsAccountMetrics) {
+        snsAccountMetricJpaRepository.saveAll(snsAccountMetrics);
+    }
+
     @Override
     public Optional<SnsAccountMetric> findById(Long id) {
         return snsAccountMetricJpaRepository.findById(id);
@@ -30,8 +40,9 @@ public class SnsAccountMetricRepository implements SnsAccountMetricRepositoryPor
 
     @Override
     public List<SnsAccountMetric> findByAccountIdAndCreatedAtDate(Long accountId, LocalDate date) {
-        // LocalDate를 direct 사용 (JpaRepository에서 타임존 처리)
-        return snsAccountMetricJpaRepository.findByAccountIdAndCreatedAtDate(accountId, date);
+        // 하루를 [당일 0시, 다음 날 0시) 반열린 구간으로 변환
+        return snsAccountMetricJpaRepository.findByAccountIdAndCreatedAtBetween(
+            accountId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
     }
 
     @Override
@@ -40,13 +51,43 @@ public class SnsAccountMetricRepository implements SnsAccountMetricRepositoryPor
         return snsAccountMetricJpaRepository.existsByAccountIdAndCreatedAtAfter(accountId, date);
     }
 
+    @Override
+    public Set<Long> findAccountIdsWithMetricsCreatedAfter(Collection<Long> accountIds, LocalDateTime date) {
+        if (accountIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(snsAccountMetricJpaRepository.findAccountIdsWithMetricsCreatedAfter(accountIds, date));
+    }
+
     @Override
     public void deleteById(Long id) {
         snsAccountMetricJpaRepository.deleteById(id);
     }
     
     @Override
-    public List<Object[]> findMetricsWithAccount(List<Long> accountIds, LocalDate date) {
-        return snsAccountMetricJpaRepository.findMetricsWithAccount(accountIds, date);
+    public Optional<Object[]> findLatestMetricWithAccount(Long accountId, LocalDate date) {
+        return snsAccountMetricJpaRepository.findLatestMetricsWithAccount(
+                accountId, date.atStartOfDay(), date.plusDays(1).atStartOfDay(), PageRequest.of(0, 1))
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public Optional<SnsAccountMetric> findLatestByAccountId(Long accountId) {
+        return snsAccountMetricJpaRepository.findTopByAccountIdOrderByCreatedAtDesc(accountId);
+    }
+
+    @Override
+    public List<SnsAccountMetric> findByAccountIdsCreatedInRange(Collection<Long> accountIds, LocalDateTime start, LocalDateTime end) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        return snsAccountMetricJpaRepository.findByAccountIdsCreatedInRange(accountIds, start, end);
+    }
+
+    @Override
+    @Transactional
+    public int deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        return snsAccountMetricJpaRepository.deleteCreatedBefore(cutoff, limit);
     }
 }
@@ -49,8 +49,23 @@ public class SnsAccountRepository implements SnsAccountRepositoryPort {
     }
 
     @Override
-    public List<SnsAccount> findAllWithPagination(int page, int size) {
-        return snsAccountJpaRepository.findAllWithPagination(PageRequest.of(page, size));
+    public List<SnsAccount> findNextPageAfterId(Long lastId, int size) {
+        return snsAccountJpaRepository.findNextPageAfterId(lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<SnsAccount> findNextPageInRange(Long lastId, Long maxId, int size) {
+        return snsAccountJpaRepository.findNextPageInRange(lastId, maxId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public Optional<Long> findMinId() {
+        return Optional.ofNullable(snsAccountJpaRepository.findMinId());
+    }
+
+    @Override
+    public Optional<Long> findMaxId() {
+        return Optional.ofNullable(snsAccountJpaRepository.findMaxId());
     }
     
     @Override
@@ -0,0 +1,84 @@
+package kt.aivle.analytics.adapter.out.persistence;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * sns_post_comment_metric 유니크 키(uk_sns_comment_id) 적용
+ * 키 도입 이전에는 수집이 겹치면 같은 sns_comment_id 행이 여러 번 저장될 수 있어 중복 행이 있으면
+ * 스키마 갱신 시 유니크 키 생성이 실패하고, 키가 없으면 중복 건너뛰기(ON DUPLICATE KEY)가 동작하지 않습니다.
+ * 기동 시 키가 없으면 중복 행 중 하나만 남기고(감정 분석된 행 우선, 그중 가장 오래된 행) 키를 추가합니다.
+ * 중복 댓글이 포함된 게시물/계정의 감정 카운터는 삭제하여 다음 반영 시 댓글 테이블에서 다시 계산되도록 합니다.
+ * 키가 이미 있으면 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnsCommentIdUniqueKeyMigration {
+
+    private static final String UNIQUE_KEY = "uk_sns_comment_id";
+
+    private static final String KEY_EXISTS_SQL =
+        "SELECT COUNT(*) FROM information_schema.statistics " +
+        "WHERE table_schema = DATABASE() AND table_name = 'sns_post_comment_metric' AND index_name = ?";
+
+    private static final String DUPLICATE_POSTS =
+        "SELECT DISTINCT c.post_id FROM sns_post_comment_metric c " +
+        "JOIN (SELECT sns_comment_id FROM sns_post_comment_metric GROUP BY sns_comment_id HAVING COUNT(*) > 1) d " +
+        "ON c.sns_comment_id = d.sns_comment_id";
+
+    private static final String DELETE_POST_COUNTERS_SQL =
+        "DELETE FROM sentiment_counter WHERE scope = 'POST' AND owner_id IN (" + DUPLICATE_POSTS + ")";
+
+    private static final String DELETE_ACCOUNT_COUNTERS_SQL =
+        "DELETE FROM sentiment_counter WHERE scope = 'ACCOUNT' AND owner_id IN (" +
+        "SELECT p.account_id FROM sns_post p WHERE p.id IN (" + DUPLICATE_POSTS + "))";
+
+    // 그룹별로 남길 행: 감정 분석된 행 중 가장 오래된 행, 없으면 가장 오래된 행
+    private static final String DELETE_DUPLICATES_SQL =
+        "DELETE c FROM sns_post_comment_metric c " +
+        "JOIN (SELECT sns_comment_id, COALESCE(MIN(CASE WHEN sentiment IS NOT NULL THEN id END), MIN(id)) AS keep_id " +
+        "      FROM sns_post_comment_metric GROUP BY sns_comment_id HAVING COUNT(*) > 1) d " +
+        "ON c.sns_comment_id = d.sns_comment_id AND c.id <> d.keep_id";
+
+    private static final String ADD_UNIQUE_KEY_SQL =
+        "ALTER TABLE sns_post_comment_metric ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (sns_comment_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            if (uniqueKeyExists()) {
+                return;
+            }
+
+            // 카운터 대상은 중복 행을 지우기 전에 찾아야 하므로 카운터부터 삭제
+            int[] result = transactionTemplate.execute(status -> new int[] {
+                jdbcTemplate.update(DELETE_ACCOUNT_COUNTERS_SQL),
+                jdbcTemplate.update(DELETE_POST_COUNTERS_SQL),
+                jdbcTemplate.update(DELETE_DUPLICATES_SQL)
+            });
+            log.info("🔧 댓글 중복 행 정리 - 삭제 행: {}, 초기화한 카운터 행(계정/게시물): {}/{}", result[2], result[0], result[1]);
+
+            // DDL은 암묵적으로 커밋되므로 정리 트랜잭션과 분리
+            jdbcTemplate.execute(ADD_UNIQUE_KEY_SQL);
+            log.info("✅ sns_post_comment_metric 유니크 키 추가 완료: {}", UNIQUE_KEY);
+        } catch (Exception e) {
+            // 다른 인스턴스가 먼저 적용했거나 정리 중 새 중복이 들어온 경우 - 다음 기동 시 다시 시도
+            log.warn("Failed to apply sns_post_comment_metric unique key: {}", e.getMessage());
+        }
+    }
+
+    private boolean uniqueKeyExists() {
+        Integer count = jdbcTemplate.queryForObject(KEY_EXISTS_SQL, Integer.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+}
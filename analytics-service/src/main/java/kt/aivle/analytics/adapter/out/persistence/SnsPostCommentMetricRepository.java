@@ -1,25 +1,61 @@
 package kt.aivle.analytics.adapter.out.persistence;
 
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import kt.aivle.analytics.adapter.out.persistence.repository.SnsPostCommentMetricJpaRepository;
 import kt.aivle.analytics.application.port.out.repository.SnsPostCommentMetricRepositoryPort;
 import kt.aivle.analytics.domain.entity.SnsPostCommentMetric;
 import kt.aivle.analytics.domain.model.SentimentType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class SnsPostCommentMetricRepository implements SnsPostCommentMetricRepositoryPort {
 
+    // 중복 키만 건너뜀 (INSERT IGNORE와 달리 길이 초과/NOT NULL 위반 등 다른 오류는 그대로 실패)
+    private static final String INSERT_SKIP_DUPLICATE_SQL =
+        "INSERT INTO sns_post_comment_metric " +
+        "(sns_comment_id, post_id, author_id, content, like_count, published_at, sentiment, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE id = id";
+
+    private static final String UPDATE_SENTIMENT_SQL =
+        "UPDATE sns_post_comment_metric SET sentiment = ?, updated_at = ? WHERE id = ?";
+
+    private static final String SELECT_SENTIMENTS_FOR_UPDATE_SQL =
+        "SELECT id, sentiment FROM sns_post_comment_metric WHERE id IN (%s) FOR UPDATE";
+
     private final SnsPostCommentMetricJpaRepository snsPostCommentMetricJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public SnsPostCommentMetric save(SnsPostCommentMetric snsPostCommentMetric) {
@@ -35,6 +71,11 @@ public class SnsPostCommentMetricRepository implements SnsPostCommentMetricRepos
     public List<SnsPostCommentMetric> findByPostId(Long postId) {
         return snsPostCommentMetricJpaRepository.findByPostId(postId);
     }
+
+    @Override
+    public long countByPostId(Long postId) {
+        return snsPostCommentMetricJpaRepository.countByPostId(postId);
+    }
     
     @Override
     public List<SnsPostCommentMetric> findByPostIdWithPagination(Long postId, int page, int size) {
@@ -46,6 +87,14 @@ public class SnsPostCommentMetricRepository implements SnsPostCommentMetricRepos
         return snsPostCommentMetricJpaRepository.findBySnsCommentId(snsCommentId);
     }
 
+    @Override
+    public Set<String> findExistingSnsCommentIds(Collection<String> snsCommentIds) {
+        if (snsCommentIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(snsPostCommentMetricJpaRepository.findExistingSnsCommentIds(snsCommentIds));
+    }
+
     @Override
     public void deleteById(Long id) {
         snsPostCommentMetricJpaRepository.deleteById(id);
@@ -53,13 +102,15 @@ public class SnsPostCommentMetricRepository implements SnsPostCommentMetricRepos
     
     @Override
     public List<SnsPostCommentMetric> findByPostIdAndCreatedAtDate(Long postId, LocalDate date) {
-        // LocalDate를 직접 사용 (JpaRepository에서 타임존 처리)
-        return snsPostCommentMetricJpaRepository.findByPostIdAndCreatedAtDate(postId, date);
+        // 하루를 [당일 0시, 다음 날 0시) 반열린 구간으로 변환
+        return snsPostCommentMetricJpaRepository.findByPostIdAndCreatedAtBetween(
+            postId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
     }
     
     @Override
     public List<SnsPostCommentMetric> findByPostIdAndPublishedAtBeforeWithPagination(Long postId, LocalDate date, int page, int size) {
-        return snsPostCommentMetricJpaRepository.findByPostIdAndPublishedAtBeforeWithPagination(postId, date, PageRequest.of(page, size));
+        return snsPostCommentMetricJpaRepository.findByPostIdAndPublishedAtBeforeWithPagination(
+            postId, date.plusDays(1).atStartOfDay(), PageRequest.of(page, size));
     }
 
     @Override
@@ -68,8 +119,146 @@ public class SnsPostCommentMetricRepository implements SnsPostCommentMetricRepos
     }
     
     @Override
-    public void updateSentimentById(Long id, SentimentType sentiment) {
-        snsPostCommentMetricJpaRepository.updateSentimentById(id, sentiment);
+    @Transactional
+    public List<SnsPostCommentMetric> insertAllIgnoringDuplicates(List<SnsPostCommentMetric> metrics) {
+        if (metrics.isEmpty()) {
+            return List.of();
+        }
+
+        // IDENTITY 전략은 Hibernate 배치 INSERT가 불가하므로 JDBC 배치 + getGeneratedKeys 사용
+        LocalDateTime persistedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Timestamp timestamp = Timestamp.valueOf(persistedAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_SKIP_DUPLICATE_SQL, Statement.RETURN_GENERATED_KEYS),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    SnsPostCommentMetric metric = metrics.get(i);
+                    ps.setString(1, metric.getSnsCommentId());
+                    ps.setLong(2, metric.getPostId());
+                    ps.setString(3, metric.getAuthorId());
+                    ps.setString(4, metric.getContent());
+                    ps.setObject(5, metric.getLikeCount(), Types.BIGINT);
+                    ps.setTimestamp(6, metric.getPublishedAt() != null ? Timestamp.valueOf(metric.getPublishedAt()) : null);
+                    ps.setString(7, metric.getSentiment() != null ? metric.getSentiment().name() : null);
+                    ps.setTimestamp(8, timestamp);
+                    ps.setTimestamp(9, timestamp);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return metrics.size();
+                }
+            },
+            keyHolder);
+
+        List<SnsPostCommentMetric> inserted = mapGeneratedKeys(metrics, updateCounts, keyHolder.getKeyList(), persistedAt);
+        if (inserted != null) {
+            return inserted;
+        }
+
+        // 드라이버가 행별 결과를 주지 않거나 (rewriteBatchedStatements 등) 중복 행도 1로 보고하는 경우 (CLIENT_FOUND_ROWS)
+        // 이번 배치에서 저장된 행만 한 번에 재조회
+        log.debug("Generated keys could not be mapped per row, falling back to IN query - size: {}", metrics.size());
+        return snsPostCommentMetricJpaRepository.findBySnsCommentIdIn(
+                metrics.stream().map(SnsPostCommentMetric::getSnsCommentId).toList()).stream()
+            .filter(metric -> persistedAt.equals(metric.getCreatedAt()))
+            .toList();
+    }
+
+    // 행별 update count(1: 저장, 0: 중복으로 건너뜀)와 생성 키를 순서대로 매핑, 매핑 불가 시 null
+    // (중복 행은 키를 생성하지 않으므로 중복을 1로 보고받으면 키 개수가 맞지 않아 null)
+    private List<SnsPostCommentMetric> mapGeneratedKeys(List<SnsPostCommentMetric> metrics, int[] updateCounts,
+                                                        List<Map<String, Object>> keys, LocalDateTime persistedAt) {
+        if (updateCounts.length != metrics.size()) {
+            return null;
+        }
+
+        List<SnsPostCommentMetric> insertedMetrics = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] < 0) {
+                return null;
+            }
+            if (updateCounts[i] > 0) {
+                insertedMetrics.add(metrics.get(i));
+            }
+        }
+
+        if (insertedMetrics.size() != keys.size()) {
+            return null;
+        }
+
+        for (int i = 0; i < insertedMetrics.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            insertedMetrics.get(i).markPersisted(id.longValue(), persistedAt);
+        }
+        return insertedMetrics;
+    }
+    
+    @Override
+    @Transactional
+    public List<Long> updateSentiments(Map<Long, SentimentType> sentimentsById) {
+        if (sentimentsById.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map.Entry<Long, SentimentType>> entries = new ArrayList<>(sentimentsById.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[] updateCounts;
+        try {
+            updateCounts = jdbcTemplate.batchUpdate(UPDATE_SENTIMENT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setString(1, entries.get(i).getValue().name());
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, entries.get(i).getKey());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return entries.size();
+                }
+            });
+        } catch (DataAccessException e) {
+            // 일부 행 실패 시 드라이버가 배치를 계속 진행하고 행별 결과를 BatchUpdateException에 담아줌
+            if (!(e.getCause() instanceof BatchUpdateException batchUpdateException)) {
+                throw e;
+            }
+            log.warn("Partial failure in sentiment batch update: {}", batchUpdateException.getMessage());
+            updateCounts = batchUpdateException.getUpdateCounts();
+        }
+
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            // 결과가 없거나(배치 중단) 실패/0건인 행은 실패로 집계, SUCCESS_NO_INFO는 성공으로 간주
+            boolean updated = i < updateCounts.length
+                && (updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO);
+            if (!updated) {
+                failedIds.add(entries.get(i).getKey());
+            }
+        }
+        return failedIds;
+    }
+    
+    @Override
+    public Map<Long, SentimentType> findSentimentsForUpdate(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        // sentiment가 없는 댓글도 결과에 포함해야 하므로 null 값을 허용하는 HashMap 사용
+        Map<Long, SentimentType> sentimentsById = new HashMap<>();
+        jdbcTemplate.query(
+            String.format(SELECT_SENTIMENTS_FOR_UPDATE_SQL, String.join(", ", Collections.nCopies(ids.size(), "?"))),
+            rs -> {
+                String sentiment = rs.getString("sentiment");
+                sentimentsById.put(rs.getLong("id"), sentiment != null ? SentimentType.valueOf(sentiment) : null);
+            },
+            ids.toArray());
+        return sentimentsById;
     }
     
     @Override
@@ -2,10 +2,13 @@ package kt.aivle.analytics.adapter.out.persistence;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import kt.aivle.analytics.adapter.out.persistence.repository.SnsPostMetricJpaRepository;
 import kt.aivle.analytics.application.port.out.repository.SnsPostMetricRepositoryPort;
@@ -30,8 +33,9 @@ public class SnsPostMetricRepository implements SnsPostMetricRepositoryPort {
 
     @Override
     public List<SnsPostMetric> findByPostIdAndCreatedAtDate(Long postId, LocalDate date) {
-        // LocalDate를 직접 사용 (JpaRepository에서 타임존 처리)
-        return snsPostMetricJpaRepository.findByPostIdAndCreatedAtDate(postId, date);
+        // 하루를 [당일 0시, 다음 날 0시) 반열린 구간으로 변환
+        return snsPostMetricJpaRepository.findByPostIdAndCreatedAtBetween(
+            postId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
     }
 
     @Override
@@ -46,12 +50,37 @@ public class SnsPostMetricRepository implements SnsPostMetricRepositoryPort {
     }
     
     @Override
-    public List<Object[]> findMetricsWithPostAndAccount(List<Long> postIds, LocalDate date) {
-        return snsPostMetricJpaRepository.findMetricsWithPostAndAccount(postIds, date);
+    public Optional<Object[]> findLatestMetricWithPostAndAccount(Long postId, LocalDate date) {
+        return snsPostMetricJpaRepository.findLatestMetricsWithPostAndAccount(
+                postId, date.atStartOfDay(), date.plusDays(1).atStartOfDay(), PageRequest.of(0, 1))
+            .stream()
+            .findFirst();
     }
     
     @Override
     public Optional<SnsPostMetric> findLatestByPostId(Long postId) {
         return snsPostMetricJpaRepository.findTopByPostIdOrderByCreatedAtDesc(postId);
     }
+    
+    @Override
+    public List<SnsPostMetric> findLatestTwoByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return snsPostMetricJpaRepository.findLatestTwoByPostIds(postIds);
+    }
+
+    @Override
+    public List<SnsPostMetric> findByPostIdsCreatedInRange(Collection<Long> postIds, LocalDateTime start, LocalDateTime end) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return snsPostMetricJpaRepository.findByPostIdsCreatedInRange(postIds, start, end);
+    }
+
+    @Override
+    @Transactional
+    public int deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        return snsPostMetricJpaRepository.deleteCreatedBefore(cutoff, limit);
+    }
 }
@@ -1,11 +1,13 @@
 package kt.aivle.analytics.adapter.out.persistence;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import kt.aivle.analytics.adapter.out.persistence.repository.SnsPostJpaRepository;
 import kt.aivle.analytics.application.port.out.repository.SnsPostRepositoryPort;
@@ -49,8 +51,23 @@ public class SnsPostRepository implements SnsPostRepositoryPort {
     }
 
     @Override
-    public List<SnsPost> findAllWithPagination(int page, int size) {
-        return snsPostJpaRepository.findAllWithPagination(PageRequest.of(page, size));
+    public List<SnsPost> findNextPageAfterId(Long lastId, int size) {
+        return snsPostJpaRepository.findNextPageAfterId(lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<SnsPost> findNextPageInRange(Long lastId, Long maxId, int size) {
+        return snsPostJpaRepository.findNextPageInRange(lastId, maxId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public Optional<Long> findMinId() {
+        return Optional.ofNullable(snsPostJpaRepository.findMinId());
+    }
+
+    @Override
+    public Optional<Long> findMaxId() {
+        return Optional.ofNullable(snsPostJpaRepository.findMaxId());
     }
     
     @Override
@@ -62,4 +79,10 @@ public class SnsPostRepository implements SnsPostRepositoryPort {
     public Optional<SnsPost> findLatestByAccountId(Long accountId) {
         return snsPostJpaRepository.findLatestByAccountId(accountId);
     }
+    
+    @Override
+    @Transactional
+    public void updatePublishedAtIfAbsent(Long postId, LocalDateTime publishedAt) {
+        snsPostJpaRepository.updatePublishedAtIfAbsent(postId, publishedAt);
+    }
 }
@@ -6,10 +6,22 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 
 @NoRepositoryBean
 public interface BaseJpaRepository<T, ID> extends JpaRepository<T, ID> {
     
-    @Query("SELECT e FROM #{#entityName} e")
-    List<T> findAllWithPagination(Pageable pageable);
+    // 키셋 페이지네이션 - PK 인덱스 범위 스캔이라 테이블 크기와 무관하게 페이지 조회 비용이 일정
+    @Query("SELECT e FROM #{#entityName} e WHERE e.id > :lastId ORDER BY e.id ASC")
+    List<T> findNextPageAfterId(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // ID 구간(lastId, maxId] 내 키셋 페이지네이션 - 파티션 단위 수집용
+    @Query("SELECT e FROM #{#entityName} e WHERE e.id > :lastId AND e.id <= :maxId ORDER BY e.id ASC")
+    List<T> findNextPageInRange(@Param("lastId") Long lastId, @Param("maxId") Long maxId, Pageable pageable);
+    
+    @Query("SELECT MIN(e.id) FROM #{#entityName} e")
+    Long findMinId();
+    
+    @Query("SELECT MAX(e.id) FROM #{#entityName} e")
+    Long findMaxId();
 }
@@ -2,6 +2,7 @@ package kt.aivle.analytics.adapter.out.persistence.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,12 +10,17 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import kt.aivle.analytics.domain.entity.PostCommentKeyword;
+import kt.aivle.analytics.domain.model.SentimentType;
 
 @Repository
 public interface PostCommentKeywordJpaRepository extends BaseJpaRepository<PostCommentKeyword, Long> {
     
     List<PostCommentKeyword> findByPostId(Long postId);
     
+    // 빈도 상위 키워드 - (post_id, sentiment, frequency) 인덱스 사용
+    @Query("SELECT p.keyword FROM post_comment_keyword p WHERE p.postId = :postId AND p.sentiment = :sentiment ORDER BY p.frequency DESC, p.id ASC")
+    List<String> findTopKeywords(@Param("postId") Long postId, @Param("sentiment") SentimentType sentiment, Pageable pageable);
+    
     @Modifying
     @Transactional
     @Query("DELETE FROM post_comment_keyword p WHERE p.postId = :postId")
@@ -0,0 +1,39 @@
+package kt.aivle.analytics.adapter.out.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import kt.aivle.analytics.domain.entity.PostMetricRollup;
+import kt.aivle.analytics.domain.model.RollupGranularity;
+
+@Repository
+public interface PostMetricRollupJpaRepository extends BaseJpaRepository<PostMetricRollup, Long> {
+    
+    // 롤업 진행 위치 (마지막으로 반영된 원본 수집 시각)
+    @Query("SELECT MAX(r.lastFetchedAt) FROM PostMetricRollup r WHERE r.granularity = :granularity")
+    LocalDateTime findMaxLastFetchedAt(@Param("granularity") RollupGranularity granularity);
+    
+    // 증가량 계산용 직전 구간 롤업
+    Optional<PostMetricRollup> findTopByPostIdAndGranularityAndBucketStartLessThanOrderByBucketStartDesc(
+        Long postId, RollupGranularity granularity, LocalDateTime before);
+    
+    Optional<PostMetricRollup> findByPostIdAndGranularityAndBucketStart(Long postId, RollupGranularity granularity, LocalDateTime bucketStart);
+    
+    @Query("""
+        SELECT r FROM PostMetricRollup r
+        WHERE r.postId = :postId AND r.granularity = :granularity AND r.bucketStart >= :start AND r.bucketStart < :end
+        ORDER BY r.bucketStart ASC
+        """)
+    List<PostMetricRollup> findByPostIdInRange(@Param("postId") Long postId, @Param("granularity") RollupGranularity granularity,
+                                       @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    // 여러 대상의 구간 시작이 start 이후인 롤업을 postId, 구간 순으로 조회 (상위 단위 롤업 재계산용)
+    @Query("SELECT r FROM PostMetricRollup r WHERE r.postId IN :postIds AND r.granularity = :granularity AND r.bucketStart >= :start ORDER BY r.postId ASC, r.bucketStart ASC")
+    List<PostMetricRollup> findByPostIdsFrom(@Param("postIds") Collection<Long> postIds, @Param("granularity") RollupGranularity granularity, @Param("start") LocalDateTime start);
+}
@@ -0,0 +1,14 @@
+package kt.aivle.analytics.adapter.out.persistence.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import kt.aivle.analytics.domain.entity.PostReport;
+
+@Repository
+public interface PostReportJpaRepository extends JpaRepository<PostReport, Long> {
+
+    Optional<PostReport> findByPostIdAndStoreIdAndInputFingerprint(Long postId, Long storeId, String inputFingerprint);
+}
@@ -0,0 +1,26 @@
+package kt.aivle.analytics.adapter.out.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import kt.aivle.analytics.domain.entity.ReportJob;
+import kt.aivle.analytics.domain.model.ReportJobStatus;
+
+@Repository
+public interface ReportJobJpaRepository extends JpaRepository<ReportJob, Long> {
+
+    Optional<ReportJob> findFirstByAccountIdAndPostIdAndStoreIdAndStatusInOrderByIdDesc(
+        Long accountId, Long postId, Long storeId, Collection<ReportJobStatus> statuses);
+
+    @Modifying
+    @Query("DELETE FROM ReportJob j WHERE j.status IN :statuses AND j.updatedAt < :before")
+    int deleteByStatusInAndUpdatedAtBefore(@Param("statuses") Collection<ReportJobStatus> statuses,
+                                           @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,26 @@
+package kt.aivle.analytics.adapter.out.persistence.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import kt.aivle.analytics.domain.entity.SentimentCounter;
+import kt.aivle.analytics.domain.model.SentimentCounterScope;
+
+@Repository
+public interface SentimentCounterJpaRepository extends BaseJpaRepository<SentimentCounter, Long> {
+    
+    Optional<SentimentCounter> findByScopeAndOwnerIdAndBucketDate(SentimentCounterScope scope, Long ownerId, LocalDate bucketDate);
+    
+    @Query("""
+        SELECT c FROM SentimentCounter c
+        WHERE c.scope = :scope AND c.ownerId = :ownerId AND c.bucketDate >= :from AND c.bucketDate <= :to
+        ORDER BY c.bucketDate ASC
+        """)
+    List<SentimentCounter> findDailyInRange(@Param("scope") SentimentCounterScope scope, @Param("ownerId") Long ownerId,
+                                            @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,9 +1,12 @@
 package kt.aivle.analytics.adapter.out.persistence.repository;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,17 +17,40 @@ import kt.aivle.analytics.domain.entity.SnsAccountMetric;
 public interface SnsAccountMetricJpaRepository extends BaseJpaRepository<SnsAccountMetric, Long> {
     boolean existsByAccountIdAndCreatedAtAfter(Long accountId, LocalDateTime date);
     
-    // 날짜만 비교하는 메서드
-    @Query("SELECT m FROM SnsAccountMetric m WHERE m.accountId = :accountId AND DATE(m.createdAt) = DATE(:date)")
-    List<SnsAccountMetric> findByAccountIdAndCreatedAtDate(@Param("accountId") Long accountId, @Param("date") LocalDate date);
+    /**
+     * 특정 계정의 가장 최근 메트릭 조회
+     */
+    Optional<SnsAccountMetric> findTopByAccountIdOrderByCreatedAtDesc(Long accountId);
+    
+    @Query("SELECT DISTINCT m.accountId FROM SnsAccountMetric m WHERE m.accountId IN :accountIds AND m.createdAt > :date")
+    List<Long> findAccountIdsWithMetricsCreatedAfter(@Param("accountIds") Collection<Long> accountIds, @Param("date") LocalDateTime date);
+    
+    // [start, end) 구간 조회 - 컬럼에 함수를 씌우지 않아 (account_id, created_at) 인덱스 범위 스캔 사용
+    @Query("SELECT m FROM SnsAccountMetric m WHERE m.accountId = :accountId AND m.createdAt >= :start AND m.createdAt < :end")
+    List<SnsAccountMetric> findByAccountIdAndCreatedAtBetween(@Param("accountId") Long accountId,
+                                                              @Param("start") LocalDateTime start,
+                                                              @Param("end") LocalDateTime end);
     
     /**
-     * Account Metrics를 Account 정보와 함께 조회 (JOIN 쿼리)
+     * [start, end) 구간의 가장 늦은 Account Metric을 Account 정보와 함께 조회 (JOIN 쿼리, 1건 페이지로 호출)
      */
     @Query("""
         SELECT m, a FROM SnsAccountMetric m
         JOIN SnsAccount a ON m.accountId = a.id
-        WHERE m.accountId IN :accountIds AND DATE(m.createdAt) = DATE(:date)
+        WHERE m.accountId = :accountId AND m.createdAt >= :start AND m.createdAt < :end
+        ORDER BY m.createdAt DESC, m.id DESC
         """)
-    List<Object[]> findMetricsWithAccount(@Param("accountIds") List<Long> accountIds, @Param("date") LocalDate date);
+    List<Object[]> findLatestMetricsWithAccount(@Param("accountId") Long accountId,
+                                                @Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end,
+                                                Pageable pageable);
+    
+    // 여러 대상의 [start, end) 구간 메트릭을 accountId, 수집 시각 순으로 조회 (롤업 집계용)
+    @Query("SELECT m FROM SnsAccountMetric m WHERE m.accountId IN :accountIds AND m.createdAt >= :start AND m.createdAt < :end ORDER BY m.accountId ASC, m.createdAt ASC")
+    List<SnsAccountMetric> findByAccountIdsCreatedInRange(@Param("accountIds") Collection<Long> accountIds, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    // 보관 기간이 지난 원본 메트릭을 limit건씩 삭제 (긴 잠금을 피하기 위해 나누어 실행)
+    @Modifying
+    @Query(value = "DELETE FROM sns_account_metric WHERE created_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
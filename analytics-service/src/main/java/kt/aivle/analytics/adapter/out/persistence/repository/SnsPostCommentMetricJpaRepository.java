@@ -1,41 +1,45 @@
 package kt.aivle.analytics.adapter.out.persistence.repository;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import kt.aivle.analytics.domain.entity.SnsPostCommentMetric;
-import kt.aivle.analytics.domain.model.SentimentType;
 
 @Repository
 public interface SnsPostCommentMetricJpaRepository extends BaseJpaRepository<SnsPostCommentMetric, Long> {
     List<SnsPostCommentMetric> findByPostId(Long postId);
     
+    // (post_id, created_at) 인덱스만으로 개수 계산
+    long countByPostId(Long postId);
+    
     // 페이지네이션 지원 댓글 조회
     @Query("SELECT c FROM SnsPostCommentMetric c WHERE c.postId = :postId ORDER BY c.createdAt DESC")
     List<SnsPostCommentMetric> findByPostIdWithPagination(@Param("postId") Long postId, PageRequest pageRequest);
     
-    // 날짜만 비교하는 메서드
-    @Query("SELECT c FROM SnsPostCommentMetric c WHERE c.postId = :postId AND DATE(c.createdAt) = DATE(:date) ORDER BY c.createdAt DESC")
-    List<SnsPostCommentMetric> findByPostIdAndCreatedAtDate(@Param("postId") Long postId, @Param("date") LocalDate date);
+    // [start, end) 구간 조회 - (post_id, created_at) 인덱스 범위 스캔
+    @Query("SELECT c FROM SnsPostCommentMetric c WHERE c.postId = :postId AND c.createdAt >= :start AND c.createdAt < :end ORDER BY c.createdAt DESC")
+    List<SnsPostCommentMetric> findByPostIdAndCreatedAtBetween(@Param("postId") Long postId,
+                                                               @Param("start") LocalDateTime start,
+                                                               @Param("end") LocalDateTime end);
 
-    // 날짜 기준으로 publishedAt 이전의 댓글을 최신순으로 페이지네이션
-    @Query("SELECT c FROM SnsPostCommentMetric c WHERE c.postId = :postId AND DATE(c.publishedAt) <= DATE(:date) ORDER BY c.publishedAt DESC")
-    List<SnsPostCommentMetric> findByPostIdAndPublishedAtBeforeWithPagination(@Param("postId") Long postId, @Param("date") LocalDate date, PageRequest pageRequest);
+    // end(다음 날 0시) 이전에 게시된 댓글을 최신순으로 페이지네이션 - (post_id, published_at) 인덱스 사용
+    @Query("SELECT c FROM SnsPostCommentMetric c WHERE c.postId = :postId AND c.publishedAt < :end ORDER BY c.publishedAt DESC")
+    List<SnsPostCommentMetric> findByPostIdAndPublishedAtBeforeWithPagination(@Param("postId") Long postId, @Param("end") LocalDateTime end, PageRequest pageRequest);
 
     Optional<SnsPostCommentMetric> findBySnsCommentId(String snsCommentId);
     
-    @Modifying
-    @Transactional
-    @Query("UPDATE SnsPostCommentMetric c SET c.sentiment = :sentiment WHERE c.id = :id")
-    void updateSentimentById(@Param("id") Long id, @Param("sentiment") SentimentType sentiment);
+    List<SnsPostCommentMetric> findBySnsCommentIdIn(Collection<String> snsCommentIds);
+    
+    // 이미 저장된 SNS 댓글 ID 일괄 조회 (페이지 단위 중복 확인용)
+    @Query("SELECT c.snsCommentId FROM SnsPostCommentMetric c WHERE c.snsCommentId IN :snsCommentIds")
+    List<String> findExistingSnsCommentIds(@Param("snsCommentIds") Collection<String> snsCommentIds);
     
     /**
      * sentiment가 null인 댓글들을 조회
@@ -1,8 +1,10 @@
 package kt.aivle.analytics.adapter.out.persistence.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,4 +18,8 @@ public interface SnsPostJpaRepository extends BaseJpaRepository<SnsPost, Long> {
     
     @Query("SELECT p FROM SnsPost p WHERE p.accountId = :accountId ORDER BY p.createdAt DESC LIMIT 1")
     Optional<SnsPost> findLatestByAccountId(@Param("accountId") Long accountId);
+    
+    @Modifying
+    @Query("UPDATE SnsPost p SET p.publishedAt = :publishedAt WHERE p.id = :postId AND p.publishedAt IS NULL")
+    int updatePublishedAtIfAbsent(@Param("postId") Long postId, @Param("publishedAt") LocalDateTime publishedAt);
 }
@@ -1,10 +1,12 @@
 package kt.aivle.analytics.adapter.out.persistence.repository;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,23 +17,55 @@ import kt.aivle.analytics.domain.entity.SnsPostMetric;
 public interface SnsPostMetricJpaRepository extends BaseJpaRepository<SnsPostMetric, Long> {
     boolean existsByPostIdAndCreatedAtAfter(Long postId, LocalDateTime date);
     
-    // 날짜만 비교하는 메서드
-    @Query("SELECT m FROM SnsPostMetric m WHERE m.postId = :postId AND DATE(m.createdAt) = DATE(:date)")
-    List<SnsPostMetric> findByPostIdAndCreatedAtDate(@Param("postId") Long postId, @Param("date") LocalDate date);
+    // [start, end) 구간 조회 - 컬럼에 함수를 씌우지 않아 (post_id, created_at) 인덱스 범위 스캔 사용
+    @Query("SELECT m FROM SnsPostMetric m WHERE m.postId = :postId AND m.createdAt >= :start AND m.createdAt < :end")
+    List<SnsPostMetric> findByPostIdAndCreatedAtBetween(@Param("postId") Long postId,
+                                                        @Param("start") LocalDateTime start,
+                                                        @Param("end") LocalDateTime end);
     
     /**
-     * Post Metrics를 Post와 Account 정보와 함께 조회 (JOIN 쿼리)
+     * [start, end) 구간의 가장 늦은 Post Metric을 Post와 Account 정보와 함께 조회 (JOIN 쿼리, 1건 페이지로 호출)
      */
     @Query("""
         SELECT m, p, a FROM SnsPostMetric m
         JOIN SnsPost p ON m.postId = p.id
         JOIN SnsAccount a ON p.accountId = a.id
-        WHERE m.postId IN :postIds AND DATE(m.createdAt) = DATE(:date)
+        WHERE m.postId = :postId AND m.createdAt >= :start AND m.createdAt < :end
+        ORDER BY m.createdAt DESC, m.id DESC
         """)
-    List<Object[]> findMetricsWithPostAndAccount(@Param("postIds") List<Long> postIds, @Param("date") LocalDate date);
+    List<Object[]> findLatestMetricsWithPostAndAccount(@Param("postId") Long postId,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end,
+                                                       Pageable pageable);
     
     /**
      * 특정 게시물의 가장 최근 메트릭 조회
      */
     Optional<SnsPostMetric> findTopByPostIdOrderByCreatedAtDesc(Long postId);
+    
+    /**
+     * 여러 게시물의 최근 메트릭 2건씩 조회 (증가 속도 계산용)
+     * 게시물마다 (post_id, created_at) 인덱스를 역순으로 2건만 읽도록 LATERAL 서브쿼리 사용 (MySQL 8.0.14+)
+     */
+    @Query(value = """
+        SELECT m.* FROM sns_post p
+        JOIN LATERAL (
+            SELECT * FROM sns_post_metric pm
+            WHERE pm.post_id = p.id
+            ORDER BY pm.created_at DESC, pm.id DESC
+            LIMIT 2
+        ) m ON TRUE
+        WHERE p.id IN (:postIds)
+        ORDER BY m.post_id ASC, m.created_at DESC, m.id DESC
+        """, nativeQuery = true)
+    List<SnsPostMetric> findLatestTwoByPostIds(@Param("postIds") Collection<Long> postIds);
+    
+    // 여러 대상의 [start, end) 구간 메트릭을 postId, 수집 시각 순으로 조회 (롤업 집계용)
+    @Query("SELECT m FROM SnsPostMetric m WHERE m.postId IN :postIds AND m.createdAt >= :start AND m.createdAt < :end ORDER BY m.postId ASC, m.createdAt ASC")
+    List<SnsPostMetric> findByPostIdsCreatedInRange(@Param("postIds") Collection<Long> postIds, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    // 보관 기간이 지난 원본 메트릭을 limit건씩 삭제 (긴 잠금을 피하기 위해 나누어 실행)
+    @Modifying
+    @Query(value = "DELETE FROM sns_post_metric WHERE created_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
@@ -0,0 +1,10 @@
+package kt.aivle.analytics.application.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 계정 메트릭 원본 저장 완료 (해당 날짜의 히스토리 캐시 무효화용)
+ */
+public record AccountMetricsCollectedEvent(List<Long> accountIds, LocalDate date) {
+}
@@ -0,0 +1,7 @@
+package kt.aivle.analytics.application.event;
+
+/**
+ * 메트릭 롤업 갱신 완료 (롤업 기반 히스토리 시계열 캐시 무효화용)
+ */
+public record MetricsRolledUpEvent(boolean postRollupsChanged, boolean accountRollupsChanged) {
+}
@@ -0,0 +1,7 @@
+package kt.aivle.analytics.application.event;
+
+/**
+ * 게시물 댓글 추가 또는 감정 카운터 변경 (감정분석 히스토리 캐시 무효화용)
+ */
+public record PostCommentsChangedEvent(Long postId, Long accountId) {
+}
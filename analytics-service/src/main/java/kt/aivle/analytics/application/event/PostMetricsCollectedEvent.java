@@ -0,0 +1,9 @@
+package kt.aivle.analytics.application.event;
+
+import java.time.LocalDate;
+
+/**
+ * 게시물 메트릭 원본 저장 완료 (해당 날짜의 히스토리 캐시 무효화용)
+ */
+public record PostMetricsCollectedEvent(Long postId, Long accountId, LocalDate date) {
+}
@@ -0,0 +1,9 @@
+package kt.aivle.analytics.application.event;
+
+import kt.aivle.analytics.domain.model.ReportJobStatus;
+
+/**
+ * 보고서 생성 작업 완료/실패 (작업을 처리한 인스턴스에서 발행)
+ */
+public record ReportJobFinishedEvent(Long jobId, Long accountId, ReportJobStatus status) {
+}
@@ -3,9 +3,11 @@ package kt.aivle.analytics.application.port.in;
 import java.util.concurrent.CompletableFuture;
 
 import kt.aivle.analytics.adapter.in.web.dto.response.AccountMetricsResponse;
+import kt.aivle.analytics.adapter.in.web.dto.response.AccountMetricsSeriesResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.EmotionAnalysisResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostCommentsPageResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostMetricsResponse;
+import kt.aivle.analytics.adapter.in.web.dto.response.PostMetricsSeriesResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.ReportResponse;
 
 public interface AnalyticsQueryUseCase {
@@ -24,6 +26,11 @@ public interface AnalyticsQueryUseCase {
     
     EmotionAnalysisResponse getHistoricalEmotionAnalysis(Long userId, String dateStr, Long accountId, Long postId);
     
+    // 기간 시계열 조회 (from~to, 서버에서 points개로 다운샘플링)
+    PostMetricsSeriesResponse getHistoricalPostMetricsSeries(Long userId, String fromStr, String toStr, Long accountId, Long postId, Integer points);
+    
+    AccountMetricsSeriesResponse getHistoricalAccountMetricsSeries(Long userId, String fromStr, String toStr, Long accountId, Integer points);
+    
     // AI 보고서 생성 (캐시 포함)
     ReportResponse generateReport(Long userId, Long accountId, Long postId, Long storeId);
     
@@ -1,34 +1,46 @@
 package kt.aivle.analytics.application.port.in;
 
+import java.time.Duration;
+import java.util.List;
+
 public interface MetricsCollectionUseCase {
     
     /**
-     * 모든 SNS 계정의 메트릭을 수집합니다.
+     * 특정 SNS 계정의 메트릭을 수집합니다.
      */
-    void collectAccountMetrics();
+    void collectAccountMetricsByAccountId(Long accountId);
     
     /**
-     * 모든 게시물의 메트릭을 수집합니다.
+     * 여러 SNS 계정의 메트릭을 일괄 수집합니다. (삭제된 계정은 무시)
+     * @return 수집에 실패한 계정 ID 목록
      */
-    void collectPostMetrics();
+    List<Long> collectAccountMetricsByAccountIds(List<Long> accountIds);
     
     /**
-     * 모든 게시물의 댓글을 수집합니다.
+     * 특정 게시물의 메트릭을 수집합니다.
      */
-    void collectPostComments();
+    void collectPostMetricsByPostId(Long postId);
     
     /**
-     * 특정 SNS 계정의 메트릭을 수집합니다.
+     * 여러 게시물의 메트릭을 일괄 수집합니다. (삭제된 게시물은 무시)
+     * @return 수집에 실패한 게시물 ID 목록
      */
-    void collectAccountMetricsByAccountId(Long accountId);
+    List<Long> collectPostMetricsByPostIds(List<Long> postIds);
     
     /**
-     * 특정 게시물의 메트릭을 수집합니다.
+     * 여러 게시물의 메트릭을 지정한 중복 방지 구간으로 일괄 수집합니다.
+     * @return 수집에 실패한 게시물 ID 목록
      */
-    void collectPostMetricsByPostId(Long postId);
+    List<Long> collectPostMetricsByPostIds(List<Long> postIds, Duration dedupeWindow);
     
     /**
      * 특정 게시물의 댓글을 수집합니다.
      */
     void collectPostCommentsByPostId(Long postId);
+    
+    /**
+     * 여러 게시물의 댓글을 일괄 수집합니다. (삭제된 게시물은 무시)
+     * @return 수집에 실패한 게시물 ID 목록
+     */
+    List<Long> collectPostCommentsByPostIds(List<Long> postIds);
 }
@@ -0,0 +1,10 @@
+package kt.aivle.analytics.application.port.in;
+
+public interface MetricsRollupUseCase {
+    
+    /**
+     * 마지막 롤업 이후 수집된 게시물/계정 메트릭을 시간/일 단위 롤업에 반영하고,
+     * 보관 기간이 지난 원본 메트릭을 삭제합니다.
+     */
+    void rollupMetrics();
+}
@@ -3,4 +3,10 @@ package kt.aivle.analytics.application.port.in;
 @FunctionalInterface
 public interface ProgressCallback {
     void onProgress(int percentage, String message);
+    
+    /**
+     * AI 보고서 마크다운 조각 수신 (스트리밍 생성 시 도착 순서대로 호출)
+     */
+    default void onChunk(String chunk) {
+    }
 }
@@ -0,0 +1,12 @@
+package kt.aivle.analytics.application.port.in;
+
+import kt.aivle.analytics.adapter.in.web.dto.response.ReportJobResponse;
+
+public interface ReportJobUseCase {
+
+    // AI 보고서 생성 작업 등록 (같은 게시물의 작업이 대기/처리 중이면 그 작업을 반환)
+    ReportJobResponse enqueueReport(Long userId, Long accountId, Long postId, Long storeId);
+
+    // 작업 상태 조회 (완료 시 보고서 포함)
+    ReportJobResponse getReportJob(Long accountId, Long jobId);
+}
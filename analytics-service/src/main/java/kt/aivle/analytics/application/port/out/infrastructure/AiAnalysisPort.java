@@ -1,6 +1,8 @@
 package kt.aivle.analytics.application.port.out.infrastructure;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import kt.aivle.analytics.adapter.out.infrastructure.dto.AiReportRequest;
 import kt.aivle.analytics.adapter.out.infrastructure.dto.AiReportResponse;
@@ -22,4 +24,10 @@ public interface AiAnalysisPort {
      * AI 보고서 생성 요청
      */
     AiReportResponse generateReport(AiReportRequest request, Long storeId);
+    
+    /**
+     * AI 보고서 스트리밍 생성 요청
+     * 마크다운 조각은 도착하는 대로 chunkListener에 전달되고, 스트림이 끝나면 전체 보고서로 완료됨
+     */
+    CompletableFuture<AiReportResponse> streamReport(AiReportRequest request, Long storeId, Consumer<String> chunkListener);
 }
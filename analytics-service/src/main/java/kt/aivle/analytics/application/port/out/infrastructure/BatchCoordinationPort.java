@@ -0,0 +1,32 @@
+package kt.aivle.analytics.application.port.out.infrastructure;
+
+/**
+ * 여러 인스턴스 간 배치 실행 조정 Port
+ * - 클러스터 잠금: 일일 스케줄/중단 실행 복구는 모든 인스턴스를 통틀어 한 곳에서만 실행
+ * - 실행 소유 확인: 배치 실행 중인 인스턴스가 살아 있는 동안 실행별 표시를 유지하여, 복구 측이 소유 프로세스가 죽었는지 확인
+ */
+public interface BatchCoordinationPort {
+
+    /**
+     * 클러스터 잠금 획득 (보유 중에는 자동 연장, 보유 인스턴스가 죽으면 짧은 TTL 후 만료)
+     * @return 잠금 토큰, 다른 인스턴스가 보유 중이거나 확인할 수 없으면 null
+     */
+    String tryLock(String lockName);
+
+    /**
+     * 잠금 해제 (자신의 토큰인 경우에만 해제)
+     */
+    void unlock(String lockName, String token);
+
+    /**
+     * 이 인스턴스에서 실행을 시작함을 표시 (종료 시 unregisterExecution까지 주기적으로 갱신)
+     */
+    void registerExecution(Long jobExecutionId);
+
+    void unregisterExecution(Long jobExecutionId);
+
+    /**
+     * 실행을 소유한 인스턴스가 살아 있는지 (확인할 수 없으면 살아 있는 것으로 간주)
+     */
+    boolean isExecutionOwnerAlive(Long jobExecutionId);
+}
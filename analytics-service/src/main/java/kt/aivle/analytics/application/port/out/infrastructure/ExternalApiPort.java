@@ -1,6 +1,8 @@
 package kt.aivle.analytics.application.port.out.infrastructure;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import kt.aivle.analytics.adapter.in.web.dto.response.AccountMetricsResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostCommentsPageResponse;
@@ -17,11 +19,23 @@ public interface ExternalApiPort {
      */
     ChannelStatistics getChannelStatistics(String channelId);
     
+    /**
+     * YouTube 채널 통계 일괄 조회 (요청당 최대 50개 ID)
+     * 응답에 없는 ID(삭제된 채널)는 결과 Map에서 제외됩니다.
+     */
+    Map<String, ChannelStatistics> getChannelStatistics(List<String> channelIds);
+    
     /**
      * YouTube 비디오 통계 조회
      */
     VideoStatistics getVideoStatistics(String videoId);
     
+    /**
+     * YouTube 비디오 통계 일괄 조회 (요청당 최대 50개 ID)
+     * 응답에 없는 ID(삭제/비공개 영상)는 결과 Map에서 제외됩니다.
+     */
+    Map<String, VideoStatistics> getVideoStatistics(List<String> videoIds);
+    
     /**
      * YouTube 비디오 댓글 조회 (페이지네이션 지원)
      */
@@ -54,8 +68,8 @@ public interface ExternalApiPort {
     }
 
     /**
-         * YouTube 비디오 통계 DTO
+         * YouTube 비디오 통계 DTO (publishedAt: 영상 게시 시각, 응답에 없으면 null)
          */
-    record VideoStatistics(Long viewCount, Long likeCount, Long commentCount) {
+    record VideoStatistics(Long viewCount, Long likeCount, Long commentCount, LocalDateTime publishedAt) {
     }
 }
@@ -0,0 +1,29 @@
+package kt.aivle.analytics.application.port.out.infrastructure;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 게시물 메트릭 수집 대기열 Port (다음 수집 예정 시각 기준 정렬)
+ */
+public interface PostPollingQueuePort {
+    
+    /**
+     * 게시물의 다음 수집 시각을 등록/갱신
+     */
+    void schedule(Long postId, Instant dueAt);
+    
+    /**
+     * 대기열에 없는 경우에만 등록 (이미 예약된 게시물의 수집 시각은 유지)
+     */
+    void scheduleIfAbsent(Long postId, Instant dueAt);
+    
+    /**
+     * 수집 시각이 지난 게시물을 최대 limit개 가져가고 다음 수집 시각을 now + lease로 미룸
+     * (여러 인스턴스가 같은 게시물을 중복으로 가져가지 않으며, 처리 중 인스턴스가 죽어도 lease 후 다시 수집 대상이 됨)
+     */
+    List<Long> claimDue(Instant now, int limit, Duration lease);
+    
+    void remove(Long postId);
+}
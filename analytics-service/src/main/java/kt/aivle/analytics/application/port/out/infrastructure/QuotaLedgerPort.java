@@ -0,0 +1,22 @@
+package kt.aivle.analytics.application.port.out.infrastructure;
+
+import kt.aivle.analytics.domain.model.QuotaPriority;
+import kt.aivle.analytics.domain.model.YouTubeEndpoint;
+
+/**
+ * YouTube API 일일 할당량 장부 Port
+ * 모든 인스턴스가 하나의 예산을 공유하며, 태평양 시간(PT) 자정에 초기화됨
+ */
+public interface QuotaLedgerPort {
+    
+    /**
+     * 우선순위별 한도 내에서 엔드포인트 비용만큼 할당량을 차감
+     * @return 차감 성공 여부 (한도 초과 시 false, 차감하지 않음)
+     */
+    boolean tryConsume(YouTubeEndpoint endpoint, QuotaPriority priority);
+    
+    /**
+     * YouTube가 할당량 초과(403)를 응답한 경우 오늘 예산을 소진 처리
+     */
+    void markExhausted();
+}
@@ -0,0 +1,28 @@
+package kt.aivle.analytics.application.port.out.infrastructure;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AI 보고서 생성 임대(lease) Port
+ * 같은 보고서(캐시 키 단위)는 모든 인스턴스를 통틀어 한 요청만 생성하고, 나머지는 완료를 기다려 캐시에서 읽음
+ */
+public interface ReportLeasePort {
+    
+    /**
+     * 보고서 생성 임대 획득 (보유 중에는 자동 연장, 보유 인스턴스가 죽으면 짧은 TTL 후 만료)
+     * @return 임대 토큰, 다른 요청이 생성 중이면 null
+     */
+    String tryAcquire(String reportKey);
+    
+    /**
+     * 임대 해제 후 대기 중인 요청에 완료 알림 (자신의 토큰인 경우에만 해제)
+     */
+    void release(String reportKey, String token);
+    
+    /**
+     * 임대가 해제(완료 알림 또는 만료)되면 완료되는 future (대기 중 스레드를 점유하지 않음)
+     * @return timeout 전에 해제되었으면 true, 시간 초과면 false로 완료
+     */
+    CompletableFuture<Boolean> awaitRelease(String reportKey, Duration timeout);
+}
@@ -7,7 +7,16 @@ import kt.aivle.analytics.domain.entity.PostCommentKeyword;
 import kt.aivle.analytics.domain.model.SentimentType;
 
 public interface PostCommentKeywordRepositoryPort {
+    
+    /**
+     * 감정별 빈도 상위 키워드 조회 (빈도 내림차순, 감정별 최대 app.analytics.keywords.top-k개)
+     */
     Map<SentimentType, List<String>> findKeywordsByPostIdGroupedBySentiment(Long postId);
-    void saveAll(List<PostCommentKeyword> keywords);
+    
+    /**
+     * (게시물, 감정, 키워드)별 빈도를 누적 (없으면 새로 저장)
+     */
+    void mergeFrequencies(List<PostCommentKeyword> keywords);
+    
     void deleteByPostId(Long postId);
 }
@@ -0,0 +1,39 @@
+package kt.aivle.analytics.application.port.out.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import kt.aivle.analytics.domain.entity.PostMetricRollup;
+import kt.aivle.analytics.domain.model.RollupGranularity;
+
+public interface PostMetricRollupRepositoryPort {
+    
+    /**
+     * (postId, granularity, bucketStart) 기준으로 삽입하거나 기존 롤업을 갱신
+     */
+    void upsertAll(List<PostMetricRollup> rollups);
+    
+    /**
+     * 해당 단위 롤업에 반영된 마지막 원본 수집 시각
+     */
+    Optional<LocalDateTime> findMaxLastFetchedAt(RollupGranularity granularity);
+    
+    /**
+     * before 이전의 가장 최근 구간 롤업 (증가량 계산용)
+     */
+    Optional<PostMetricRollup> findLatestBefore(Long postId, RollupGranularity granularity, LocalDateTime before);
+    
+    Optional<PostMetricRollup> findByPostIdAndBucket(Long postId, RollupGranularity granularity, LocalDateTime bucketStart);
+    
+    /**
+     * [start, end) 구간 롤업을 시간순 조회
+     */
+    List<PostMetricRollup> findByPostIdInRange(Long postId, RollupGranularity granularity, LocalDateTime start, LocalDateTime end);
+    
+    /**
+     * 여러 대상의 구간 시작이 start 이후인 롤업을 postId, 구간 순으로 조회
+     */
+    List<PostMetricRollup> findByPostIdsFrom(Collection<Long> postIds, RollupGranularity granularity, LocalDateTime start);
+}
@@ -0,0 +1,18 @@
+package kt.aivle.analytics.application.port.out.repository;
+
+import java.util.Optional;
+
+import kt.aivle.analytics.domain.entity.PostReport;
+
+public interface PostReportRepositoryPort {
+
+    Optional<PostReport> findById(Long id);
+
+    // 같은 입력으로 생성된 보고서
+    Optional<PostReport> findByFingerprint(Long postId, Long storeId, String inputFingerprint);
+
+    /**
+     * 보고서 저장 (같은 지문의 보고서가 먼저 저장되어 있으면 저장된 보고서를 반환)
+     */
+    PostReport save(PostReport postReport);
+}
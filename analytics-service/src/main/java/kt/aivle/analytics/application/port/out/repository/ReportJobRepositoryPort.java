@@ -0,0 +1,32 @@
+package kt.aivle.analytics.application.port.out.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import kt.aivle.analytics.domain.entity.ReportJob;
+
+public interface ReportJobRepositoryPort {
+
+    ReportJob save(ReportJob reportJob);
+
+    Optional<ReportJob> findById(Long id);
+
+    /**
+     * 새 작업 저장 - 같은 계정/게시물/매장의 미완료 작업이 이미 있으면(동시 등록 포함) 저장하지 않고 그 작업을 반환
+     */
+    ReportJob enqueue(ReportJob reportJob);
+
+    // 같은 계정/게시물/매장의 대기 중이거나 처리 중인 작업
+    Optional<ReportJob> findUnfinished(Long accountId, Long postId, Long storeId);
+
+    /**
+     * 처리 가능한 작업을 최대 limit개 가져와 RUNNING으로 바꾸고 시도 횟수를 올림
+     * 다른 인스턴스가 가져가는 중인 행은 건너뜀 (SKIP LOCKED)
+     * @param leaseUntil 처리 임대 만료 시각 (이때까지 끝나지 않으면 다시 가져갈 수 있음)
+     */
+    List<ReportJob> claimAvailable(int limit, LocalDateTime leaseUntil);
+
+    // before 이전에 마지막으로 갱신된 완료/실패 작업 삭제
+    int deleteFinishedBefore(LocalDateTime before);
+}
@@ -0,0 +1,42 @@
+package kt.aivle.analytics.application.port.out.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import kt.aivle.analytics.domain.entity.SentimentCounter;
+import kt.aivle.analytics.domain.model.SentimentCounterScope;
+
+public interface SentimentCounterRepositoryPort {
+
+    /**
+     * 대상(게시물/계정) 행을 트랜잭션 끝까지 잠가 같은 대상의 카운터 갱신/재계산을 직렬화
+     */
+    void lockOwner(SentimentCounterScope scope, Long ownerId);
+
+    /**
+     * 카운터에 증가분을 더함 (행이 없으면 증가분으로 생성)
+     */
+    void incrementAll(List<SentimentCounter> deltas);
+
+    /**
+     * 댓글 테이블에서 카운터를 다시 계산하여 덮어씀 (카운터 도입 이전 데이터 보정용)
+     */
+    void rebuild(SentimentCounterScope scope, Long ownerId, boolean includeDailyBuckets);
+
+    /**
+     * 대상의 카운터(전체 누적/일 단위)를 모두 삭제 (게시물/계정 삭제 시)
+     */
+    void deleteAll(SentimentCounterScope scope, Long ownerId);
+
+    // 전체 누적 카운터
+    Optional<SentimentCounter> findTotal(SentimentCounterScope scope, Long ownerId);
+
+    // [from, to] 일 단위 카운터 (날짜 오름차순)
+    List<SentimentCounter> findDailyInRange(SentimentCounterScope scope, Long ownerId, LocalDate from, LocalDate to);
+
+    /**
+     * 카운터가 없는 대상은 댓글 테이블에서 감정별 개수만 집계 (본문은 읽지 않음)
+     */
+    SentimentCounter countFromComments(SentimentCounterScope scope, Long ownerId);
+}
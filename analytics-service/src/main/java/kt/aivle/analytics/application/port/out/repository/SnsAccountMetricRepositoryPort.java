@@ -2,22 +2,47 @@ package kt.aivle.analytics.application.port.out.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import kt.aivle.analytics.domain.entity.SnsAccountMetric;
 
 public interface SnsAccountMetricRepositoryPort {
     SnsAccountMetric save(SnsAccountMetric snsAccountMetric);
+    void saveAll(List<SnsAccountMetric> snsAccountMetrics);
     Optional<SnsAccountMetric> findById(Long id);
 
     List<SnsAccountMetric> findByAccountIdAndCreatedAtDate(Long accountId, LocalDate date);
     
     /**
-     * Account Metrics를 Account 정보와 함께 조회 (JOIN 쿼리)
+     * 해당 날짜의 가장 늦은 Account Metric을 Account 정보와 함께 조회 (JOIN 쿼리)
+     * @return [SnsAccountMetric, SnsAccount]
      */
-    List<Object[]> findMetricsWithAccount(List<Long> accountIds, LocalDate date);
+    Optional<Object[]> findLatestMetricWithAccount(Long accountId, LocalDate date);
     
     boolean existsByAccountIdAndCreatedAtAfter(Long accountId, LocalDateTime date);
+    
+    /**
+     * 주어진 계정들 중 date 이후 메트릭이 존재하는 계정 ID 조회 (일괄 중복 체크)
+     */
+    Set<Long> findAccountIdsWithMetricsCreatedAfter(Collection<Long> accountIds, LocalDateTime date);
     void deleteById(Long id);
+    
+    /**
+     * 특정 계정의 가장 최근 메트릭 조회
+     */
+    Optional<SnsAccountMetric> findLatestByAccountId(Long accountId);
+    
+    /**
+     * 여러 대상의 [start, end) 구간 메트릭을 accountId, 수집 시각 순으로 조회 (롤업 집계용)
+     */
+    List<SnsAccountMetric> findByAccountIdsCreatedInRange(Collection<Long> accountIds, LocalDateTime start, LocalDateTime end);
+    
+    /**
+     * cutoff 이전에 수집된 메트릭을 최대 limit건 삭제
+     * @return 삭제된 행 수
+     */
+    int deleteCreatedBefore(LocalDateTime cutoff, int limit);
 }
@@ -19,6 +19,9 @@ public interface SnsAccountRepositoryPort {
     Optional<Long> findUserIdById(Long accountId);
 
     void deleteById(Long id);
-    List<SnsAccount> findAllWithPagination(int page, int size);
+    List<SnsAccount> findNextPageAfterId(Long lastId, int size);  // id > lastId 순으로 size개 조회 (키셋 페이지네이션)
+    List<SnsAccount> findNextPageInRange(Long lastId, Long maxId, int size);  // lastId < id <= maxId 구간 키셋 페이지네이션
+    Optional<Long> findMinId();
+    Optional<Long> findMaxId();
     List<SnsAccount> findAllById(Set<Long> ids);
 }
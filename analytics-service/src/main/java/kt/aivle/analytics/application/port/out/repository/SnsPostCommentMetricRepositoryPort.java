@@ -1,9 +1,11 @@
 package kt.aivle.analytics.application.port.out.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import kt.aivle.analytics.domain.entity.SnsPostCommentMetric;
 import kt.aivle.analytics.domain.model.SentimentType;
@@ -12,6 +14,7 @@ public interface SnsPostCommentMetricRepositoryPort {
     SnsPostCommentMetric save(SnsPostCommentMetric snsPostCommentMetric);
     Optional<SnsPostCommentMetric> findById(Long id);
     List<SnsPostCommentMetric> findByPostId(Long postId);
+    long countByPostId(Long postId);
     List<SnsPostCommentMetric> findByPostIdWithPagination(Long postId, int page, int size);
     List<SnsPostCommentMetric> findByPostIdAndCreatedAtDate(Long postId, LocalDate date);
     
@@ -19,9 +22,30 @@ public interface SnsPostCommentMetricRepositoryPort {
     List<SnsPostCommentMetric> findByPostIdAndPublishedAtBeforeWithPagination(Long postId, LocalDate date, int page, int size);
     
     Optional<SnsPostCommentMetric> findBySnsCommentId(String snsCommentId);
+    
+    /**
+     * 주어진 SNS 댓글 ID 중 이미 저장된 ID 집합을 한 번의 쿼리로 조회
+     */
+    Set<String> findExistingSnsCommentIds(Collection<String> snsCommentIds);
     void deleteById(Long id);
     void saveAll(List<SnsPostCommentMetric> metrics);
-    void updateSentimentById(Long id, SentimentType sentiment);
+    
+    /**
+     * 댓글 목록을 하나의 배치 INSERT로 저장 (sns_comment_id 중복은 건너뜀)
+     * @return 실제로 저장된 댓글 (생성된 ID 포함)
+     */
+    List<SnsPostCommentMetric> insertAllIgnoringDuplicates(List<SnsPostCommentMetric> metrics);
+    
+    /**
+     * 댓글 sentiment를 하나의 트랜잭션에서 JDBC 배치로 일괄 업데이트
+     * @return 업데이트에 실패한 댓글 ID 목록 (실패한 행이 있어도 나머지는 반영됨)
+     */
+    List<Long> updateSentiments(Map<Long, SentimentType> sentimentsById);
+    
+    /**
+     * 댓글 행을 트랜잭션 끝까지 잠그고 현재 sentiment를 조회 (sentiment가 없으면 null 값, 없는 댓글은 결과에서 제외)
+     */
+    Map<Long, SentimentType> findSentimentsForUpdate(Collection<Long> ids);
     
     /**
      * sentiment가 null인 댓글들을 postId로 그룹화하여 조회
@@ -2,6 +2,7 @@ package kt.aivle.analytics.application.port.out.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +14,10 @@ public interface SnsPostMetricRepositoryPort {
     List<SnsPostMetric> findByPostIdAndCreatedAtDate(Long postId, LocalDate date);
     
     /**
-     * Post Metrics를 Post와 Account 정보와 함께 조회 (JOIN 쿼리)
+     * 해당 날짜의 가장 늦은 Post Metric을 Post와 Account 정보와 함께 조회 (JOIN 쿼리)
+     * @return [SnsPostMetric, SnsPost, SnsAccount]
      */
-    List<Object[]> findMetricsWithPostAndAccount(List<Long> postIds, LocalDate date);
+    Optional<Object[]> findLatestMetricWithPostAndAccount(Long postId, LocalDate date);
     
     boolean existsByPostIdAndCreatedAtAfter(Long postId, LocalDateTime date);
     void deleteById(Long id);
@@ -24,4 +26,20 @@ public interface SnsPostMetricRepositoryPort {
      * 특정 게시물의 가장 최근 메트릭 조회
      */
     Optional<SnsPostMetric> findLatestByPostId(Long postId);
+    
+    /**
+     * 여러 게시물의 최근 메트릭을 게시물별 2건씩 한 번에 조회 (postId 오름차순, 게시물 안에서는 최신순)
+     */
+    List<SnsPostMetric> findLatestTwoByPostIds(Collection<Long> postIds);
+    
+    /**
+     * 여러 대상의 [start, end) 구간 메트릭을 postId, 수집 시각 순으로 조회 (롤업 집계용)
+     */
+    List<SnsPostMetric> findByPostIdsCreatedInRange(Collection<Long> postIds, LocalDateTime start, LocalDateTime end);
+    
+    /**
+     * cutoff 이전에 수집된 메트릭을 최대 limit건 삭제
+     * @return 삭제된 행 수
+     */
+    int deleteCreatedBefore(LocalDateTime cutoff, int limit);
 }
@@ -1,5 +1,6 @@
 package kt.aivle.analytics.application.port.out.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -13,7 +14,11 @@ public interface SnsPostRepositoryPort {
     List<SnsPost> findByAccountId(Long accountId);
     Optional<SnsPost> findBySnsPostId(String snsPostId);
     void deleteById(Long id);
-    List<SnsPost> findAllWithPagination(int page, int size);
+    List<SnsPost> findNextPageAfterId(Long lastId, int size);  // id > lastId 순으로 size개 조회 (키셋 페이지네이션)
+    List<SnsPost> findNextPageInRange(Long lastId, Long maxId, int size);  // lastId < id <= maxId 구간 키셋 페이지네이션
+    Optional<Long> findMinId();
+    Optional<Long> findMaxId();
     List<SnsPost> findAllById(Set<Long> ids);
     Optional<SnsPost> findLatestByAccountId(Long accountId);  // 최근 게시물 1개만 조회
+    void updatePublishedAtIfAbsent(Long postId, LocalDateTime publishedAt);  // 게시 시각이 비어 있을 때만 기록
 }
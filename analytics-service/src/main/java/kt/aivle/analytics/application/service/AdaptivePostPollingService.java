@@ -0,0 +1,186 @@
+package kt.aivle.analytics.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import kt.aivle.analytics.application.port.in.MetricsCollectionUseCase;
+import kt.aivle.analytics.application.port.out.infrastructure.PostPollingQueuePort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostMetricRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostRepositoryPort;
+import kt.aivle.analytics.domain.entity.SnsPost;
+import kt.aivle.analytics.domain.entity.SnsPostMetric;
+import kt.aivle.analytics.domain.model.PollingTier;
+import kt.aivle.analytics.domain.model.PollingTierPolicy;
+import kt.aivle.analytics.exception.AnalyticsErrorCode;
+import kt.aivle.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 메트릭 적응형 수집 스케줄러
+ * 게시물 나이와 최근 조회수/댓글 증가 속도로 수집 등급(PollingTier)을 정하고,
+ * 다음 수집 시각 기준 대기열에서 만기된 게시물만 수집합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdaptivePostPollingService {
+
+    private final PostPollingQueuePort postPollingQueuePort;
+    private final SnsPostRepositoryPort snsPostRepositoryPort;
+    private final SnsPostMetricRepositoryPort snsPostMetricRepositoryPort;
+    private final MetricsCollectionUseCase metricsCollectionUseCase;
+    private final PollingTierPolicy pollingTierPolicy;
+
+    @Value("${app.collection.adaptive.enabled:false}")
+    private boolean enabled;
+
+    // 한 번의 폴링에서 꺼내올 최대 게시물 수
+    @Value("${app.collection.adaptive.poll-size:200}")
+    private int pollSize;
+
+    @Value("${app.youtube.api.batch-size:100}")
+    private int batchSize;
+
+    // 적응형 수집은 최소 5분 주기이므로 일일 배치보다 짧은 중복 방지 구간 사용
+    @Value("${app.collection.adaptive.dedupe-window-minutes:4}")
+    private long dedupeWindowMinutes;
+
+    // 할당량 초과 시 재시도까지 대기 시간
+    @Value("${app.collection.adaptive.quota-retry-minutes:30}")
+    private long quotaRetryMinutes;
+
+    // 가져간 게시물의 임시 수집 시각 (처리 중 인스턴스가 죽으면 이 시간 후 다른 인스턴스가 다시 수집)
+    @Value("${app.collection.adaptive.claim-lease-minutes:15}")
+    private long claimLeaseMinutes;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 신규 게시물은 즉시 수집 대상으로 등록
+     */
+    public void enqueueNewPost(Long postId) {
+        if (!enabled) return;
+
+        postPollingQueuePort.schedule(postId, Instant.now());
+        log.info("Enqueued new post for adaptive polling: postId={}", postId);
+    }
+
+    public void removePost(Long postId) {
+        if (!enabled) return;
+
+        postPollingQueuePort.remove(postId);
+    }
+
+    /**
+     * 대기열에 없는 게시물을 모두 등록 (일일 배치에서 호출, 유실된 항목 복구용)
+     * @return 확인한 게시물 수
+     */
+    public int seedQueue() {
+        Instant now = Instant.now();
+        int seeded = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<SnsPost> posts = snsPostRepositoryPort.findNextPageAfterId(lastId, batchSize);
+            if (posts.isEmpty()) break;
+
+            posts.forEach(post -> postPollingQueuePort.scheduleIfAbsent(post.getId(), now));
+            seeded += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+
+        log.info("Seeded adaptive polling queue with {} posts", seeded);
+        return seeded;
+    }
+
+    @Scheduled(fixedDelayString = "${app.collection.adaptive.poll-delay-ms:60000}")
+    public void pollDuePosts() {
+        if (!enabled) return;
+
+        List<Long> dueIds = postPollingQueuePort.claimDue(Instant.now(), pollSize, Duration.ofMinutes(claimLeaseMinutes));
+        if (dueIds.isEmpty()) return;
+
+        log.info("📅 적응형 수집 시작 - 대상 게시물: {}", dueIds.size());
+
+        try {
+            List<Long> failedIds = metricsCollectionUseCase.collectPostMetricsByPostIds(dueIds, Duration.ofMinutes(dedupeWindowMinutes));
+            if (!failedIds.isEmpty()) {
+                log.warn("Failed to collect adaptive post metrics for {} posts: {}", failedIds.size(), failedIds);
+            }
+            reschedule(dueIds);
+
+        } catch (BusinessException e) {
+            Duration retryDelay = e.getCode() == AnalyticsErrorCode.YOUTUBE_QUOTA_EXCEEDED
+                ? Duration.ofMinutes(quotaRetryMinutes)
+                : PollingTier.HOT.getInterval();
+            log.warn("Adaptive post metrics collection stopped: {}, retry in {}", e.getMessage(), retryDelay);
+            Instant retryAt = Instant.now().plus(retryDelay);
+            dueIds.forEach(postId -> postPollingQueuePort.schedule(postId, retryAt));
+
+        } catch (Exception e) {
+            log.error("Adaptive post metrics collection failed: {}", e.getMessage(), e);
+            Instant retryAt = Instant.now().plus(PollingTier.HOT.getInterval());
+            dueIds.forEach(postId -> postPollingQueuePort.schedule(postId, retryAt));
+        }
+    }
+
+    // 삭제되지 않은 게시물은 등급에 따라 다음 수집 시각을 예약하고, 삭제된 게시물은 대기열에서 제거
+    private void reschedule(List<Long> postIds) {
+        Instant now = Instant.now();
+        Set<Long> remainingIds = new HashSet<>(postIds);
+        List<SnsPost> posts = snsPostRepositoryPort.findAllById(new HashSet<>(postIds));
+
+        // 증가 속도 계산용 최근 메트릭 2건씩을 한 번에 조회
+        Map<Long, List<SnsPostMetric>> latestMetricsByPostId = snsPostMetricRepositoryPort
+            .findLatestTwoByPostIds(posts.stream().map(SnsPost::getId).toList()).stream()
+            .collect(Collectors.groupingBy(SnsPostMetric::getPostId));
+
+        for (SnsPost post : posts) {
+            PollingTier tier = decideTier(post, latestMetricsByPostId.getOrDefault(post.getId(), List.of()));
+            postPollingQueuePort.schedule(post.getId(), now.plus(tier.getInterval()));
+            remainingIds.remove(post.getId());
+            log.debug("Rescheduled postId={} with tier={}", post.getId(), tier);
+        }
+        remainingIds.forEach(postPollingQueuePort::remove);
+    }
+
+    // latestMetrics: 최신순 최근 메트릭 (2건이면 증가 속도 계산)
+    private PollingTier decideTier(SnsPost post, List<SnsPostMetric> latestMetrics) {
+        // 게시물 나이는 YouTube 게시 시각 기준 (아직 수집 전이라 없으면 이 서비스에 등록된 시각)
+        LocalDateTime publishedAt = post.getPublishedAt() != null ? post.getPublishedAt() : post.getCreatedAt();
+        Duration age = publishedAt != null
+            ? Duration.between(publishedAt, LocalDateTime.now())
+            : pollingTierPolicy.dailyMaxAge().plusDays(1);
+
+        double viewsPerHour = 0.0;
+        double commentsPerHour = 0.0;
+        if (latestMetrics.size() == 2) {
+            SnsPostMetric latest = latestMetrics.get(0);
+            SnsPostMetric previous = latestMetrics.get(1);
+            double hours = Duration.between(previous.getCreatedAt(), latest.getCreatedAt()).toSeconds() / 3600.0;
+            if (hours > 0) {
+                viewsPerHour = (nullToZero(latest.getViews()) - nullToZero(previous.getViews())) / hours;
+                commentsPerHour = (nullToZero(latest.getComments()) - nullToZero(previous.getComments())) / hours;
+            }
+        }
+
+        return pollingTierPolicy.decide(age, viewsPerHour, commentsPerHour);
+    }
+
+    private long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -23,6 +23,8 @@ public class AnalyticsEventService implements AnalyticsEventUseCase {
 
     private final SnsPostRepositoryPort snsPostRepositoryPort;
     private final SnsAccountRepositoryPort snsAccountRepositoryPort;
+    private final AdaptivePostPollingService adaptivePostPollingService;
+    private final SentimentCounterService sentimentCounterService;
     
     @Override
     public void handlePostCreated(SnsPostEvent event) {
@@ -47,6 +49,9 @@ public class AnalyticsEventService implements AnalyticsEventUseCase {
                     .snsPostId(event.getSnsPostId())
                     .build();
                 snsPostRepositoryPort.save(post);
+                
+                // 신규 게시물은 적응형 수집 대기열에 즉시 등록
+                adaptivePostPollingService.enqueueNewPost(post.getId());
             }
             
             log.info("Post processed successfully: postId={}", event.getPostId());
@@ -66,6 +71,9 @@ public class AnalyticsEventService implements AnalyticsEventUseCase {
             snsPostRepositoryPort.findBySnsPostId(event.getSnsPostId())
                 .ifPresent(post -> {
                     snsPostRepositoryPort.deleteById(post.getId());
+                    adaptivePostPollingService.removePost(post.getId());
+                    // 삭제된 게시물의 댓글이 계정 감정 카운터에 남지 않도록 정리
+                    sentimentCounterService.removePost(post.getId(), post.getAccountId());
                 });
             
             log.info("Post deleted successfully: postId={}", event.getPostId());
@@ -118,6 +126,7 @@ public class AnalyticsEventService implements AnalyticsEventUseCase {
             snsAccountRepositoryPort.findById(event.getAccountId())
                 .ifPresent(account -> {
                     snsAccountRepositoryPort.deleteById(account.getId());
+                    sentimentCounterService.removeAccount(account.getId());
                 });
             
             log.info("SNS account deleted successfully: accountId={}", event.getAccountId());
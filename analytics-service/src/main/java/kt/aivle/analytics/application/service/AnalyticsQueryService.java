@@ -1,23 +1,35 @@
 package kt.aivle.analytics.application.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import kt.aivle.analytics.adapter.in.event.dto.PostInfoResponseMessage;
 import kt.aivle.analytics.adapter.in.web.dto.response.AccountMetricsResponse;
+import kt.aivle.analytics.adapter.in.web.dto.response.AccountMetricsSeriesResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.EmotionAnalysisResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostCommentsPageResponse;
+import kt.aivle.analytics.adapter.in.web.dto.response.PostCommentsResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostMetricsResponse;
+import kt.aivle.analytics.adapter.in.web.dto.response.PostMetricsSeriesResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.ReportResponse;
 import kt.aivle.analytics.adapter.out.infrastructure.dto.AiReportRequest;
 import kt.aivle.analytics.adapter.out.infrastructure.dto.AiReportResponse;
@@ -29,19 +41,31 @@ import kt.aivle.analytics.application.port.in.dto.PostMetricsQueryRequest;
 import kt.aivle.analytics.application.port.out.SnsServicePort;
 import kt.aivle.analytics.application.port.out.infrastructure.AiAnalysisPort;
 import kt.aivle.analytics.application.port.out.infrastructure.ExternalApiPort;
+import kt.aivle.analytics.application.port.out.infrastructure.QuotaLedgerPort;
+import kt.aivle.analytics.application.port.out.infrastructure.ReportLeasePort;
 import kt.aivle.analytics.application.port.out.infrastructure.ValidationPort;
+import kt.aivle.analytics.application.port.out.repository.AccountMetricRollupRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.PostReportRepositoryPort;
 import kt.aivle.analytics.application.port.out.repository.PostCommentKeywordRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.PostMetricRollupRepositoryPort;
 import kt.aivle.analytics.application.port.out.repository.SnsAccountMetricRepositoryPort;
 import kt.aivle.analytics.application.port.out.repository.SnsAccountRepositoryPort;
 import kt.aivle.analytics.application.port.out.repository.SnsPostCommentMetricRepositoryPort;
 import kt.aivle.analytics.application.port.out.repository.SnsPostMetricRepositoryPort;
 import kt.aivle.analytics.application.port.out.repository.SnsPostRepositoryPort;
+import kt.aivle.analytics.domain.entity.AccountMetricRollup;
+import kt.aivle.analytics.domain.entity.PostMetricRollup;
+import kt.aivle.analytics.domain.entity.PostReport;
+import kt.aivle.analytics.domain.entity.SentimentCounter;
 import kt.aivle.analytics.domain.entity.SnsAccount;
 import kt.aivle.analytics.domain.entity.SnsAccountMetric;
 import kt.aivle.analytics.domain.entity.SnsPost;
-import kt.aivle.analytics.domain.entity.SnsPostCommentMetric;
 import kt.aivle.analytics.domain.entity.SnsPostMetric;
+import kt.aivle.analytics.domain.model.QuotaPriority;
+import kt.aivle.analytics.domain.model.RollupGranularity;
 import kt.aivle.analytics.domain.model.SentimentType;
+import kt.aivle.analytics.domain.model.SnsType;
+import kt.aivle.analytics.domain.model.YouTubeEndpoint;
 import kt.aivle.analytics.exception.AnalyticsErrorCode;
 import kt.aivle.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -54,21 +78,54 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
     
     private final SnsPostMetricRepositoryPort snsPostMetricRepositoryPort;
     private final SnsAccountMetricRepositoryPort snsAccountMetricRepositoryPort;
+    private final PostMetricRollupRepositoryPort postMetricRollupRepositoryPort;
+    private final AccountMetricRollupRepositoryPort accountMetricRollupRepositoryPort;
     private final SnsPostCommentMetricRepositoryPort snsPostCommentMetricRepositoryPort;
     private final SnsPostRepositoryPort snsPostRepositoryPort;
     private final SnsAccountRepositoryPort snsAccountRepositoryPort;
     private final PostCommentKeywordRepositoryPort postCommentKeywordRepository;
+    private final PostReportRepositoryPort postReportRepositoryPort;
     private final ExternalApiPort externalApiPort;
     private final ValidationPort validationPort;
     private final AiAnalysisPort aiAnalysisPort;
     private final SnsServicePort snsServicePort;
     private final CacheManager cacheManager;
+    private final QuotaLedgerPort quotaLedgerPort;
+    private final ReportLeasePort reportLeasePort;
+    @Qualifier("reportIoExecutor")
+    private final Executor reportIoExecutor;
+    private final SentimentCounterService sentimentCounterService;
+    
+    // 시계열 조회 기간/포인트 수 제한
+    @Value("${app.analytics.series.max-days:366}")
+    private long seriesMaxDays;
+    
+    @Value("${app.analytics.series.default-points:100}")
+    private int seriesDefaultPoints;
+    
+    @Value("${app.analytics.series.max-points:1000}")
+    private int seriesMaxPoints;
+    
+    // 보고서 입력 단계별 제한 시간 (SNS 서비스 Kafka 응답 / DB 조회)
+    @Value("${app.report.timeout.post-info-seconds:60}")
+    private long postInfoTimeoutSeconds;
+    
+    @Value("${app.report.timeout.db-seconds:10}")
+    private long reportDbTimeoutSeconds;
+    
+    // 다른 요청이 생성 중인 보고서를 기다리는 최대 시간
+    @Value("${app.report.lease.wait-seconds:600}")
+    private long reportLeaseWaitSeconds;
+    
+    // AI 서버 스트리밍 응답 사용 여부 (끄면 전체 보고서를 한 번에 받는 기존 호출)
+    @Value("${app.report.streaming.enabled:true}")
+    private boolean reportStreamingEnabled;
     
     // ===== PUBLIC METHODS =====
     
     // 실시간 데이터 조회 메서드들
     @Override
-    @Cacheable(value = "realtime-post-metrics", key = "'post-' + #userId + ',' + #accountId + ',' + #postId")
+    @Cacheable(value = "realtime-post-metrics", key = "'post-' + #userId + ',' + #accountId + ',' + #postId", sync = true)
     public PostMetricsResponse getRealtimePostMetrics(Long userId, Long accountId, Long postId) {
         validationPort.validateAccountId(accountId);
         
@@ -83,7 +140,7 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
     }
     
     @Override
-    @Cacheable(value = "realtime-account-metrics", key = "'account-' + #userId + ',' + #accountId")
+    @Cacheable(value = "realtime-account-metrics", key = "'account-' + #userId + ',' + #accountId", sync = true)
     public AccountMetricsResponse getRealtimeAccountMetrics(Long userId, Long accountId) {
         validationPort.validateAccountId(accountId);
         
@@ -110,7 +167,9 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
     
     // 히스토리 데이터 조회 메서드들
     @Override
-    @Cacheable(value = "history-post-metrics", key = "'history-post-' + #userId + ',' + #dateStr + ',' + #accountId + ',' + #postId")
+    // 최근 게시물 조회(postId 없음)는 새 게시물 등록으로 대상이 바뀌어 이벤트로 무효화할 수 없으므로 캐시하지 않음
+    @Cacheable(value = HistoryCacheKeys.POST_METRICS, key = "T(kt.aivle.analytics.application.service.HistoryCacheKeys).postMetrics(#dateStr, #accountId, #postId)",
+        condition = "#postId != null")
     public PostMetricsResponse getHistoricalPostMetrics(Long userId, String dateStr, Long accountId, Long postId) {
         LocalDate date = validationPort.validateAndParseDate(dateStr);
         validationPort.validateAccountId(accountId);
@@ -122,17 +181,10 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
             queryRequest = PostMetricsQueryRequest.forLatestPostByAccountId(date, accountId);
         }
         
+        // 특정 날짜에 여러 데이터가 있을 경우 시간이 늦은 것을 반환 (쿼리에서 1건만 조회)
         List<PostMetricsResponse> responses = getPostMetricsInternal(userId, queryRequest);
-        
-        // 특정 날짜에 여러 데이터가 있을 경우 시간이 늦은 것을 반환
         if (!responses.isEmpty()) {
-            return responses.stream()
-                .max((r1, r2) -> r1.getFetchedAt().compareTo(r2.getFetchedAt()))
-                .orElse(PostMetricsResponse.builder()
-                    .postId(postId)
-                    .accountId(accountId)
-                    .fetchedAt(LocalDateTime.now())
-                    .build());
+            return responses.get(0);
         }
         
         // 데이터가 없으면 기본값을 가진 객체 반환
@@ -144,7 +196,7 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
     }
     
     @Override
-    @Cacheable(value = "history-account-metrics", key = "'history-account-' + #userId + ',' + #dateStr + ',' + #accountId")
+    @Cacheable(value = HistoryCacheKeys.ACCOUNT_METRICS, key = "T(kt.aivle.analytics.application.service.HistoryCacheKeys).accountMetrics(#dateStr, #accountId)")
     public AccountMetricsResponse getHistoricalAccountMetrics(Long userId, String dateStr, Long accountId) {
         LocalDate date = validationPort.validateAndParseDate(dateStr);
         validationPort.validateAccountId(accountId);
@@ -156,7 +208,80 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
     
     
     @Override
-    @Cacheable(value = "history-emotion-analysis", key = "'history-emotion-' + #userId + ',' + #dateStr + ',' + #accountId + ',' + #postId")
+    // 최근 게시물 시계열(postId 없음)은 새 게시물 등록으로 대상이 바뀌므로 캐시하지 않음
+    @Cacheable(value = HistoryCacheKeys.POST_METRICS_SERIES, key = "T(kt.aivle.analytics.application.service.HistoryCacheKeys).postMetricsSeries(#fromStr, #toStr, #accountId, #postId, #points)",
+        condition = "#postId != null")
+    public PostMetricsSeriesResponse getHistoricalPostMetricsSeries(Long userId, String fromStr, String toStr, Long accountId, Long postId, Integer points) {
+        LocalDate from = validationPort.validateAndParseDate(fromStr);
+        LocalDate to = validationPort.validateAndParseDate(toStr);
+        validateSeriesRange(from, to);
+        validationPort.validateAccountId(accountId);
+        
+        Long targetPostId;
+        if (postId != null) {
+            targetPostId = postId;
+            validatePostAccountId(targetPostId, accountId);
+        } else {
+            targetPostId = getLatestPostIdByAccountId(accountId);
+        }
+        
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        int targetPoints = resolveSeriesPoints(points);
+        BucketMaxDownsampler<PostMetricsResponse> downsampler =
+            new BucketMaxDownsampler<>(start, end, targetPoints, this::mergePostMetricsMax);
+        
+        // 원본 대신 롤업(구간 마지막 값)을 다운샘플링 - 출력 구간 폭에 맞춰 시간/일 단위 선택
+        RollupGranularity granularity = resolveSeriesGranularity(start, end, targetPoints);
+        postMetricRollupRepositoryPort.findByPostIdInRange(targetPostId, granularity, start, end)
+            .forEach(rollup -> downsampler.accept(rollup.getBucketStart(), toPostMetricsResponse(rollup, accountId, null)));
+        
+        log.info("Post metrics series - postId: {}, {} ~ {}, granularity: {}, rollups: {}, points: {}",
+            targetPostId, from, to, granularity, downsampler.getRawCount(), downsampler.result().size());
+        
+        return PostMetricsSeriesResponse.builder()
+            .postId(targetPostId)
+            .accountId(accountId)
+            .from(from)
+            .to(to)
+            .rawCount(downsampler.getRawCount())
+            .points(downsampler.result())
+            .build();
+    }
+    
+    @Override
+    @Cacheable(value = HistoryCacheKeys.ACCOUNT_METRICS_SERIES, key = "T(kt.aivle.analytics.application.service.HistoryCacheKeys).accountMetricsSeries(#fromStr, #toStr, #accountId, #points)")
+    public AccountMetricsSeriesResponse getHistoricalAccountMetricsSeries(Long userId, String fromStr, String toStr, Long accountId, Integer points) {
+        LocalDate from = validationPort.validateAndParseDate(fromStr);
+        LocalDate to = validationPort.validateAndParseDate(toStr);
+        validateSeriesRange(from, to);
+        validationPort.validateAccountId(accountId);
+        
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        int targetPoints = resolveSeriesPoints(points);
+        BucketMaxDownsampler<AccountMetricsResponse> downsampler =
+            new BucketMaxDownsampler<>(start, end, targetPoints, this::mergeAccountMetricsMax);
+        
+        RollupGranularity granularity = resolveSeriesGranularity(start, end, targetPoints);
+        accountMetricRollupRepositoryPort.findByAccountIdInRange(accountId, granularity, start, end)
+            .forEach(rollup -> downsampler.accept(rollup.getBucketStart(), toAccountMetricsResponse(rollup, null)));
+        
+        log.info("Account metrics series - accountId: {}, {} ~ {}, granularity: {}, rollups: {}, points: {}",
+            accountId, from, to, granularity, downsampler.getRawCount(), downsampler.result().size());
+        
+        return AccountMetricsSeriesResponse.builder()
+            .accountId(accountId)
+            .from(from)
+            .to(to)
+            .rawCount(downsampler.getRawCount())
+            .points(downsampler.result())
+            .build();
+    }
+    
+    @Override
+    @Cacheable(value = HistoryCacheKeys.EMOTION_ANALYSIS, key = "T(kt.aivle.analytics.application.service.HistoryCacheKeys).emotionAnalysis(#accountId, #postId)",
+        condition = "#postId != null && T(kt.aivle.analytics.application.service.HistoryCacheKeys).isValidDate(#dateStr)")
     public EmotionAnalysisResponse getHistoricalEmotionAnalysis(Long userId, String dateStr, Long accountId, Long postId) {
         LocalDate date = validationPort.validateAndParseDate(dateStr);
         validationPort.validateAccountId(accountId);
@@ -175,11 +300,26 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
     public ReportResponse generateReport(Long userId, Long accountId, Long postId, Long storeId) {
         log.info("service generateReport - postId: {}", postId);
         
-        // WebSocket용 단계별 메서드들을 사용하여 코드 중복 제거
-        PostInfoResponseMessage postInfo = getPostInfo(userId, accountId, postId, storeId);
-        SnsPostMetric postMetric = getPostMetrics(userId, accountId, postId);
+        // WebSocket과 같은 병렬 입력 조회 사용 (진행률 알림 없음)
+        ReportInputs inputs = joinReportStage(fetchReportInputs(userId, accountId, postId, storeId, (progress, message) -> {}));
         
-        return generateAiReport(userId, accountId, postId, storeId, postInfo, postMetric);
+        return toReportResponse(joinReportStage(generateAiReportOnce(postId, storeId, inputs, chunk -> {})));
+    }
+    
+    /**
+     * 보고서 생성 작업용 - 입력 지문이 같은 보고서가 저장되어 있으면 재사용하고, 없으면 생성 후 저장
+     * (작업 실행 스레드에서 완료까지 대기)
+     */
+    public PostReport generatePostReport(Long userId, Long accountId, Long postId, Long storeId) {
+        ReportInputs inputs = joinReportStage(fetchReportInputs(userId, accountId, postId, storeId, (progress, message) -> {}));
+        
+        return joinReportStage(generateAiReportOnce(postId, storeId, inputs, chunk -> {}));
+    }
+    
+    public ReportResponse getStoredReport(Long postReportId) {
+        return postReportRepositoryPort.findById(postReportId)
+            .map(this::toReportResponse)
+            .orElseThrow(() -> new BusinessException(AnalyticsErrorCode.NO_DATA_AVAILABLE));
     }
     
     // 통합된 비동기 AI 보고서 생성 (WebSocket용) - 캐시 확인 포함
@@ -191,12 +331,8 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
         Long userId = getUserIdByAccountId(accountId);
         log.info("[WebSocket] accountId {}로 userId {} 조회", accountId, userId);
         
-        // 메서드 내부 변수 선언 (스코프 문제 해결)
-        final AtomicReference<PostInfoResponseMessage> postInfoRef = new AtomicReference<>();
-        final AtomicReference<SnsPostMetric> postMetricsRef = new AtomicReference<>();
-        
         // 1. 캐시 확인
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyOnReportIo(() -> {
             log.info("[WebSocket] 캐시 확인 중 - postId: {}", postId);
             try {
                 return getCachedReport(userId, accountId, postId, storeId);
@@ -212,42 +348,104 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
                 return CompletableFuture.completedFuture(cachedReport);
             }
             
-            // 2. 캐시가 없으면 단계별로 처리
-            return CompletableFuture.supplyAsync(() -> {
-                log.info("[WebSocket] 1단계: SNS 서비스에서 post 정보 가져오기 - postId: {}", postId);
-                postInfoRef.set(getPostInfo(userId, accountId, postId, storeId));
-                callback.onProgress(25, "SNS 서비스에서 게시물 정보를 가져왔습니다.");
-                return postInfoRef.get();
-            })
-            .thenCompose(postInfo -> 
-                CompletableFuture.supplyAsync(() -> {
-                    log.info("[WebSocket] 2단계: 게시물 메트릭 조회 - postId: {}", postId);
-                    postMetricsRef.set(getPostMetrics(userId, accountId, postId));
-                    callback.onProgress(50, "게시물 메트릭을 조회했습니다.");
-                    return postMetricsRef.get();
-                })
-            )
-            .thenCompose(metrics -> 
-                CompletableFuture.supplyAsync(() -> {
-                    log.info("[WebSocket] 3단계: AI 보고서 생성 - postId: {}", postId);                        
-                    ReportResponse reportResponse = generateAiReport(userId, accountId, postId, storeId, postInfoRef.get(), postMetricsRef.get());
-
-                    // 새로 생성된 보고서를 캐시에 저장
-                    try {
-                        String cacheKey = postId + "_" + userId + "_" + accountId + "_" + storeId;
-                        cacheManager.getCache("report").put(cacheKey, reportResponse);
-                        log.info("[WebSocket] 새로 생성된 보고서를 캐시에 저장 - postId: {}, cacheKey: {}", postId, cacheKey);
-                    } catch (Exception e) {
-                        log.warn("[WebSocket] 캐시 저장 중 에러 발생 - postId: {}, error: {}", postId, e.getMessage());
-                    }
+            // 2. 캐시가 없으면 서로 독립인 입력을 동시에 조회한 뒤 AI 보고서 생성
+            //    (입력이 같은 보고서가 저장되어 있으면 재사용, 다른 요청이 생성 중이면 그 결과를 사용)
+            //    (AI 응답 대기 중에는 스레드를 점유하지 않도록 단계를 이어 붙임)
+            return fetchReportInputs(userId, accountId, postId, storeId, callback)
+                .thenComposeAsync(inputs -> {
+                    log.info("[WebSocket] AI 보고서 생성 - postId: {}", postId);
+                    callback.onProgress(60, "AI 보고서를 생성하고 있습니다.");
+                    return generateAiReportOnce(postId, storeId, inputs, callback::onChunk);
+                }, reportIoExecutor)
+                .thenApplyAsync(postReport -> {
+                    ReportResponse reportResponse = toReportResponse(postReport);
+                    putReportCache(reportCacheKey(userId, accountId, postId, storeId), reportResponse);
                     return reportResponse;
-                })
-            );
+                }, reportIoExecutor);
         });
     }
     
     // ===== PRIVATE METHODS =====
     
+    private void validateSeriesRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || from.plusDays(seriesMaxDays).isBefore(to)) {
+            throw new BusinessException(AnalyticsErrorCode.INVALID_DATE);
+        }
+    }
+    
+    private int resolveSeriesPoints(Integer points) {
+        if (points == null) {
+            return seriesDefaultPoints;
+        }
+        if (points < 1) {
+            throw new BusinessException(AnalyticsErrorCode.INVALID_PAGINATION);
+        }
+        return Math.min(points, seriesMaxPoints);
+    }
+    
+    // 출력 포인트 하나가 하루 이상을 덮으면 일 단위, 아니면 시간 단위 롤업 사용
+    private RollupGranularity resolveSeriesGranularity(LocalDateTime start, LocalDateTime end, int targetPoints) {
+        Duration bucketWidth = Duration.between(start, end).dividedBy(targetPoints);
+        return bucketWidth.compareTo(Duration.ofDays(1)) >= 0 ? RollupGranularity.DAY : RollupGranularity.HOUR;
+    }
+    
+    private PostMetricsResponse toPostMetricsResponse(PostMetricRollup rollup, Long accountId, SnsType snsType) {
+        return PostMetricsResponse.builder()
+            .postId(rollup.getPostId())
+            .accountId(accountId)
+            .likes(rollup.getLikesLast())
+            .comments(rollup.getCommentsLast())
+            .views(rollup.getViewsLast())
+            .fetchedAt(rollup.getLastFetchedAt())
+            .snsType(snsType)
+            .build();
+    }
+    
+    private AccountMetricsResponse toAccountMetricsResponse(AccountMetricRollup rollup, SnsType snsType) {
+        return AccountMetricsResponse.builder()
+            .accountId(rollup.getAccountId())
+            .followers(rollup.getFollowersLast())
+            .views(rollup.getViewsLast())
+            .fetchedAt(rollup.getLastFetchedAt())
+            .snsType(snsType)
+            .build();
+    }
+    
+    // 같은 구간의 두 포인트를 필드별 최댓값으로 병합 (누적 지표이므로 구간 내 최신값과 같음)
+    private PostMetricsResponse mergePostMetricsMax(PostMetricsResponse a, PostMetricsResponse b) {
+        return PostMetricsResponse.builder()
+            .postId(a.getPostId())
+            .accountId(a.getAccountId())
+            .likes(maxOf(a.getLikes(), b.getLikes()))
+            .dislikes(maxOf(a.getDislikes(), b.getDislikes()))
+            .comments(maxOf(a.getComments(), b.getComments()))
+            .shares(maxOf(a.getShares(), b.getShares()))
+            .views(maxOf(a.getViews(), b.getViews()))
+            .fetchedAt(a.getFetchedAt().isAfter(b.getFetchedAt()) ? a.getFetchedAt() : b.getFetchedAt())
+            .build();
+    }
+    
+    private AccountMetricsResponse mergeAccountMetricsMax(AccountMetricsResponse a, AccountMetricsResponse b) {
+        return AccountMetricsResponse.builder()
+            .accountId(a.getAccountId())
+            .followers(maxOf(a.getFollowers(), b.getFollowers()))
+            .views(maxOf(a.getViews(), b.getViews()))
+            .fetchedAt(a.getFetchedAt().isAfter(b.getFetchedAt()) ? a.getFetchedAt() : b.getFetchedAt())
+            .build();
+    }
+    
+    private SnsType findSnsType(Long accountId) {
+        return snsAccountRepositoryPort.findById(accountId)
+            .map(SnsAccount::getType)
+            .orElse(null);
+    }
+    
+    private Long maxOf(Long a, Long b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return Math.max(a, b);
+    }
+    
     private List<PostMetricsResponse> getPostMetricsInternal(Long userId, PostMetricsQueryRequest request) {
         log.info("Getting post metrics for userId: {}, date: {}, postId: {}, accountId: {}", 
                 userId, request.getDate(), request.getPostId(), request.getAccountId());
@@ -260,13 +458,21 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
             Long postId = request.getPostId();
             // postId가 제공된 경우 계정 ID 검증
             validatePostAccountId(postId, request.getAccountId());
-            results = snsPostMetricRepositoryPort.findMetricsWithPostAndAccount(
-                List.of(postId), targetDate);
+            results = snsPostMetricRepositoryPort.findLatestMetricWithPostAndAccount(postId, targetDate)
+                .stream().toList();
         } else {
             // 계정 ID로 최근 게시물만 조회
             Long latestPostId = getLatestPostIdByAccountId(request.getAccountId());
-            results = snsPostMetricRepositoryPort.findMetricsWithPostAndAccount(
-                List.of(latestPostId), targetDate);
+            results = snsPostMetricRepositoryPort.findLatestMetricWithPostAndAccount(latestPostId, targetDate)
+                .stream().toList();
+        }
+        
+        if (results.isEmpty()) {
+            // 보관 기간이 지나 원본이 정리된 날짜는 일 단위 롤업의 마지막 값으로 응답
+            Long targetPostId = request.getPostId() != null ? request.getPostId() : getLatestPostIdByAccountId(request.getAccountId());
+            return postMetricRollupRepositoryPort.findByPostIdAndBucket(targetPostId, RollupGranularity.DAY, targetDate.atStartOfDay())
+                .map(rollup -> toPostMetricsResponse(rollup, request.getAccountId(), findSnsType(request.getAccountId())))
+                .stream().toList();
         }
         
         return toSnsPostMetricsResponseFromJoin(results);
@@ -278,19 +484,20 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
         
         LocalDate targetDate = request.getEffectiveDate();
         
-        // 계정 ID로 조회
-        List<Object[]> results = snsAccountMetricRepositoryPort.findMetricsWithAccount(List.of(request.getAccountId()), targetDate);
+        // 계정 ID로 조회 - 특정 날짜에 여러 데이터가 있을 경우 시간이 늦은 1건만 조회
+        List<Object[]> results = snsAccountMetricRepositoryPort.findLatestMetricWithAccount(request.getAccountId(), targetDate)
+            .stream().toList();
         
         List<AccountMetricsResponse> responses = toSnsAccountMetricsResponseFromJoin(results);
-        
-        // 특정 날짜에 여러 데이터가 있을 경우 시간이 늦은 것을 반환
         if (!responses.isEmpty()) {
-            return responses.stream()
-                .max((r1, r2) -> r1.getFetchedAt().compareTo(r2.getFetchedAt()))
-                .orElse(AccountMetricsResponse.builder()
-                    .accountId(request.getAccountId())
-                    .fetchedAt(LocalDateTime.now())
-                    .build());
+            return responses.get(0);
+        }
+        
+        // 보관 기간이 지나 원본이 정리된 날짜는 일 단위 롤업의 마지막 값으로 응답
+        Optional<AccountMetricRollup> dailyRollup = accountMetricRollupRepositoryPort
+            .findByAccountIdAndBucket(request.getAccountId(), RollupGranularity.DAY, targetDate.atStartOfDay());
+        if (dailyRollup.isPresent()) {
+            return toAccountMetricsResponse(dailyRollup.get(), findSnsType(request.getAccountId()));
         }
         
         // 데이터가 없으면 기본값을 가진 객체 반환
@@ -321,11 +528,13 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
         // 게시물 존재 여부 확인
         validatePostExists(targetPostId);
         
-        //감정분석 결과 조회
-        List<SnsPostCommentMetric> commentMetrics = snsPostCommentMetricRepositoryPort.findByPostId(targetPostId);
-        log.info("Found {} comments for postId: {} on date: {}", commentMetrics.size(), targetPostId, date);
+        // 감정분석 결과 조회 (댓글 본문을 읽지 않고 감정 카운터로 집계)
+        SentimentCounter sentimentCounts = sentimentCounterService.getPostCounts(targetPostId);
+        long totalCount = snsPostCommentMetricRepositoryPort.countByPostId(targetPostId);
+        log.info("Found {} comments ({} analyzed) for postId: {} on date: {}",
+            totalCount, sentimentCounts.getAnalyzedCount(), targetPostId, date);
         
-        return buildEmotionAnalysisResponse(targetPostId, commentMetrics);
+        return buildEmotionAnalysisResponse(targetPostId, sentimentCounts, totalCount);
     }
     
     // 실시간 데이터 조회 메서드들
@@ -341,6 +550,12 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
             validatePostAccountId(targetPostId, request.getAccountId());
         }
         
+        // 실시간 조회 할당량이 부족하면 마지막으로 수집된 메트릭으로 응답
+        if (!quotaLedgerPort.tryConsume(YouTubeEndpoint.VIDEOS_LIST, QuotaPriority.INTERACTIVE)) {
+            log.warn("⚠️ YouTube 할당량 부족 - 최근 수집 메트릭으로 대체, postId: {}", targetPostId);
+            return getLastKnownPostMetrics(targetPostId);
+        }
+        
         log.info("🔍 [CACHE MISS] 외부 API 호출 - realtime-post-metrics, targetPostId: {}", targetPostId);
         return externalApiPort.getRealtimePostMetrics(targetPostId);
     }
@@ -350,6 +565,12 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
     private AccountMetricsResponse getRealtimeAccountMetricsInternal(Long userId, AccountMetricsQueryRequest request) {
         log.info("Getting realtime account metrics for userId: {}, accountId: {}", userId, request.getAccountId());
         
+        // 실시간 조회 할당량이 부족하면 마지막으로 수집된 메트릭으로 응답
+        if (!quotaLedgerPort.tryConsume(YouTubeEndpoint.CHANNELS_LIST, QuotaPriority.INTERACTIVE)) {
+            log.warn("⚠️ YouTube 할당량 부족 - 최근 수집 메트릭으로 대체, accountId: {}", request.getAccountId());
+            return getLastKnownAccountMetrics(request.getAccountId());
+        }
+        
         log.info("🔍 [CACHE MISS] 외부 API 호출 - realtime-account-metrics, userId: {}, accountId: {}", userId, request.getAccountId());
         
         List<AccountMetricsResponse> responses = externalApiPort.getRealtimeAccountMetrics(request.getAccountId());
@@ -381,6 +602,12 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
         SnsPost post = snsPostRepositoryPort.findById(targetPostId)
             .orElseThrow(() -> new BusinessException(AnalyticsErrorCode.POST_NOT_FOUND));
         
+        // 실시간 조회 할당량이 부족하면 DB에 수집된 댓글로 응답
+        if (!quotaLedgerPort.tryConsume(YouTubeEndpoint.COMMENT_THREADS_LIST, QuotaPriority.INTERACTIVE)) {
+            log.warn("⚠️ YouTube 할당량 부족 - 수집된 댓글로 대체, postId: {}", targetPostId);
+            return getLastKnownPostComments(targetPostId, request.getSize());
+        }
+        
         // 외부 API에서 댓글 조회 (YouTube API 네이티브 페이지네이션 사용)
         PostCommentsPageResponse response = externalApiPort.getVideoCommentsWithPagination(
             post.getSnsPostId(), 
@@ -394,6 +621,57 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
         return response;
     }
     
+    // 할당량 부족 시 대체 응답 (DB에 마지막으로 수집된 값)
+    private PostMetricsResponse getLastKnownPostMetrics(Long postId) {
+        SnsPost post = snsPostRepositoryPort.findById(postId)
+            .orElseThrow(() -> new BusinessException(AnalyticsErrorCode.POST_NOT_FOUND));
+        
+        return snsPostMetricRepositoryPort.findLatestByPostId(postId)
+            .map(metric -> PostMetricsResponse.builder()
+                .postId(postId)
+                .accountId(post.getAccountId())
+                .likes(metric.getLikes())
+                .dislikes(metric.getDislikes())
+                .comments(metric.getComments())
+                .shares(metric.getShares())
+                .views(metric.getViews())
+                .fetchedAt(metric.getCreatedAt())
+                .snsType(SnsType.youtube)
+                .build())
+            .orElseThrow(() -> new BusinessException(AnalyticsErrorCode.YOUTUBE_QUOTA_EXCEEDED));
+    }
+    
+    private AccountMetricsResponse getLastKnownAccountMetrics(Long accountId) {
+        return snsAccountMetricRepositoryPort.findLatestByAccountId(accountId)
+            .map(metric -> AccountMetricsResponse.builder()
+                .accountId(accountId)
+                .followers(metric.getFollowers())
+                .views(metric.getViews())
+                .fetchedAt(metric.getCreatedAt())
+                .snsType(SnsType.youtube)
+                .build())
+            .orElseThrow(() -> new BusinessException(AnalyticsErrorCode.YOUTUBE_QUOTA_EXCEEDED));
+    }
+    
+    private PostCommentsPageResponse getLastKnownPostComments(Long postId, int size) {
+        List<PostCommentsResponse> comments = snsPostCommentMetricRepositoryPort.findByPostIdWithPagination(postId, 0, size).stream()
+            .map(comment -> PostCommentsResponse.builder()
+                .snsCommentId(comment.getSnsCommentId())
+                .snsAuthorId(comment.getAuthorId())
+                .text(comment.getContent())
+                .likeCount(comment.getLikeCount())
+                .publishedAt(comment.getPublishedAt())
+                .build())
+            .toList();
+        
+        return PostCommentsPageResponse.builder()
+            .data(comments)
+            .nextPageToken(null)
+            .hasNextPage(false)
+            .currentPageSize(comments.size())
+            .build();
+    }
+    
     // 헬퍼 메서드들
     
     
@@ -446,22 +724,7 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
     /**
      * 감정분석 응답 생성
      */
-    private EmotionAnalysisResponse buildEmotionAnalysisResponse(Long postId, List<SnsPostCommentMetric> commentMetrics) {
-        // 감정별 개수 계산 (null 제외)
-        long positiveCount = commentMetrics.stream()
-            .filter(metric -> metric.getSentiment() != null && SentimentType.POSITIVE.equals(metric.getSentiment()))
-            .count();
-        
-        long neutralCount = commentMetrics.stream()
-            .filter(metric -> metric.getSentiment() != null && SentimentType.NEUTRAL.equals(metric.getSentiment()))
-            .count();
-        
-        long negativeCount = commentMetrics.stream()
-            .filter(metric -> metric.getSentiment() != null && SentimentType.NEGATIVE.equals(metric.getSentiment()))
-            .count();
-        
-        long totalCount = commentMetrics.size();
-        
+    private EmotionAnalysisResponse buildEmotionAnalysisResponse(Long postId, SentimentCounter sentimentCounts, long totalCount) {
         // 키워드를 감정별로 그룹화하여 조회
         Map<SentimentType, List<String>> groupedKeywords = postCommentKeywordRepository.findKeywordsByPostIdGroupedBySentiment(postId);
         
@@ -474,9 +737,9 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
         );
         
         EmotionAnalysisResponse.EmotionSummary summary = EmotionAnalysisResponse.EmotionSummary.builder()
-            .positiveCount(positiveCount)
-            .neutralCount(neutralCount)
-            .negativeCount(negativeCount)
+            .positiveCount(sentimentCounts.getPositiveCount())
+            .neutralCount(sentimentCounts.getNeutralCount())
+            .negativeCount(sentimentCounts.getNegativeCount())
             .totalCount(totalCount)
             .build();
         
@@ -553,45 +816,107 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
     
     // ===== AI 보고서 단계별 생성 메서드들 (private) =====
     
-    private PostInfoResponseMessage getPostInfo(Long userId, Long accountId, Long postId, Long storeId) {
-        log.info("[WebSocket] 1단계: SNS 서비스에서 post 정보 가져오기 - postId: {}", postId);
-        
-        // 1단계에서만 계정 ID 검증
+    /**
+     * 보고서 입력(게시물 정보, 최신 메트릭, 키워드, 감정 카운트)을 reportIoExecutor에서 동시에 조회
+     * 단계마다 제한 시간을 두고, 완료된 단계 순서대로 진행률을 알림
+     */
+    private CompletableFuture<ReportInputs> fetchReportInputs(Long userId, Long accountId, Long postId, Long storeId,
+                                                              ProgressCallback callback) {
         validationPort.validateAccountId(accountId);
-        
+        AtomicInteger completedStages = new AtomicInteger();
+        
+        // Kafka 요청/응답은 응답 대기에 스레드를 쓰지 않음
+        CompletableFuture<PostInfoResponseMessage> postInfoFuture = reportStage(
+            "post-info", snsServicePort.getPostInfo(postId, userId, accountId, storeId),
+            postInfoTimeoutSeconds, AnalyticsErrorCode.EXTERNAL_API_ERROR,
+            completedStages, callback, "SNS 서비스에서 게시물 정보를 가져왔습니다.");
+        
+        CompletableFuture<SnsPostMetric> postMetricFuture = reportStage(
+            "post-metrics", supplyOnReportIo(() -> getPostMetrics(postId)),
+            reportDbTimeoutSeconds, AnalyticsErrorCode.DATABASE_ERROR,
+            completedStages, callback, "게시물 메트릭을 조회했습니다.");
+        
+        CompletableFuture<Map<SentimentType, List<String>>> keywordsFuture = reportStage(
+            "keywords", supplyOnReportIo(() -> postCommentKeywordRepository.findKeywordsByPostIdGroupedBySentiment(postId)),
+            reportDbTimeoutSeconds, AnalyticsErrorCode.DATABASE_ERROR,
+            completedStages, callback, "댓글 키워드를 조회했습니다.");
+        
+        CompletableFuture<SentimentCounter> sentimentCountsFuture = reportStage(
+            "sentiment-counts", supplyOnReportIo(() -> sentimentCounterService.getPostCounts(postId)),
+            reportDbTimeoutSeconds, AnalyticsErrorCode.DATABASE_ERROR,
+            completedStages, callback, "감정 분석 결과를 조회했습니다.");
+        
+        return CompletableFuture.allOf(postInfoFuture, postMetricFuture, keywordsFuture, sentimentCountsFuture)
+            .thenApply(ignored -> new ReportInputs(
+                postInfoFuture.join(), postMetricFuture.join(), keywordsFuture.join(), sentimentCountsFuture.join()));
+    }
+    
+    /**
+     * reportIoExecutor에서 실행 - 스레드가 모두 사용 중이라 거절되면 호출 스레드에서 실행하지 않고 실패한 단계로 반환
+     * (이어지는 단계는 오류로 변환되어 요청만 실패하고, Tomcat/WebSocket 스레드는 점유하지 않음)
+     */
+    private <T> CompletableFuture<T> supplyOnReportIo(Supplier<T> supplier) {
         try {
-            var postInfoFuture = snsServicePort.getPostInfo(postId, userId, accountId, storeId);
-            return postInfoFuture.get(); // CompletableFuture를 동기적으로 처리
-        } catch (Exception e) {
-            log.error("[WebSocket] SNS 서비스에서 post 정보를 가져오는 중 오류 발생: {}", e.getMessage());
-            throw new BusinessException(AnalyticsErrorCode.EXTERNAL_API_ERROR);
+            return CompletableFuture.supplyAsync(supplier, reportIoExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("[Report] 보고서 I/O 실행기 포화 - 요청 거절");
+            return CompletableFuture.failedFuture(e);
         }
     }
     
-    private SnsPostMetric getPostMetrics(Long userId, Long accountId, Long postId) {
-        log.info("[WebSocket] 2단계: 게시물 메트릭 조회 - postId: {}", postId);
-        
+    /**
+     * 입력 단계에 제한 시간과 오류 변환을 적용하고, 성공 시 진행률 알림 (입력 4단계를 10% → 50%로 표시)
+     */
+    private <T> CompletableFuture<T> reportStage(String stageName, CompletableFuture<T> stage, long timeoutSeconds,
+                                                 AnalyticsErrorCode errorCode, AtomicInteger completedStages,
+                                                 ProgressCallback callback, String progressMessage) {
+        return stage
+            .orTimeout(timeoutSeconds, TimeUnit.SECONDS)
+            .handle((result, throwable) -> {
+                if (throwable != null) {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+                    if (cause instanceof BusinessException businessException) {
+                        throw businessException;
+                    }
+                    log.error("[Report] 입력 조회 실패 - stage: {}, error: {}", stageName, cause.toString());
+                    throw new BusinessException(errorCode);
+                }
+                callback.onProgress(10 + completedStages.incrementAndGet() * 10, progressMessage);
+                return result;
+            });
+    }
+    
+    // 동기 호출 측(REST)에서는 CompletionException을 벗겨 BusinessException을 그대로 전달
+    private <T> T joinReportStage(CompletableFuture<T> stage) {
+        try {
+            return stage.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(AnalyticsErrorCode.INTERNAL_ERROR);
+        }
+    }
+    
+    private SnsPostMetric getPostMetrics(Long postId) {
         SnsPostMetric postMetric = snsPostMetricRepositoryPort.findLatestByPostId(postId)
             .orElseThrow(() -> {
-                log.warn("[WebSocket] 게시물 메트릭을 찾을 수 없습니다 - Post ID: {}", postId);
+                log.warn("[Report] 게시물 메트릭을 찾을 수 없습니다 - Post ID: {}", postId);
                 return new BusinessException(AnalyticsErrorCode.POST_NOT_FOUND);
             });
         
-        log.info("[WebSocket] 게시물 메트릭 조회 성공 - Post ID: {}, Views: {}, Likes: {}, Comments: {}", 
+        log.info("[Report] 게시물 메트릭 조회 성공 - Post ID: {}, Views: {}, Likes: {}, Comments: {}", 
             postId, postMetric.getViews(), postMetric.getLikes(), postMetric.getComments());
         
         return postMetric;
     }
     
-    private ReportResponse generateAiReport(Long userId, Long accountId, Long postId, Long storeId, 
-        PostInfoResponseMessage postInfo, 
-        SnsPostMetric postMetric) {
-        
-        log.info("[WebSocket] 4단계: AI 보고서 생성 - postId: {}", postId);
-        
-        // 감정 분석 데이터 조회
-        Map<SentimentType, List<String>> groupedKeywords = postCommentKeywordRepository.findKeywordsByPostIdGroupedBySentiment(postId);
-        List<SnsPostCommentMetric> comments = snsPostCommentMetricRepositoryPort.findByPostId(postId);
+    private AiReportRequest buildAiReportRequest(Long postId, ReportInputs inputs) {
+        PostInfoResponseMessage postInfo = inputs.postInfo();
+        SnsPostMetric postMetric = inputs.postMetric();
+        Map<SentimentType, List<String>> groupedKeywords = inputs.keywords();
+        SentimentCounter sentimentCounts = inputs.sentimentCounts();
         
         // AI 보고서 요청 데이터 구성
         AiReportRequest.Metrics metricsData = AiReportRequest.Metrics.builder()
@@ -602,15 +927,15 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
             .build();
         
         AiReportRequest.EmotionData emotionDataRequest = AiReportRequest.EmotionData.builder()
-            .positiveCount((long) comments.stream().filter(c -> c.getSentiment() == SentimentType.POSITIVE).count())
-            .negativeCount((long) comments.stream().filter(c -> c.getSentiment() == SentimentType.NEGATIVE).count())
-            .neutralCount((long) comments.stream().filter(c -> c.getSentiment() == SentimentType.NEUTRAL).count())
+            .positiveCount(sentimentCounts.getPositiveCount())
+            .negativeCount(sentimentCounts.getNegativeCount())
+            .neutralCount(sentimentCounts.getNeutralCount())
             .positiveKeywords(groupedKeywords.getOrDefault(SentimentType.POSITIVE, List.of()))
             .negativeKeywords(groupedKeywords.getOrDefault(SentimentType.NEGATIVE, List.of()))
             .neutralKeywords(groupedKeywords.getOrDefault(SentimentType.NEUTRAL, List.of()))
             .build();
         
-        AiReportRequest request = AiReportRequest.builder()
+        return AiReportRequest.builder()
             .metrics(metricsData)
             .emotionData(emotionDataRequest)
             .title(postInfo.getTitle())
@@ -619,26 +944,140 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
             .tags(postInfo.getTags())
             .publishAt(postInfo.getPublishAt() != null ? postInfo.getPublishAt().toString() : null)
             .build();
+    }
+    
+    /**
+     * AI 서버에 보고서 생성 요청 후 저장 (스트리밍 시 조각은 도착 즉시 전달되고, 완료 후 전체 보고서를 저장)
+     * 스트리밍 응답 대기에는 스레드를 쓰지 않음 (비스트리밍 요청만 reportIoExecutor에서 실행)
+     */
+    private CompletableFuture<PostReport> generateAiReport(Long postId, Long storeId, String inputFingerprint, AiReportRequest request,
+                                                           Consumer<String> chunkListener) {
+        log.info("[Report] AI 보고서 생성 - postId: {}, fingerprint: {}", postId, inputFingerprint);
         
-        // AI 서버에 보고서 생성 요청
-        AiReportResponse aiResponse = aiAnalysisPort.generateReport(request, storeId);
+        CompletableFuture<AiReportResponse> aiResponse = reportStreamingEnabled
+            ? aiAnalysisPort.streamReport(request, storeId, chunkListener)
+            : supplyOnReportIo(() -> aiAnalysisPort.generateReport(request, storeId));
         
-        // 최종 ReportResponse 생성 (클라이언트용)
-        return ReportResponse.builder()
+        return aiResponse.thenApplyAsync(response -> savePostReport(postId, storeId, inputFingerprint, request, response), reportIoExecutor);
+    }
+    
+    private PostReport savePostReport(Long postId, Long storeId, String inputFingerprint, AiReportRequest request,
+                                      AiReportResponse aiResponse) {
+        // 입력 지문과 함께 저장 (같은 입력으로는 다시 생성하지 않음)
+        PostReport postReport = PostReport.builder()
             .postId(postId)
+            .storeId(storeId)
+            .inputFingerprint(inputFingerprint)
             .markdownReport(aiResponse.getMarkdownReport())
-            .title(postInfo.getTitle())
-            .description(postInfo.getDescription())
-            .url(postInfo.getUrl())
-            .publishAt(postInfo.getPublishAt() != null ? postInfo.getPublishAt().toString() : null)
+            .title(request.getTitle())
+            .description(request.getDescription())
+            .url(request.getUrl())
+            .publishAt(request.getPublishAt())
             .build();
+        try {
+            return postReportRepositoryPort.save(postReport);
+        } catch (Exception e) {
+            // 저장에 실패해도 생성된 보고서는 반환 (다음 요청에서 다시 생성될 수 있음)
+            log.error("[Report] 보고서 저장 실패 - postId: {}, error: {}", postId, e.getMessage());
+            return postReport;
+        }
+    }
+    
+    /**
+     * 같은 보고서 입력(지문)은 모든 인스턴스를 통틀어 한 번만 AI 서버에 생성을 요청
+     * - 입력 지문이 같은 보고서가 post_report에 있으면 그대로 반환
+     * - 없으면 임대를 잡은 요청이 생성 후 저장하고 해제하며, 기다리던 요청은 저장된 보고서를 읽음
+     *   (생성 실패 또는 보유 인스턴스 장애로 보고서가 없으면 대기하던 요청이 임대를 잡고 다시 생성)
+     * 스트리밍 조각은 임대를 잡은 요청에만 전달되며, 기다린 요청은 완성된 보고서를 받음
+     */
+    private CompletableFuture<PostReport> generateAiReportOnce(Long postId, Long storeId, ReportInputs inputs,
+                                                               Consumer<String> chunkListener) {
+        AiReportRequest request = buildAiReportRequest(postId, inputs);
+        String inputFingerprint = ReportFingerprint.of(storeId, request);
+        
+        Optional<PostReport> storedReport = findStoredReport(postId, storeId, inputFingerprint);
+        if (storedReport.isPresent()) {
+            log.info("[Report] 입력이 같은 저장된 보고서 사용 - postId: {}, fingerprint: {}", postId, inputFingerprint);
+            return CompletableFuture.completedFuture(storedReport.get());
+        }
+        
+        String leaseKey = postId + "_" + storeId + "_" + inputFingerprint;
+        return generateWithLease(postId, storeId, inputFingerprint, request, leaseKey, chunkListener);
+    }
+    
+    private CompletableFuture<PostReport> generateWithLease(Long postId, Long storeId, String inputFingerprint,
+                                                            AiReportRequest request, String leaseKey,
+                                                            Consumer<String> chunkListener) {
+        String leaseToken = reportLeasePort.tryAcquire(leaseKey);
+        if (leaseToken != null) {
+            CompletableFuture<PostReport> generation;
+            try {
+                // 직전에 다른 요청이 생성을 마쳤을 수 있음
+                Optional<PostReport> storedReport = findStoredReport(postId, storeId, inputFingerprint);
+                generation = storedReport.isPresent()
+                    ? CompletableFuture.completedFuture(storedReport.get())
+                    : generateAiReport(postId, storeId, inputFingerprint, request, chunkListener);
+            } catch (RuntimeException e) {
+                generation = CompletableFuture.failedFuture(e);
+            }
+            // 생성이 끝나면(성공/실패) 임대 해제
+            return generation.whenComplete((report, throwable) -> reportLeasePort.release(leaseKey, leaseToken));
+        }
+        
+        // 다른 요청이 생성 중 - 해제를 기다린 뒤(스레드 점유 없음) 저장된 보고서를 읽고, 없으면 다시 임대 시도
+        log.info("⏳ 다른 요청에서 생성 중인 보고서 대기 - postId: {}, leaseKey: {}", postId, leaseKey);
+        return reportLeasePort.awaitRelease(leaseKey, Duration.ofSeconds(reportLeaseWaitSeconds))
+            .thenComposeAsync(released -> {
+                if (!released) {
+                    log.error("❌ 보고서 생성 대기 시간 초과 - postId: {}, leaseKey: {}", postId, leaseKey);
+                    throw new BusinessException(AnalyticsErrorCode.AI_ANALYSIS_ERROR);
+                }
+                return findStoredReport(postId, storeId, inputFingerprint)
+                    .map(CompletableFuture::completedFuture)
+                    .orElseGet(() -> generateWithLease(postId, storeId, inputFingerprint, request, leaseKey, chunkListener));
+            }, reportIoExecutor);
+    }
+    
+    // 저장소 조회 실패는 보고서가 없는 것으로 보고 생성 진행
+    private Optional<PostReport> findStoredReport(Long postId, Long storeId, String inputFingerprint) {
+        try {
+            return postReportRepositoryPort.findByFingerprint(postId, storeId, inputFingerprint);
+        } catch (Exception e) {
+            log.warn("[Report] 저장된 보고서 조회 실패 - postId: {}, error: {}", postId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    private ReportResponse toReportResponse(PostReport postReport) {
+        return ReportResponse.builder()
+            .postId(postReport.getPostId())
+            .markdownReport(postReport.getMarkdownReport())
+            .title(postReport.getTitle())
+            .description(postReport.getDescription())
+            .url(postReport.getUrl())
+            .publishAt(postReport.getPublishAt())
+            .build();
+    }
+    
+    private void putReportCache(String cacheKey, ReportResponse reportResponse) {
+        try {
+            cacheManager.getCache("report").put(cacheKey, reportResponse);
+            log.info("새로 생성된 보고서를 캐시에 저장 - cacheKey: {}", cacheKey);
+        } catch (Exception e) {
+            log.warn("보고서 캐시 저장 중 에러 발생 - cacheKey: {}, error: {}", cacheKey, e.getMessage());
+        }
+    }
+    
+    // @Cacheable(value = "report") 키와 동일한 형식
+    private String reportCacheKey(Long userId, Long accountId, Long postId, Long storeId) {
+        return postId + "_" + userId + "_" + accountId + "_" + storeId;
     }
     
     private ReportResponse getCachedReport(Long userId, Long accountId, Long postId, Long storeId) {
         log.info("[WebSocket] 캐시된 보고서 확인 - postId: {}", postId);
         
         // 캐시에서 보고서 조회 시도
-        String cacheKey = postId + "_" + userId + "_" + accountId + "_" + storeId;
+        String cacheKey = reportCacheKey(userId, accountId, postId, storeId);
         ReportResponse cachedResponse = cacheManager.getCache("report").get(cacheKey, ReportResponse.class);
         
         if (cachedResponse != null) {
@@ -649,4 +1088,13 @@ public class AnalyticsQueryService implements AnalyticsQueryUseCase {
         log.info("[WebSocket] 캐시된 보고서 없음 - postId: {}", postId);
         return null;
     }
+    
+    /**
+     * AI 보고서 요청 입력 (동시 조회 결과)
+     */
+    private record ReportInputs(PostInfoResponseMessage postInfo,
+                                SnsPostMetric postMetric,
+                                Map<SentimentType, List<String>> keywords,
+                                SentimentCounter sentimentCounts) {
+    }
 }
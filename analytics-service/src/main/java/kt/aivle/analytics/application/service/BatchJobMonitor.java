@@ -1,18 +1,33 @@
 package kt.aivle.analytics.application.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
-import lombok.Getter;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.stereotype.Service;
 
+import kt.aivle.analytics.config.batch.IdRangePartitioner;
+import kt.aivle.analytics.config.batch.KeysetIdItemReader;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class BatchJobMonitor {
     
+    private final JobExplorer jobExplorer;
     private final Map<String, BatchJobStatus> jobStatuses = new ConcurrentHashMap<>();
     
     public void recordJobStart(String jobName) {
@@ -21,21 +36,32 @@ public class BatchJobMonitor {
         status.setStartTime(LocalDateTime.now());
         status.setProcessed(0);
         status.setTotal(0);
+        status.setThroughput(0.0);
         status.setError(null);
         
         jobStatuses.put(jobName, status);
         log.info("Batch job started: {}", jobName);
     }
     
-    public void recordJobProgress(String jobName, int processed, int total) {
+    public synchronized void recordJobProgress(String jobName, int processed, int total) {
         BatchJobStatus status = jobStatuses.get(jobName);
         if (status != null) {
             status.setProcessed(processed);
             status.setTotal(total);
+            status.setThroughput(calculateThroughput(status.getStartTime(), processed));
             log.debug("Batch job progress - {}: {}/{}", jobName, processed, total);
         }
     }
     
+    // 청크 커밋마다 호출 - 전체 건수는 스텝 종료 시 기록
+    public synchronized void recordJobProcessed(String jobName, int processed) {
+        BatchJobStatus status = jobStatuses.get(jobName);
+        if (status != null) {
+            status.setProcessed(processed);
+            status.setThroughput(calculateThroughput(status.getStartTime(), processed));
+        }
+    }
+    
     public void recordJobSuccess(String jobName) {
         BatchJobStatus status = jobStatuses.get(jobName);
         if (status != null) {
@@ -55,6 +81,12 @@ public class BatchJobMonitor {
         }
     }
     
+    // 초당 처리 건수
+    private double calculateThroughput(LocalDateTime startTime, int processed) {
+        long elapsedMillis = Duration.between(startTime, LocalDateTime.now()).toMillis();
+        return elapsedMillis > 0 ? processed * 1000.0 / elapsedMillis : 0.0;
+    }
+    
     public BatchJobStatus getJobStatus(String jobName) {
         return jobStatuses.get(jobName);
     }
@@ -63,6 +95,67 @@ public class BatchJobMonitor {
         return new ConcurrentHashMap<>(jobStatuses);
     }
     
+    /**
+     * 작업별 마지막 인스턴스의 파티션 진행 위치 (JobRepository의 스텝 ExecutionContext 기준, 재시작 후에도 유지됨)
+     * 재시작 실행에서는 완료된 파티션이 다시 실행되지 않으므로 인스턴스의 전체 실행에서 파티션별 최신 스텝 실행을 사용
+     */
+    public List<PartitionCheckpoint> getPartitionCheckpoints() {
+        List<PartitionCheckpoint> checkpoints = new ArrayList<>();
+
+        for (String jobName : jobExplorer.getJobNames()) {
+            List<JobInstance> lastInstances = jobExplorer.getJobInstances(jobName, 0, 1);
+            if (lastInstances.isEmpty()) continue;
+
+            List<JobExecution> executions = jobExplorer.getJobExecutions(lastInstances.get(0));
+            JobExecution lastExecution = executions.stream()
+                .max(Comparator.comparing(JobExecution::getId))
+                .orElse(null);
+            if (lastExecution == null) continue;
+
+            Map<String, StepExecution> latestPartitions = new TreeMap<>();
+            for (JobExecution execution : executions) {
+                for (StepExecution stepExecution : execution.getStepExecutions()) {
+                    if (!stepExecution.getExecutionContext().containsKey(IdRangePartitioner.MIN_ID)) continue;
+                    latestPartitions.merge(stepExecution.getStepName(), stepExecution,
+                        (a, b) -> a.getId() >= b.getId() ? a : b);
+                }
+            }
+
+            for (StepExecution partition : latestPartitions.values()) {
+                ExecutionContext context = partition.getExecutionContext();
+                checkpoints.add(new PartitionCheckpoint(
+                    jobName,
+                    lastInstances.get(0).getInstanceId(),
+                    lastExecution.getId(),
+                    lastExecution.getStatus().name(),
+                    partition.getStepName(),
+                    partition.getStatus().name(),
+                    context.getLong(IdRangePartitioner.MIN_ID),
+                    context.getLong(IdRangePartitioner.MAX_ID),
+                    context.containsKey(KeysetIdItemReader.LAST_ID) ? context.getLong(KeysetIdItemReader.LAST_ID) : null,
+                    partition.getReadCount(),
+                    partition.getWriteCount(),
+                    partition.getLastUpdated()));
+            }
+        }
+        return checkpoints;
+    }
+    
+    public record PartitionCheckpoint(
+        String jobName,
+        Long jobInstanceId,
+        Long jobExecutionId,
+        String jobStatus,
+        String stepName,
+        String status,
+        long minId,
+        long maxId,
+        Long lastProcessedId,
+        long readCount,
+        long writeCount,
+        LocalDateTime updatedAt
+    ) {}
+    
     @Getter
     public static class BatchJobStatus {
         // Getters and Setters
@@ -71,6 +164,7 @@ public class BatchJobMonitor {
         private LocalDateTime endTime;
         private int processed;
         private int total;
+        private double throughput;
         private String error;
 
         public void setStatus(String status) {
@@ -93,6 +187,10 @@ public class BatchJobMonitor {
             this.total = total;
         }
 
+        public void setThroughput(double throughput) {
+            this.throughput = throughput;
+        }
+
         public void setError(String error) {
             this.error = error;
         }
@@ -1,14 +1,37 @@
 package kt.aivle.analytics.application.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
+import kt.aivle.analytics.application.port.out.infrastructure.BatchCoordinationPort;
+import kt.aivle.analytics.exception.AnalyticsErrorCode;
+import kt.aivle.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,31 +39,260 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class BatchScheduler {
-    
+
+    // 클러스터 잠금 이름 (일일 스케줄은 모든 인스턴스에서 동시에 트리거되므로 한 곳에서만 실행)
+    private static final String DAILY_METRICS_LOCK = "daily-metrics-collection";
+    private static final String RECOVERY_LOCK = "abandoned-execution-recovery";
+
     private final JobLauncher jobLauncher;
+    @Qualifier("dailyMetricsCollectionJob")
     private final Job dailyMetricsCollectionJob;
-    
+    @Qualifier("accountMetricsCollectionJob")
+    private final Job accountMetricsCollectionJob;
+    @Qualifier("postMetricsCollectionJob")
+    private final Job postMetricsCollectionJob;
+    @Qualifier("postCommentsCollectionJob")
+    private final Job postCommentsCollectionJob;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final BatchCoordinationPort batchCoordinationPort;
+
+    // 중단된 실행 복구는 스케줄러/기동 스레드를 오래 점유하지 않도록 별도 스레드에서 재시작
+    private final TaskExecutor recoveryExecutor = new SimpleAsyncTaskExecutor("batch-recovery-");
+
+    // 수동 실행은 HTTP 스레드를 점유하지 않도록 별도 스레드에서 실행하고 실행 ID만 바로 반환
+    private final TaskExecutor manualJobExecutor = new SimpleAsyncTaskExecutor("batch-manual-");
+    private TaskExecutorJobLauncher manualJobLauncher;
+
+    // 실패한 실행을 같은 JobParameters로 재시작하는 최대 횟수 (초과 시 새 실행으로 처음부터 수집)
+    @Value("${app.batch.max-restarts:3}")
+    private int maxRestarts;
+
+    // STARTED 상태인데 이 시간 동안 스텝 실행 갱신(청크 커밋)이 없고 소유 인스턴스 표시도 없으면 죽은 실행으로 판단
+    @Value("${app.batch.stale-execution-minutes:30}")
+    private long staleExecutionMinutes;
+
     /**
      * 매일 메트릭 수집 배치 작업을 실행합니다.
      * 스케줄은 application.yml에서 설정
      */
     @Scheduled(cron = "${app.batch.schedule.daily-metrics}", zone = "${app.batch.timezone}")
     public void runDailyMetricsCollectionJob() {
-        log.info("🚀 Daily metrics collection batch job started");
-        
+        String lockToken = batchCoordinationPort.tryLock(DAILY_METRICS_LOCK);
+        if (lockToken == null) {
+            log.info("⏭️ Daily metrics collection is handled by another instance, skipping");
+            return;
+        }
+
         try {
-            JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-            jobLauncher.run(dailyMetricsCollectionJob, jobParameters);
-            log.info("✅ Daily metrics collection completed");
-            
+            log.info("🚀 Daily metrics collection batch job started");
+
+            JobExecution jobExecution = runJob(dailyMetricsCollectionJob);
+            if (jobExecution != null && jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                log.info("✅ Daily metrics collection completed");
+            }
+        } finally {
+            batchCoordinationPort.unlock(DAILY_METRICS_LOCK, lockToken);
+        }
+    }
+
+    @PostConstruct
+    void initManualJobLauncher() throws Exception {
+        manualJobLauncher = new TaskExecutorJobLauncher();
+        manualJobLauncher.setJobRepository(jobRepository);
+        manualJobLauncher.setTaskExecutor(manualJobExecutor);
+        manualJobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * 수동 실행 - 전체 일일 수집 작업 (계정/게시물/댓글 수집 + 롤업)
+     * @return 시작된 JobExecution ID
+     */
+    public Long runDailyMetricsCollectionJobNow() {
+        return runManually(dailyMetricsCollectionJob);
+    }
+
+    public Long runAccountMetricsCollectionJob() {
+        return runManually(accountMetricsCollectionJob);
+    }
+
+    public Long runPostMetricsCollectionJob() {
+        return runManually(postMetricsCollectionJob);
+    }
+
+    public Long runPostCommentsCollectionJob() {
+        return runManually(postCommentsCollectionJob);
+    }
+
+    /**
+     * 수동 실행은 시작만 하고 실행 ID를 바로 반환 (진행/결과는 배치 상태 API와 파티션 체크포인트 API로 확인)
+     * 이미 실행 중이거나 시작하지 못하면 호출자에게 실패로 알림
+     * 실패한 파티션의 진행 위치는 남아 있으므로 다시 호출하면 이어서 수집
+     */
+    private Long runManually(Job job) {
+        log.info("🚀 Manual batch job requested: {}", job.getName());
+
+        if (!jobExplorer.findRunningJobExecutions(job.getName()).isEmpty()) {
+            throw new BusinessException(AnalyticsErrorCode.BATCH_JOB_ALREADY_RUNNING);
+        }
+
+        JobExecution jobExecution;
+        try {
+            jobExecution = manualJobLauncher.run(job, resolveJobParameters(job));
         } catch (JobExecutionAlreadyRunningException e) {
-            log.error("❌ Batch job is already running: {}", e.getMessage());
+            throw new BusinessException(AnalyticsErrorCode.BATCH_JOB_ALREADY_RUNNING);
+        } catch (Exception e) {
+            log.error("❌ Failed to start batch job {}: {}", job.getName(), e.getMessage());
+            throw new BusinessException(AnalyticsErrorCode.BATCH_OPERATION_FAILED);
+        }
+
+        // 실행기 거절 시 런처가 FAILED로 기록해 반환
+        if (jobExecution.getStatus() == BatchStatus.FAILED) {
+            throw new BusinessException(AnalyticsErrorCode.BATCH_OPERATION_FAILED);
+        }
+        log.info("✅ Manual batch job started: {}, executionId: {}", job.getName(), jobExecution.getId());
+        return jobExecution.getId();
+    }
+
+    /**
+     * 기동 직후 - 이전 프로세스가 죽으면서 STARTED로 남은 실행을 실패 처리하고 체크포인트부터 재시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        recoveryExecutor.execute(this::recoverAbandonedExecutions);
+    }
+
+    /**
+     * 다른 인스턴스에서 실행 중 죽은 경우도 주기적으로 확인 (소유 인스턴스가 살아 있는 실행은 대상 아님)
+     */
+    @Scheduled(fixedDelayString = "${app.batch.recovery-check-delay-ms:600000}", initialDelayString = "${app.batch.recovery-check-delay-ms:600000}")
+    public void checkAbandonedExecutions() {
+        recoveryExecutor.execute(this::recoverAbandonedExecutions);
+    }
+
+    /**
+     * 복구는 클러스터 잠금을 잡은 인스턴스 한 곳에서만 실행 (여러 인스턴스가 같은 실행을 동시에 실패 처리/재시작하지 않도록)
+     * 스텝 갱신이 오래 멈췄고 소유 인스턴스의 표시도 사라진 실행만 죽은 실행으로 판단
+     */
+    private void recoverAbandonedExecutions() {
+        String lockToken = batchCoordinationPort.tryLock(RECOVERY_LOCK);
+        if (lockToken == null) {
+            log.debug("Abandoned execution recovery is handled by another instance, skipping");
+            return;
+        }
+
+        try {
+            for (Job job : managedJobs()) {
+                try {
+                    boolean abandoned = false;
+                    for (JobExecution execution : jobExplorer.findRunningJobExecutions(job.getName())) {
+                        if (isStale(execution) && !batchCoordinationPort.isExecutionOwnerAlive(execution.getId())) {
+                            markAbandoned(execution);
+                            abandoned = true;
+                        }
+                    }
+
+                    if (abandoned) {
+                        log.info("🔁 Restarting abandoned batch job: {}", job.getName());
+                        runJob(job);
+                    }
+                } catch (Exception e) {
+                    log.error("❌ Failed to recover batch job {}: {}", job.getName(), e.getMessage(), e);
+                }
+            }
+        } finally {
+            batchCoordinationPort.unlock(RECOVERY_LOCK, lockToken);
+        }
+    }
+
+    /**
+     * 작업 실행 - 직전 실행이 실패/중단되었으면 재시작, 아니면 새 실행
+     * @return 실행 결과 (이미 실행 중이거나 실행하지 못한 경우 null)
+     */
+    JobExecution runJob(Job job) {
+        try {
+            return jobLauncher.run(job, resolveJobParameters(job));
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.error("❌ Batch job is already running: {} - {}", job.getName(), e.getMessage());
         } catch (JobInstanceAlreadyCompleteException e) {
-            log.error("❌ Batch job instance already completed: {}", e.getMessage());
+            log.error("❌ Batch job instance already completed: {} - {}", job.getName(), e.getMessage());
         } catch (Exception e) {
-            log.error("❌ Daily metrics collection failed: {}", e.getMessage());
+            log.error("❌ Batch job {} failed: {}", job.getName(), e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 직전 실행이 실패/중단되었으면 같은 JobParameters로 재시작하여 완료된 파티션은 건너뛰고 체크포인트부터 이어서 수집
+     */
+    private JobParameters resolveJobParameters(Job job) {
+        String jobName = job.getName();
+        List<JobInstance> lastInstances = jobExplorer.getJobInstances(jobName, 0, 1);
+
+        if (!lastInstances.isEmpty()) {
+            List<JobExecution> executions = jobExplorer.getJobExecutions(lastInstances.get(0));
+            JobExecution lastExecution = executions.stream()
+                .max((a, b) -> Long.compare(a.getId(), b.getId()))
+                .orElse(null);
+
+            if (lastExecution != null && isRestartable(lastExecution.getStatus())) {
+                if (executions.size() <= maxRestarts) {
+                    log.info("🔁 Restarting failed batch job - job: {}, instanceId: {}, status: {}, attempt: {}/{}",
+                        jobName, lastInstances.get(0).getInstanceId(), lastExecution.getStatus(), executions.size(), maxRestarts);
+                    return lastExecution.getJobParameters();
+                }
+                log.warn("Batch job restart limit reached - job: {}, instanceId: {}, starting new run",
+                    jobName, lastInstances.get(0).getInstanceId());
+            }
+        }
+
+        return new JobParametersBuilder()
+            .addLong("time", System.currentTimeMillis())
+            .toJobParameters();
+    }
+
+    private boolean isRestartable(BatchStatus status) {
+        return status == BatchStatus.FAILED || status == BatchStatus.STOPPED;
+    }
+
+    // 마지막 갱신 시각 = 작업/스텝(파티션 포함) 실행 중 가장 최근 갱신 (청크 커밋마다 스텝 실행이 갱신됨)
+    private boolean isStale(JobExecution execution) {
+        LocalDateTime lastHeartbeat = execution.getStepExecutions().stream()
+            .map(StepExecution::getLastUpdated)
+            .filter(Objects::nonNull)
+            .max(LocalDateTime::compareTo)
+            .orElse(execution.getLastUpdated() != null ? execution.getLastUpdated() : execution.getCreateTime());
+        if (execution.getLastUpdated() != null && execution.getLastUpdated().isAfter(lastHeartbeat)) {
+            lastHeartbeat = execution.getLastUpdated();
+        }
+        return lastHeartbeat.isBefore(LocalDateTime.now().minus(Duration.ofMinutes(staleExecutionMinutes)));
+    }
+
+    /**
+     * 죽은 실행과 미완료 스텝을 FAILED로 기록 (ExecutionContext의 파티션별 lastId는 그대로 유지되어 재시작 시 사용)
+     */
+    private void markAbandoned(JobExecution execution) {
+        LocalDateTime now = LocalDateTime.now();
+        ExitStatus exitStatus = ExitStatus.FAILED.addExitDescription("Abandoned: no progress for " + staleExecutionMinutes + " minutes");
+
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(exitStatus);
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
         }
+
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(exitStatus);
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+        log.warn("⚠️ Marked abandoned batch execution as FAILED - job: {}, executionId: {}",
+            execution.getJobInstance().getJobName(), execution.getId());
+    }
+
+    private List<Job> managedJobs() {
+        return List.of(dailyMetricsCollectionJob, accountMetricsCollectionJob, postMetricsCollectionJob, postCommentsCollectionJob);
     }
 }
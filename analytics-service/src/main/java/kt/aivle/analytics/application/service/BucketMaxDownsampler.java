@@ -0,0 +1,49 @@
+package kt.aivle.analytics.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
+/**
+ * 시계열 bucket-max 다운샘플러
+ * [start, end) 구간을 targetPoints개의 같은 길이 구간으로 나누고, 구간별로 들어온 샘플을 merger로 합칩니다.
+ * 샘플을 하나씩 받아 처리하므로 원본 데이터 수와 무관하게 메모리는 targetPoints개만 사용합니다.
+ */
+class BucketMaxDownsampler<T> {
+
+    private final LocalDateTime start;
+    private final long bucketNanos;
+    private final BinaryOperator<T> merger;
+    private final List<T> buckets;
+    private long rawCount;
+
+    BucketMaxDownsampler(LocalDateTime start, LocalDateTime end, int targetPoints, BinaryOperator<T> merger) {
+        this.start = start;
+        this.bucketNanos = Math.max(1L, Duration.between(start, end).toNanos() / targetPoints);
+        this.merger = merger;
+        this.buckets = new ArrayList<>(targetPoints);
+        for (int i = 0; i < targetPoints; i++) {
+            buckets.add(null);
+        }
+    }
+
+    void accept(LocalDateTime at, T sample) {
+        rawCount++;
+        int index = (int) Math.min(buckets.size() - 1, Math.max(0L, Duration.between(start, at).toNanos() / bucketNanos));
+        T current = buckets.get(index);
+        buckets.set(index, current == null ? sample : merger.apply(current, sample));
+    }
+
+    long getRawCount() {
+        return rawCount;
+    }
+
+    // 비어 있는 구간을 제외한 시간순 결과
+    List<T> result() {
+        return buckets.stream()
+            .filter(bucket -> bucket != null)
+            .toList();
+    }
+}
@@ -1,16 +1,22 @@
 package kt.aivle.analytics.application.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import kt.aivle.analytics.application.event.PostCommentsChangedEvent;
 import kt.aivle.analytics.application.port.out.dto.AiAnalysisResponse;
 import kt.aivle.analytics.application.port.out.infrastructure.AiAnalysisPort;
 import kt.aivle.analytics.application.port.out.repository.PostCommentKeywordRepositoryPort;
-import kt.aivle.analytics.application.port.out.repository.SnsPostCommentMetricRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostRepositoryPort;
 import kt.aivle.analytics.domain.entity.PostCommentKeyword;
+import kt.aivle.analytics.domain.entity.SnsPost;
 import kt.aivle.analytics.domain.entity.SnsPostCommentMetric;
 import kt.aivle.analytics.domain.model.SentimentType;
 import kt.aivle.analytics.exception.AnalyticsErrorCode;
@@ -23,9 +29,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class EmotionAnalysisService {
     
-    private final SnsPostCommentMetricRepositoryPort commentMetricRepository;
+    // post_comment_keyword.keyword 컬럼 길이
+    private static final int MAX_KEYWORD_LENGTH = 255;
+    
+    private final SentimentCounterService sentimentCounterService;
     private final PostCommentKeywordRepositoryPort keywordRepository;
     private final AiAnalysisPort aiAnalysisPort;
+    private final SnsPostRepositoryPort snsPostRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 댓글 감정분석을 수행하고 결과를 저장합니다.
@@ -43,11 +54,17 @@ public class EmotionAnalysisService {
                 throw new BusinessException(AnalyticsErrorCode.EMOTION_ANALYSIS_ERROR);
             }
             
-            // 감정분석 결과 저장
-            saveCommentMetrics(postId, comments, aiResponse.getIndividual_results());
-            
-            // 키워드 저장
-            saveKeywords(postId, aiResponse.getKeywords());
+            try {
+                // 감정분석 결과 저장
+                saveCommentMetrics(postId, comments, aiResponse.getIndividual_results());
+                
+                // 키워드 저장
+                saveKeywords(postId, aiResponse.getKeywords());
+            } finally {
+                // 감정 카운터와 키워드가 모두 반영된 뒤 감정분석 히스토리 캐시 무효화
+                // (카운터 반영 직후 무효화하면 키워드 병합 전 조회가 이전 키워드를 다시 캐시함)
+                publishCommentsChanged(postId);
+            }
             
             log.info("✅ 감정분석 완료 및 저장 - postId: {}", postId);
             
@@ -57,6 +74,13 @@ public class EmotionAnalysisService {
         }
     }
     
+    private void publishCommentsChanged(Long postId) {
+        Long accountId = snsPostRepositoryPort.findById(postId)
+            .map(SnsPost::getAccountId)
+            .orElse(null);
+        eventPublisher.publishEvent(new PostCommentsChangedEvent(postId, accountId));
+    }
+    
     /**
      * 댓글의 sentiment를 업데이트합니다.
      */
@@ -70,65 +94,64 @@ public class EmotionAnalysisService {
                 AiAnalysisResponse.IndividualResult::getResult
             ));
         
-        int updatedCount = 0;
+        // 이번 배치 댓글 중 AI 결과가 있는 것만 모아 한 번에 업데이트
+        Map<Long, SentimentType> sentimentsById = new LinkedHashMap<>();
         for (SnsPostCommentMetric comment : comments) {
-            try {
-                // AI 분석 결과에서 해당 댓글의 sentiment 조회
-                SentimentType sentiment = resultMap.get(comment.getId());
-                
-                if (sentiment != null) {
-                    // 기존 댓글의 sentiment 필드만 업데이트
-                    commentMetricRepository.updateSentimentById(comment.getId(), sentiment);
-                    updatedCount++;
-                    log.debug("Updated sentiment for comment ID: {}, sentiment: {}", comment.getId(), sentiment);
-                } else {
-                    log.warn("No sentiment result found for comment ID: {}", comment.getId());
-                }
-                
-            } catch (Exception e) {
-                log.error("Failed to update sentiment for comment ID: {}", comment.getId(), e);
-                // 개별 댓글 업데이트 실패는 다른 댓글에 영향을 주지 않음
+            SentimentType sentiment = resultMap.get(comment.getId());
+            if (sentiment != null) {
+                sentimentsById.put(comment.getId(), sentiment);
+            } else {
+                log.warn("No sentiment result found for comment ID: {}", comment.getId());
             }
         }
         
+        // sentiment 업데이트와 게시물/계정 감정 카운터 갱신을 하나의 트랜잭션으로 처리
+        List<Long> failedIds = sentimentCounterService.updateSentiments(postId, comments, sentimentsById);
+        if (!failedIds.isEmpty()) {
+            // 개별 댓글 업데이트 실패는 다른 댓글에 영향을 주지 않음
+            log.error("Failed to update sentiment for comment IDs: {}", failedIds);
+        }
+        int updatedCount = sentimentsById.size() - failedIds.size();
+        
         log.info("💾 감정 업데이트 완료 - postId: {}, 성공: {}/{}", postId, updatedCount, comments.size());
     }
     
     /**
-     * 키워드를 저장합니다.
+     * 이번 배치의 키워드를 게시물/감정별 빈도에 누적합니다. (이전 배치 키워드는 유지)
      */
     private void saveKeywords(Long postId, AiAnalysisResponse.Keywords keywords) {
-        // 기존 키워드 삭제
-        keywordRepository.deleteByPostId(postId);
-        
-        List<PostCommentKeyword> keywordEntities = new java.util.ArrayList<>();
-        
-        // 긍정 키워드 저장
-        if (keywords.getPositive() != null) {
-            keywordEntities.addAll(keywords.getPositive().stream()
-                .map(keyword -> PostCommentKeyword.builder()
-                    .postId(postId)
-                    .keyword(keyword)
-                    .sentiment(SentimentType.POSITIVE)
-                    .build())
-                .toList());
+        if (keywords == null) {
+            return;
         }
         
-        // 부정 키워드 저장
-        if (keywords.getNegative() != null) {
-            keywordEntities.addAll(keywords.getNegative().stream()
-                .map(keyword -> PostCommentKeyword.builder()
-                    .postId(postId)
-                    .keyword(keyword)
-                    .sentiment(SentimentType.NEGATIVE)
-                    .build())
-                .toList());
-        }
+        List<PostCommentKeyword> keywordEntities = new ArrayList<>();
+        keywordEntities.addAll(toKeywordFrequencies(postId, keywords.getPositive(), SentimentType.POSITIVE));
+        keywordEntities.addAll(toKeywordFrequencies(postId, keywords.getNegative(), SentimentType.NEGATIVE));
         
         if (!keywordEntities.isEmpty()) {
-            keywordRepository.saveAll(keywordEntities);
+            keywordRepository.mergeFrequencies(keywordEntities);
         }
     }
     
+    // 공백 제거 후 배치 내 중복 키워드는 한 번만 집계
+    private List<PostCommentKeyword> toKeywordFrequencies(Long postId, List<String> keywords, SentimentType sentiment) {
+        if (keywords == null) {
+            return List.of();
+        }
+        
+        return keywords.stream()
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(keyword -> !keyword.isEmpty() && keyword.length() <= MAX_KEYWORD_LENGTH)
+            .distinct()
+            .map(keyword -> PostCommentKeyword.builder()
+                .postId(postId)
+                .keyword(keyword)
+                .sentiment(sentiment)
+                .frequency(1L)
+                .build())
+            .toList();
+    }
+    
 
 }
@@ -0,0 +1,80 @@
+package kt.aivle.analytics.application.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import kt.aivle.analytics.application.event.AccountMetricsCollectedEvent;
+import kt.aivle.analytics.application.event.MetricsRolledUpEvent;
+import kt.aivle.analytics.application.event.PostCommentsChangedEvent;
+import kt.aivle.analytics.application.event.PostMetricsCollectedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수집/감정분석 저장 후 바뀐 히스토리 캐시 항목만 삭제
+ * - 롤업으로 만드는 시계열은 원본 수집이 아닌 롤업 갱신 시점에 캐시 전체를 비움 (조회 구간이 요청마다 달라 항목 단위 삭제 불가)
+ * - 커밋 후 실행 (트랜잭션 밖에서 발행된 이벤트는 즉시 실행)
+ * - 다음 조회가 새 값으로 다시 채우며, 다른 인스턴스의 로컬 캐시는 2단계 캐시가 pub/sub으로 정리
+ * - 캐시 삭제 실패는 저장 결과에 영향을 주지 않음 (TTL 만료로 복구)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryCacheInvalidationListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostMetricsCollected(PostMetricsCollectedEvent event) {
+        evict(HistoryCacheKeys.POST_METRICS, HistoryCacheKeys.postMetrics(event.date(), event.accountId(), event.postId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountMetricsCollected(AccountMetricsCollectedEvent event) {
+        event.accountIds().forEach(accountId ->
+            evict(HistoryCacheKeys.ACCOUNT_METRICS, HistoryCacheKeys.accountMetrics(event.date(), accountId)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCommentsChanged(PostCommentsChangedEvent event) {
+        evict(HistoryCacheKeys.EMOTION_ANALYSIS, HistoryCacheKeys.emotionAnalysis(event.accountId(), event.postId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMetricsRolledUp(MetricsRolledUpEvent event) {
+        if (event.postRollupsChanged()) {
+            clear(HistoryCacheKeys.POST_METRICS_SERIES);
+        }
+        if (event.accountRollupsChanged()) {
+            clear(HistoryCacheKeys.ACCOUNT_METRICS_SERIES);
+        }
+    }
+
+    private void evict(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(key);
+            log.debug("History cache evicted - cache: {}, key: {}", cacheName, key);
+        } catch (Exception e) {
+            log.warn("Failed to evict history cache - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.clear();
+            log.debug("History cache cleared - cache: {}", cacheName);
+        } catch (Exception e) {
+            log.warn("Failed to clear history cache - cache: {}, error: {}", cacheName, e.getMessage());
+        }
+    }
+}
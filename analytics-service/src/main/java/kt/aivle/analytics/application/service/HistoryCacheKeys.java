@@ -0,0 +1,61 @@
+package kt.aivle.analytics.application.service;
+
+import java.time.LocalDate;
+
+/**
+ * 히스토리 캐시 키
+ * 조회(@Cacheable)와 수집/감정분석 이벤트의 무효화가 같은 키를 사용하도록 한 곳에서 생성합니다.
+ * 응답이 사용자와 무관하므로 키에 userId를 넣지 않습니다.
+ */
+public final class HistoryCacheKeys {
+
+    public static final String POST_METRICS = "history-post-metrics";
+    public static final String ACCOUNT_METRICS = "history-account-metrics";
+    public static final String EMOTION_ANALYSIS = "history-emotion-analysis";
+    public static final String POST_METRICS_SERIES = "history-post-metrics-series";
+    public static final String ACCOUNT_METRICS_SERIES = "history-account-metrics-series";
+
+    private HistoryCacheKeys() {}
+
+    public static String postMetrics(String dateStr, Long accountId, Long postId) {
+        return "history-post-" + dateStr + "," + accountId + "," + postId;
+    }
+
+    public static String postMetrics(LocalDate date, Long accountId, Long postId) {
+        return postMetrics(date.toString(), accountId, postId);
+    }
+
+    public static String accountMetrics(String dateStr, Long accountId) {
+        return "history-account-" + dateStr + "," + accountId;
+    }
+
+    public static String accountMetrics(LocalDate date, Long accountId) {
+        return accountMetrics(date.toString(), accountId);
+    }
+
+    // 시계열은 조회 구간이 요청마다 달라 항목 단위로 무효화할 수 없으므로 롤업 갱신 시 캐시 전체를 비움
+    public static String postMetricsSeries(String fromStr, String toStr, Long accountId, Long postId, Integer points) {
+        return "series-post-" + fromStr + "," + toStr + "," + accountId + "," + postId + "," + points;
+    }
+
+    public static String accountMetricsSeries(String fromStr, String toStr, Long accountId, Integer points) {
+        return "series-account-" + fromStr + "," + toStr + "," + accountId + "," + points;
+    }
+
+    // 감정 요약은 날짜와 관계없이 현재 카운터로 응답하므로 날짜를 키에 넣지 않음
+    public static String emotionAnalysis(Long accountId, Long postId) {
+        return "history-emotion-" + accountId + "," + postId;
+    }
+
+    /**
+     * 잘못된 날짜는 캐시하지 않아야 검증 예외가 그대로 발생 (ISO 형식은 표기가 하나뿐이라 문자열 그대로 키로 사용)
+     */
+    public static boolean isValidDate(String dateStr) {
+        try {
+            LocalDate.parse(dateStr);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
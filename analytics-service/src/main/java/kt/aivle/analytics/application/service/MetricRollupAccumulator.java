@@ -0,0 +1,72 @@
+package kt.aivle.analytics.application.service;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+/**
+ * 한 대상(게시물/계정)의 한 구간 롤업 집계 상태
+ * 지표 값은 metricCount 길이의 배열로 다루며, 증가량(delta)은 직전 구간 마지막 값 대비 변화량의 합입니다.
+ */
+@Getter
+class MetricRollupAccumulator {
+
+    private final Long ownerId;
+    private final LocalDateTime bucketStart;
+    private final long[] last;
+    private final long[] min;
+    private final long[] max;
+    private final long[] delta;
+    private int sampleCount;
+    private LocalDateTime lastFetchedAt;
+
+    // 다음 원본 샘플의 증가량 계산 기준값 (없으면 구간 첫 샘플을 기준으로 사용)
+    private long[] reference;
+
+    MetricRollupAccumulator(Long ownerId, LocalDateTime bucketStart, int metricCount, long[] previousLast) {
+        this.ownerId = ownerId;
+        this.bucketStart = bucketStart;
+        this.last = new long[metricCount];
+        this.min = new long[metricCount];
+        this.max = new long[metricCount];
+        this.delta = new long[metricCount];
+        this.reference = previousLast;
+    }
+
+    /**
+     * 원본 샘플 추가 (수집 시각 오름차순으로 호출)
+     */
+    void addSample(long[] values, LocalDateTime fetchedAt) {
+        if (reference == null) {
+            reference = values;
+        }
+        for (int i = 0; i < values.length; i++) {
+            delta[i] += values[i] - reference[i];
+            min[i] = sampleCount == 0 ? values[i] : Math.min(min[i], values[i]);
+            max[i] = sampleCount == 0 ? values[i] : Math.max(max[i], values[i]);
+            last[i] = values[i];
+        }
+        reference = values;
+        sampleCount++;
+        lastFetchedAt = fetchedAt;
+    }
+
+    /**
+     * 하위 단위 롤업 추가 (구간 시작 오름차순으로 호출)
+     */
+    void addRollup(long[] rollupLast, long[] rollupMin, long[] rollupMax, long[] rollupDelta,
+                   int rollupSamples, LocalDateTime rollupLastFetchedAt) {
+        for (int i = 0; i < rollupLast.length; i++) {
+            delta[i] += rollupDelta[i];
+            min[i] = sampleCount == 0 ? rollupMin[i] : Math.min(min[i], rollupMin[i]);
+            max[i] = sampleCount == 0 ? rollupMax[i] : Math.max(max[i], rollupMax[i]);
+            last[i] = rollupLast[i];
+        }
+        sampleCount += rollupSamples;
+        lastFetchedAt = rollupLastFetchedAt;
+    }
+
+    boolean isSameBucket(Long ownerId, LocalDateTime bucketStart) {
+        return this.ownerId.equals(ownerId) && this.bucketStart.equals(bucketStart);
+    }
+}
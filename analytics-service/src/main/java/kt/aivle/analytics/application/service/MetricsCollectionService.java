@@ -1,14 +1,20 @@
 package kt.aivle.analytics.application.service;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
@@ -16,8 +22,14 @@ import org.springframework.stereotype.Service;
 
 import kt.aivle.analytics.adapter.in.web.dto.response.PostCommentsPageResponse;
 import kt.aivle.analytics.adapter.in.web.dto.response.PostCommentsResponse;
+import kt.aivle.analytics.application.event.AccountMetricsCollectedEvent;
+import kt.aivle.analytics.application.event.PostCommentsChangedEvent;
+import kt.aivle.analytics.application.event.PostMetricsCollectedEvent;
 import kt.aivle.analytics.application.port.in.MetricsCollectionUseCase;
 import kt.aivle.analytics.application.port.out.infrastructure.ExternalApiPort;
+import kt.aivle.analytics.application.port.out.infrastructure.ExternalApiPort.ChannelStatistics;
+import kt.aivle.analytics.application.port.out.infrastructure.ExternalApiPort.VideoStatistics;
+import kt.aivle.analytics.application.port.out.infrastructure.QuotaLedgerPort;
 import kt.aivle.analytics.application.port.out.infrastructure.ValidationPort;
 import kt.aivle.analytics.application.port.out.infrastructure.ValidationPort.MetricsData;
 import kt.aivle.analytics.application.port.out.repository.SnsAccountMetricRepositoryPort;
@@ -30,7 +42,9 @@ import kt.aivle.analytics.domain.entity.SnsAccountMetric;
 import kt.aivle.analytics.domain.entity.SnsPost;
 import kt.aivle.analytics.domain.entity.SnsPostCommentMetric;
 import kt.aivle.analytics.domain.entity.SnsPostMetric;
+import kt.aivle.analytics.domain.model.QuotaPriority;
 import kt.aivle.analytics.domain.model.SnsType;
+import kt.aivle.analytics.domain.model.YouTubeEndpoint;
 import kt.aivle.analytics.exception.AnalyticsErrorCode;
 import kt.aivle.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -46,114 +60,23 @@ public class MetricsCollectionService implements MetricsCollectionUseCase {
     private final SnsPostMetricRepositoryPort snsPostMetricRepositoryPort;
     private final SnsPostCommentMetricRepositoryPort snsPostCommentMetricRepositoryPort;
     private final SnsAccountMetricRepositoryPort snsAccountMetricRepositoryPort;
-    private final BatchJobMonitor batchJobMonitor;
     private final ValidationPort validationPort;
     private final ExternalApiPort externalApiPort;
     private final EmotionAnalysisService emotionAnalysisService;
+    private final QuotaLedgerPort quotaLedgerPort;
+    private final ApplicationEventPublisher eventPublisher;
     
-    @Value("${app.youtube.api.batch-size:100}")
-    private int batchSize;
+    // YouTube videos.list / channels.list 요청당 최대 ID 개수
+    private static final int VIDEO_IDS_PER_REQUEST = 50;
+    private static final int CHANNEL_IDS_PER_REQUEST = 50;
+    
+    // 중복 수집 방지 구간 - 이 시간 내 저장된 메트릭이 있으면 저장하지 않음
+    @Value("${app.collection.post-metrics.dedupe-window-minutes:60}")
+    private long postMetricsDedupeMinutes;
     
     // AI 분석용 전용 스레드 풀 (최대 5개 동시 실행)
     private final ExecutorService aiAnalysisExecutor = Executors.newFixedThreadPool(5);
     
-    @Override
-    public void collectAccountMetrics() {
-        processBatch(
-            "account-metrics-collection",
-            snsAccountRepositoryPort::countAll,
-            page -> snsAccountRepositoryPort.findAllWithPagination(page, batchSize),
-            SnsAccount::getId,
-            this::collectAccountMetricsByAccountId,
-            "accounts"
-        );
-    }
-    
-    @Override
-    public void collectPostMetrics() {
-        processBatch(
-            "post-metrics-collection",
-            snsPostRepositoryPort::countAll,
-            page -> snsPostRepositoryPort.findAllWithPagination(page, batchSize),
-            SnsPost::getId,
-            this::collectPostMetricsByPostId,
-            "posts"
-        );
-    }
-    
-    @Override
-    public void collectPostComments() {
-        processBatch(
-            "post-comments-collection",
-            snsPostRepositoryPort::countAll,
-            page -> snsPostRepositoryPort.findAllWithPagination(page, batchSize),
-            SnsPost::getId,
-            this::collectPostCommentsByPostId,
-            "posts"
-        );
-    }
-    
-    // 제네릭 배치 처리 메서드
-    private <T> void processBatch(
-        String jobName,
-        java.util.function.Supplier<Long> countSupplier,
-        java.util.function.Function<Integer, List<T>> pageSupplier,
-        java.util.function.Function<T, Long> idExtractor,
-        java.util.function.Consumer<Long> itemProcessor,
-        String itemType
-    ) {
-        batchJobMonitor.recordJobStart(jobName);
-        
-        try {
-            int page = 0;
-            int totalProcessed = 0;
-            List<Long> failedIds = new ArrayList<>();
-            
-            long totalItems = countSupplier.get();
-            log.info("Starting {} collection for all {} with batch size: {}", itemType, itemType, batchSize);
-            log.info("Total {} to process: {}", itemType, totalItems);
-            
-            while (true) {
-                List<T> items = pageSupplier.apply(page);
-                if (items.isEmpty()) break;
-                
-                for (T item : items) {
-                    try {
-                        itemProcessor.accept(idExtractor.apply(item));
-                        totalProcessed++;
-                        batchJobMonitor.recordJobProgress(jobName, totalProcessed, (int) totalItems);
-                        
-                    } catch (BusinessException e) {
-                        if (e.getMessage().contains("할당량")) {
-                            log.warn("YouTube API quota exceeded during {} collection. Stopping batch.", itemType);
-                            // 할당량 초과 시 배치 작업 중단
-                            break;
-                        } else {
-                            failedIds.add(idExtractor.apply(item));
-                            log.error("Failed to collect {} for {}: {}", itemType, idExtractor.apply(item), e.getMessage());
-                        }
-                    } catch (Exception e) {
-                        failedIds.add(idExtractor.apply(item));
-                        log.error("Failed to collect {} for {}: {}", itemType, idExtractor.apply(item), e.getMessage());
-                    }
-                }
-                page++;
-            }
-            
-            if (!failedIds.isEmpty()) {
-                log.warn("Failed to collect {} for {} {}: {}", itemType, failedIds.size(), itemType, failedIds);
-            }
-            
-            batchJobMonitor.recordJobSuccess(jobName);
-            log.info("Completed {} collection for {} {}", itemType, totalProcessed, itemType);
-            
-        } catch (Exception e) {
-            batchJobMonitor.recordJobFailure(jobName, e.getMessage());
-            log.error("Failed to collect {}: {}", itemType, e.getMessage());
-            throw new BusinessException(AnalyticsErrorCode.INTERNAL_ERROR);
-        }
-    }
-    
     @Override
     @Retryable(value = {IOException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public void collectAccountMetricsByAccountId(Long accountId) {
@@ -166,6 +89,8 @@ public class MetricsCollectionService implements MetricsCollectionUseCase {
             log.warn("Skipping non-YouTube account: {}", accountId);
             return;
         }
+        
+        consumeBatchQuota(YouTubeEndpoint.CHANNELS_LIST);
 
         try {
             // 채널 정보 조회
@@ -203,6 +128,7 @@ public class MetricsCollectionService implements MetricsCollectionUseCase {
             snsAccountMetricRepositoryPort.save(accountMetric);
             log.info("Saved account metrics for accountId: {}, subscribers: {}, views: {}",
                 accountId, subscriberCount, viewCount);
+            eventPublisher.publishEvent(new AccountMetricsCollectedEvent(List.of(snsAccount.getId()), LocalDate.now()));
 
         } catch (Exception e) {
             log.error("Failed to collect account metrics for accountId: {}: {}", accountId, e.getMessage());
@@ -210,6 +136,93 @@ public class MetricsCollectionService implements MetricsCollectionUseCase {
         }
     }
     
+    /**
+     * 계정 청크(최대 50개)의 메트릭을 한 번의 channels.list 요청으로 수집하고 일괄 저장합니다.
+     * @return 수집에 실패한 계정 ID 목록 (삭제된 채널 포함)
+     */
+    private List<Long> collectAccountMetricsForChunk(List<SnsAccount> accounts) {
+        List<SnsAccount> youtubeAccounts = accounts.stream()
+            .filter(account -> {
+                if (account.getType() != SnsType.youtube) {
+                    log.warn("Skipping non-YouTube account: {}", account.getId());
+                    return false;
+                }
+                return true;
+            })
+            .toList();
+        
+        if (youtubeAccounts.isEmpty()) {
+            return List.of();
+        }
+        
+        List<String> channelIds = youtubeAccounts.stream()
+            .map(SnsAccount::getSnsAccountId)
+            .distinct()
+            .toList();
+        
+        consumeBatchQuota(YouTubeEndpoint.CHANNELS_LIST);
+        Map<String, ChannelStatistics> statisticsByChannelId = externalApiPort.getChannelStatistics(channelIds);
+        
+        // 중복 데이터 방지 - 최근 1시간 내 데이터가 있는 계정을 한 번에 조회
+        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
+        Set<Long> accountIdsWithRecentData = snsAccountMetricRepositoryPort.findAccountIdsWithMetricsCreatedAfter(
+            youtubeAccounts.stream().map(SnsAccount::getId).toList(), oneHourAgo);
+        
+        List<Long> failedIds = new ArrayList<>();
+        List<SnsAccountMetric> accountMetrics = new ArrayList<>();
+        for (SnsAccount account : youtubeAccounts) {
+            ChannelStatistics statistics = statisticsByChannelId.get(account.getSnsAccountId());
+            
+            if (statistics == null) {
+                log.warn("Channel not found or deleted - accountId: {}, snsAccountId: {}", account.getId(), account.getSnsAccountId());
+                failedIds.add(account.getId());
+                continue;
+            }
+            
+            if (accountIdsWithRecentData.contains(account.getId())) {
+                log.info("Recent metrics already exist for accountId: {}, skipping", account.getId());
+                continue;
+            }
+            
+            try {
+                MetricsData metricsData = new MetricsData(statistics.getSubscriberCount(), statistics.getViewCount(), null, null, "account", account.getId());
+                validationPort.validateMetrics(metricsData);
+                
+                accountMetrics.add(SnsAccountMetric.builder()
+                    .accountId(account.getId())
+                    .followers(statistics.getSubscriberCount())
+                    .views(statistics.getViewCount())
+                    .build());
+            } catch (Exception e) {
+                failedIds.add(account.getId());
+                log.error("Failed to collect account metrics for accountId: {}: {}", account.getId(), e.getMessage());
+            }
+        }
+        
+        if (!accountMetrics.isEmpty()) {
+            snsAccountMetricRepositoryPort.saveAll(accountMetrics);
+            log.info("Saved account metrics for {} accounts", accountMetrics.size());
+            eventPublisher.publishEvent(new AccountMetricsCollectedEvent(
+                accountMetrics.stream().map(SnsAccountMetric::getAccountId).toList(), LocalDate.now()));
+        }
+        
+        return failedIds;
+    }
+    
+    @Override
+    public List<Long> collectAccountMetricsByAccountIds(List<Long> accountIds) {
+        List<SnsAccount> accounts = snsAccountRepositoryPort.findAllById(new HashSet<>(accountIds));
+        
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < accounts.size(); i += CHANNEL_IDS_PER_REQUEST) {
+            List<SnsAccount> chunk = accounts.subList(i, Math.min(i + CHANNEL_IDS_PER_REQUEST, accounts.size()));
+            failedIds.addAll(collectAccountMetricsForChunk(chunk));
+        }
+        
+        log.info("Collected account metrics for {} accounts, failed: {}", accounts.size(), failedIds.size());
+        return failedIds;
+    }
+    
     @Override
     @Retryable(value = {IOException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public void collectPostMetricsByPostId(Long postId) {
@@ -218,42 +231,15 @@ public class MetricsCollectionService implements MetricsCollectionUseCase {
         SnsPost post = snsPostRepositoryPort.findById(postId)
             .orElseThrow(() -> new BusinessException(AnalyticsErrorCode.POST_NOT_FOUND));
         
+        consumeBatchQuota(YouTubeEndpoint.VIDEOS_LIST);
+        
         try {
             // 비디오 정보 조회
             var statistics = externalApiPort.getVideoStatistics(post.getSnsPostId());
             
             if (statistics != null) {
-                Long likeCount = statistics.likeCount();
-                Long dislikeCount = 0L; // YouTube API v3에서는 dislike count를 제공하지 않음
-                Long commentCount = statistics.commentCount();
-                Long viewCount = statistics.viewCount();
-                
-                // 데이터 유효성 검증
-                MetricsData metricsData = new MetricsData(null, viewCount, likeCount, commentCount, "post", postId);
-                validationPort.validateMetrics(metricsData);
-                
-                // 중복 데이터 방지 - 최근 1시간 내 데이터가 있으면 스킵 (최적화)
-                LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-                boolean hasRecentData = snsPostMetricRepositoryPort
-                    .existsByPostIdAndCreatedAtAfter(post.getId(), oneHourAgo);
-                
-                if (hasRecentData) {
-                    log.info("Recent metrics already exist for postId: {}, skipping", postId);
-                    return;
-                }
-                
-                SnsPostMetric postMetric = SnsPostMetric.builder()
-                    .postId(post.getId())
-                    .likes(likeCount)
-                    .dislikes(dislikeCount)
-                    .comments(commentCount)
-                    .shares(null)
-                    .views(viewCount)
-                    .build();
-                
-                snsPostMetricRepositoryPort.save(postMetric);
-                log.info("Saved post metrics for postId: {}, likes: {}, dislikes: {}, comments: {}, views: {}", 
-                    postId, likeCount, dislikeCount, commentCount, viewCount);
+                savePostMetric(post, statistics, Duration.ofMinutes(postMetricsDedupeMinutes));
+                recordPublishedAt(post, statistics);
             }
             
         } catch (Exception e) {
@@ -262,21 +248,155 @@ public class MetricsCollectionService implements MetricsCollectionUseCase {
         }
     }
     
+    @Override
+    public List<Long> collectPostMetricsByPostIds(List<Long> postIds) {
+        return collectPostMetricsByPostIds(postIds, Duration.ofMinutes(postMetricsDedupeMinutes));
+    }
+    
+    @Override
+    public List<Long> collectPostMetricsByPostIds(List<Long> postIds, Duration dedupeWindow) {
+        List<SnsPost> posts = snsPostRepositoryPort.findAllById(new HashSet<>(postIds));
+        
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i += VIDEO_IDS_PER_REQUEST) {
+            List<SnsPost> chunk = posts.subList(i, Math.min(i + VIDEO_IDS_PER_REQUEST, posts.size()));
+            failedIds.addAll(collectPostMetricsForChunk(chunk, dedupeWindow));
+        }
+        
+        log.info("Collected post metrics for {} posts, failed: {}", posts.size(), failedIds.size());
+        return failedIds;
+    }
+    
+    /**
+     * 게시물 청크(최대 50개)의 메트릭을 한 번의 videos.list 요청으로 수집합니다.
+     * @return 수집에 실패한 게시물 ID 목록 (삭제/비공개 영상 포함)
+     */
+    private List<Long> collectPostMetricsForChunk(List<SnsPost> posts, Duration dedupeWindow) {
+        List<String> videoIds = posts.stream()
+            .map(SnsPost::getSnsPostId)
+            .distinct()
+            .toList();
+        
+        consumeBatchQuota(YouTubeEndpoint.VIDEOS_LIST);
+        Map<String, VideoStatistics> statisticsByVideoId = externalApiPort.getVideoStatistics(videoIds);
+        
+        List<Long> failedIds = new ArrayList<>();
+        for (SnsPost post : posts) {
+            VideoStatistics statistics = statisticsByVideoId.get(post.getSnsPostId());
+            
+            if (statistics == null) {
+                log.warn("Video not found or deleted - postId: {}, snsPostId: {}", post.getId(), post.getSnsPostId());
+                failedIds.add(post.getId());
+                continue;
+            }
+            
+            try {
+                savePostMetric(post, statistics, dedupeWindow);
+                recordPublishedAt(post, statistics);
+            } catch (Exception e) {
+                failedIds.add(post.getId());
+                log.error("Failed to collect post metrics for postId: {}: {}", post.getId(), e.getMessage());
+            }
+        }
+        
+        return failedIds;
+    }
+    
+    // 게시 시각은 처음 수집할 때 한 번만 기록 (수집 등급 판정의 게시물 나이 기준)
+    private void recordPublishedAt(SnsPost post, VideoStatistics statistics) {
+        if (post.getPublishedAt() == null && statistics.publishedAt() != null) {
+            snsPostRepositoryPort.updatePublishedAtIfAbsent(post.getId(), statistics.publishedAt());
+        }
+    }
+    
+    private void savePostMetric(SnsPost post, VideoStatistics statistics, Duration dedupeWindow) {
+        Long postId = post.getId();
+        Long likeCount = statistics.likeCount();
+        Long dislikeCount = 0L; // YouTube API v3에서는 dislike count를 제공하지 않음
+        Long commentCount = statistics.commentCount();
+        Long viewCount = statistics.viewCount();
+        
+        // 데이터 유효성 검증
+        MetricsData metricsData = new MetricsData(null, viewCount, likeCount, commentCount, "post", postId);
+        validationPort.validateMetrics(metricsData);
+        
+        // 중복 데이터 방지 - 중복 방지 구간 내 데이터가 있으면 스킵 (최적화)
+        boolean hasRecentData = snsPostMetricRepositoryPort
+            .existsByPostIdAndCreatedAtAfter(postId, LocalDateTime.now().minus(dedupeWindow));
+        
+        if (hasRecentData) {
+            log.info("Recent metrics already exist for postId: {}, skipping", postId);
+            return;
+        }
+        
+        SnsPostMetric postMetric = SnsPostMetric.builder()
+            .postId(postId)
+            .likes(likeCount)
+            .dislikes(dislikeCount)
+            .comments(commentCount)
+            .shares(null)
+            .views(viewCount)
+            .build();
+        
+        snsPostMetricRepositoryPort.save(postMetric);
+        log.info("Saved post metrics for postId: {}, likes: {}, dislikes: {}, comments: {}, views: {}", 
+            postId, likeCount, dislikeCount, commentCount, viewCount);
+        eventPublisher.publishEvent(new PostMetricsCollectedEvent(postId, post.getAccountId(), LocalDate.now()));
+    }
+    
     @Override
     @Retryable(value = {IOException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public void collectPostCommentsByPostId(Long postId) {
-        log.info("Collecting post comments for postId: {}", postId);
-        
         SnsPost post = snsPostRepositoryPort.findById(postId)
             .orElseThrow(() -> new BusinessException(AnalyticsErrorCode.POST_NOT_FOUND));
         
+        collectPostComments(post);
+    }
+    
+    @Override
+    public List<Long> collectPostCommentsByPostIds(List<Long> postIds) {
+        List<SnsPost> posts = snsPostRepositoryPort.findAllById(new HashSet<>(postIds));
+        List<Long> failedIds = collectPostCommentsForChunk(posts);
+        
+        log.info("Collected comments for {} posts, failed: {}", posts.size(), failedIds.size());
+        return failedIds;
+    }
+    
+    /**
+     * 게시물 청크의 댓글을 게시물 단위로 수집합니다.
+     * 할당량 초과는 엔진이 배치를 중단할 수 있도록 그대로 전파합니다.
+     * @return 수집에 실패한 게시물 ID 목록
+     */
+    private List<Long> collectPostCommentsForChunk(List<SnsPost> posts) {
+        List<Long> failedIds = new ArrayList<>();
+        for (SnsPost post : posts) {
+            try {
+                collectPostComments(post);
+            } catch (BusinessException e) {
+                if (e.getCode() == AnalyticsErrorCode.YOUTUBE_QUOTA_EXCEEDED) {
+                    throw e;
+                }
+                failedIds.add(post.getId());
+                log.error("Failed to collect comments for postId: {}: {}", post.getId(), e.getMessage());
+            } catch (Exception e) {
+                failedIds.add(post.getId());
+                log.error("Failed to collect comments for postId: {}: {}", post.getId(), e.getMessage());
+            }
+        }
+        return failedIds;
+    }
+    
+    private void collectPostComments(SnsPost post) {
+        Long postId = post.getId();
+        log.info("Collecting post comments for postId: {}", postId);
+        
         try {
             // 1. API 호출로 댓글 데이터 수집 (트랜잭션 외부)
             List<SnsPostCommentMetric> newComments = fetchCommentsFromAPI(post, postId);
             
             // 2. DB 저장 (별도 트랜잭션)
             if (!newComments.isEmpty()) {
-                saveCommentsToDatabase(newComments, postId);
+                saveCommentsToDatabase(newComments, post);
             }
             
         } catch (IOException e) {
@@ -302,6 +422,7 @@ public class MetricsCollectionService implements MetricsCollectionUseCase {
                 postId, pageCount, pageToken != null ? "있음" : "없음");
             
             // ExternalApiPort를 통해 댓글 조회 (페이지네이션 지원)
+            consumeBatchQuota(YouTubeEndpoint.COMMENT_THREADS_LIST);
             PostCommentsPageResponse pageResponse = externalApiPort.getVideoCommentsWithPagination(post.getSnsPostId(), pageToken, 100);
             List<PostCommentsResponse> pageComments = pageResponse.getData();
             
@@ -314,11 +435,15 @@ public class MetricsCollectionService implements MetricsCollectionUseCase {
             log.info("📄 페이지 댓글 수집 완료 - postId: {}, 페이지: {}, 댓글 수: {}, 누적: {}", 
                 postId, pageCount, pageComments.size(), totalCommentsFetched);
             
+            // 페이지의 댓글 ID를 한 번의 IN 쿼리로 중복 확인
+            Set<String> existingCommentIds = snsPostCommentMetricRepositoryPort.findExistingSnsCommentIds(
+                pageComments.stream().map(PostCommentsResponse::getSnsCommentId).toList());
+            
             // 페이지의 댓글들을 처리
             for (PostCommentsResponse comment : pageComments) {
                 try {
                     // 이미 DB에 있는 댓글인지 확인
-                    if (snsPostCommentMetricRepositoryPort.findBySnsCommentId(comment.getSnsCommentId()).isPresent()) {
+                    if (existingCommentIds.contains(comment.getSnsCommentId())) {
                         log.info("🛑 기존 댓글 발견 - postId: {}, 페이지: {}, commentId: {}, 수집 중단. 총 수집: {}", 
                             postId, pageCount, comment.getSnsCommentId(), newComments.size());
                         return newComments; // 이미 있는 댓글을 만나면 수집 중단
@@ -359,62 +484,32 @@ public class MetricsCollectionService implements MetricsCollectionUseCase {
         return newComments;
     }
     
-    // DB 저장 메서드 (개별 저장으로 변경하여 일부 실패해도 계속 진행)
-    private void saveCommentsToDatabase(List<SnsPostCommentMetric> newComments, Long postId) {
+    // DB 저장 메서드 (페이지 전체를 한 번의 배치 INSERT로 저장, 중복 댓글은 건너뜀)
+    private void saveCommentsToDatabase(List<SnsPostCommentMetric> newComments, SnsPost post) {
+        Long postId = post.getId();
         log.info("💾 DB 저장 시작 - {}개의 새 댓글을 postId: {}에 저장", newComments.size(), postId);
         
-        int savedCount = 0;
-        for (SnsPostCommentMetric commentMetric : newComments) {
-            try {
-                // 개별 댓글을 직접 저장 (트랜잭션은 Repository 레벨에서 처리)
-                SnsPostCommentMetric savedComment = snsPostCommentMetricRepositoryPort.save(commentMetric);
-                if (savedComment != null && savedComment.getId() != null) {
-                    savedCount++;
-                    log.debug("Saved new comment for postId: {}, commentId: {}", postId, commentMetric.getSnsCommentId());
-                } else {
-                    log.warn("Failed to save comment - saved entity is null or has no ID for commentId: {}", commentMetric.getSnsCommentId());
-                }
-            } catch (Exception e) {
-                log.error("Failed to save comment for commentId: {}: {}", commentMetric.getSnsCommentId(), e.getMessage());
-                // 개별 댓글 저장 실패는 다른 댓글 저장에 영향을 주지 않음
-            }
-        }
+        List<SnsPostCommentMetric> savedComments = snsPostCommentMetricRepositoryPort.insertAllIgnoringDuplicates(newComments);
         
-        log.info("💾 DB 저장 완료 - postId: {}, 성공: {}/{}", postId, savedCount, newComments.size());
+        log.info("💾 DB 저장 완료 - postId: {}, 성공: {}/{}", postId, savedComments.size(), newComments.size());
         
-        // 새로운 댓글이 있으면 감정분석을 비동기로 수행
-        if (savedCount > 0) {
-            // DB에서 실제 저장된 댓글들을 조회 (ID 포함)
-            List<SnsPostCommentMetric> savedComments = getSavedCommentsWithIds(newComments, postId);
+        // 새로운 댓글이 있으면 감정분석을 비동기로 수행 (저장 결과에 생성된 ID 포함)
+        if (!savedComments.isEmpty()) {
+            eventPublisher.publishEvent(new PostCommentsChangedEvent(postId, post.getAccountId()));
             
-            if (!savedComments.isEmpty()) {
-                // 비동기로 감정분석 수행 (응답을 기다리지 않음)
-                performEmotionAnalysisAsync(postId, savedComments);
-                log.info("🧠 비동기 감정분석 시작 - postId: {}, 댓글 수: {}", postId, savedComments.size());
-            }
+            // 비동기로 감정분석 수행 (응답을 기다리지 않음)
+            performEmotionAnalysisAsync(postId, savedComments);
+            log.info("🧠 비동기 감정분석 시작 - postId: {}, 댓글 수: {}", postId, savedComments.size());
         }
     }
     
-
-    
     /**
-     * DB에서 실제 저장된 댓글들을 조회 (ID 포함)
+     * 배치 몫의 할당량을 차감하고, 소진 시 할당량 초과로 처리하여 수집 엔진이 배치를 중단하도록 함
      */
-    private List<SnsPostCommentMetric> getSavedCommentsWithIds(List<SnsPostCommentMetric> newComments, Long postId) {
-        List<SnsPostCommentMetric> savedComments = new ArrayList<>();
-        
-        for (SnsPostCommentMetric comment : newComments) {
-            try {
-                // SNS 댓글 ID로 DB에서 조회하여 실제 DB ID를 가져옴
-                var savedComment = snsPostCommentMetricRepositoryPort.findBySnsCommentId(comment.getSnsCommentId());
-                savedComment.ifPresent(savedComments::add);
-            } catch (Exception e) {
-                log.warn("Failed to find saved comment for snsCommentId: {}", comment.getSnsCommentId(), e);
-            }
+    private void consumeBatchQuota(YouTubeEndpoint endpoint) {
+        if (!quotaLedgerPort.tryConsume(endpoint, QuotaPriority.BATCH)) {
+            throw new BusinessException(AnalyticsErrorCode.YOUTUBE_QUOTA_EXCEEDED);
         }
-        
-        log.info("Found {} saved comments with IDs for postId: {}", savedComments.size(), postId);
-        return savedComments;
     }
     
     /**
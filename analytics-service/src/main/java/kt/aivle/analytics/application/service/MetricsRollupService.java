@@ -0,0 +1,348 @@
+package kt.aivle.analytics.application.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import kt.aivle.analytics.application.event.MetricsRolledUpEvent;
+import kt.aivle.analytics.application.port.in.MetricsRollupUseCase;
+import kt.aivle.analytics.application.port.out.repository.AccountMetricRollupRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.PostMetricRollupRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsAccountMetricRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsAccountRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostMetricRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostRepositoryPort;
+import kt.aivle.analytics.domain.entity.AccountMetricRollup;
+import kt.aivle.analytics.domain.entity.PostMetricRollup;
+import kt.aivle.analytics.domain.entity.SnsAccount;
+import kt.aivle.analytics.domain.entity.SnsAccountMetric;
+import kt.aivle.analytics.domain.entity.SnsPost;
+import kt.aivle.analytics.domain.entity.SnsPostMetric;
+import kt.aivle.analytics.domain.model.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물/계정 메트릭 롤업 서비스
+ * - 원본 메트릭 → 시간 단위 롤업: 마지막으로 반영된 수집 시각 이후 구간만 다시 집계 (증분)
+ * - 시간 단위 롤업 → 일 단위 롤업: 영향을 받은 날짜만 다시 집계
+ * - 대상 ID를 페이지 단위로 나누어 (post_id, created_at) 인덱스 범위 조회로 처리
+ * - 보관 기간이 지난 원본 메트릭은 롤업 반영이 끝난 구간에 한해 나누어 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetricsRollupService implements MetricsRollupUseCase {
+
+    // 롤업이 한 번도 실행되지 않았을 때의 시작 시각 (전체 원본 집계)
+    private static final LocalDateTime INITIAL_WINDOW_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    // 지표 배열 순서 - 게시물: 조회수, 좋아요, 댓글 / 계정: 구독자, 조회수
+    private static final int POST_METRIC_COUNT = 3;
+    private static final int ACCOUNT_METRIC_COUNT = 2;
+
+    private final SnsPostRepositoryPort snsPostRepositoryPort;
+    private final SnsAccountRepositoryPort snsAccountRepositoryPort;
+    private final SnsPostMetricRepositoryPort snsPostMetricRepositoryPort;
+    private final SnsAccountMetricRepositoryPort snsAccountMetricRepositoryPort;
+    private final PostMetricRollupRepositoryPort postMetricRollupRepositoryPort;
+    private final AccountMetricRollupRepositoryPort accountMetricRollupRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.rollup.page-size:100}")
+    private int pageSize;
+
+    // 원본 메트릭 보관 기간 (0 이하면 삭제하지 않음)
+    @Value("${app.rollup.raw-retention-days:90}")
+    private long rawRetentionDays;
+
+    @Value("${app.rollup.purge-batch-size:5000}")
+    private int purgeBatchSize;
+
+    /**
+     * 적응형 수집 등 일일 배치 외 수집분을 반영하기 위한 주기 실행
+     */
+    @Scheduled(fixedDelayString = "${app.rollup.delay-ms:900000}", initialDelayString = "${app.rollup.initial-delay-ms:300000}")
+    public void scheduledRollup() {
+        try {
+            rollupMetrics();
+        } catch (Exception e) {
+            log.error("Scheduled metrics rollup failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized void rollupMetrics() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime postWindowStart = resolveWindowStart(postMetricRollupRepositoryPort.findMaxLastFetchedAt(RollupGranularity.HOUR).orElse(null));
+        LocalDateTime accountWindowStart = resolveWindowStart(accountMetricRollupRepositoryPort.findMaxLastFetchedAt(RollupGranularity.HOUR).orElse(null));
+
+        int postBuckets = rollupPostMetrics(postWindowStart, now);
+        int accountBuckets = rollupAccountMetrics(accountWindowStart, now);
+        log.info("📊 메트릭 롤업 완료 - 게시물 시간 구간: {} (from {}), 계정 시간 구간: {} (from {})",
+            postBuckets, postWindowStart, accountBuckets, accountWindowStart);
+
+        // 롤업 기반 시계열 캐시는 커밋된 구간이 바뀐 경우에만 비움
+        if (postBuckets > 0 || accountBuckets > 0) {
+            eventPublisher.publishEvent(new MetricsRolledUpEvent(postBuckets > 0, accountBuckets > 0));
+        }
+
+        purgeExpiredRawMetrics(now, postWindowStart, accountWindowStart);
+    }
+
+    /**
+     * 증분 집계 시작 시각 - 마지막 반영 시각이 속한 시간의 한 시간 전부터 다시 집계
+     * (집계 도중 저장된 이전 시간대 원본이 다음 실행에서 누락되지 않도록 여유를 둠)
+     */
+    private LocalDateTime resolveWindowStart(LocalDateTime lastFetchedAt) {
+        if (lastFetchedAt == null) {
+            return INITIAL_WINDOW_START;
+        }
+        return RollupGranularity.HOUR.truncate(lastFetchedAt).minusHours(1);
+    }
+
+    // ===== 게시물 =====
+
+    private int rollupPostMetrics(LocalDateTime windowStart, LocalDateTime windowEnd) {
+        LocalDateTime dayStart = RollupGranularity.DAY.truncate(windowStart);
+        int hourlyCount = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<SnsPost> posts = snsPostRepositoryPort.findNextPageAfterId(lastId, pageSize);
+            if (posts.isEmpty()) break;
+            lastId = posts.get(posts.size() - 1).getId();
+
+            List<Long> postIds = posts.stream().map(SnsPost::getId).toList();
+            List<SnsPostMetric> metrics = snsPostMetricRepositoryPort.findByPostIdsCreatedInRange(postIds, windowStart, windowEnd);
+            if (metrics.isEmpty()) continue;
+
+            // 원본 → 시간 단위
+            List<PostMetricRollup> hourly = aggregateSamples(metrics, SnsPostMetric::getPostId, SnsPostMetric::getCreatedAt,
+                this::postMetricValues, POST_METRIC_COUNT, RollupGranularity.HOUR,
+                postId -> postMetricRollupRepositoryPort.findLatestBefore(postId, RollupGranularity.HOUR, windowStart)
+                    .map(this::postRollupLast)
+                    .orElse(null))
+                .stream()
+                .map(accumulator -> toPostRollup(accumulator, RollupGranularity.HOUR))
+                .toList();
+            postMetricRollupRepositoryPort.upsertAll(hourly);
+            hourlyCount += hourly.size();
+
+            // 시간 단위 → 일 단위 (영향 받은 날짜 전체를 다시 집계)
+            List<Long> touchedPostIds = hourly.stream().map(PostMetricRollup::getPostId).distinct().toList();
+            List<PostMetricRollup> daily = aggregateRollups(
+                    postMetricRollupRepositoryPort.findByPostIdsFrom(touchedPostIds, RollupGranularity.HOUR, dayStart),
+                    PostMetricRollup::getPostId, PostMetricRollup::getBucketStart, POST_METRIC_COUNT,
+                    (accumulator, rollup) -> accumulator.addRollup(postRollupLast(rollup),
+                        new long[] {zero(rollup.getViewsMin()), zero(rollup.getLikesMin()), zero(rollup.getCommentsMin())},
+                        new long[] {zero(rollup.getViewsMax()), zero(rollup.getLikesMax()), zero(rollup.getCommentsMax())},
+                        new long[] {zero(rollup.getViewsDelta()), zero(rollup.getLikesDelta()), zero(rollup.getCommentsDelta())},
+                        rollup.getSampleCount(), rollup.getLastFetchedAt()))
+                .stream()
+                .map(accumulator -> toPostRollup(accumulator, RollupGranularity.DAY))
+                .toList();
+            postMetricRollupRepositoryPort.upsertAll(daily);
+        }
+
+        return hourlyCount;
+    }
+
+    private long[] postMetricValues(SnsPostMetric metric) {
+        return new long[] {zero(metric.getViews()), zero(metric.getLikes()), zero(metric.getComments())};
+    }
+
+    private long[] postRollupLast(PostMetricRollup rollup) {
+        return new long[] {zero(rollup.getViewsLast()), zero(rollup.getLikesLast()), zero(rollup.getCommentsLast())};
+    }
+
+    private PostMetricRollup toPostRollup(MetricRollupAccumulator accumulator, RollupGranularity granularity) {
+        return PostMetricRollup.builder()
+            .postId(accumulator.getOwnerId())
+            .granularity(granularity)
+            .bucketStart(accumulator.getBucketStart())
+            .lastFetchedAt(accumulator.getLastFetchedAt())
+            .sampleCount(accumulator.getSampleCount())
+            .viewsLast(accumulator.getLast()[0])
+            .viewsDelta(accumulator.getDelta()[0])
+            .viewsMin(accumulator.getMin()[0])
+            .viewsMax(accumulator.getMax()[0])
+            .likesLast(accumulator.getLast()[1])
+            .likesDelta(accumulator.getDelta()[1])
+            .likesMin(accumulator.getMin()[1])
+            .likesMax(accumulator.getMax()[1])
+            .commentsLast(accumulator.getLast()[2])
+            .commentsDelta(accumulator.getDelta()[2])
+            .commentsMin(accumulator.getMin()[2])
+            .commentsMax(accumulator.getMax()[2])
+            .build();
+    }
+
+    // ===== 계정 =====
+
+    private int rollupAccountMetrics(LocalDateTime windowStart, LocalDateTime windowEnd) {
+        LocalDateTime dayStart = RollupGranularity.DAY.truncate(windowStart);
+        int hourlyCount = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<SnsAccount> accounts = snsAccountRepositoryPort.findNextPageAfterId(lastId, pageSize);
+            if (accounts.isEmpty()) break;
+            lastId = accounts.get(accounts.size() - 1).getId();
+
+            List<Long> accountIds = accounts.stream().map(SnsAccount::getId).toList();
+            List<SnsAccountMetric> metrics = snsAccountMetricRepositoryPort.findByAccountIdsCreatedInRange(accountIds, windowStart, windowEnd);
+            if (metrics.isEmpty()) continue;
+
+            List<AccountMetricRollup> hourly = aggregateSamples(metrics, SnsAccountMetric::getAccountId, SnsAccountMetric::getCreatedAt,
+                this::accountMetricValues, ACCOUNT_METRIC_COUNT, RollupGranularity.HOUR,
+                accountId -> accountMetricRollupRepositoryPort.findLatestBefore(accountId, RollupGranularity.HOUR, windowStart)
+                    .map(this::accountRollupLast)
+                    .orElse(null))
+                .stream()
+                .map(accumulator -> toAccountRollup(accumulator, RollupGranularity.HOUR))
+                .toList();
+            accountMetricRollupRepositoryPort.upsertAll(hourly);
+            hourlyCount += hourly.size();
+
+            List<Long> touchedAccountIds = hourly.stream().map(AccountMetricRollup::getAccountId).distinct().toList();
+            List<AccountMetricRollup> daily = aggregateRollups(
+                    accountMetricRollupRepositoryPort.findByAccountIdsFrom(touchedAccountIds, RollupGranularity.HOUR, dayStart),
+                    AccountMetricRollup::getAccountId, AccountMetricRollup::getBucketStart, ACCOUNT_METRIC_COUNT,
+                    (accumulator, rollup) -> accumulator.addRollup(accountRollupLast(rollup),
+                        new long[] {zero(rollup.getFollowersMin()), zero(rollup.getViewsMin())},
+                        new long[] {zero(rollup.getFollowersMax()), zero(rollup.getViewsMax())},
+                        new long[] {zero(rollup.getFollowersDelta()), zero(rollup.getViewsDelta())},
+                        rollup.getSampleCount(), rollup.getLastFetchedAt()))
+                .stream()
+                .map(accumulator -> toAccountRollup(accumulator, RollupGranularity.DAY))
+                .toList();
+            accountMetricRollupRepositoryPort.upsertAll(daily);
+        }
+
+        return hourlyCount;
+    }
+
+    private long[] accountMetricValues(SnsAccountMetric metric) {
+        return new long[] {zero(metric.getFollowers()), zero(metric.getViews())};
+    }
+
+    private long[] accountRollupLast(AccountMetricRollup rollup) {
+        return new long[] {zero(rollup.getFollowersLast()), zero(rollup.getViewsLast())};
+    }
+
+    private AccountMetricRollup toAccountRollup(MetricRollupAccumulator accumulator, RollupGranularity granularity) {
+        return AccountMetricRollup.builder()
+            .accountId(accumulator.getOwnerId())
+            .granularity(granularity)
+            .bucketStart(accumulator.getBucketStart())
+            .lastFetchedAt(accumulator.getLastFetchedAt())
+            .sampleCount(accumulator.getSampleCount())
+            .followersLast(accumulator.getLast()[0])
+            .followersDelta(accumulator.getDelta()[0])
+            .followersMin(accumulator.getMin()[0])
+            .followersMax(accumulator.getMax()[0])
+            .viewsLast(accumulator.getLast()[1])
+            .viewsDelta(accumulator.getDelta()[1])
+            .viewsMin(accumulator.getMin()[1])
+            .viewsMax(accumulator.getMax()[1])
+            .build();
+    }
+
+    // ===== 공통 집계 =====
+
+    /**
+     * 대상 ID, 수집 시각 순으로 정렬된 원본 샘플을 구간별로 집계
+     * 대상별 첫 구간의 증가량은 윈도우 이전 마지막 롤업 값(previousLastLoader)을 기준으로 계산
+     */
+    private <M> List<MetricRollupAccumulator> aggregateSamples(List<M> samples, Function<M, Long> ownerIdExtractor,
+                                                               Function<M, LocalDateTime> timeExtractor,
+                                                               Function<M, long[]> valuesExtractor, int metricCount,
+                                                               RollupGranularity granularity,
+                                                               Function<Long, long[]> previousLastLoader) {
+        List<MetricRollupAccumulator> result = new ArrayList<>();
+        MetricRollupAccumulator current = null;
+
+        for (M sample : samples) {
+            Long ownerId = ownerIdExtractor.apply(sample);
+            LocalDateTime bucketStart = granularity.truncate(timeExtractor.apply(sample));
+
+            if (current == null || !current.isSameBucket(ownerId, bucketStart)) {
+                long[] previousLast = current != null && current.getOwnerId().equals(ownerId)
+                    ? current.getLast().clone()
+                    : previousLastLoader.apply(ownerId);
+                current = new MetricRollupAccumulator(ownerId, bucketStart, metricCount, previousLast);
+                result.add(current);
+            }
+            current.addSample(valuesExtractor.apply(sample), timeExtractor.apply(sample));
+        }
+        return result;
+    }
+
+    /**
+     * 대상 ID, 구간 순으로 정렬된 시간 단위 롤업을 일 단위로 집계
+     */
+    private <R> List<MetricRollupAccumulator> aggregateRollups(List<R> rollups, Function<R, Long> ownerIdExtractor,
+                                                               Function<R, LocalDateTime> bucketExtractor, int metricCount,
+                                                               BiConsumer<MetricRollupAccumulator, R> merger) {
+        List<MetricRollupAccumulator> result = new ArrayList<>();
+        MetricRollupAccumulator current = null;
+
+        for (R rollup : rollups) {
+            Long ownerId = ownerIdExtractor.apply(rollup);
+            LocalDateTime dayStart = RollupGranularity.DAY.truncate(bucketExtractor.apply(rollup));
+
+            if (current == null || !current.isSameBucket(ownerId, dayStart)) {
+                current = new MetricRollupAccumulator(ownerId, dayStart, metricCount, null);
+                result.add(current);
+            }
+            merger.accept(current, rollup);
+        }
+        return result;
+    }
+
+    // ===== 보관 기간 =====
+
+    /**
+     * 보관 기간이 지난 원본 메트릭 삭제 - 롤업 반영이 끝난 구간(다음 집계 시작 이전)까지만 삭제
+     */
+    private void purgeExpiredRawMetrics(LocalDateTime now, LocalDateTime postWindowStart, LocalDateTime accountWindowStart) {
+        if (rawRetentionDays <= 0) {
+            return;
+        }
+
+        LocalDateTime retentionCutoff = now.minusDays(rawRetentionDays);
+        LocalDateTime postCutoff = retentionCutoff.isBefore(postWindowStart) ? retentionCutoff : postWindowStart;
+        LocalDateTime accountCutoff = retentionCutoff.isBefore(accountWindowStart) ? retentionCutoff : accountWindowStart;
+
+        int deletedPostMetrics = purge(cutoffLimit -> snsPostMetricRepositoryPort.deleteCreatedBefore(postCutoff, cutoffLimit));
+        int deletedAccountMetrics = purge(cutoffLimit -> snsAccountMetricRepositoryPort.deleteCreatedBefore(accountCutoff, cutoffLimit));
+
+        if (deletedPostMetrics > 0 || deletedAccountMetrics > 0) {
+            log.info("🧹 원본 메트릭 정리 - 게시물: {}건 (< {}), 계정: {}건 (< {})",
+                deletedPostMetrics, postCutoff, deletedAccountMetrics, accountCutoff);
+        }
+    }
+
+    // 한 번에 purgeBatchSize건씩, 더 지울 행이 없을 때까지 삭제
+    private int purge(Function<Integer, Integer> deleteBatch) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = deleteBatch.apply(purgeBatchSize);
+            total += deleted;
+        } while (deleted >= purgeBatchSize);
+        return total;
+    }
+
+    private long zero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
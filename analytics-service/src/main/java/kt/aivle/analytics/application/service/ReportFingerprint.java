@@ -0,0 +1,69 @@
+package kt.aivle.analytics.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import kt.aivle.analytics.adapter.out.infrastructure.dto.AiReportRequest;
+
+/**
+ * AI 보고서 입력 지문 (SHA-256)
+ * AI 서버로 보내는 요청 내용과 매장이 같으면 같은 지문 - 키워드는 조회 순서에 영향받지 않도록 정렬하여 계산
+ */
+final class ReportFingerprint {
+
+    // 필드/목록 원소 구분자와 NULL 표시 (본문에 나오지 않는 제어 문자)
+    private static final char SEPARATOR = '\u001f';
+    private static final String ELEMENT_SEPARATOR = "\u001e";
+    private static final String NULL_VALUE = "\u0000";
+
+    private ReportFingerprint() {
+    }
+
+    static String of(Long storeId, AiReportRequest request) {
+        StringBuilder canonical = new StringBuilder();
+        append(canonical, storeId);
+
+        AiReportRequest.Metrics metrics = request.getMetrics();
+        append(canonical, metrics.getPostId());
+        append(canonical, metrics.getViewCount());
+        append(canonical, metrics.getLikeCount());
+        append(canonical, metrics.getCommentCount());
+
+        AiReportRequest.EmotionData emotionData = request.getEmotionData();
+        append(canonical, emotionData.getPositiveCount());
+        append(canonical, emotionData.getNegativeCount());
+        append(canonical, emotionData.getNeutralCount());
+        appendSorted(canonical, emotionData.getPositiveKeywords());
+        appendSorted(canonical, emotionData.getNegativeKeywords());
+        appendSorted(canonical, emotionData.getNeutralKeywords());
+
+        append(canonical, request.getTitle());
+        append(canonical, request.getDescription());
+        append(canonical, request.getUrl());
+        append(canonical, request.getTags() != null ? String.join(ELEMENT_SEPARATOR, request.getTags()) : null);
+        append(canonical, request.getPublishAt());
+
+        return HexFormat.of().formatHex(sha256(canonical.toString()));
+    }
+
+    private static void appendSorted(StringBuilder canonical, List<String> values) {
+        append(canonical, values != null
+            ? String.join(ELEMENT_SEPARATOR, values.stream().sorted().toList())
+            : null);
+    }
+
+    private static void append(StringBuilder canonical, Object value) {
+        canonical.append(value != null ? value : NULL_VALUE).append(SEPARATOR);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package kt.aivle.analytics.application.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import kt.aivle.analytics.adapter.in.web.dto.response.ReportJobResponse;
+import kt.aivle.analytics.application.event.ReportJobFinishedEvent;
+import kt.aivle.analytics.application.port.in.ReportJobUseCase;
+import kt.aivle.analytics.application.port.out.infrastructure.ValidationPort;
+import kt.aivle.analytics.application.port.out.repository.ReportJobRepositoryPort;
+import kt.aivle.analytics.domain.entity.PostReport;
+import kt.aivle.analytics.domain.entity.ReportJob;
+import kt.aivle.analytics.domain.model.ReportJobStatus;
+import kt.aivle.analytics.exception.AnalyticsErrorCode;
+import kt.aivle.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 보고서 생성 작업 대기열 (report_job 테이블)
+ * - 등록 시 작업 ID를 바로 반환하고, 각 인스턴스의 워커가 SKIP LOCKED로 작업을 나눠 가져가 reportJobExecutor에서 생성
+ * - 인스턴스당 동시 처리 수는 app.report.job.concurrency로 제한 (빈 자리만큼만 가져옴)
+ * - 처리 중 인스턴스가 죽으면 임대(available_at)가 만료된 뒤 다른 워커가 다시 가져감
+ * - 생성된 보고서는 입력 지문별로 post_report에 저장되어, 입력이 같으면 AI 호출 없이 완료
+ * 클라이언트는 작업 상태를 조회하거나 WebSocket으로 완료 알림을 받음 (ReportJobFinishedEvent)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobService implements ReportJobUseCase {
+
+    private final ReportJobRepositoryPort reportJobRepositoryPort;
+    private final AnalyticsQueryService analyticsQueryService;
+    private final ValidationPort validationPort;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("reportJobExecutor")
+    private final Executor reportJobExecutor;
+
+    // 이 인스턴스에서 처리 중인 작업 수
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    // 작업 가져오기는 한 번에 하나만 (스케줄러와 등록 직후 호출이 겹치면 건너뜀)
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
+    @Value("${app.report.job.concurrency:4}")
+    private int concurrency;
+
+    // 처리 임대 - AI 스트리밍 제한 시간보다 길게 (이 시간이 지나도 끝나지 않으면 다른 워커가 다시 처리)
+    @Value("${app.report.job.lease-seconds:1200}")
+    private long leaseSeconds;
+
+    @Value("${app.report.job.max-attempts:3}")
+    private int maxAttempts;
+
+    // 재시도 대기 시간 (시도 횟수에 비례)
+    @Value("${app.report.job.retry-delay-seconds:30}")
+    private long retryDelaySeconds;
+
+    // 완료/실패 작업 보관 기간 (보고서 자체는 post_report에 계속 보관)
+    @Value("${app.report.job.retention-days:7}")
+    private long retentionDays;
+
+    @Override
+    public ReportJobResponse enqueueReport(Long userId, Long accountId, Long postId, Long storeId) {
+        validationPort.validateUserId(userId);
+        validationPort.validateAccountId(accountId);
+        validationPort.validatePostId(postId);
+
+        // 같은 대상의 미완료 작업이 있으면 재사용 (동시 등록은 active_key 유니크 키로 하나만 저장)
+        ReportJob reportJob = reportJobRepositoryPort.enqueue(new ReportJob(userId, accountId, postId, storeId));
+        log.info("📝 보고서 작업 등록 - jobId: {}, postId: {}, accountId: {}, status: {}",
+            reportJob.getId(), postId, accountId, reportJob.getStatus());
+
+        // 다음 폴링을 기다리지 않고 바로 처리 시도
+        dispatchJobs();
+
+        return toResponse(reportJob);
+    }
+
+    @Override
+    public ReportJobResponse getReportJob(Long accountId, Long jobId) {
+        ReportJob reportJob = reportJobRepositoryPort.findById(jobId)
+            .filter(job -> job.getAccountId().equals(accountId))
+            .orElseThrow(() -> new BusinessException(AnalyticsErrorCode.REPORT_JOB_NOT_FOUND));
+
+        return toResponse(reportJob);
+    }
+
+    /**
+     * 처리 가능한 작업을 빈 자리만큼 가져와 워커 풀에 전달
+     */
+    @Scheduled(fixedDelayString = "${app.report.job.poll-delay-ms:2000}")
+    public void dispatchJobs() {
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+        try {
+            int capacity = concurrency - runningJobs.get();
+            if (capacity <= 0) {
+                return;
+            }
+
+            List<ReportJob> claimedJobs = reportJobRepositoryPort.claimAvailable(capacity,
+                LocalDateTime.now().plusSeconds(leaseSeconds));
+            for (ReportJob reportJob : claimedJobs) {
+                runningJobs.incrementAndGet();
+                try {
+                    reportJobExecutor.execute(() -> process(reportJob));
+                } catch (RejectedExecutionException e) {
+                    // 임대가 만료되면 다시 가져감
+                    runningJobs.decrementAndGet();
+                    log.warn("보고서 작업 실행 거절 - jobId: {}, error: {}", reportJob.getId(), e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            log.error("보고서 작업 가져오기 실패: {}", e.getMessage(), e);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.report.job.cleanup-delay-ms:3600000}")
+    public void deleteFinishedJobs() {
+        try {
+            int deleted = reportJobRepositoryPort.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+            if (deleted > 0) {
+                log.info("🧹 오래된 보고서 작업 삭제 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("보고서 작업 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void process(ReportJob reportJob) {
+        try {
+            runJob(reportJob);
+            reportJobRepositoryPort.save(reportJob);
+            if (reportJob.isFinished()) {
+                eventPublisher.publishEvent(new ReportJobFinishedEvent(reportJob.getId(), reportJob.getAccountId(), reportJob.getStatus()));
+            }
+        } catch (OptimisticLockingFailureException e) {
+            // 임대 만료로 다른 워커가 다시 가져간 작업 - 그 워커의 결과를 우선 (보고서는 post_report에 저장되어 재사용됨)
+            log.warn("보고서 작업 상태 저장 건너뜀 (다른 워커가 처리 중) - jobId: {}", reportJob.getId());
+        } catch (Exception e) {
+            // 상태 저장 실패 시 임대 만료 후 다시 처리 (보고서가 저장되었으면 AI 호출 없이 완료)
+            log.error("보고서 작업 상태 저장 실패 - jobId: {}, error: {}", reportJob.getId(), e.getMessage(), e);
+        } finally {
+            runningJobs.decrementAndGet();
+        }
+    }
+
+    private void runJob(ReportJob reportJob) {
+        // 임대 만료로 다시 가져간 작업도 시도 횟수에 포함 (처리 중 인스턴스 장애가 반복되는 작업)
+        if (reportJob.getAttempts() > maxAttempts) {
+            reportJob.fail("처리 시도 횟수를 초과했습니다.");
+            log.error("❌ 보고서 작업 실패 - jobId: {}, attempts: {}", reportJob.getId(), reportJob.getAttempts());
+            return;
+        }
+
+        log.info("📝 보고서 작업 시작 - jobId: {}, postId: {}, attempt: {}", reportJob.getId(), reportJob.getPostId(), reportJob.getAttempts());
+        try {
+            PostReport postReport = analyticsQueryService.generatePostReport(
+                reportJob.getUserId(), reportJob.getAccountId(), reportJob.getPostId(), reportJob.getStoreId());
+            if (postReport.getId() == null) {
+                // 생성은 되었으나 저장 실패
+                throw new BusinessException(AnalyticsErrorCode.DATABASE_ERROR);
+            }
+            reportJob.complete(postReport.getId());
+            log.info("✅ 보고서 작업 완료 - jobId: {}, postReportId: {}", reportJob.getId(), postReport.getId());
+
+        } catch (BusinessException e) {
+            // 잘못된 요청(게시물/계정 없음 등)은 재시도하지 않음
+            markFailure(reportJob, e.getMessage(), !e.getCode().getHttpStatus().is4xxClientError());
+        } catch (Exception e) {
+            markFailure(reportJob, e.getMessage(), true);
+        }
+    }
+
+    private void markFailure(ReportJob reportJob, String errorMessage, boolean retryable) {
+        if (retryable && reportJob.getAttempts() < maxAttempts) {
+            LocalDateTime retryAt = LocalDateTime.now().plusSeconds(retryDelaySeconds * reportJob.getAttempts());
+            reportJob.retryAt(retryAt, errorMessage);
+            log.warn("보고서 작업 재시도 예약 - jobId: {}, attempt: {}, retryAt: {}, error: {}",
+                reportJob.getId(), reportJob.getAttempts(), retryAt, errorMessage);
+        } else {
+            reportJob.fail(errorMessage);
+            log.error("❌ 보고서 작업 실패 - jobId: {}, attempts: {}, error: {}",
+                reportJob.getId(), reportJob.getAttempts(), errorMessage);
+        }
+    }
+
+    private ReportJobResponse toResponse(ReportJob reportJob) {
+        return ReportJobResponse.builder()
+            .jobId(reportJob.getId())
+            .postId(reportJob.getPostId())
+            .status(reportJob.getStatus().name())
+            .attempts(reportJob.getAttempts())
+            .report(reportJob.getStatus() == ReportJobStatus.COMPLETED
+                ? analyticsQueryService.getStoredReport(reportJob.getPostReportId())
+                : null)
+            .errorMessage(reportJob.getErrorMessage())
+            .createdAt(reportJob.getCreatedAt())
+            .updatedAt(reportJob.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,177 @@
+package kt.aivle.analytics.application.service;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kt.aivle.analytics.application.port.out.repository.SentimentCounterRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostCommentMetricRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostRepositoryPort;
+import kt.aivle.analytics.domain.entity.SentimentCounter;
+import kt.aivle.analytics.domain.entity.SnsPost;
+import kt.aivle.analytics.domain.entity.SnsPostCommentMetric;
+import kt.aivle.analytics.domain.model.SentimentCounterScope;
+import kt.aivle.analytics.domain.model.SentimentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물/계정별 감정 카운터 관리
+ * - 댓글 sentiment 반영과 같은 트랜잭션에서 카운터를 증감하여 항상 댓글 테이블과 일치하도록 유지
+ * - 카운터가 아직 없는 대상(카운터 도입 이전 데이터)은 첫 반영 시 댓글 테이블에서 다시 계산
+ * - 같은 계정의 반영은 계정 행 잠금으로 직렬화하여 재계산 확인/덮어쓰기가 동시에 일어나지 않도록 함
+ * - 증감 기준(이전 sentiment)은 호출자가 읽어 둔 값이 아니라 잠근 댓글 행에서 다시 읽음 (동시 반영 시 이중 차감 방지)
+ * - 게시물 삭제 시 게시물 카운터를 지우고 계정 카운터를 다시 계산
+ * - 감정 요약/보고서 입력은 댓글 전체를 읽지 않고 카운터 1건으로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SentimentCounterService {
+
+    private final SnsPostCommentMetricRepositoryPort commentMetricRepository;
+    private final SnsPostRepositoryPort snsPostRepositoryPort;
+    private final SentimentCounterRepositoryPort sentimentCounterRepository;
+
+    // 댓글 게시일 기준 일 단위 카운터 유지 여부
+    @Value("${app.sentiment.counter.daily-buckets-enabled:true}")
+    private boolean dailyBucketsEnabled;
+
+    /**
+     * 댓글 sentiment를 일괄 업데이트하고 같은 트랜잭션에서 게시물/계정 카운터를 갱신합니다.
+     * @return 업데이트에 실패한 댓글 ID 목록 (카운터에는 반영하지 않음)
+     */
+    @Transactional
+    public List<Long> updateSentiments(Long postId, List<SnsPostCommentMetric> comments, Map<Long, SentimentType> sentimentsById) {
+        Long accountId = snsPostRepositoryPort.findById(postId)
+            .map(SnsPost::getAccountId)
+            .orElse(null);
+
+        // 댓글 행을 잠그기 전에 대상 행부터 잠가 같은 계정의 갱신을 직렬화
+        // (재계산의 INSERT ... SELECT가 다른 트랜잭션이 갱신 중인 댓글을 기다리며 교착되는 것을 방지)
+        if (accountId != null) {
+            sentimentCounterRepository.lockOwner(SentimentCounterScope.ACCOUNT, accountId);
+        } else {
+            sentimentCounterRepository.lockOwner(SentimentCounterScope.POST, postId);
+        }
+
+        // 댓글을 조회한 뒤 다른 트랜잭션이 먼저 반영했을 수 있으므로 잠근 행의 현재 값을 이전 값으로 사용
+        Map<Long, SentimentType> previousById = commentMetricRepository.findSentimentsForUpdate(sentimentsById.keySet());
+
+        List<Long> failedIds = commentMetricRepository.updateSentiments(sentimentsById);
+        Set<Long> failedIdSet = new HashSet<>(failedIds);
+
+        List<SnsPostCommentMetric> changed = comments.stream()
+            .filter(comment -> sentimentsById.containsKey(comment.getId()) && !failedIdSet.contains(comment.getId()))
+            .filter(comment -> previousById.containsKey(comment.getId()))
+            .filter(comment -> !Objects.equals(previousById.get(comment.getId()), sentimentsById.get(comment.getId())))
+            .toList();
+        if (changed.isEmpty()) {
+            return failedIds;
+        }
+
+        applyDeltas(SentimentCounterScope.POST, postId, changed, previousById, sentimentsById);
+        if (accountId != null) {
+            applyDeltas(SentimentCounterScope.ACCOUNT, accountId, changed, previousById, sentimentsById);
+        }
+
+        return failedIds;
+    }
+
+    /**
+     * 게시물 삭제 후 카운터 정리 - 게시물 카운터는 삭제하고, 계정 카운터는 남은 게시물의 댓글로 다시 계산
+     * (계정 카운터가 아직 없으면 조회 시 댓글 테이블에서 집계하므로 그대로 둠)
+     */
+    @Transactional
+    public void removePost(Long postId, Long accountId) {
+        if (accountId != null) {
+            sentimentCounterRepository.lockOwner(SentimentCounterScope.ACCOUNT, accountId);
+        }
+
+        sentimentCounterRepository.deleteAll(SentimentCounterScope.POST, postId);
+        if (accountId != null && sentimentCounterRepository.findTotal(SentimentCounterScope.ACCOUNT, accountId).isPresent()) {
+            sentimentCounterRepository.rebuild(SentimentCounterScope.ACCOUNT, accountId, dailyBucketsEnabled);
+            log.info("🔢 게시물 삭제로 계정 감정 카운터 재계산 - postId: {}, accountId: {}", postId, accountId);
+        }
+    }
+
+    /**
+     * 계정 삭제 후 계정 카운터 삭제
+     */
+    @Transactional
+    public void removeAccount(Long accountId) {
+        sentimentCounterRepository.deleteAll(SentimentCounterScope.ACCOUNT, accountId);
+    }
+
+    /**
+     * 게시물 감정별 댓글 수 (카운터가 없으면 댓글 테이블에서 개수만 집계)
+     */
+    @Transactional(readOnly = true)
+    public SentimentCounter getPostCounts(Long postId) {
+        return sentimentCounterRepository.findTotal(SentimentCounterScope.POST, postId)
+            .orElseGet(() -> sentimentCounterRepository.countFromComments(SentimentCounterScope.POST, postId));
+    }
+
+    /**
+     * 계정 감정별 댓글 수 (카운터가 없으면 댓글 테이블에서 개수만 집계)
+     */
+    @Transactional(readOnly = true)
+    public SentimentCounter getAccountCounts(Long accountId) {
+        return sentimentCounterRepository.findTotal(SentimentCounterScope.ACCOUNT, accountId)
+            .orElseGet(() -> sentimentCounterRepository.countFromComments(SentimentCounterScope.ACCOUNT, accountId));
+    }
+
+    private void applyDeltas(SentimentCounterScope scope, Long ownerId, List<SnsPostCommentMetric> changed,
+                             Map<Long, SentimentType> previousById, Map<Long, SentimentType> sentimentsById) {
+        // 카운터가 없으면 이번 업데이트까지 포함해 댓글 테이블에서 다시 계산
+        if (sentimentCounterRepository.findTotal(scope, ownerId).isEmpty()) {
+            sentimentCounterRepository.rebuild(scope, ownerId, dailyBucketsEnabled);
+            log.info("🔢 감정 카운터 재계산 - scope: {}, ownerId: {}", scope, ownerId);
+            return;
+        }
+
+        Map<LocalDate, SentimentCounter> deltas = new LinkedHashMap<>();
+        for (SnsPostCommentMetric comment : changed) {
+            SentimentType previous = previousById.get(comment.getId());
+            SentimentType current = sentimentsById.get(comment.getId());
+
+            addDelta(deltas, scope, ownerId, SentimentCounter.TOTAL_BUCKET, previous, current);
+            if (dailyBucketsEnabled) {
+                addDelta(deltas, scope, ownerId, bucketDateOf(comment), previous, current);
+            }
+        }
+
+        sentimentCounterRepository.incrementAll(deltas.values().stream()
+            .filter(delta -> !delta.isEmpty())
+            .toList());
+    }
+
+    private void addDelta(Map<LocalDate, SentimentCounter> deltas, SentimentCounterScope scope, Long ownerId,
+                          LocalDate bucketDate, SentimentType previous, SentimentType current) {
+        SentimentCounter delta = deltas.computeIfAbsent(bucketDate, date -> SentimentCounter.builder()
+            .scope(scope)
+            .ownerId(ownerId)
+            .bucketDate(date)
+            .build());
+        if (previous != null) {
+            delta.add(previous, -1);
+        }
+        delta.add(current, 1);
+    }
+
+    // 댓글 게시일 (없으면 수집일)
+    private LocalDate bucketDateOf(SnsPostCommentMetric comment) {
+        if (comment.getPublishedAt() != null) {
+            return comment.getPublishedAt().toLocalDate();
+        }
+        return comment.getCreatedAt() != null ? comment.getCreatedAt().toLocalDate() : LocalDate.now();
+    }
+}
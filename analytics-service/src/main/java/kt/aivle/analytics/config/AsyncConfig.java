@@ -1,7 +1,9 @@
 package kt.aivle.analytics.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -23,6 +25,73 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
     
+    @Bean(name = "batchPartitionExecutor")
+    public ThreadPoolTaskExecutor batchPartitionExecutor(
+            @Value("${app.batch.partition.max-pool-size:8}") int maxPoolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // 파티션 수만큼 바로 스레드를 띄우도록 대기열 없이 구성 (초과 파티션은 호출 스레드에서 실행)
+        executor.setCorePoolSize(maxPoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("batch-partition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+    
+    @Bean(name = "reportIoExecutor")
+    public Executor reportIoExecutor(
+            @Value("${app.report.executor.core-pool-size:4}") int corePoolSize,
+            @Value("${app.report.executor.max-pool-size:16}") int maxPoolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        // 대기열 없이 구성해야 요청이 몰릴 때 최대 스레드 수까지 늘어남 (대기열이 있으면 가득 찰 때까지 코어 수에 머묾)
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("report-io-");
+        // 보고서 입력 조회(DB)와 AI 서버 호출 전용 - 공용 ForkJoinPool을 블로킹 I/O로 점유하지 않도록 분리
+        // 포화 시 거절(AbortPolicy) - 보고서 단계는 호출 스레드(Tomcat/WebSocket)에서 실행하지 않고 오류로 끝냄
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+    
+    @Bean(name = "reportJobExecutor")
+    public Executor reportJobExecutor(
+            @Value("${app.report.job.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // 보고서 작업 워커 - ReportJobService가 빈 자리만큼만 작업을 가져옴
+        // (작업을 막 끝낸 스레드가 아직 반환되지 않은 순간을 위해 같은 크기의 대기열을 둠)
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("report-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+    
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor(
+            @Value("${app.cache.refresh.max-pool-size:4}") int maxPoolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        // 포화 시 거절(AbortPolicy) - 미리 갱신은 생략 가능한 작업이므로 호출 측에서 건너뛰고 다음 조회에서 다시 시도
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+    
     @Override
     public Executor getAsyncExecutor() {
         return emotionAnalysisExecutor();
@@ -1,86 +1,286 @@
 package kt.aivle.analytics.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import kt.aivle.analytics.application.port.in.MetricsCollectionUseCase;
+import kt.aivle.analytics.application.port.in.MetricsRollupUseCase;
+import kt.aivle.analytics.application.port.out.infrastructure.BatchCoordinationPort;
+import kt.aivle.analytics.application.port.out.repository.SnsAccountRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostRepositoryPort;
+import kt.aivle.analytics.application.service.AdaptivePostPollingService;
+import kt.aivle.analytics.application.service.BatchJobMonitor;
+import kt.aivle.analytics.config.batch.BatchExecutionOwnerListener;
+import kt.aivle.analytics.config.batch.BatchJobMonitorListener;
+import kt.aivle.analytics.config.batch.IdRangePartitioner;
+import kt.aivle.analytics.config.batch.KeysetIdItemReader;
+import kt.aivle.analytics.config.batch.PartitionChunkListener;
+import kt.aivle.analytics.domain.entity.SnsAccount;
+import kt.aivle.analytics.domain.entity.SnsPost;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 일일 메트릭 수집 배치
+ * - 계정/게시물 ID 범위를 파티션으로 나누어 batchPartitionExecutor에서 병렬 수집
+ * - 파티션별 진행 위치(lastId)는 JobRepository의 ExecutionContext에 청크 단위로 저장되어,
+ *   실패한 실행을 같은 JobParameters로 재실행하면 완료된 파티션은 건너뛰고 실패 지점부터 이어서 수집
+ * - 수동 수집 API도 같은 파티션 스텝으로 구성된 단일 단계 작업을 실행하여 체크포인트 저장소를 JobRepository 하나로 유지
+ * - 실행 중인 인스턴스는 실행별 소유 표시를 유지하여, 다른 인스턴스의 복구가 살아 있는 실행을 실패 처리하지 않도록 함
+ */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class BatchConfig {
-    
+
+    private static final String ADAPTIVE = "ADAPTIVE";
+    private static final String FULL = "FULL";
+
     private final MetricsCollectionUseCase metricsCollectionUseCase;
-    
+    private final MetricsRollupUseCase metricsRollupUseCase;
+    private final AdaptivePostPollingService adaptivePostPollingService;
+    private final SnsAccountRepositoryPort snsAccountRepositoryPort;
+    private final SnsPostRepositoryPort snsPostRepositoryPort;
+    private final BatchJobMonitor batchJobMonitor;
+    private final BatchCoordinationPort batchCoordinationPort;
+
+    // 워커 스텝은 YouTube API 호출을 포함하므로 청크 전체를 DB 트랜잭션으로 묶지 않음
+    // (저장은 각 리포지토리 호출 단위로 커밋, 진행 위치는 JobRepository가 별도 트랜잭션으로 저장)
+    private final PlatformTransactionManager workerTransactionManager = new ResourcelessTransactionManager();
+
+    @Value("${app.batch.partition.grid-size:4}")
+    private int gridSize;
+
+    // 댓글 수집은 게시물 단위 API 호출이 많아 더 잘게 나눔
+    @Value("${app.batch.partition.comments-grid-size:8}")
+    private int commentsGridSize;
+
+    @Value("${app.batch.partition.chunk-size:100}")
+    private int chunkSize;
+
     @Bean
-    public Job dailyMetricsCollectionJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+    public Job dailyMetricsCollectionJob(JobRepository jobRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         @Qualifier("batchPartitionExecutor") TaskExecutor batchPartitionExecutor) {
+        Step postCommentsStep = collectPostCommentsStep(jobRepository, batchPartitionExecutor);
+        Step rollupStep = rollupMetricsStep(jobRepository);
+
         return new JobBuilder("dailyMetricsCollectionJob", jobRepository)
-            .start(collectAccountMetricsStep(jobRepository, transactionManager))
-            .next(collectPostMetricsStep(jobRepository, transactionManager))
-            .next(collectPostCommentsStep(jobRepository, transactionManager))
+            .listener(new BatchExecutionOwnerListener(batchCoordinationPort))
+            .start(collectAccountMetricsStep(jobRepository, batchPartitionExecutor))
+            .next(postMetricsModeDecider())
+                .on(ADAPTIVE).to(seedAdaptivePollingQueueStep(jobRepository, transactionManager)).next(postCommentsStep).next(rollupStep)
+            .from(postMetricsModeDecider())
+                .on("*").to(collectPostMetricsStep(jobRepository, batchPartitionExecutor)).next(postCommentsStep).next(rollupStep)
+            .end()
+            .build();
+    }
+
+    // ===== 수동 실행용 단일 단계 작업 (일일 작업과 같은 파티션 스텝/체크포인트 사용) =====
+
+    @Bean
+    public Job accountMetricsCollectionJob(JobRepository jobRepository,
+                                           @Qualifier("batchPartitionExecutor") TaskExecutor batchPartitionExecutor) {
+        return new JobBuilder("accountMetricsCollectionJob", jobRepository)
+            .listener(new BatchExecutionOwnerListener(batchCoordinationPort))
+            .start(collectAccountMetricsStep(jobRepository, batchPartitionExecutor))
+            .build();
+    }
+
+    @Bean
+    public Job postMetricsCollectionJob(JobRepository jobRepository,
+                                        @Qualifier("batchPartitionExecutor") TaskExecutor batchPartitionExecutor) {
+        return new JobBuilder("postMetricsCollectionJob", jobRepository)
+            .listener(new BatchExecutionOwnerListener(batchCoordinationPort))
+            .start(collectPostMetricsStep(jobRepository, batchPartitionExecutor))
             .build();
     }
-    
+
     @Bean
-    public Step collectAccountMetricsStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+    public Job postCommentsCollectionJob(JobRepository jobRepository,
+                                         @Qualifier("batchPartitionExecutor") TaskExecutor batchPartitionExecutor) {
+        return new JobBuilder("postCommentsCollectionJob", jobRepository)
+            .listener(new BatchExecutionOwnerListener(batchCoordinationPort))
+            .start(collectPostCommentsStep(jobRepository, batchPartitionExecutor))
+            .build();
+    }
+
+    /**
+     * 적응형 수집 사용 시 전체 게시물 메트릭 수집 대신 대기열만 보충 (실제 수집은 대기열 폴러가 담당)
+     */
+    @Bean
+    public JobExecutionDecider postMetricsModeDecider() {
+        return (jobExecution, stepExecution) -> new FlowExecutionStatus(
+            adaptivePostPollingService.isEnabled() ? ADAPTIVE : FULL);
+    }
+
+    // ===== 계정 메트릭 =====
+
+    @Bean
+    public Step collectAccountMetricsStep(JobRepository jobRepository,
+                                      @Qualifier("batchPartitionExecutor") TaskExecutor batchPartitionExecutor) {
         return new StepBuilder("collectAccountMetricsStep", jobRepository)
-            .tasklet((contribution, chunkContext) -> {
-                log.info("🚀 Starting account metrics collection step");
-                
-                try {
-                    metricsCollectionUseCase.collectAccountMetrics();
-                    log.info("✅ Account metrics collection completed");
-                    return RepeatStatus.FINISHED;
-                } catch (Exception e) {
-                    log.error("❌ Account metrics collection failed: {}", e.getMessage(), e);
-                    throw e;
-                }
-            }, transactionManager)
+            .partitioner("collectAccountMetricsWorkerStep", new IdRangePartitioner(
+                snsAccountRepositoryPort::findMinId, snsAccountRepositoryPort::findMaxId))
+            .step(collectAccountMetricsWorkerStep(jobRepository))
+            .gridSize(gridSize)
+            .taskExecutor(batchPartitionExecutor)
+            .listener(new BatchJobMonitorListener(batchJobMonitor, "account-metrics-collection"))
+            .build();
+    }
+
+    @Bean
+    public Step collectAccountMetricsWorkerStep(JobRepository jobRepository) {
+        return new StepBuilder("collectAccountMetricsWorkerStep", jobRepository)
+            .<Long, Long>chunk(chunkSize, workerTransactionManager)
+            .reader(accountIdReader(null, null))
+            .writer(collectingWriter("account metrics", metricsCollectionUseCase::collectAccountMetricsByAccountIds))
+            .listener(new PartitionChunkListener(batchJobMonitor, "account-metrics-collection"))
             .build();
     }
-    
+
     @Bean
-    public Step collectPostMetricsStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+    @StepScope
+    public KeysetIdItemReader accountIdReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new KeysetIdItemReader(
+            (lastId, rangeMaxId, size) -> snsAccountRepositoryPort.findNextPageInRange(lastId, rangeMaxId, size).stream()
+                .map(SnsAccount::getId)
+                .toList(),
+            minId, maxId, chunkSize);
+    }
+
+    // ===== 게시물 메트릭 =====
+
+    @Bean
+    public Step collectPostMetricsStep(JobRepository jobRepository,
+                                      @Qualifier("batchPartitionExecutor") TaskExecutor batchPartitionExecutor) {
         return new StepBuilder("collectPostMetricsStep", jobRepository)
+            .partitioner("collectPostMetricsWorkerStep", postIdRangePartitioner())
+            .step(collectPostMetricsWorkerStep(jobRepository))
+            .gridSize(gridSize)
+            .taskExecutor(batchPartitionExecutor)
+            .listener(new BatchJobMonitorListener(batchJobMonitor, "post-metrics-collection"))
+            .build();
+    }
+
+    @Bean
+    public Step collectPostMetricsWorkerStep(JobRepository jobRepository) {
+        return new StepBuilder("collectPostMetricsWorkerStep", jobRepository)
+            .<Long, Long>chunk(chunkSize, workerTransactionManager)
+            .reader(postIdReader(null, null))
+            .writer(collectingWriter("post metrics", ids -> metricsCollectionUseCase.collectPostMetricsByPostIds(ids)))
+            .listener(new PartitionChunkListener(batchJobMonitor, "post-metrics-collection"))
+            .build();
+    }
+
+    @Bean
+    public Step seedAdaptivePollingQueueStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("seedAdaptivePollingQueueStep", jobRepository)
             .tasklet((contribution, chunkContext) -> {
-                log.info("🚀 Starting post metrics collection step");
-                
-                try {
-                    metricsCollectionUseCase.collectPostMetrics();
-                    log.info("✅ Post metrics collection completed");
-                    return RepeatStatus.FINISHED;
-                } catch (Exception e) {
-                    log.error("❌ Post metrics collection failed: {}", e.getMessage(), e);
-                    throw e;
-                }
+                log.info("🚀 Seeding adaptive polling queue");
+                adaptivePostPollingService.seedQueue();
+                log.info("✅ Adaptive polling queue seeded");
+                return RepeatStatus.FINISHED;
             }, transactionManager)
             .build();
     }
-    
+
+    // ===== 게시물 댓글 =====
+
     @Bean
-    public Step collectPostCommentsStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+    public Step collectPostCommentsStep(JobRepository jobRepository,
+                                      @Qualifier("batchPartitionExecutor") TaskExecutor batchPartitionExecutor) {
         return new StepBuilder("collectPostCommentsStep", jobRepository)
+            .partitioner("collectPostCommentsWorkerStep", postIdRangePartitioner())
+            .step(collectPostCommentsWorkerStep(jobRepository))
+            .gridSize(commentsGridSize)
+            .taskExecutor(batchPartitionExecutor)
+            .listener(new BatchJobMonitorListener(batchJobMonitor, "post-comments-collection"))
+            .build();
+    }
+
+    @Bean
+    public Step collectPostCommentsWorkerStep(JobRepository jobRepository) {
+        return new StepBuilder("collectPostCommentsWorkerStep", jobRepository)
+            .<Long, Long>chunk(chunkSize, workerTransactionManager)
+            .reader(postIdReader(null, null))
+            .writer(collectingWriter("post comments", metricsCollectionUseCase::collectPostCommentsByPostIds))
+            .listener(new PartitionChunkListener(batchJobMonitor, "post-comments-collection"))
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public KeysetIdItemReader postIdReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new KeysetIdItemReader(
+            (lastId, rangeMaxId, size) -> snsPostRepositoryPort.findNextPageInRange(lastId, rangeMaxId, size).stream()
+                .map(SnsPost::getId)
+                .toList(),
+            minId, maxId, chunkSize);
+    }
+
+    // ===== 롤업 =====
+
+    /**
+     * 수집 직후 시간/일 단위 롤업 갱신 및 보관 기간이 지난 원본 정리
+     * (롤업 서비스가 구간별 upsert와 분할 삭제를 직접 커밋하므로 스텝 트랜잭션은 사용하지 않음)
+     */
+    @Bean
+    public Step rollupMetricsStep(JobRepository jobRepository) {
+        return new StepBuilder("rollupMetricsStep", jobRepository)
             .tasklet((contribution, chunkContext) -> {
-                log.info("🚀 Starting post comments collection step");
-                
-                try {
-                    metricsCollectionUseCase.collectPostComments();
-                    log.info("✅ Post comments collection completed");
-                    return RepeatStatus.FINISHED;
-                } catch (Exception e) {
-                    log.error("❌ Post comments collection failed: {}", e.getMessage(), e);
-                    throw e;
-                }
-            }, transactionManager)
+                log.info("🚀 Rolling up collected metrics");
+                metricsRollupUseCase.rollupMetrics();
+                log.info("✅ Metrics rollup finished");
+                return RepeatStatus.FINISHED;
+            }, workerTransactionManager)
+            .listener(new BatchJobMonitorListener(batchJobMonitor, "metrics-rollup"))
             .build();
     }
+
+    private IdRangePartitioner postIdRangePartitioner() {
+        return new IdRangePartitioner(snsPostRepositoryPort::findMinId, snsPostRepositoryPort::findMaxId);
+    }
+
+    /**
+     * 청크의 ID 목록을 수집 유스케이스에 넘기는 writer
+     * 개별 항목 실패는 로그만 남기고 진행하며, 할당량 초과 등 예외는 그대로 던져 파티션을 실패 처리(재시작 대상)합니다.
+     * 할당량 초과 시 PartitionChunkListener가 같은 스텝의 다른 파티션도 중단합니다.
+     */
+    private ItemWriter<Long> collectingWriter(String itemType, CollectFunction collectFunction) {
+        return chunk -> {
+            List<Long> ids = new ArrayList<>(chunk.getItems());
+            List<Long> failedIds = collectFunction.collect(ids);
+            if (!failedIds.isEmpty()) {
+                log.warn("Failed to collect {} for {} items: {}", itemType, failedIds.size(), failedIds);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface CollectFunction {
+        List<Long> collect(List<Long> ids);
+    }
 }
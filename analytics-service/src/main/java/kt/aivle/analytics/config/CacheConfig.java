@@ -1,23 +1,34 @@
 package kt.aivle.analytics.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import kt.aivle.analytics.config.cache.CacheInvalidationPublisher;
+import kt.aivle.analytics.config.cache.CacheLoadCoordinator;
+import kt.aivle.analytics.config.cache.CacheValueFormat;
+import kt.aivle.analytics.config.cache.CompactCacheValueSerializer;
+import kt.aivle.analytics.config.cache.RefreshPolicy;
+import kt.aivle.analytics.config.cache.TwoLevelCacheManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Configuration
@@ -44,18 +55,63 @@ public class CacheConfig {
     @Value("${app.cache.ttl.realtime-comments:120}")
     private long realtimeCommentsTtl;
 
-    @Value("${app.cache.ttl.history-post-metrics:300}")
+    // 수집/감정분석 저장 시 바뀐 항목만 이벤트로 무효화하므로 히스토리 캐시는 긴 TTL 사용
+    @Value("${app.cache.ttl.history-post-metrics:86400}")
     private long historyPostMetricsTtl;
-    @Value("${app.cache.ttl.history-account-metrics:300}")
+    @Value("${app.cache.ttl.history-account-metrics:86400}")
     private long historyAccountMetricsTtl;
-    @Value("${app.cache.ttl.history-emotion-analysis:600}")
+    @Value("${app.cache.ttl.history-emotion-analysis:86400}")
     private long historyEmotionAnalysisTtl;
 
+    // 시계열은 롤업 갱신 이벤트로 비우므로 같은 긴 TTL 사용
+    @Value("${app.cache.ttl.history-post-metrics-series:86400}")
+    private long historyPostMetricsSeriesTtl;
+    @Value("${app.cache.ttl.history-account-metrics-series:86400}")
+    private long historyAccountMetricsSeriesTtl;
+
     @Value("${app.cache.ttl.report:3600}")
     private long reportTtl;
 
+    // Redis 값 형식 (JSON | SMILE), Smile 값은 기준 크기 이상이면 LZ4 압축 (0 이하면 압축 안 함)
+    @Value("${app.cache.codec.format:SMILE}")
+    private CacheValueFormat cacheValueFormat;
+
+    @Value("${app.cache.codec.compression-threshold:1024}")
+    private int compressionThreshold;
+
+    // 로컬(L1) 캐시 - 인스턴스 간 불일치 구간을 줄이기 위해 Redis보다 짧은 TTL 사용
+    @Value("${app.cache.local.enabled:true}")
+    private boolean localCacheEnabled;
+
+    @Value("${app.cache.local.ttl:30}")
+    private long localCacheTtl;
+
+    @Value("${app.cache.local.max-size:10000}")
+    private long localCacheMaxSize;
+
+    // 미리 갱신 대상 캐시 - ttl의 ahead-fraction이 지나면 백그라운드 갱신, ttl 후 stale-seconds 동안은 이전 값 제공
+    @Value("${app.cache.refresh.caches:realtime-post-metrics,realtime-account-metrics}")
+    private List<String> refreshCaches;
+
+    @Value("${app.cache.refresh.ahead-fraction:0.8}")
+    private double refreshAheadFraction;
+
+    @Value("${app.cache.refresh.stale-seconds:60}")
+    private long refreshStaleSeconds;
+
+    // 클러스터 단위 로드 락 - 락 TTL은 로드 최대 시간보다 길게, 대기 시간이 지나면 직접 로드
+    @Value("${app.cache.lock.ttl-ms:5000}")
+    private long loadLockTtlMs;
+
+    @Value("${app.cache.lock.wait-ms:3000}")
+    private long loadLockWaitMs;
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CacheInvalidationPublisher cacheInvalidationPublisher,
+                                     StringRedisTemplate redisTemplate,
+                                     @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                     MeterRegistry meterRegistry) {
         log.info("캐시 TTL 설정 - 히스토리: {}초, 실시간: {}초, 댓글: {}초, 보고서: {}초",
                 postMetricsTtl, realtimePostMetricsTtl, historyCommentsTtl, reportTtl);
 
@@ -67,40 +123,86 @@ public class CacheConfig {
             log.error("❌ Redis 연결 실패: {}", e.getMessage());
         }
 
-        // Jackson ObjectMapper 설정 (Java 8 시간 타입 지원)
-        ObjectMapper objectMapper = new ObjectMapper();
-        JavaTimeModule javaTimeModule = new JavaTimeModule();
-        javaTimeModule.addSerializer(java.time.LocalDateTime.class,
-                new LocalDateTimeSerializer(java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        javaTimeModule.addDeserializer(java.time.LocalDateTime.class,
-                new LocalDateTimeDeserializer(java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        objectMapper.registerModule(javaTimeModule);
-
-        objectMapper = objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        // 값 직렬화 - 읽기는 저장 형식을 자동 판별하므로 기존 JSON 항목도 TTL 만료 전까지 그대로 사용
+        log.info("캐시 값 형식: {}, 압축 기준: {}바이트", cacheValueFormat, compressionThreshold);
+        CompactCacheValueSerializer valueSerializer = new CompactCacheValueSerializer(cacheValueFormat, compressionThreshold);
 
         // 기본 캐시 설정
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofSeconds(300))
                 .disableCachingNullValues()
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
 
         // 캐시별 TTL 설정 (일괄 처리)
-        Map<String, RedisCacheConfiguration> cacheConfigurations = Map.of(
-                "post-metrics", defaultConfig.entryTtl(Duration.ofSeconds(postMetricsTtl)),
-                "account-metrics", defaultConfig.entryTtl(Duration.ofSeconds(accountMetricsTtl)),
-                "emotion-analysis", defaultConfig.entryTtl(Duration.ofSeconds(emotionAnalysisTtl)),
-                "realtime-post-metrics", defaultConfig.entryTtl(Duration.ofSeconds(realtimePostMetricsTtl)),
-                "realtime-account-metrics", defaultConfig.entryTtl(Duration.ofSeconds(realtimeAccountMetricsTtl)),
-                "realtime-comments", defaultConfig.entryTtl(Duration.ofSeconds(realtimeCommentsTtl)),
-                "history-comments", defaultConfig.entryTtl(Duration.ofSeconds(historyCommentsTtl)),
-                "report", defaultConfig.entryTtl(Duration.ofSeconds(reportTtl)),
-                "history-post-metrics", defaultConfig.entryTtl(Duration.ofSeconds(historyPostMetricsTtl)),
-                "history-account-metrics", defaultConfig.entryTtl(Duration.ofSeconds(historyAccountMetricsTtl))
+        Map<String, Duration> cacheTtls = Map.ofEntries(
+                Map.entry("post-metrics", Duration.ofSeconds(postMetricsTtl)),
+                Map.entry("account-metrics", Duration.ofSeconds(accountMetricsTtl)),
+                Map.entry("emotion-analysis", Duration.ofSeconds(emotionAnalysisTtl)),
+                Map.entry("realtime-post-metrics", Duration.ofSeconds(realtimePostMetricsTtl)),
+                Map.entry("realtime-account-metrics", Duration.ofSeconds(realtimeAccountMetricsTtl)),
+                Map.entry("realtime-comments", Duration.ofSeconds(realtimeCommentsTtl)),
+                Map.entry("history-comments", Duration.ofSeconds(historyCommentsTtl)),
+                Map.entry("report", Duration.ofSeconds(reportTtl)),
+                Map.entry("history-post-metrics", Duration.ofSeconds(historyPostMetricsTtl)),
+                Map.entry("history-account-metrics", Duration.ofSeconds(historyAccountMetricsTtl)),
+                Map.entry("history-post-metrics-series", Duration.ofSeconds(historyPostMetricsSeriesTtl)),
+                Map.entry("history-account-metrics-series", Duration.ofSeconds(historyAccountMetricsSeriesTtl))
         );
 
-        return RedisCacheManager.builder(connectionFactory)
+        // 미리 갱신 캐시는 만료 후에도 이전 값을 제공할 수 있도록 Redis에 stale 구간만큼 더 보관
+        Map<String, RefreshPolicy> refreshPolicies = new HashMap<>();
+        if (localCacheEnabled) {
+            refreshCaches.stream()
+                    .filter(cacheTtls::containsKey)
+                    .forEach(name -> refreshPolicies.put(name, new RefreshPolicy(
+                            cacheTtls.get(name), refreshAheadFraction, Duration.ofSeconds(refreshStaleSeconds))));
+        }
+        Map<String, Duration> redisTtls = cacheTtls.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> refreshPolicies.containsKey(entry.getKey())
+                        ? refreshPolicies.get(entry.getKey()).redisTtl()
+                        : entry.getValue()));
+        Map<String, RedisCacheConfiguration> cacheConfigurations = redisTtls.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> defaultConfig.entryTtl(entry.getValue())));
+
+        // 시계열 캐시 전체 비우기(clear)가 주기적으로 실행되므로 KEYS 대신 SCAN으로 삭제 대상 조회
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+
+        if (!localCacheEnabled) {
+            return redisCacheManager;
+        }
+
+        // 빈으로 등록하지 않으므로 캐시별 설정을 직접 초기화
+        redisCacheManager.initializeCaches();
+        log.info("로컬 캐시(L1) 사용 - TTL: {}초, 캐시별 최대 {}건", localCacheTtl, localCacheMaxSize);
+        log.info("미리 갱신 캐시: {}, 갱신 시점: TTL의 {}%, stale 제공: {}초",
+                refreshPolicies.keySet(), (int) (refreshAheadFraction * 100), refreshStaleSeconds);
+
+        return new TwoLevelCacheManager(redisCacheManager, redisTtls, Duration.ofSeconds(localCacheTtl), localCacheMaxSize,
+                cacheInvalidationPublisher, refreshPolicies,
+                new CacheLoadCoordinator(redisTemplate, Duration.ofMillis(loadLockTtlMs)),
+                cacheRefreshExecutor, Duration.ofMillis(loadLockWaitMs), meterRegistry);
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        return new CacheInvalidationPublisher(redisTemplate);
+    }
+
+    /**
+     * 다른 인스턴스의 캐시 변경 메시지를 받아 로컬(L1) 캐시를 무효화
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(twoLevelCacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        }
+        return container;
     }
 }
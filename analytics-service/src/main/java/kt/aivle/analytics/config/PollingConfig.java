@@ -0,0 +1,29 @@
+package kt.aivle.analytics.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import kt.aivle.analytics.domain.model.PollingTierPolicy;
+
+@Configuration
+public class PollingConfig {
+    
+    // 적응형 게시물 수집 등급 판정 기준
+    @Bean
+    public PollingTierPolicy pollingTierPolicy(
+            @Value("${app.collection.adaptive.hot.max-age-hours:24}") long hotMaxAgeHours,
+            @Value("${app.collection.adaptive.hot.views-per-hour:500}") double hotViewsPerHour,
+            @Value("${app.collection.adaptive.hot.comments-per-hour:20}") double hotCommentsPerHour,
+            @Value("${app.collection.adaptive.warm.max-age-days:7}") long warmMaxAgeDays,
+            @Value("${app.collection.adaptive.warm.views-per-hour:50}") double warmViewsPerHour,
+            @Value("${app.collection.adaptive.daily.max-age-days:90}") long dailyMaxAgeDays,
+            @Value("${app.collection.adaptive.daily.views-per-hour:1}") double dailyViewsPerHour) {
+        return new PollingTierPolicy(
+            Duration.ofHours(hotMaxAgeHours), hotViewsPerHour, hotCommentsPerHour,
+            Duration.ofDays(warmMaxAgeDays), warmViewsPerHour,
+            Duration.ofDays(dailyMaxAgeDays), dailyViewsPerHour);
+    }
+}
@@ -0,0 +1,27 @@
+package kt.aivle.analytics.config.batch;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import kt.aivle.analytics.application.port.out.infrastructure.BatchCoordinationPort;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작업 실행 동안 이 인스턴스가 실행을 소유하고 있음을 표시합니다.
+ * 중단 실행 복구는 표시가 사라진(소유 프로세스가 죽은) 실행만 실패 처리 후 재시작합니다.
+ */
+@RequiredArgsConstructor
+public class BatchExecutionOwnerListener implements JobExecutionListener {
+
+    private final BatchCoordinationPort batchCoordinationPort;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        batchCoordinationPort.registerExecution(jobExecution.getId());
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        batchCoordinationPort.unregisterExecution(jobExecution.getId());
+    }
+}
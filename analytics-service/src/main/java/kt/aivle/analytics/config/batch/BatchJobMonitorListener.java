@@ -0,0 +1,37 @@
+package kt.aivle.analytics.config.batch;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import kt.aivle.analytics.application.service.BatchJobMonitor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 파티션 매니저 스텝의 시작/종료를 BatchJobMonitor에 기록하여 기존 배치 상태 API에서 조회할 수 있게 합니다.
+ */
+@RequiredArgsConstructor
+public class BatchJobMonitorListener implements StepExecutionListener {
+
+    private final BatchJobMonitor batchJobMonitor;
+    private final String jobName;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        batchJobMonitor.recordJobStart(jobName);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode())) {
+            batchJobMonitor.recordJobProgress(jobName, (int) stepExecution.getWriteCount(), (int) stepExecution.getReadCount());
+            batchJobMonitor.recordJobSuccess(jobName);
+        } else {
+            String error = stepExecution.getFailureExceptions().isEmpty()
+                ? stepExecution.getExitStatus().getExitDescription()
+                : stepExecution.getFailureExceptions().get(0).getMessage();
+            batchJobMonitor.recordJobFailure(jobName, error);
+        }
+        return null;
+    }
+}
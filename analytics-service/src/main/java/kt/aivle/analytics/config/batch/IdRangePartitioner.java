@@ -0,0 +1,60 @@
+package kt.aivle.analytics.config.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 테이블 ID 범위를 gridSize개의 연속 구간 [minId, maxId]로 나누는 파티셔너
+ * 각 구간은 독립된 워커 스텝 실행이 되며, 구간 정보는 step ExecutionContext에 저장되어 재시작 시 그대로 재사용됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final Supplier<Optional<Long>> minIdSupplier;
+    private final Supplier<Optional<Long>> maxIdSupplier;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        Optional<Long> min = minIdSupplier.get();
+        Optional<Long> max = maxIdSupplier.get();
+
+        // 대상이 없으면 빈 구간 하나만 생성 (워커는 바로 종료)
+        if (min.isEmpty() || max.isEmpty()) {
+            partitions.put("partition0", range(1L, 0L));
+            return partitions;
+        }
+
+        long minId = min.get();
+        long maxId = max.get();
+        long rangeSize = Math.max(1L, (maxId - minId) / Math.max(1, gridSize) + 1);
+
+        int index = 0;
+        for (long start = minId; start <= maxId; start += rangeSize) {
+            long end = Math.min(maxId, start + rangeSize - 1);
+            partitions.put("partition" + index++, range(start, end));
+        }
+
+        log.info("Partitioned ID range [{}, {}] into {} partitions", minId, maxId, partitions.size());
+        return partitions;
+    }
+
+    private ExecutionContext range(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
@@ -0,0 +1,79 @@
+package kt.aivle.analytics.config.batch;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파티션 구간 (minId, maxId] 내 ID를 키셋 페이지네이션으로 읽는 리더
+ * 청크 커밋 시점마다 마지막으로 읽은 ID를 ExecutionContext에 저장하여, 실패한 파티션은 재시작 시 그 이후부터 이어서 읽습니다.
+ */
+@Slf4j
+public class KeysetIdItemReader implements ItemStreamReader<Long> {
+
+    public static final String LAST_ID = "lastId";
+
+    private final RangePageQuery pageQuery;
+    private final long minId;
+    private final long maxId;
+    private final int pageSize;
+    private final Deque<Long> buffer = new ArrayDeque<>();
+
+    // 마지막으로 조회한 페이지의 끝 ID (다음 페이지 조회 기준)
+    private long lastFetchedId;
+    // 마지막으로 반환한 ID (체크포인트 기준)
+    private long lastReadId;
+
+    public KeysetIdItemReader(RangePageQuery pageQuery, long minId, long maxId, int pageSize) {
+        this.pageQuery = pageQuery;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastReadId = executionContext.containsKey(LAST_ID)
+            ? executionContext.getLong(LAST_ID)
+            : minId - 1;
+        lastFetchedId = lastReadId;
+        buffer.clear();
+
+        if (lastReadId >= minId) {
+            log.info("Resuming partition ({}, {}] from lastId: {}", minId - 1, maxId, lastReadId);
+        }
+    }
+
+    @Override
+    public Long read() {
+        if (buffer.isEmpty()) {
+            List<Long> ids = pageQuery.fetch(lastFetchedId, maxId, pageSize);
+            if (ids.isEmpty()) return null;
+
+            buffer.addAll(ids);
+            lastFetchedId = ids.get(ids.size() - 1);
+        }
+
+        lastReadId = buffer.poll();
+        return lastReadId;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(LAST_ID, lastReadId);
+    }
+
+    /**
+     * lastId < id <= maxId 구간에서 ID 오름차순으로 최대 size개 조회
+     */
+    @FunctionalInterface
+    public interface RangePageQuery {
+        List<Long> fetch(long lastId, long maxId, int size);
+    }
+}
@@ -0,0 +1,76 @@
+package kt.aivle.analytics.config.batch;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+import kt.aivle.analytics.application.service.BatchJobMonitor;
+import kt.aivle.analytics.exception.AnalyticsErrorCode;
+import kt.aivle.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파티션 워커 스텝의 청크 단위 처리
+ * - 청크 커밋마다 같은 워커 스텝의 모든 파티션 처리 건수를 합산해 BatchJobMonitor의 처리량을 갱신
+ * - YouTube 할당량 초과로 청크가 실패하면 실행 중인 다른 파티션도 다음 청크 경계에서 중단(terminateOnly)하여
+ *   할당량이 없는 상태에서 나머지 파티션이 호출을 계속하지 않도록 함 (진행 위치는 남아 재시작 시 이어서 수집)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PartitionChunkListener implements ChunkListener {
+
+    private final BatchJobMonitor batchJobMonitor;
+    private final String jobName;
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepExecution current = context.getStepContext().getStepExecution();
+        String workerStepPrefix = workerStepPrefix(current);
+
+        long processed = current.getJobExecution().getStepExecutions().stream()
+            .filter(stepExecution -> stepExecution.getStepName().startsWith(workerStepPrefix))
+            .mapToLong(StepExecution::getWriteCount)
+            .sum();
+        batchJobMonitor.recordJobProcessed(jobName, (int) processed);
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        if (!isQuotaExceeded(context.getAttribute(ChunkListener.ROLLBACK_EXCEPTION_KEY))) {
+            return;
+        }
+
+        StepExecution current = context.getStepContext().getStepExecution();
+        String workerStepPrefix = workerStepPrefix(current);
+        JobExecution jobExecution = current.getJobExecution();
+
+        int stopped = 0;
+        for (StepExecution sibling : jobExecution.getStepExecutions()) {
+            if (sibling != current && sibling.getStepName().startsWith(workerStepPrefix) && sibling.getStatus().isRunning()) {
+                sibling.setTerminateOnly();
+                stopped++;
+            }
+        }
+        log.warn("⛔ YouTube quota exceeded in {}, stopping {} sibling partitions", current.getStepName(), stopped);
+    }
+
+    // 파티션 스텝 이름은 "워커스텝이름:partitionN"
+    private String workerStepPrefix(StepExecution stepExecution) {
+        String stepName = stepExecution.getStepName();
+        int separator = stepName.indexOf(':');
+        return separator >= 0 ? stepName.substring(0, separator + 1) : stepName;
+    }
+
+    private boolean isQuotaExceeded(Object exception) {
+        Throwable throwable = exception instanceof Throwable t ? t : null;
+        while (throwable != null) {
+            if (throwable instanceof BusinessException e && e.getCode() == AnalyticsErrorCode.YOUTUBE_QUOTA_EXCEEDED) {
+                return true;
+            }
+            throwable = throwable.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package kt.aivle.analytics.config.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 값 형식 비교 (/actuator/cachecodec?samples=50)
+ * 캐시별로 Redis에 저장된 값을 표본 추출해 형식별 크기와 인코딩/디코딩 시간을 측정합니다.
+ * stored는 현재 저장된 바이트 크기이며, 나머지는 같은 값을 각 형식으로 다시 인코딩한 결과입니다.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "cachecodec")
+@RequiredArgsConstructor
+public class CacheCodecBenchmarkEndpoint {
+
+    private static final int DEFAULT_SAMPLES = 50;
+    private static final int MAX_SAMPLES = 1000;
+
+    private final RedisConnectionFactory connectionFactory;
+    private final CacheManager cacheManager;
+
+    @Value("${app.cache.codec.compression-threshold:1024}")
+    private int compressionThreshold;
+
+    @ReadOperation
+    public Map<String, Map<String, CodecStats>> benchmark(@Nullable Integer samples) {
+        int sampleSize = samples != null && samples > 0 ? Math.min(samples, MAX_SAMPLES) : DEFAULT_SAMPLES;
+
+        Map<String, CompactCacheValueSerializer> codecs = new LinkedHashMap<>();
+        codecs.put("json", new CompactCacheValueSerializer(CacheValueFormat.JSON, 0));
+        codecs.put("smile", new CompactCacheValueSerializer(CacheValueFormat.SMILE, 0));
+        codecs.put("smile-lz4", new CompactCacheValueSerializer(CacheValueFormat.SMILE, Math.max(compressionThreshold, 1)));
+        // 읽기는 모든 형식을 판별하므로 어느 인스턴스로 디코딩해도 같음
+        CompactCacheValueSerializer reader = codecs.get("smile");
+
+        Map<String, Map<String, CodecStats>> report = new TreeMap<>();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            for (String cacheName : cacheManager.getCacheNames()) {
+                List<byte[]> storedValues = sampleValues(connection, cacheName, sampleSize);
+                if (storedValues.isEmpty()) {
+                    continue;
+                }
+
+                List<Object> values = new ArrayList<>();
+                long storedBytes = 0;
+                for (byte[] storedValue : storedValues) {
+                    try {
+                        values.add(reader.deserialize(storedValue));
+                        storedBytes += storedValue.length;
+                    } catch (Exception e) {
+                        log.debug("Skipping undecodable cache value in {}: {}", cacheName, e.getMessage());
+                    }
+                }
+                if (values.isEmpty()) {
+                    continue;
+                }
+
+                Map<String, CodecStats> cacheStats = new LinkedHashMap<>();
+                cacheStats.put("stored", new CodecStats(values.size(), storedBytes / values.size(), 0, 0));
+                codecs.forEach((codecName, codec) -> cacheStats.put(codecName, measure(codec, values)));
+                report.put(cacheName, cacheStats);
+            }
+        }
+        return report;
+    }
+
+    private List<byte[]> sampleValues(RedisConnection connection, String cacheName, int sampleSize) {
+        List<byte[]> values = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(cacheName + "::*").count(100).build();
+
+        try (Cursor<byte[]> keys = connection.keyCommands().scan(options)) {
+            while (keys.hasNext() && values.size() < sampleSize) {
+                byte[] value = connection.stringCommands().get(keys.next());
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+
+    private CodecStats measure(CompactCacheValueSerializer codec, List<Object> values) {
+        long totalBytes = 0;
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+
+        for (Object value : values) {
+            long started = System.nanoTime();
+            byte[] encoded = codec.serialize(value);
+            long encodedAt = System.nanoTime();
+            codec.deserialize(encoded);
+            long decodedAt = System.nanoTime();
+
+            totalBytes += encoded.length;
+            encodeNanos += encodedAt - started;
+            decodeNanos += decodedAt - encodedAt;
+        }
+
+        int count = values.size();
+        return new CodecStats(count, totalBytes / count, encodeNanos / count / 1000.0, decodeNanos / count / 1000.0);
+    }
+
+    public record CodecStats(int samples, long avgBytes, double avgEncodeMicros, double avgDecodeMicros) {
+    }
+}
@@ -0,0 +1,74 @@
+package kt.aivle.analytics.config.cache;
+
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬(L1) 캐시 무효화 메시지 발행/해석
+ * 메시지 형식: {인스턴스ID}|{EVICT|CLEAR}|{캐시명}|{키}
+ * 문자열이 아닌 키는 다른 인스턴스에서 같은 키 객체로 복원할 수 없으므로 해당 캐시의 L1 전체를 비움
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "analytics:cache:invalidation";
+
+    private static final String EVICT = "EVICT";
+    private static final String CLEAR = "CLEAR";
+    private static final String DELIMITER = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        if (key instanceof String stringKey) {
+            publish(EVICT, cacheName, stringKey);
+        } else {
+            publishClear(cacheName);
+        }
+    }
+
+    public void publishClear(String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    /**
+     * 수신한 메시지를 L1 캐시에 반영 (자신이 보낸 메시지는 무시)
+     */
+    void apply(String message, TwoLevelCacheManager cacheManager) {
+        String[] parts = message.split("\\" + DELIMITER, 4);
+        if (parts.length < 4) {
+            log.warn("Invalid cache invalidation message: {}", message);
+            return;
+        }
+        if (instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = cacheManager.getLocalCache(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    private void publish(String operation, String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join(DELIMITER, instanceId, operation, cacheName, key));
+        } catch (Exception e) {
+            // 발행 실패 시 다른 인스턴스의 L1은 TTL 만료까지 이전 값을 유지
+            log.warn("Failed to publish cache invalidation - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+}
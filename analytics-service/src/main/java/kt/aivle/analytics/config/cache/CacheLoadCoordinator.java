@@ -0,0 +1,82 @@
+package kt.aivle.analytics.config.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 로드 인스턴스 간 조정
+ * - 키별 짧은 Redis 락으로 클러스터 전체에서 한 인스턴스만 로드하도록 제한
+ * - Redis 항목의 남은 TTL로 값의 나이를 계산 (미리 갱신 판단용)
+ * Redis 장애 시에는 락 없이 로드하도록 허용 (캐시 장애가 조회 실패로 이어지지 않게 함)
+ */
+@Slf4j
+public class CacheLoadCoordinator {
+
+    // Redis 장애로 락을 확인할 수 없을 때 반환하는 토큰 (해제하지 않음)
+    static final String LOCK_UNAVAILABLE = "";
+
+    private static final String LOCK_KEY_PREFIX = "analytics:cache-lock:";
+
+    // 자신이 잡은 락만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+
+    public CacheLoadCoordinator(StringRedisTemplate redisTemplate, Duration lockTtl) {
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * @return 락 토큰, 다른 인스턴스가 로드 중이면 null
+     */
+    String tryLock(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, lockTtl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("Cache load lock unavailable - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+            return LOCK_UNAVAILABLE;
+        }
+    }
+
+    void unlock(String cacheName, String key, String token) {
+        if (token == null || LOCK_UNAVAILABLE.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (Exception e) {
+            // 해제 실패 시 락은 lockTtl 후 만료
+            log.warn("Failed to release cache load lock - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * RedisCache 항목(캐시명::키)의 남은 TTL (밀리초), 알 수 없으면 null
+     */
+    Long remainingTtlMillis(String cacheName, String key) {
+        try {
+            Long ttl = redisTemplate.getExpire(cacheName + "::" + key, TimeUnit.MILLISECONDS);
+            return ttl != null && ttl >= 0 ? ttl : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private String lockKey(String cacheName, String key) {
+        return LOCK_KEY_PREFIX + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,9 @@
+package kt.aivle.analytics.config.cache;
+
+/**
+ * Redis 캐시 값 저장 형식
+ */
+public enum CacheValueFormat {
+    JSON,   // 기존 형식 (GenericJackson2JsonRedisSerializer)
+    SMILE   // Jackson Smile 바이너리 (크기 기준 이상이면 LZ4 압축)
+}
@@ -0,0 +1,125 @@
+package kt.aivle.analytics.config.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Redis 캐시 값 직렬화기
+ * - 쓰기: 설정된 형식(JSON 또는 Smile)으로 저장, Smile은 compressionThreshold 바이트 이상이면 LZ4 압축
+ * - 읽기: 첫 바이트로 형식을 판별하여 기존 JSON 항목도 그대로 읽음 (형식 전환/롤백 시 캐시를 비울 필요 없음)
+ *
+ * 저장 형식
+ *   JSON       : '{', '[', '"' 등으로 시작하는 기존 JSON
+ *   0x01 + ... : Smile
+ *   0x02 + 원본 길이(4바이트) + ... : LZ4 압축된 Smile
+ */
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte SMILE_MARKER = 0x01;
+    static final byte SMILE_LZ4_MARKER = 0x02;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer;
+    private final ObjectMapper smileMapper;
+    private final CacheValueFormat writeFormat;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    /**
+     * @param compressionThreshold 이 크기(바이트) 이상인 Smile 값만 압축 (0 이하면 압축하지 않음)
+     */
+    public CompactCacheValueSerializer(CacheValueFormat writeFormat, int compressionThreshold) {
+        this.jsonSerializer = new GenericJackson2JsonRedisSerializer(cacheObjectMapper(new ObjectMapper()));
+        // 반복되는 짧은 문자열(타입 정보의 클래스명 등)은 역참조로 한 번만 기록
+        this.smileMapper = cacheObjectMapper(new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build()));
+        this.writeFormat = writeFormat;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (writeFormat == CacheValueFormat.JSON) {
+            return jsonSerializer.serialize(value);
+        }
+
+        byte[] smile;
+        try {
+            smile = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+
+        if (compressionThreshold > 0 && smile.length >= compressionThreshold) {
+            byte[] compressed = new byte[1 + Integer.BYTES + compressor.maxCompressedLength(smile.length)];
+            compressed[0] = SMILE_LZ4_MARKER;
+            ByteBuffer.wrap(compressed, 1, Integer.BYTES).putInt(smile.length);
+            int compressedLength = compressor.compress(smile, 0, smile.length, compressed, 1 + Integer.BYTES);
+            return Arrays.copyOf(compressed, 1 + Integer.BYTES + compressedLength);
+        }
+
+        byte[] result = new byte[smile.length + 1];
+        result[0] = SMILE_MARKER;
+        System.arraycopy(smile, 0, result, 1, smile.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return switch (bytes[0]) {
+                case SMILE_MARKER -> smileMapper.readValue(bytes, 1, bytes.length - 1, Object.class);
+                case SMILE_LZ4_MARKER -> {
+                    int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+                    byte[] smile = new byte[originalLength];
+                    decompressor.decompress(bytes, 1 + Integer.BYTES, smile, 0, originalLength);
+                    yield smileMapper.readValue(smile, Object.class);
+                }
+                // 기존 JSON 항목
+                default -> jsonSerializer.deserialize(bytes);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    // Java 8 시간 타입 지원 + 역직렬화용 타입 정보(기존 JSON 캐시와 동일한 설정)
+    private static ObjectMapper cacheObjectMapper(ObjectMapper objectMapper) {
+        JavaTimeModule javaTimeModule = new JavaTimeModule();
+        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        objectMapper.registerModule(javaTimeModule);
+
+        return objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(),
+            ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+    }
+}
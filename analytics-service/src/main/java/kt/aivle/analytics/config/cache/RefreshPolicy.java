@@ -0,0 +1,24 @@
+package kt.aivle.analytics.config.cache;
+
+import java.time.Duration;
+
+/**
+ * 미리 갱신(refresh-ahead) / 만료 값 제공(stale-while-revalidate) 정책
+ * - ttl: 값이 최신으로 간주되는 기간
+ * - aheadFraction: ttl의 이 비율을 지난 값은 제공하면서 백그라운드에서 다시 로드
+ * - staleWindow: ttl이 지난 뒤에도 다시 로드하는 동안 이전 값을 제공하는 기간 (Redis TTL = ttl + staleWindow)
+ */
+public record RefreshPolicy(Duration ttl, double aheadFraction, Duration staleWindow) {
+
+    public Duration redisTtl() {
+        return ttl.plus(staleWindow);
+    }
+
+    boolean shouldRefresh(long ageMillis) {
+        return ageMillis >= ttl.toMillis() * aheadFraction;
+    }
+
+    boolean isExpired(long ageMillis) {
+        return ageMillis >= redisTtl().toMillis();
+    }
+}
@@ -0,0 +1,356 @@
+package kt.aivle.analytics.config.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬(L1, Caffeine) → Redis(L2) 순으로 조회하는 2단계 캐시
+ * - L1 미스 시 L2 값을 L1에 채워 같은 인스턴스의 반복 조회는 Redis 왕복/역직렬화 없이 처리
+ * - 쓰기/삭제는 L2에 먼저 반영한 뒤 다른 인스턴스의 L1을 Redis pub/sub으로 무효화
+ * - L1/L2 조회 결과를 캐시별로 따로 집계 (cache.two-level.gets, cache.two-level.hit.ratio)
+ * - @Cacheable(sync = true) 로드는 인스턴스 내 키별 future와 Redis 락으로 클러스터 전체에서 한 번만 실행
+ * - RefreshPolicy가 있는 캐시는 ttl의 일정 비율이 지난 값을 제공하면서 백그라운드에서 다시 로드
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    // 다른 인스턴스가 로드 중일 때 L2를 다시 확인하는 간격
+    private static final long REMOTE_POLL_INTERVAL_MILLIS = 50;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, LocalEntry> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheLoadCoordinator loadCoordinator;
+    private final RefreshPolicy refreshPolicy;
+    private final Executor refreshExecutor;
+    private final Duration lockWait;
+
+    // 이 인스턴스에서 진행 중인 키별 로드 (요청 로드와 미리 갱신 공용)
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inflightLoads = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter refreshes;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, LocalEntry> localCache, Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher, CacheLoadCoordinator loadCoordinator,
+                         RefreshPolicy refreshPolicy, Executor refreshExecutor, Duration lockWait,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadCoordinator = loadCoordinator;
+        this.refreshPolicy = refreshPolicy;
+        this.refreshExecutor = refreshExecutor;
+        this.lockWait = lockWait;
+        this.localHits = getsCounter(meterRegistry, "l1", "hit");
+        this.localMisses = getsCounter(meterRegistry, "l1", "miss");
+        this.remoteHits = getsCounter(meterRegistry, "l2", "hit");
+        this.remoteMisses = getsCounter(meterRegistry, "l2", "miss");
+        this.refreshes = Counter.builder("cache.two-level.refreshes").tag("cache", name).register(meterRegistry);
+        hitRatioGauge(meterRegistry, "l1", localHits, localMisses);
+        hitRatioGauge(meterRegistry, "l2", remoteHits, remoteMisses);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        LocalEntry entry = lookup(key);
+        return entry != null ? new SimpleValueWrapper(entry.value()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        LocalEntry entry = lookup(key);
+        if (entry != null) {
+            // 오래된 값은 그대로 제공하고 백그라운드에서 다시 로드
+            if (refreshPolicy != null && refreshPolicy.shouldRefresh(entry.ageMillis())) {
+                refreshAsync(key, valueLoader);
+            }
+            return (T) entry.value();
+        }
+
+        try {
+            return (T) loadSingleFlight(key, valueLoader);
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        if (value != null) {
+            localCache.put(key, LocalEntry.fresh(value));
+        }
+        invalidationPublisher.publishEvict(name, key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        if (existing == null) {
+            if (value != null) {
+                localCache.put(key, LocalEntry.fresh(value));
+            }
+            invalidationPublisher.publishEvict(name, key);
+        } else if (existing.get() != null) {
+            localCache.put(key, new LocalEntry(existing.get(), remoteWrittenAt(key)));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(key);
+        invalidationPublisher.publishEvict(name, key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remoteCache.evictIfPresent(key);
+        localCache.invalidate(key);
+        invalidationPublisher.publishEvict(name, key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+        return invalidated;
+    }
+
+    // ===== 다른 인스턴스의 무효화 메시지 처리 (L1만 정리) =====
+
+    void evictLocal(Object key) {
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    // ===== 조회 =====
+
+    private LocalEntry lookup(Object key) {
+        LocalEntry localEntry = localCache.getIfPresent(key);
+        if (localEntry != null && !isExpired(localEntry)) {
+            localHits.increment();
+            return localEntry;
+        }
+        localMisses.increment();
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null || remoteValue.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+
+        LocalEntry entry = new LocalEntry(remoteValue.get(), remoteWrittenAt(key));
+        localCache.put(key, entry);
+        return entry;
+    }
+
+    // L2 항목이 저장된 시각 - 미리 갱신 캐시만 남은 TTL로 계산 (그 외에는 나이를 쓰지 않음)
+    private long remoteWrittenAt(Object key) {
+        long now = System.currentTimeMillis();
+        if (refreshPolicy == null || !(key instanceof String stringKey)) {
+            return now;
+        }
+        Long remainingTtl = loadCoordinator.remainingTtlMillis(name, stringKey);
+        return remainingTtl != null ? now - (refreshPolicy.redisTtl().toMillis() - remainingTtl) : now;
+    }
+
+    private boolean isExpired(LocalEntry entry) {
+        return refreshPolicy != null && refreshPolicy.isExpired(entry.ageMillis());
+    }
+
+    // ===== 로드 =====
+
+    /**
+     * 같은 키의 동시 로드는 먼저 시작한 요청의 결과를 함께 사용 (인스턴스 내 single-flight)
+     */
+    private Object loadSingleFlight(Object key, Callable<?> valueLoader) throws Exception {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflightLoads.putIfAbsent(key, load);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+
+        try {
+            Object value = loadClusterWide(key, valueLoader);
+            load.complete(value);
+            return value;
+        } catch (Exception e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflightLoads.remove(key, load);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 같은 키를 로드 중이면 lockWait 동안 L2에 값이 생기기를 기다리고, 그래도 없으면 직접 로드
+     */
+    private Object loadClusterWide(Object key, Callable<?> valueLoader) throws Exception {
+        String lockKey = key.toString();
+        String lockToken = loadCoordinator.tryLock(name, lockKey);
+
+        if (lockToken == null) {
+            Object loadedByOther = waitForRemoteValue(key);
+            if (loadedByOther != null) {
+                return loadedByOther;
+            }
+            log.debug("Cache load lock wait timed out, loading locally - cache: {}, key: {}", name, key);
+        }
+
+        try {
+            Object value = valueLoader.call();
+            if (value != null) {
+                put(key, value);
+            }
+            return value;
+        } finally {
+            loadCoordinator.unlock(name, lockKey, lockToken);
+        }
+    }
+
+    private Object waitForRemoteValue(Object key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + lockWait.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(REMOTE_POLL_INTERVAL_MILLIS);
+            ValueWrapper remoteValue = remoteCache.get(key);
+            if (remoteValue != null && remoteValue.get() != null) {
+                localCache.put(key, new LocalEntry(remoteValue.get(), remoteWrittenAt(key)));
+                return remoteValue.get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 미리 갱신 - 이미 로드 중이거나 다른 인스턴스가 락을 잡고 있으면 생략
+     */
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (inflightLoads.putIfAbsent(key, refresh) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                String lockKey = key.toString();
+                String lockToken = loadCoordinator.tryLock(name, lockKey);
+                try {
+                    if (lockToken == null) {
+                        refresh.complete(null);
+                        return;
+                    }
+                    Object value = valueLoader.call();
+                    if (value != null) {
+                        put(key, value);
+                        refreshes.increment();
+                    }
+                    refresh.complete(value);
+                } catch (Exception e) {
+                    log.warn("Cache refresh-ahead failed - cache: {}, key: {}, error: {}", name, key, e.getMessage());
+                    refresh.completeExceptionally(e);
+                } finally {
+                    loadCoordinator.unlock(name, lockKey, lockToken);
+                    inflightLoads.remove(key, refresh);
+                }
+            });
+        } catch (Exception e) {
+            // 실행기 포화 등으로 시작하지 못하면 다음 조회에서 다시 시도
+            inflightLoads.remove(key, refresh);
+            refresh.complete(null);
+        }
+    }
+
+    // ===== 메트릭 =====
+
+    private Counter getsCounter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.two-level.gets")
+            .tag("cache", name)
+            .tag("level", level)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private void hitRatioGauge(MeterRegistry meterRegistry, String level, Counter hits, Counter misses) {
+        Gauge.builder("cache.two-level.hit.ratio", () -> {
+                double total = hits.count() + misses.count();
+                return total == 0 ? 0.0 : hits.count() / total;
+            })
+            .tag("cache", name)
+            .tag("level", level)
+            .register(meterRegistry);
+    }
+
+    /**
+     * L1 항목 - 값과 L2 기준 저장 시각
+     */
+    record LocalEntry(Object value, long writtenAtMillis) {
+
+        static LocalEntry fresh(Object value) {
+            return new LocalEntry(value, System.currentTimeMillis());
+        }
+
+        long ageMillis() {
+            return System.currentTimeMillis() - writtenAtMillis;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package kt.aivle.analytics.config.cache;
+
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Redis CacheManager 앞에 캐시별 Caffeine 로컬 캐시를 두는 CacheManager
+ * 로컬 TTL은 설정값과 Redis TTL 중 짧은 쪽을 사용하며, 다른 인스턴스의 변경은 pub/sub 메시지로 무효화합니다.
+ * refreshPolicies에 등록된 캐시는 만료 전에 백그라운드에서 미리 갱신합니다.
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, Duration> remoteTtls;
+    private final Duration localTtl;
+    private final long localMaxSize;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Map<String, RefreshPolicy> refreshPolicies;
+    private final CacheLoadCoordinator loadCoordinator;
+    private final Executor refreshExecutor;
+    private final Duration lockWait;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Map<String, Duration> remoteTtls,
+                                Duration localTtl, long localMaxSize,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                Map<String, RefreshPolicy> refreshPolicies, CacheLoadCoordinator loadCoordinator,
+                                Executor refreshExecutor, Duration lockWait, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.remoteTtls = remoteTtls;
+        this.localTtl = localTtl;
+        this.localMaxSize = localMaxSize;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshPolicies = refreshPolicies;
+        this.loadCoordinator = loadCoordinator;
+        this.refreshExecutor = refreshExecutor;
+        this.lockWait = lockWait;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(cacheName,
+            Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtlOf(cacheName))
+                .<Object, TwoLevelCache.LocalEntry>build(),
+            remoteCache, invalidationPublisher, loadCoordinator, refreshPolicies.get(cacheName),
+            refreshExecutor, lockWait, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidationPublisher.apply(new String(message.getBody(), StandardCharsets.UTF_8), this);
+    }
+
+    // 아직 사용되지 않은 캐시는 무효화할 L1도 없음
+    TwoLevelCache getLocalCache(String name) {
+        return caches.get(name);
+    }
+
+    private Duration localTtlOf(String cacheName) {
+        Duration remoteTtl = remoteTtls.get(cacheName);
+        return remoteTtl != null && remoteTtl.compareTo(localTtl) < 0 ? remoteTtl : localTtl;
+    }
+}
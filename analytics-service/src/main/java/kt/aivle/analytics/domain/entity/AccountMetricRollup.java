@@ -0,0 +1,92 @@
+package kt.aivle.analytics.domain.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kt.aivle.analytics.domain.model.RollupGranularity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계정 메트릭 시간/일 단위 롤업
+ * 구간 내 마지막 값(last), 직전 구간 대비 증가량(delta), 최솟값(min), 최댓값(max)을 저장합니다.
+ */
+@Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(name = "uk_account_metric_rollup", columnNames = {"account_id", "granularity", "bucket_start"}),
+    indexes = @Index(name = "idx_account_metric_rollup_granularity_fetched", columnList = "granularity, last_fetched_at"))
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class AccountMetricRollup extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    // 구간 내 마지막 원본 수집 시각
+    @Column(name = "last_fetched_at", nullable = false)
+    private LocalDateTime lastFetchedAt;
+
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    @Column(name = "followers_last")
+    private Long followersLast;
+    @Column(name = "followers_delta")
+    private Long followersDelta;
+    @Column(name = "followers_min")
+    private Long followersMin;
+    @Column(name = "followers_max")
+    private Long followersMax;
+
+    @Column(name = "views_last")
+    private Long viewsLast;
+    @Column(name = "views_delta")
+    private Long viewsDelta;
+    @Column(name = "views_min")
+    private Long viewsMin;
+    @Column(name = "views_max")
+    private Long viewsMax;
+
+    @Builder
+    public AccountMetricRollup(Long accountId, RollupGranularity granularity, LocalDateTime bucketStart,
+                               LocalDateTime lastFetchedAt, Integer sampleCount,
+                               Long followersLast, Long followersDelta, Long followersMin, Long followersMax,
+                               Long viewsLast, Long viewsDelta, Long viewsMin, Long viewsMax) {
+        this.accountId = accountId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.lastFetchedAt = lastFetchedAt;
+        this.sampleCount = sampleCount;
+        this.followersLast = followersLast;
+        this.followersDelta = followersDelta;
+        this.followersMin = followersMin;
+        this.followersMax = followersMax;
+        this.viewsLast = viewsLast;
+        this.viewsDelta = viewsDelta;
+        this.viewsMin = viewsMin;
+        this.viewsMax = viewsMax;
+    }
+}
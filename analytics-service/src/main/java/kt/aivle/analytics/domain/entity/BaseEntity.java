@@ -23,4 +23,10 @@ public abstract class BaseEntity {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    
+    // JPA를 거치지 않고 JDBC로 직접 저장한 경우 감사(audit) 시각을 채워넣기 위한 용도
+    protected void initAuditTimestamps(LocalDateTime timestamp) {
+        this.createdAt = timestamp;
+        this.updatedAt = timestamp;
+    }
 }
@@ -9,12 +9,23 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import kt.aivle.analytics.domain.model.SentimentType;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 게시물/감정별 댓글 키워드 빈도
+ * AI 감정분석은 배치(댓글 묶음)마다 중복 없는 키워드 목록을 반환하므로, frequency는 댓글 내 등장 횟수가 아니라
+ * 해당 키워드를 반환한 감정분석 배치 수입니다. 조회 시 이 값 기준 상위 키워드만 반환합니다.
+ */
 @Entity(name = "post_comment_keyword")
+@Table(
+    uniqueConstraints = @UniqueConstraint(name = "uk_keyword_post_sentiment_keyword", columnNames = {"post_id", "sentiment", "keyword"}),
+    indexes = @Index(name = "idx_keyword_post_sentiment_frequency", columnList = "post_id, sentiment, frequency"))
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 public class PostCommentKeyword extends BaseEntity {
@@ -33,10 +44,15 @@ public class PostCommentKeyword extends BaseEntity {
     @Column(name = "sentiment", nullable = false)
     private SentimentType sentiment;
 
+    // 키워드를 반환한 감정분석 배치 수 (댓글 수/등장 횟수 아님)
+    @Column(name = "frequency")
+    private Long frequency;
+
     @Builder
-    public PostCommentKeyword(Long postId, String keyword, SentimentType sentiment) {
+    public PostCommentKeyword(Long postId, String keyword, SentimentType sentiment, Long frequency) {
         this.postId = postId;
         this.keyword = keyword;
         this.sentiment = sentiment;
+        this.frequency = frequency != null ? frequency : 1L;
     }
 }
@@ -0,0 +1,106 @@
+package kt.aivle.analytics.domain.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kt.aivle.analytics.domain.model.RollupGranularity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시물 메트릭 시간/일 단위 롤업
+ * 구간 내 마지막 값(last), 직전 구간 대비 증가량(delta), 최솟값(min), 최댓값(max)을 저장합니다.
+ */
+@Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(name = "uk_post_metric_rollup", columnNames = {"post_id", "granularity", "bucket_start"}),
+    indexes = @Index(name = "idx_post_metric_rollup_granularity_fetched", columnList = "granularity, last_fetched_at"))
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class PostMetricRollup extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    // 구간 내 마지막 원본 수집 시각
+    @Column(name = "last_fetched_at", nullable = false)
+    private LocalDateTime lastFetchedAt;
+
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    @Column(name = "views_last")
+    private Long viewsLast;
+    @Column(name = "views_delta")
+    private Long viewsDelta;
+    @Column(name = "views_min")
+    private Long viewsMin;
+    @Column(name = "views_max")
+    private Long viewsMax;
+
+    @Column(name = "likes_last")
+    private Long likesLast;
+    @Column(name = "likes_delta")
+    private Long likesDelta;
+    @Column(name = "likes_min")
+    private Long likesMin;
+    @Column(name = "likes_max")
+    private Long likesMax;
+
+    @Column(name = "comments_last")
+    private Long commentsLast;
+    @Column(name = "comments_delta")
+    private Long commentsDelta;
+    @Column(name = "comments_min")
+    private Long commentsMin;
+    @Column(name = "comments_max")
+    private Long commentsMax;
+
+    @Builder
+    public PostMetricRollup(Long postId, RollupGranularity granularity, LocalDateTime bucketStart,
+                            LocalDateTime lastFetchedAt, Integer sampleCount,
+                            Long viewsLast, Long viewsDelta, Long viewsMin, Long viewsMax,
+                            Long likesLast, Long likesDelta, Long likesMin, Long likesMax,
+                            Long commentsLast, Long commentsDelta, Long commentsMin, Long commentsMax) {
+        this.postId = postId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.lastFetchedAt = lastFetchedAt;
+        this.sampleCount = sampleCount;
+        this.viewsLast = viewsLast;
+        this.viewsDelta = viewsDelta;
+        this.viewsMin = viewsMin;
+        this.viewsMax = viewsMax;
+        this.likesLast = likesLast;
+        this.likesDelta = likesDelta;
+        this.likesMin = likesMin;
+        this.likesMax = likesMax;
+        this.commentsLast = commentsLast;
+        this.commentsDelta = commentsDelta;
+        this.commentsMin = commentsMin;
+        this.commentsMax = commentsMax;
+    }
+}
@@ -0,0 +1,69 @@
+package kt.aivle.analytics.domain.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 생성된 AI 보고서
+ * 보고서 입력(게시물 정보, 메트릭, 감정 카운트, 키워드)의 지문별로 한 번만 생성하여 보관합니다.
+ * 입력이 바뀌면 새 지문으로 새 버전이 저장되고, 바뀌지 않은 게시물은 저장된 보고서를 그대로 사용합니다.
+ */
+@Entity
+@Table(name = "post_report",
+    uniqueConstraints = @UniqueConstraint(name = "uk_post_report_fingerprint", columnNames = {"post_id", "store_id", "input_fingerprint"}))
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class PostReport extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    // 보고서 입력의 SHA-256 (hex)
+    @Column(name = "input_fingerprint", nullable = false, length = 64)
+    private String inputFingerprint;
+
+    @Column(name = "markdown_report", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String markdownReport;
+
+    @Column(name = "title", length = 500)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "url", length = 500)
+    private String url;
+
+    @Column(name = "publish_at", length = 50)
+    private String publishAt;
+
+    @Builder
+    public PostReport(Long postId, Long storeId, String inputFingerprint, String markdownReport,
+                      String title, String description, String url, String publishAt) {
+        this.postId = postId;
+        this.storeId = storeId;
+        this.inputFingerprint = inputFingerprint;
+        this.markdownReport = markdownReport;
+        this.title = title;
+        this.description = description;
+        this.url = url;
+        this.publishAt = publishAt;
+    }
+}
@@ -0,0 +1,128 @@
+package kt.aivle.analytics.domain.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import kt.aivle.analytics.domain.model.ReportJobStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 보고서 생성 작업 (DB 대기열)
+ * available_at: QUEUED는 처리 가능 시각(재시도 대기 포함), RUNNING은 처리 임대 만료 시각
+ * active_key: 대기/처리 중에만 값이 있어 같은 계정/게시물/매장의 미완료 작업은 하나만 존재 (완료/실패 시 NULL)
+ * version: 작업을 가져갈 때마다 증가하여, 임대가 만료된 뒤 늦게 끝난 워커의 상태 저장은 실패 처리
+ */
+@Entity
+@Table(name = "report_job",
+    uniqueConstraints = @UniqueConstraint(name = "uk_report_job_active", columnNames = "active_key"),
+    indexes = {
+        @Index(name = "idx_report_job_status_available", columnList = "status, available_at"),
+        @Index(name = "idx_report_job_post", columnList = "post_id, store_id, account_id")
+    })
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class ReportJob extends BaseEntity {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private ReportJobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    // 완료 시 생성(또는 재사용)된 보고서
+    @Column(name = "post_report_id")
+    private Long postReportId;
+
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    @Column(name = "active_key", length = 100)
+    private String activeKey;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public ReportJob(Long userId, Long accountId, Long postId, Long storeId) {
+        this.userId = userId;
+        this.accountId = accountId;
+        this.postId = postId;
+        this.storeId = storeId;
+        this.status = ReportJobStatus.QUEUED;
+        this.attempts = 0;
+        this.availableAt = LocalDateTime.now();
+        this.activeKey = activeKeyOf(accountId, postId, storeId);
+    }
+
+    private static String activeKeyOf(Long accountId, Long postId, Long storeId) {
+        return accountId + ":" + postId + ":" + storeId;
+    }
+
+    public boolean isFinished() {
+        return status.isFinished();
+    }
+
+    public void complete(Long postReportId) {
+        this.status = ReportJobStatus.COMPLETED;
+        this.postReportId = postReportId;
+        this.errorMessage = null;
+        this.activeKey = null;
+    }
+
+    /**
+     * 대기열로 되돌려 retryAt 이후 다시 처리
+     */
+    public void retryAt(LocalDateTime retryAt, String errorMessage) {
+        this.status = ReportJobStatus.QUEUED;
+        this.availableAt = retryAt;
+        this.errorMessage = truncate(errorMessage);
+    }
+
+    public void fail(String errorMessage) {
+        this.status = ReportJobStatus.FAILED;
+        this.errorMessage = truncate(errorMessage);
+        this.activeKey = null;
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+}
@@ -0,0 +1,87 @@
+package kt.aivle.analytics.domain.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kt.aivle.analytics.domain.model.SentimentCounterScope;
+import kt.aivle.analytics.domain.model.SentimentType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시물/계정별 감정분석 결과 카운터
+ * 전체 누적은 TOTAL_BUCKET 날짜 행에, 일 단위는 댓글 게시일 행에 저장합니다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_sentiment_counter", columnNames = {"scope", "owner_id", "bucket_date"}))
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class SentimentCounter extends BaseEntity {
+
+    // 전체 누적 행의 bucket_date (유니크 키에 NULL을 쓰지 않기 위한 고정값)
+    public static final LocalDate TOTAL_BUCKET = LocalDate.of(1970, 1, 1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 10)
+    private SentimentCounterScope scope;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "positive_count", nullable = false)
+    private Long positiveCount;
+
+    @Column(name = "neutral_count", nullable = false)
+    private Long neutralCount;
+
+    @Column(name = "negative_count", nullable = false)
+    private Long negativeCount;
+
+    @Builder
+    public SentimentCounter(SentimentCounterScope scope, Long ownerId, LocalDate bucketDate,
+                            Long positiveCount, Long neutralCount, Long negativeCount) {
+        this.scope = scope;
+        this.ownerId = ownerId;
+        this.bucketDate = bucketDate;
+        this.positiveCount = positiveCount != null ? positiveCount : 0L;
+        this.neutralCount = neutralCount != null ? neutralCount : 0L;
+        this.negativeCount = negativeCount != null ? negativeCount : 0L;
+    }
+
+    /**
+     * 증가분 집계용 - 감정 하나를 delta만큼 반영 (음수면 감소)
+     */
+    public void add(SentimentType sentiment, long delta) {
+        switch (sentiment) {
+            case POSITIVE -> positiveCount += delta;
+            case NEUTRAL -> neutralCount += delta;
+            case NEGATIVE -> negativeCount += delta;
+        }
+    }
+
+    public boolean isEmpty() {
+        return positiveCount == 0 && neutralCount == 0 && negativeCount == 0;
+    }
+
+    public long getAnalyzedCount() {
+        return positiveCount + neutralCount + negativeCount;
+    }
+}
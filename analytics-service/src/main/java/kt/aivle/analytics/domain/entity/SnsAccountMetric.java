@@ -7,11 +7,17 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_account_metric_account_created", columnList = "account_id, created_at"),
+    @Index(name = "idx_account_metric_created", columnList = "created_at")
+})
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 public class SnsAccountMetric extends BaseEntity {
@@ -2,6 +2,8 @@ package kt.aivle.analytics.domain.entity;
 
 import static lombok.AccessLevel.PROTECTED;
 
+import java.time.LocalDateTime;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -23,6 +25,10 @@ public class SnsPost extends BaseEntity {
     @Column(name = "sns_post_id", nullable = false)
     private String snsPostId;
 
+    // YouTube 게시(공개) 시각 - 첫 메트릭 수집 시 채워짐 (created_at은 이 서비스에 행이 저장된 시각)
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
     @Builder
     public SnsPost(Long id, Long accountId, String snsPostId) {
         this.id = id;
@@ -11,12 +11,21 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import kt.aivle.analytics.domain.model.SentimentType;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(name = "uk_sns_comment_id", columnNames = "sns_comment_id"),
+    indexes = {
+        @Index(name = "idx_comment_post_created", columnList = "post_id, created_at"),
+        @Index(name = "idx_comment_post_published", columnList = "post_id, published_at")
+    })
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 public class SnsPostCommentMetric extends BaseEntity {
@@ -57,4 +66,12 @@ public class SnsPostCommentMetric extends BaseEntity {
         this.publishedAt = publishedAt;
         this.sentiment = sentiment;  // null 허용
     }
+    
+    /**
+     * JDBC 일괄 INSERT 후 생성된 ID와 저장 시각을 반영
+     */
+    public void markPersisted(Long id, LocalDateTime persistedAt) {
+        this.id = id;
+        initAuditTimestamps(persistedAt);
+    }
 }
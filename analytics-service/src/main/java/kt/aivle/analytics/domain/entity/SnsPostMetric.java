@@ -7,11 +7,17 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_post_metric_post_created", columnList = "post_id, created_at"),
+    @Index(name = "idx_post_metric_created", columnList = "created_at")
+})
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 public class SnsPostMetric extends BaseEntity {
@@ -0,0 +1,20 @@
+package kt.aivle.analytics.domain.model;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시물 메트릭 수집 주기 등급
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PollingTier {
+    HOT(Duration.ofMinutes(5)),      // 신규/급상승 게시물
+    WARM(Duration.ofHours(1)),       // 최근 게시물 또는 꾸준히 반응이 있는 게시물
+    DAILY(Duration.ofDays(1)),       // 반응이 적은 게시물
+    DORMANT(Duration.ofDays(7));     // 오래되고 반응이 거의 없는 게시물
+
+    private final Duration interval;
+}
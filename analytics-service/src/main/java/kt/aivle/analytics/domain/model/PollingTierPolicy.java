@@ -0,0 +1,26 @@
+package kt.aivle.analytics.domain.model;
+
+import java.time.Duration;
+
+/**
+ * 게시물 수집 등급(PollingTier) 판정 기준
+ * - 게시물 나이가 maxAge 미만이거나 시간당 증가량이 기준 이상이면 해당 등급 (빠른 등급부터 검사)
+ * - 어느 기준에도 해당하지 않으면 DORMANT
+ */
+public record PollingTierPolicy(Duration hotMaxAge, double hotViewsPerHour, double hotCommentsPerHour,
+                                Duration warmMaxAge, double warmViewsPerHour,
+                                Duration dailyMaxAge, double dailyViewsPerHour) {
+
+    public PollingTier decide(Duration age, double viewsPerHour, double commentsPerHour) {
+        if (age.compareTo(hotMaxAge) < 0 || viewsPerHour >= hotViewsPerHour || commentsPerHour >= hotCommentsPerHour) {
+            return PollingTier.HOT;
+        }
+        if (age.compareTo(warmMaxAge) < 0 || viewsPerHour >= warmViewsPerHour) {
+            return PollingTier.WARM;
+        }
+        if (age.compareTo(dailyMaxAge) < 0 || viewsPerHour >= dailyViewsPerHour) {
+            return PollingTier.DAILY;
+        }
+        return PollingTier.DORMANT;
+    }
+}
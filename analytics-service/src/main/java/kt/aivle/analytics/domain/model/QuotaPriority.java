@@ -0,0 +1,11 @@
+package kt.aivle.analytics.domain.model;
+
+/**
+ * YouTube API 할당량 우선순위
+ * - BATCH: 정기 수집 배치 (예약분을 제외한 한도까지만 사용)
+ * - INTERACTIVE: 사용자 실시간 조회 (일일 한도 전체 사용 가능)
+ */
+public enum QuotaPriority {
+    BATCH,
+    INTERACTIVE
+}
@@ -0,0 +1,16 @@
+package kt.aivle.analytics.domain.model;
+
+/**
+ * AI 보고서 생성 작업 상태
+ * QUEUED/RUNNING은 available_at이 지나면 워커가 가져감 (RUNNING은 임대가 만료된 작업 = 처리하던 인스턴스 장애)
+ */
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,9 @@
+package kt.aivle.analytics.domain.model;
+
+/**
+ * 감정 카운터 집계 대상
+ */
+public enum SentimentCounterScope {
+    POST,
+    ACCOUNT
+}
@@ -0,0 +1,17 @@
+package kt.aivle.analytics.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * YouTube Data API v3 엔드포인트별 할당량(quota unit) 비용
+ */
+@Getter
+@RequiredArgsConstructor
+public enum YouTubeEndpoint {
+    CHANNELS_LIST(1),
+    VIDEOS_LIST(1),
+    COMMENT_THREADS_LIST(1);
+
+    private final int quotaCost;
+}
@@ -30,10 +30,12 @@ public enum AnalyticsErrorCode implements DefaultCode {
     // AI 분석 관련
     AI_ANALYSIS_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, false, "AI 분석 서비스 오류가 발생했습니다."),
     EMOTION_ANALYSIS_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, false, "감정 분석에 실패했습니다."),
+    REPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, false, "보고서 작업을 찾을 수 없습니다."),
     
     // 배치 작업 관련
     BATCH_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, false, "배치 작업을 찾을 수 없습니다."),
     BATCH_OPERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, false, "배치 작업 실행에 실패했습니다."),
+    BATCH_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, false, "이미 실행 중인 배치 작업입니다."),
     
     // 외부 API 관련
     EXTERNAL_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, false, "외부 API 호출에 실패했습니다."),
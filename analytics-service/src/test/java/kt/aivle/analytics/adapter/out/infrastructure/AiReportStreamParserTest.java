@@ -0,0 +1,107 @@
+package kt.aivle.analytics.adapter.out.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.Test;
+
+class AiReportStreamParserTest {
+
+    private final List<String> chunks = new ArrayList<>();
+    private final AiReportStreamParser parser = new AiReportStreamParser(chunks::add);
+
+    @Test
+    void forwardsChunksAndCompletesOnDoneEvent() {
+        feed(
+            ": keep-alive",
+            "data: # 보고서",
+            "",
+            "data: 첫 줄",
+            "data: 둘째 줄",
+            "",
+            "event: done",
+            "data: ",
+            "");
+
+        assertThat(chunks).containsExactly("# 보고서", "첫 줄\n둘째 줄");
+        assertThat(parser.getMarkdown()).isEqualTo("# 보고서첫 줄\n둘째 줄");
+        assertThat(parser.isCompleted()).isTrue();
+        assertThat(parser.getErrorMessage()).isNull();
+    }
+
+    @Test
+    void completesOnDoneDataMarker() {
+        feed(
+            "data:조각",
+            "",
+            "data: [DONE]",
+            "");
+
+        assertThat(chunks).containsExactly("조각");
+        assertThat(parser.isCompleted()).isTrue();
+    }
+
+    @Test
+    void keepsErrorEventDataAsErrorMessage() {
+        feed(
+            "data: 일부",
+            "",
+            "event: error",
+            "data: model overloaded",
+            "");
+
+        assertThat(chunks).containsExactly("일부");
+        assertThat(parser.getErrorMessage()).isEqualTo("model overloaded");
+        assertThat(parser.isCompleted()).isFalse();
+    }
+
+    @Test
+    void dispatchesPendingEventOnCompleteButStaysIncompleteWhenStreamIsCutOff() {
+        feed("data: 끊긴 조각");
+
+        assertThat(chunks).containsExactly("끊긴 조각");
+        assertThat(parser.isCompleted()).isFalse();
+        assertThat(parser.getErrorMessage()).isNull();
+    }
+
+    @Test
+    void ignoresLinesAfterCancel() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        parser.onSubscribe(subscription);
+        parser.onNext("data: 앞부분");
+        parser.onNext("");
+
+        parser.cancel();
+        parser.onNext("data: 뒷부분");
+        parser.onNext("");
+        parser.onComplete();
+
+        assertThat(subscription.cancelled).isTrue();
+        assertThat(chunks).containsExactly("앞부분");
+        assertThat(parser.isCompleted()).isFalse();
+    }
+
+    private void feed(String... lines) {
+        parser.onSubscribe(new RecordingSubscription());
+        for (String line : lines) {
+            parser.onNext(line);
+        }
+        parser.onComplete();
+    }
+
+    private static class RecordingSubscription implements Flow.Subscription {
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
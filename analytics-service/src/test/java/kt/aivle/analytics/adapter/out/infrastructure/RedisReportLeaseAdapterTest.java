@@ -0,0 +1,120 @@
+package kt.aivle.analytics.adapter.out.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class RedisReportLeaseAdapterTest {
+
+    private static final String REPORT_KEY = "10_1_abc";
+    private static final String LEASE_KEY = "analytics:report-lease:" + REPORT_KEY;
+    private static final String RELEASE_CHANNEL = "analytics:report-lease:released";
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisReportLeaseAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        adapter = new RedisReportLeaseAdapter(redisTemplate, mock(RedisMessageListenerContainer.class), 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    void acquiresLeaseAndReleasesItWithOwnToken() {
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), eq(Duration.ofSeconds(30)))).thenReturn(true);
+
+        String token = adapter.tryAcquire(REPORT_KEY);
+        adapter.release(REPORT_KEY, token);
+
+        assertThat(token).isNotNull();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LEASE_KEY)),
+            eq(token), eq(RELEASE_CHANNEL), eq(REPORT_KEY));
+    }
+
+    @Test
+    void returnsNullWhileAnotherRequestHoldsLease() {
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        assertThat(adapter.tryAcquire(REPORT_KEY)).isNull();
+    }
+
+    @Test
+    void generatesWithoutLeaseWhenRedisIsUnavailableOnAcquire() {
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class)))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(adapter.tryAcquire(REPORT_KEY)).isNotNull();
+    }
+
+    @Test
+    void completesAllWaitersOnReleaseNotification() throws Exception {
+        when(redisTemplate.hasKey(LEASE_KEY)).thenReturn(true);
+
+        CompletableFuture<Boolean> first = adapter.awaitRelease(REPORT_KEY, Duration.ofMinutes(10));
+        CompletableFuture<Boolean> second = adapter.awaitRelease(REPORT_KEY, Duration.ofMinutes(10));
+        assertThat(first).isNotDone();
+
+        adapter.onMessage(new DefaultMessage(RELEASE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            REPORT_KEY.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void completesWhenLeaseExpiresWithoutNotification() throws Exception {
+        // 보유 인스턴스가 죽어 알림 없이 만료된 경우
+        when(redisTemplate.hasKey(LEASE_KEY)).thenReturn(true, false);
+
+        CompletableFuture<Boolean> released = adapter.awaitRelease(REPORT_KEY, Duration.ofMinutes(10));
+
+        assertThat(released.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void completesWithFalseOnTimeout() throws Exception {
+        when(redisTemplate.hasKey(LEASE_KEY)).thenReturn(true);
+
+        CompletableFuture<Boolean> released = adapter.awaitRelease(REPORT_KEY, Duration.ofMillis(200));
+
+        assertThat(released.get(2, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    void treatsRedisErrorsWhileWaitingAsStillHeld() throws Exception {
+        when(redisTemplate.hasKey(LEASE_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        CompletableFuture<Boolean> released = adapter.awaitRelease(REPORT_KEY, Duration.ofMillis(200));
+
+        assertThat(released.get(2, TimeUnit.SECONDS)).isFalse();
+    }
+}
@@ -0,0 +1,106 @@
+package kt.aivle.analytics.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import kt.aivle.analytics.adapter.out.persistence.repository.PostCommentKeywordJpaRepository;
+import kt.aivle.analytics.domain.entity.PostCommentKeyword;
+import kt.aivle.analytics.domain.model.SentimentType;
+
+/**
+ * MERGE_SQL(ON DUPLICATE KEY UPDATE) 빈도 누적 동작 - H2 MySQL 호환 모드에서 실제 SQL 실행
+ */
+class PostCommentKeywordRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PostCommentKeywordRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(
+            "CREATE TABLE post_comment_keyword (" +
+            "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "post_id BIGINT NOT NULL, " +
+            "keyword VARCHAR(255) NOT NULL, " +
+            "sentiment VARCHAR(20) NOT NULL, " +
+            "frequency BIGINT, " +
+            "created_at TIMESTAMP, " +
+            "updated_at TIMESTAMP, " +
+            "CONSTRAINT uk_keyword_post_sentiment_keyword UNIQUE (post_id, sentiment, keyword))");
+
+        repository = new PostCommentKeywordRepository(mock(PostCommentKeywordJpaRepository.class), jdbcTemplate);
+    }
+
+    @Test
+    void insertsNewKeywordsWithBatchFrequency() {
+        repository.mergeFrequencies(List.of(
+            keyword(1L, "가격", SentimentType.NEGATIVE),
+            keyword(1L, "디자인", SentimentType.POSITIVE)));
+
+        assertThat(frequencyOf(1L, "가격", SentimentType.NEGATIVE)).isEqualTo(1L);
+        assertThat(frequencyOf(1L, "디자인", SentimentType.POSITIVE)).isEqualTo(1L);
+        assertThat(rowCount()).isEqualTo(2);
+    }
+
+    @Test
+    void accumulatesFrequencyForSamePostSentimentAndKeyword() {
+        repository.mergeFrequencies(List.of(keyword(1L, "가격", SentimentType.NEGATIVE)));
+        repository.mergeFrequencies(List.of(keyword(1L, "가격", SentimentType.NEGATIVE)));
+        repository.mergeFrequencies(List.of(keyword(1L, "가격", SentimentType.NEGATIVE)));
+
+        assertThat(frequencyOf(1L, "가격", SentimentType.NEGATIVE)).isEqualTo(3L);
+        assertThat(rowCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsSeparateRowsPerSentimentAndPost() {
+        repository.mergeFrequencies(List.of(
+            keyword(1L, "가격", SentimentType.NEGATIVE),
+            keyword(1L, "가격", SentimentType.POSITIVE),
+            keyword(2L, "가격", SentimentType.NEGATIVE)));
+        repository.mergeFrequencies(List.of(keyword(1L, "가격", SentimentType.NEGATIVE)));
+
+        assertThat(frequencyOf(1L, "가격", SentimentType.NEGATIVE)).isEqualTo(2L);
+        assertThat(frequencyOf(1L, "가격", SentimentType.POSITIVE)).isEqualTo(1L);
+        assertThat(frequencyOf(2L, "가격", SentimentType.NEGATIVE)).isEqualTo(1L);
+    }
+
+    @Test
+    void treatsLegacyNullFrequencyAsZeroWhenMerging() {
+        jdbcTemplate.update(
+            "INSERT INTO post_comment_keyword (post_id, keyword, sentiment, frequency) VALUES (1, '가격', 'NEGATIVE', NULL)");
+
+        repository.mergeFrequencies(List.of(keyword(1L, "가격", SentimentType.NEGATIVE)));
+
+        assertThat(frequencyOf(1L, "가격", SentimentType.NEGATIVE)).isEqualTo(1L);
+    }
+
+    private PostCommentKeyword keyword(Long postId, String keyword, SentimentType sentiment) {
+        return PostCommentKeyword.builder()
+            .postId(postId)
+            .keyword(keyword)
+            .sentiment(sentiment)
+            .build();
+    }
+
+    private Long frequencyOf(Long postId, String keyword, SentimentType sentiment) {
+        return jdbcTemplate.queryForObject(
+            "SELECT frequency FROM post_comment_keyword WHERE post_id = ? AND keyword = ? AND sentiment = ?",
+            Long.class, postId, keyword, sentiment.name());
+    }
+
+    private int rowCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_comment_keyword", Integer.class);
+    }
+}
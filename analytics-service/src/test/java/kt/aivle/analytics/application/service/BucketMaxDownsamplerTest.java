@@ -0,0 +1,71 @@
+package kt.aivle.analytics.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class BucketMaxDownsamplerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime END = START.plusDays(1);
+
+    @Test
+    void keepsMaximumPerBucketInTimeOrder() {
+        // 하루를 4구간(6시간)으로 나눔
+        BucketMaxDownsampler<Long> downsampler = new BucketMaxDownsampler<>(START, END, 4, Math::max);
+
+        downsampler.accept(START.plusHours(1), 10L);
+        downsampler.accept(START.plusHours(5), 30L);
+        downsampler.accept(START.plusHours(3), 20L);
+        downsampler.accept(START.plusHours(13), 5L);
+        downsampler.accept(START.plusHours(20), 7L);
+        downsampler.accept(START.plusHours(23), 6L);
+
+        assertThat(downsampler.result()).containsExactly(30L, 5L, 7L);
+        assertThat(downsampler.getRawCount()).isEqualTo(6);
+    }
+
+    @Test
+    void skipsEmptyBuckets() {
+        BucketMaxDownsampler<Long> downsampler = new BucketMaxDownsampler<>(START, END, 24, Math::max);
+
+        downsampler.accept(START.plusHours(2), 1L);
+        downsampler.accept(START.plusHours(10), 2L);
+
+        assertThat(downsampler.result()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void clampsSamplesOutsideRangeToEdgeBuckets() {
+        BucketMaxDownsampler<Long> downsampler = new BucketMaxDownsampler<>(START, END, 2, Math::max);
+
+        downsampler.accept(START.minusHours(1), 3L);
+        downsampler.accept(START, 1L);
+        downsampler.accept(END, 4L);
+        downsampler.accept(END.plusDays(1), 9L);
+
+        assertThat(downsampler.result()).containsExactly(3L, 9L);
+    }
+
+    @Test
+    void returnsEverySampleWhenPointsExceedSamples() {
+        BucketMaxDownsampler<Long> downsampler = new BucketMaxDownsampler<>(START, END, 1440, Math::max);
+
+        downsampler.accept(START.plusMinutes(1), 1L);
+        downsampler.accept(START.plusMinutes(2), 2L);
+        downsampler.accept(START.plusMinutes(3), 3L);
+
+        assertThat(downsampler.result()).containsExactly(1L, 2L, 3L);
+        assertThat(downsampler.getRawCount()).isEqualTo(3);
+    }
+
+    @Test
+    void returnsEmptyResultWithoutSamples() {
+        BucketMaxDownsampler<Long> downsampler = new BucketMaxDownsampler<>(START, END, 10, Math::max);
+
+        assertThat(downsampler.result()).isEmpty();
+        assertThat(downsampler.getRawCount()).isZero();
+    }
+}
@@ -0,0 +1,66 @@
+package kt.aivle.analytics.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class MetricRollupAccumulatorTest {
+
+    private static final LocalDateTime BUCKET = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Test
+    void usesFirstSampleAsReferenceWithoutPreviousBucket() {
+        MetricRollupAccumulator accumulator = new MetricRollupAccumulator(1L, BUCKET, 2, null);
+
+        accumulator.addSample(new long[] {100, 10}, BUCKET.plusMinutes(5));
+        accumulator.addSample(new long[] {130, 8}, BUCKET.plusMinutes(20));
+        accumulator.addSample(new long[] {120, 15}, BUCKET.plusMinutes(40));
+
+        assertThat(accumulator.getDelta()).containsExactly(20, 5);
+        assertThat(accumulator.getMin()).containsExactly(100, 8);
+        assertThat(accumulator.getMax()).containsExactly(130, 15);
+        assertThat(accumulator.getLast()).containsExactly(120, 15);
+        assertThat(accumulator.getSampleCount()).isEqualTo(3);
+        assertThat(accumulator.getLastFetchedAt()).isEqualTo(BUCKET.plusMinutes(40));
+    }
+
+    @Test
+    void measuresDeltaFromPreviousBucketLastValue() {
+        MetricRollupAccumulator accumulator = new MetricRollupAccumulator(1L, BUCKET, 2, new long[] {90, 12});
+
+        accumulator.addSample(new long[] {100, 10}, BUCKET.plusMinutes(5));
+        accumulator.addSample(new long[] {110, 10}, BUCKET.plusMinutes(35));
+
+        assertThat(accumulator.getDelta()).containsExactly(20, -2);
+        assertThat(accumulator.getMin()).containsExactly(100, 10);
+        assertThat(accumulator.getMax()).containsExactly(110, 10);
+    }
+
+    @Test
+    void combinesLowerLevelRollups() {
+        MetricRollupAccumulator accumulator = new MetricRollupAccumulator(1L, BUCKET, 2, null);
+
+        accumulator.addRollup(new long[] {110, 9}, new long[] {100, 8}, new long[] {115, 12}, new long[] {10, -1},
+            4, BUCKET.plusMinutes(55));
+        accumulator.addRollup(new long[] {150, 20}, new long[] {105, 9}, new long[] {150, 20}, new long[] {40, 11},
+            6, BUCKET.plusMinutes(115));
+
+        assertThat(accumulator.getDelta()).containsExactly(50, 10);
+        assertThat(accumulator.getMin()).containsExactly(100, 8);
+        assertThat(accumulator.getMax()).containsExactly(150, 20);
+        assertThat(accumulator.getLast()).containsExactly(150, 20);
+        assertThat(accumulator.getSampleCount()).isEqualTo(10);
+        assertThat(accumulator.getLastFetchedAt()).isEqualTo(BUCKET.plusMinutes(115));
+    }
+
+    @Test
+    void matchesOnlySameOwnerAndBucket() {
+        MetricRollupAccumulator accumulator = new MetricRollupAccumulator(1L, BUCKET, 1, null);
+
+        assertThat(accumulator.isSameBucket(1L, BUCKET)).isTrue();
+        assertThat(accumulator.isSameBucket(2L, BUCKET)).isFalse();
+        assertThat(accumulator.isSameBucket(1L, BUCKET.plusHours(1))).isFalse();
+    }
+}
@@ -0,0 +1,69 @@
+package kt.aivle.analytics.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import kt.aivle.analytics.adapter.out.infrastructure.dto.AiReportRequest;
+
+class ReportFingerprintTest {
+
+    @Test
+    void isStableSha256HexForSameInput() {
+        String fingerprint = ReportFingerprint.of(1L, request(List.of("맛집", "친절"), "제목", "설명"));
+
+        assertThat(fingerprint).hasSize(64).matches("[0-9a-f]+");
+        assertThat(ReportFingerprint.of(1L, request(List.of("맛집", "친절"), "제목", "설명"))).isEqualTo(fingerprint);
+    }
+
+    @Test
+    void ignoresKeywordOrder() {
+        assertThat(ReportFingerprint.of(1L, request(List.of("맛집", "친절", "가성비"), "제목", "설명")))
+            .isEqualTo(ReportFingerprint.of(1L, request(List.of("가성비", "맛집", "친절"), "제목", "설명")));
+    }
+
+    @Test
+    void differsByStoreAndContent() {
+        String fingerprint = ReportFingerprint.of(1L, request(List.of("맛집"), "제목", "설명"));
+
+        assertThat(ReportFingerprint.of(2L, request(List.of("맛집"), "제목", "설명"))).isNotEqualTo(fingerprint);
+        assertThat(ReportFingerprint.of(1L, request(List.of("맛집", "친절"), "제목", "설명"))).isNotEqualTo(fingerprint);
+        assertThat(ReportFingerprint.of(1L, request(List.of("맛집"), "제목", "다른 설명"))).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void distinguishesNullFromEmptyAndFieldBoundaries() {
+        assertThat(ReportFingerprint.of(1L, request(List.of(), null, "")))
+            .isNotEqualTo(ReportFingerprint.of(1L, request(List.of(), "", null)));
+        assertThat(ReportFingerprint.of(1L, request(List.of(), "제목설명", "")))
+            .isNotEqualTo(ReportFingerprint.of(1L, request(List.of(), "제목", "설명")));
+        assertThat(ReportFingerprint.of(1L, request(null, "제목", "설명")))
+            .isNotEqualTo(ReportFingerprint.of(1L, request(List.of(), "제목", "설명")));
+    }
+
+    private static AiReportRequest request(List<String> positiveKeywords, String title, String description) {
+        return AiReportRequest.builder()
+            .metrics(AiReportRequest.Metrics.builder()
+                .postId(10L)
+                .viewCount(1000L)
+                .likeCount(50L)
+                .commentCount(5L)
+                .build())
+            .emotionData(AiReportRequest.EmotionData.builder()
+                .positiveCount(3L)
+                .negativeCount(1L)
+                .neutralCount(1L)
+                .positiveKeywords(positiveKeywords)
+                .negativeKeywords(List.of("주차"))
+                .neutralKeywords(List.of())
+                .build())
+            .title(title)
+            .description(description)
+            .url("https://example.com/posts/10")
+            .tags(List.of("cafe", "dessert"))
+            .publishAt("2025-01-01T10:00:00")
+            .build();
+    }
+}
@@ -0,0 +1,188 @@
+package kt.aivle.analytics.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kt.aivle.analytics.application.event.ReportJobFinishedEvent;
+import kt.aivle.analytics.application.port.out.infrastructure.ValidationPort;
+import kt.aivle.analytics.application.port.out.repository.ReportJobRepositoryPort;
+import kt.aivle.analytics.domain.entity.PostReport;
+import kt.aivle.analytics.domain.entity.ReportJob;
+import kt.aivle.analytics.domain.model.ReportJobStatus;
+import kt.aivle.analytics.exception.AnalyticsErrorCode;
+import kt.aivle.common.exception.BusinessException;
+
+class ReportJobServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ACCOUNT_ID = 2L;
+    private static final Long POST_ID = 10L;
+    private static final Long STORE_ID = 3L;
+    private static final Long POST_REPORT_ID = 7L;
+
+    private ReportJobRepositoryPort reportJobRepositoryPort;
+    private AnalyticsQueryService analyticsQueryService;
+    private ApplicationEventPublisher eventPublisher;
+    private final List<Runnable> workerTasks = new ArrayList<>();
+    private ReportJobService service;
+
+    @BeforeEach
+    void setUp() {
+        reportJobRepositoryPort = mock(ReportJobRepositoryPort.class);
+        analyticsQueryService = mock(AnalyticsQueryService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new ReportJobService(reportJobRepositoryPort, analyticsQueryService, mock(ValidationPort.class),
+            eventPublisher, workerTasks::add);
+        ReflectionTestUtils.setField(service, "concurrency", 4);
+        ReflectionTestUtils.setField(service, "leaseSeconds", 1200L);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "retryDelaySeconds", 30L);
+
+        when(reportJobRepositoryPort.claimAvailable(anyInt(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void claimsOnlyAsManyJobsAsFreeWorkerSlots() {
+        when(reportJobRepositoryPort.claimAvailable(eq(4), any())).thenReturn(List.of(claimedJob(1L, 1), claimedJob(2L, 1)));
+
+        service.dispatchJobs();
+        service.dispatchJobs();
+
+        verify(reportJobRepositoryPort).claimAvailable(eq(2), any());
+        assertThat(workerTasks).hasSize(2);
+    }
+
+    @Test
+    void claimsWithLeaseExpiringAfterLeaseSeconds() {
+        service.dispatchJobs();
+
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reportJobRepositoryPort).claimAvailable(eq(4), leaseUntil.capture());
+        assertThat(leaseUntil.getValue()).isBetween(
+            LocalDateTime.now().plusSeconds(1190), LocalDateTime.now().plusSeconds(1200));
+    }
+
+    @Test
+    void completesJobWithGeneratedReportAndPublishesEvent() {
+        ReportJob reportJob = claimedJob(1L, 1);
+        when(analyticsQueryService.generatePostReport(USER_ID, ACCOUNT_ID, POST_ID, STORE_ID)).thenReturn(postReport(POST_REPORT_ID));
+
+        runClaimed(reportJob);
+
+        assertThat(reportJob.getStatus()).isEqualTo(ReportJobStatus.COMPLETED);
+        assertThat(reportJob.getPostReportId()).isEqualTo(POST_REPORT_ID);
+        assertThat(reportJob.getActiveKey()).isNull();
+        verify(reportJobRepositoryPort).save(reportJob);
+        verify(eventPublisher).publishEvent(new ReportJobFinishedEvent(1L, ACCOUNT_ID, ReportJobStatus.COMPLETED));
+    }
+
+    @Test
+    void requeuesRetryableFailureWithBackoffProportionalToAttempts() {
+        ReportJob reportJob = claimedJob(1L, 2);
+        when(analyticsQueryService.generatePostReport(any(), any(), any(), any())).thenThrow(new IllegalStateException("AI timeout"));
+
+        runClaimed(reportJob);
+
+        assertThat(reportJob.getStatus()).isEqualTo(ReportJobStatus.QUEUED);
+        assertThat(reportJob.getAvailableAt()).isBetween(
+            LocalDateTime.now().plusSeconds(50), LocalDateTime.now().plusSeconds(60));
+        assertThat(reportJob.getErrorMessage()).isEqualTo("AI timeout");
+        assertThat(reportJob.getActiveKey()).isNotNull();
+        verify(reportJobRepositoryPort).save(reportJob);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void failsRetryableErrorOnLastAttempt() {
+        ReportJob reportJob = claimedJob(1L, 3);
+        when(analyticsQueryService.generatePostReport(any(), any(), any(), any()))
+            .thenThrow(new BusinessException(AnalyticsErrorCode.AI_ANALYSIS_ERROR));
+
+        runClaimed(reportJob);
+
+        assertThat(reportJob.getStatus()).isEqualTo(ReportJobStatus.FAILED);
+        assertThat(reportJob.getActiveKey()).isNull();
+        verify(eventPublisher).publishEvent(new ReportJobFinishedEvent(1L, ACCOUNT_ID, ReportJobStatus.FAILED));
+    }
+
+    @Test
+    void failsClientErrorWithoutRetry() {
+        ReportJob reportJob = claimedJob(1L, 1);
+        when(analyticsQueryService.generatePostReport(any(), any(), any(), any()))
+            .thenThrow(new BusinessException(AnalyticsErrorCode.POST_NOT_FOUND));
+
+        runClaimed(reportJob);
+
+        assertThat(reportJob.getStatus()).isEqualTo(ReportJobStatus.FAILED);
+    }
+
+    @Test
+    void failsReclaimedJobBeyondMaxAttemptsWithoutCallingAi() {
+        // 처리 중 인스턴스 장애로 임대가 만료되어 다시 가져간 작업
+        ReportJob reportJob = claimedJob(1L, 4);
+
+        runClaimed(reportJob);
+
+        assertThat(reportJob.getStatus()).isEqualTo(ReportJobStatus.FAILED);
+        verify(analyticsQueryService, never()).generatePostReport(any(), any(), any(), any());
+    }
+
+    @Test
+    void skipsStaleCompletionAndFreesWorkerSlot() {
+        ReportJob reportJob = claimedJob(1L, 1);
+        when(analyticsQueryService.generatePostReport(any(), any(), any(), any())).thenReturn(postReport(POST_REPORT_ID));
+        when(reportJobRepositoryPort.save(reportJob)).thenThrow(new OptimisticLockingFailureException("version changed"));
+
+        runClaimed(reportJob);
+        service.dispatchJobs();
+
+        verify(eventPublisher, never()).publishEvent(any());
+        // 처음 가져갈 때와 같이 빈 자리 4개 모두 사용
+        verify(reportJobRepositoryPort, times(2)).claimAvailable(eq(4), any());
+    }
+
+    private void runClaimed(ReportJob reportJob) {
+        when(reportJobRepositoryPort.claimAvailable(eq(4), any())).thenReturn(List.of(reportJob)).thenReturn(List.of());
+        service.dispatchJobs();
+        assertThat(workerTasks).hasSize(1);
+        workerTasks.remove(0).run();
+    }
+
+    // claimAvailable이 돌려주는 상태 - RUNNING, 시도 횟수 증가
+    private ReportJob claimedJob(Long id, int attempts) {
+        ReportJob reportJob = new ReportJob(USER_ID, ACCOUNT_ID, POST_ID, STORE_ID);
+        ReflectionTestUtils.setField(reportJob, "id", id);
+        ReflectionTestUtils.setField(reportJob, "status", ReportJobStatus.RUNNING);
+        ReflectionTestUtils.setField(reportJob, "attempts", attempts);
+        return reportJob;
+    }
+
+    private PostReport postReport(Long id) {
+        PostReport postReport = PostReport.builder()
+            .postId(POST_ID)
+            .storeId(STORE_ID)
+            .inputFingerprint("fingerprint")
+            .markdownReport("# report")
+            .build();
+        ReflectionTestUtils.setField(postReport, "id", id);
+        return postReport;
+    }
+}
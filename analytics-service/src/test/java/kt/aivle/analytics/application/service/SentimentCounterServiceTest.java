@@ -0,0 +1,188 @@
+package kt.aivle.analytics.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kt.aivle.analytics.application.port.out.repository.SentimentCounterRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostCommentMetricRepositoryPort;
+import kt.aivle.analytics.application.port.out.repository.SnsPostRepositoryPort;
+import kt.aivle.analytics.domain.entity.SentimentCounter;
+import kt.aivle.analytics.domain.entity.SnsPost;
+import kt.aivle.analytics.domain.entity.SnsPostCommentMetric;
+import kt.aivle.analytics.domain.model.SentimentCounterScope;
+import kt.aivle.analytics.domain.model.SentimentType;
+
+class SentimentCounterServiceTest {
+
+    private static final Long POST_ID = 10L;
+    private static final Long ACCOUNT_ID = 1L;
+    private static final Long COMMENT_ID = 100L;
+    private static final LocalDate PUBLISHED_DATE = LocalDate.of(2026, 10, 1);
+
+    private SnsPostCommentMetricRepositoryPort commentMetricRepository;
+    private SnsPostRepositoryPort snsPostRepositoryPort;
+    private SentimentCounterRepositoryPort sentimentCounterRepository;
+    private SentimentCounterService service;
+
+    @BeforeEach
+    void setUp() {
+        commentMetricRepository = mock(SnsPostCommentMetricRepositoryPort.class);
+        snsPostRepositoryPort = mock(SnsPostRepositoryPort.class);
+        sentimentCounterRepository = mock(SentimentCounterRepositoryPort.class);
+        service = new SentimentCounterService(commentMetricRepository, snsPostRepositoryPort, sentimentCounterRepository);
+        ReflectionTestUtils.setField(service, "dailyBucketsEnabled", true);
+
+        when(snsPostRepositoryPort.findById(POST_ID)).thenReturn(Optional.of(
+            SnsPost.builder().id(POST_ID).accountId(ACCOUNT_ID).snsPostId("video").build()));
+        when(commentMetricRepository.updateSentiments(any())).thenReturn(List.of());
+        when(sentimentCounterRepository.findTotal(any(), any())).thenReturn(Optional.of(counter(SentimentCounter.TOTAL_BUCKET)));
+    }
+
+    @Test
+    void appliesDeltaFromLockedPreviousSentimentInsteadOfLoadedComment() {
+        // 조회 시점에는 NEGATIVE였지만 다른 트랜잭션이 먼저 POSITIVE로 반영함
+        SnsPostCommentMetric comment = comment(SentimentType.NEGATIVE);
+        when(commentMetricRepository.findSentimentsForUpdate(any())).thenReturn(Map.of(COMMENT_ID, SentimentType.POSITIVE));
+
+        service.updateSentiments(POST_ID, List.of(comment), Map.of(COMMENT_ID, SentimentType.NEUTRAL));
+
+        List<SentimentCounter> deltas = capturedDeltas(2);
+        assertThat(deltas).hasSize(4);
+        assertThat(deltas).allSatisfy(delta -> {
+            assertThat(delta.getPositiveCount()).isEqualTo(-1);
+            assertThat(delta.getNeutralCount()).isEqualTo(1);
+            assertThat(delta.getNegativeCount()).isZero();
+        });
+        assertThat(deltas).extracting(SentimentCounter::getBucketDate)
+            .containsExactlyInAnyOrder(SentimentCounter.TOTAL_BUCKET, PUBLISHED_DATE, SentimentCounter.TOTAL_BUCKET, PUBLISHED_DATE);
+        assertThat(deltas).extracting(SentimentCounter::getScope)
+            .containsExactlyInAnyOrder(SentimentCounterScope.POST, SentimentCounterScope.POST,
+                SentimentCounterScope.ACCOUNT, SentimentCounterScope.ACCOUNT);
+    }
+
+    @Test
+    void countsFirstAnalysisAsIncrementOnly() {
+        Map<Long, SentimentType> previous = new HashMap<>();
+        previous.put(COMMENT_ID, null);
+        when(commentMetricRepository.findSentimentsForUpdate(any())).thenReturn(previous);
+
+        service.updateSentiments(POST_ID, List.of(comment(null)), Map.of(COMMENT_ID, SentimentType.POSITIVE));
+
+        assertThat(capturedDeltas(2)).allSatisfy(delta -> {
+            assertThat(delta.getPositiveCount()).isEqualTo(1);
+            assertThat(delta.getNeutralCount()).isZero();
+            assertThat(delta.getNegativeCount()).isZero();
+        });
+    }
+
+    @Test
+    void skipsCommentAlreadyUpdatedToSameSentimentByAnotherTransaction() {
+        when(commentMetricRepository.findSentimentsForUpdate(any())).thenReturn(Map.of(COMMENT_ID, SentimentType.NEUTRAL));
+
+        service.updateSentiments(POST_ID, List.of(comment(null)), Map.of(COMMENT_ID, SentimentType.NEUTRAL));
+
+        verify(sentimentCounterRepository, never()).incrementAll(anyList());
+    }
+
+    @Test
+    void skipsFailedRows() {
+        when(commentMetricRepository.findSentimentsForUpdate(any())).thenReturn(Map.of(COMMENT_ID, SentimentType.NEGATIVE));
+        when(commentMetricRepository.updateSentiments(any())).thenReturn(List.of(COMMENT_ID));
+
+        List<Long> failedIds = service.updateSentiments(POST_ID, List.of(comment(SentimentType.NEGATIVE)),
+            Map.of(COMMENT_ID, SentimentType.POSITIVE));
+
+        assertThat(failedIds).containsExactly(COMMENT_ID);
+        verify(sentimentCounterRepository, never()).incrementAll(anyList());
+    }
+
+    @Test
+    void rebuildsCounterWhenNotYetCreated() {
+        when(commentMetricRepository.findSentimentsForUpdate(any())).thenReturn(Map.of(COMMENT_ID, SentimentType.NEGATIVE));
+        when(sentimentCounterRepository.findTotal(SentimentCounterScope.POST, POST_ID)).thenReturn(Optional.empty());
+
+        service.updateSentiments(POST_ID, List.of(comment(SentimentType.NEGATIVE)), Map.of(COMMENT_ID, SentimentType.POSITIVE));
+
+        verify(sentimentCounterRepository).rebuild(SentimentCounterScope.POST, POST_ID, true);
+        verify(sentimentCounterRepository, never()).rebuild(SentimentCounterScope.ACCOUNT, ACCOUNT_ID, true);
+        assertThat(capturedDeltas(1)).extracting(SentimentCounter::getScope)
+            .containsOnly(SentimentCounterScope.ACCOUNT);
+    }
+
+    @Test
+    void locksAccountBeforeReadingPreviousSentiments() {
+        when(commentMetricRepository.findSentimentsForUpdate(any())).thenReturn(Map.of(COMMENT_ID, SentimentType.NEGATIVE));
+
+        service.updateSentiments(POST_ID, List.of(comment(SentimentType.NEGATIVE)), Map.of(COMMENT_ID, SentimentType.POSITIVE));
+
+        InOrder order = inOrder(sentimentCounterRepository, commentMetricRepository);
+        order.verify(sentimentCounterRepository).lockOwner(SentimentCounterScope.ACCOUNT, ACCOUNT_ID);
+        order.verify(commentMetricRepository).findSentimentsForUpdate(any());
+        order.verify(commentMetricRepository).updateSentiments(any());
+    }
+
+    @Test
+    void removingPostDeletesPostCountersAndRebuildsAccountCounters() {
+        service.removePost(POST_ID, ACCOUNT_ID);
+
+        InOrder order = inOrder(sentimentCounterRepository);
+        order.verify(sentimentCounterRepository).lockOwner(SentimentCounterScope.ACCOUNT, ACCOUNT_ID);
+        order.verify(sentimentCounterRepository).deleteAll(SentimentCounterScope.POST, POST_ID);
+        order.verify(sentimentCounterRepository).rebuild(SentimentCounterScope.ACCOUNT, ACCOUNT_ID, true);
+    }
+
+    @Test
+    void removingPostLeavesMissingAccountCounterToFallback() {
+        when(sentimentCounterRepository.findTotal(SentimentCounterScope.ACCOUNT, ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        service.removePost(POST_ID, ACCOUNT_ID);
+
+        verify(sentimentCounterRepository).deleteAll(SentimentCounterScope.POST, POST_ID);
+        verify(sentimentCounterRepository, never()).rebuild(any(), any(), anyBoolean());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SentimentCounter> capturedDeltas(int calls) {
+        ArgumentCaptor<List<SentimentCounter>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sentimentCounterRepository, times(calls)).incrementAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    private SnsPostCommentMetric comment(SentimentType loadedSentiment) {
+        SnsPostCommentMetric comment = SnsPostCommentMetric.builder()
+            .snsCommentId("comment")
+            .postId(POST_ID)
+            .publishedAt(PUBLISHED_DATE.atTime(12, 0))
+            .sentiment(loadedSentiment)
+            .build();
+        comment.markPersisted(COMMENT_ID, LocalDateTime.of(2026, 10, 2, 0, 0));
+        return comment;
+    }
+
+    private SentimentCounter counter(LocalDate bucketDate) {
+        return SentimentCounter.builder()
+            .bucketDate(bucketDate)
+            .build();
+    }
+}
@@ -0,0 +1,62 @@
+package kt.aivle.analytics.config.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+class IdRangePartitionerTest {
+
+    @Test
+    void splitsIdRangeIntoContiguousPartitions() {
+        Map<String, ExecutionContext> partitions = partitioner(1L, 100L).partition(4);
+
+        assertThat(partitions).hasSize(4);
+        assertRange(partitions.get("partition0"), 1L, 25L);
+        assertRange(partitions.get("partition1"), 26L, 50L);
+        assertRange(partitions.get("partition2"), 51L, 75L);
+        assertRange(partitions.get("partition3"), 76L, 100L);
+    }
+
+    @Test
+    void lastPartitionEndsAtMaxIdForUnevenRange() {
+        Map<String, ExecutionContext> partitions = partitioner(1L, 10L).partition(3);
+
+        assertThat(partitions).hasSize(3);
+        assertRange(partitions.get("partition0"), 1L, 4L);
+        assertRange(partitions.get("partition1"), 5L, 8L);
+        assertRange(partitions.get("partition2"), 9L, 10L);
+    }
+
+    @Test
+    void createsAtMostOnePartitionPerId() {
+        Map<String, ExecutionContext> partitions = partitioner(5L, 7L).partition(10);
+
+        assertThat(partitions).hasSize(3);
+        assertRange(partitions.get("partition0"), 5L, 5L);
+        assertRange(partitions.get("partition1"), 6L, 6L);
+        assertRange(partitions.get("partition2"), 7L, 7L);
+    }
+
+    @Test
+    void createsSingleEmptyPartitionWhenTableIsEmpty() {
+        IdRangePartitioner partitioner = new IdRangePartitioner(Optional::empty, Optional::empty);
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        assertThat(partitions).containsOnlyKeys("partition0");
+        assertRange(partitions.get("partition0"), 1L, 0L);
+    }
+
+    private static IdRangePartitioner partitioner(long minId, long maxId) {
+        return new IdRangePartitioner(() -> Optional.of(minId), () -> Optional.of(maxId));
+    }
+
+    private static void assertRange(ExecutionContext context, long minId, long maxId) {
+        assertThat(context.getLong(IdRangePartitioner.MIN_ID)).isEqualTo(minId);
+        assertThat(context.getLong(IdRangePartitioner.MAX_ID)).isEqualTo(maxId);
+    }
+}
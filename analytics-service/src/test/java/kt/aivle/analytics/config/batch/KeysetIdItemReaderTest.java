@@ -0,0 +1,91 @@
+package kt.aivle.analytics.config.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+class KeysetIdItemReaderTest {
+
+    private static final String LAST_ID = "lastId";
+
+    // 구간 밖의 ID도 섞어 두어 (lastId, maxId] 조건을 확인
+    private static final List<Long> IDS = LongStream.rangeClosed(1, 12).boxed().toList();
+
+    private final List<Long> fetchedFrom = new ArrayList<>();
+
+    @Test
+    void readsEveryIdInRangeAcrossPages() {
+        KeysetIdItemReader reader = reader(3L, 10L, 3);
+        reader.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactly(3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(fetchedFrom).containsExactly(2L, 5L, 8L, 10L);
+    }
+
+    @Test
+    void checkpointsLastReturnedIdRatherThanLastFetchedPage() {
+        KeysetIdItemReader reader = reader(1L, 10L, 5);
+        ExecutionContext context = new ExecutionContext();
+        reader.open(context);
+
+        reader.read();
+        reader.read();
+        reader.update(context);
+
+        assertThat(context.getLong(LAST_ID)).isEqualTo(2L);
+    }
+
+    @Test
+    void restartResumesAfterCheckpointedLastId() {
+        ExecutionContext context = new ExecutionContext();
+        KeysetIdItemReader firstRun = reader(1L, 10L, 3);
+        firstRun.open(context);
+        for (int i = 0; i < 4; i++) {
+            firstRun.read();
+        }
+        firstRun.update(context);
+
+        // 실패 후 같은 ExecutionContext로 재시작
+        fetchedFrom.clear();
+        KeysetIdItemReader restarted = reader(1L, 10L, 3);
+        restarted.open(context);
+
+        assertThat(readAll(restarted)).containsExactly(5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(fetchedFrom.get(0)).isEqualTo(4L);
+    }
+
+    @Test
+    void completedPartitionReadsNothingOnRestart() {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(LAST_ID, 10L);
+
+        KeysetIdItemReader reader = reader(1L, 10L, 3);
+        reader.open(context);
+
+        assertThat(reader.read()).isNull();
+    }
+
+    private KeysetIdItemReader reader(long minId, long maxId, int pageSize) {
+        return new KeysetIdItemReader((lastId, rangeMaxId, size) -> {
+            fetchedFrom.add(lastId);
+            return IDS.stream()
+                .filter(id -> id > lastId && id <= rangeMaxId)
+                .limit(size)
+                .toList();
+        }, minId, maxId, pageSize);
+    }
+
+    private List<Long> readAll(KeysetIdItemReader reader) {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = reader.read()) != null) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,98 @@
+package kt.aivle.analytics.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class CompactCacheValueSerializerTest {
+
+    private static final int THRESHOLD = 512;
+
+    private final CompactCacheValueSerializer jsonSerializer = new CompactCacheValueSerializer(CacheValueFormat.JSON, THRESHOLD);
+    private final CompactCacheValueSerializer smileSerializer = new CompactCacheValueSerializer(CacheValueFormat.SMILE, THRESHOLD);
+
+    @Test
+    void writesPlainJsonInJsonFormat() {
+        Map<String, Object> value = smallValue();
+
+        byte[] bytes = jsonSerializer.serialize(value);
+
+        assertThat((char) bytes[0]).isIn('{', '[');
+        assertThat(jsonSerializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void writesSmileWithoutCompressionBelowThreshold() {
+        Map<String, Object> value = smallValue();
+
+        byte[] bytes = smileSerializer.serialize(value);
+
+        assertThat(bytes.length).isLessThan(THRESHOLD);
+        assertThat(bytes[0]).isEqualTo(CompactCacheValueSerializer.SMILE_MARKER);
+        assertThat(smileSerializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void compressesLargeSmileValuesWithLz4() {
+        Map<String, Object> value = largeValue();
+        CompactCacheValueSerializer uncompressed = new CompactCacheValueSerializer(CacheValueFormat.SMILE, 0);
+
+        byte[] bytes = smileSerializer.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo(CompactCacheValueSerializer.SMILE_LZ4_MARKER);
+        assertThat(bytes.length).isLessThan(uncompressed.serialize(value).length);
+        assertThat(smileSerializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void readsExistingJsonEntriesInSmileFormat() {
+        Map<String, Object> value = smallValue();
+
+        byte[] json = jsonSerializer.serialize(value);
+
+        assertThat(smileSerializer.deserialize(json)).isEqualTo(value);
+    }
+
+    @Test
+    void readsSmileEntriesAfterRollbackToJson() {
+        Map<String, Object> small = smallValue();
+        Map<String, Object> large = largeValue();
+
+        assertThat(jsonSerializer.deserialize(smileSerializer.serialize(small))).isEqualTo(small);
+        assertThat(jsonSerializer.deserialize(smileSerializer.serialize(large))).isEqualTo(large);
+    }
+
+    @Test
+    void handlesNullAndEmptyValues() {
+        assertThat(smileSerializer.serialize(null)).isEmpty();
+        assertThat(smileSerializer.deserialize(null)).isNull();
+        assertThat(smileSerializer.deserialize(new byte[0])).isNull();
+    }
+
+    private static Map<String, Object> smallValue() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("postId", 42);
+        value.put("keyword", "맛집");
+        value.put("tags", new ArrayList<>(List.of("positive", "neutral")));
+        return value;
+    }
+
+    private static Map<String, Object> largeValue() {
+        List<Object> comments = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> comment = new LinkedHashMap<>();
+            comment.put("commentId", i);
+            comment.put("content", "댓글 본문이 길게 반복되는 캐시 항목입니다. ".repeat(5) + i);
+            comments.add(comment);
+        }
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("postId", 42);
+        value.put("comments", comments);
+        return value;
+    }
+}
@@ -0,0 +1,189 @@
+package kt.aivle.analytics.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TwoLevelCacheTest {
+
+    private static final String KEY = "10_1";
+
+    // ttl 1초, 0.5초부터 미리 갱신, 만료 후 1초 동안 이전 값 제공
+    private static final RefreshPolicy REFRESH_POLICY = new RefreshPolicy(Duration.ofSeconds(1), 0.5, Duration.ofSeconds(1));
+
+    private ConcurrentMapCache remoteCache;
+    private CacheLoadCoordinator loadCoordinator;
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("realtime");
+        loadCoordinator = mock(CacheLoadCoordinator.class);
+        when(loadCoordinator.tryLock(anyString(), anyString())).thenReturn("token");
+    }
+
+    @Test
+    void concurrentLoadsOfSameKeyRunLoaderOnce() throws Exception {
+        TwoLevelCache cache = cache(null, Duration.ofSeconds(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "value";
+        };
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.get(KEY, loader)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(remoteCache.get(KEY, String.class)).isEqualTo("value");
+    }
+
+    @Test
+    void waitsForValueLoadedByAnotherInstanceInsteadOfLoading() throws Exception {
+        when(loadCoordinator.tryLock(anyString(), anyString())).thenReturn(null);
+        TwoLevelCache cache = cache(null, Duration.ofSeconds(2));
+        AtomicInteger loads = new AtomicInteger();
+
+        Thread otherInstance = new Thread(() -> {
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            remoteCache.put(KEY, "loaded-elsewhere");
+        });
+        otherInstance.start();
+
+        String value = cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            return "loaded-here";
+        });
+        otherInstance.join();
+
+        assertThat(value).isEqualTo("loaded-elsewhere");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void loadsLocallyWhenLockWaitTimesOut() {
+        when(loadCoordinator.tryLock(anyString(), anyString())).thenReturn(null);
+        TwoLevelCache cache = cache(null, Duration.ofMillis(100));
+
+        assertThat(cache.get(KEY, () -> "loaded-here")).isEqualTo("loaded-here");
+    }
+
+    @Test
+    void servesAgingValueAndRefreshesItInBackground() {
+        TwoLevelCache cache = cache(REFRESH_POLICY, Duration.ofSeconds(1));
+        cache.put(KEY, "old");
+        ageLocalEntry(cache, "old", 600);
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            return "new";
+        };
+
+        assertThat(cache.get(KEY, loader)).isEqualTo("old");
+        // 갱신이 진행 중이면 다시 예약하지 않음
+        assertThat(cache.get(KEY, loader)).isEqualTo("old");
+        assertThat(refreshTasks).hasSize(1);
+        assertThat(loads).hasValue(0);
+
+        refreshTasks.remove(0).run();
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get(KEY, loader)).isEqualTo("new");
+        assertThat(remoteCache.get(KEY, String.class)).isEqualTo("new");
+    }
+
+    @Test
+    void doesNotRefreshFreshValue() {
+        TwoLevelCache cache = cache(REFRESH_POLICY, Duration.ofSeconds(1));
+        cache.put(KEY, "fresh");
+
+        assertThat(cache.get(KEY, () -> "new")).isEqualTo("fresh");
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    @Test
+    void skipsRefreshWhileAnotherInstanceHoldsLoadLock() {
+        TwoLevelCache cache = cache(REFRESH_POLICY, Duration.ofSeconds(1));
+        cache.put(KEY, "old");
+        ageLocalEntry(cache, "old", 600);
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            return "new";
+        };
+
+        cache.get(KEY, loader);
+        when(loadCoordinator.tryLock(anyString(), anyString())).thenReturn(null);
+        refreshTasks.remove(0).run();
+
+        assertThat(loads).hasValue(0);
+        // 생략된 갱신은 다음 조회에서 다시 예약
+        assertThat(cache.get(KEY, loader)).isEqualTo("old");
+        assertThat(refreshTasks).hasSize(1);
+    }
+
+    @Test
+    void loadsSynchronouslyOnceValueIsPastStaleWindow() {
+        TwoLevelCache cache = cache(REFRESH_POLICY, Duration.ofSeconds(1));
+        ageLocalEntry(cache, "expired", 2500);
+
+        assertThat(cache.get(KEY, () -> "new")).isEqualTo("new");
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    private TwoLevelCache cache(RefreshPolicy refreshPolicy, Duration lockWait) {
+        return new TwoLevelCache("realtime",
+            Caffeine.newBuilder().<Object, TwoLevelCache.LocalEntry>build(),
+            remoteCache, mock(CacheInvalidationPublisher.class), loadCoordinator, refreshPolicy,
+            refreshTasks::add, lockWait, new SimpleMeterRegistry());
+    }
+
+    // L1 항목을 주어진 시간만큼 전에 저장된 것으로 교체
+    @SuppressWarnings("unchecked")
+    private void ageLocalEntry(TwoLevelCache cache, Object value, long ageMillis) {
+        Cache<Object, TwoLevelCache.LocalEntry> localCache =
+            (Cache<Object, TwoLevelCache.LocalEntry>) ReflectionTestUtils.getField(cache, "localCache");
+        localCache.put(KEY, new TwoLevelCache.LocalEntry(value, System.currentTimeMillis() - ageMillis));
+    }
+}
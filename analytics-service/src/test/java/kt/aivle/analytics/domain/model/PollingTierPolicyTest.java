@@ -0,0 +1,42 @@
+package kt.aivle.analytics.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class PollingTierPolicyTest {
+
+    // 기본 설정과 같은 기준
+    private final PollingTierPolicy policy = new PollingTierPolicy(
+        Duration.ofHours(24), 500, 20,
+        Duration.ofDays(7), 50,
+        Duration.ofDays(90), 1);
+
+    @Test
+    void decidesTierByAgeWithoutActivity() {
+        assertThat(policy.decide(Duration.ofHours(23), 0, 0)).isEqualTo(PollingTier.HOT);
+        assertThat(policy.decide(Duration.ofHours(24), 0, 0)).isEqualTo(PollingTier.WARM);
+        assertThat(policy.decide(Duration.ofDays(6), 0, 0)).isEqualTo(PollingTier.WARM);
+        assertThat(policy.decide(Duration.ofDays(7), 0, 0)).isEqualTo(PollingTier.DAILY);
+        assertThat(policy.decide(Duration.ofDays(89), 0, 0)).isEqualTo(PollingTier.DAILY);
+        assertThat(policy.decide(Duration.ofDays(90), 0, 0)).isEqualTo(PollingTier.DORMANT);
+    }
+
+    @Test
+    void promotesOldPostsByActivity() {
+        Duration old = Duration.ofDays(365);
+
+        assertThat(policy.decide(old, 500, 0)).isEqualTo(PollingTier.HOT);
+        assertThat(policy.decide(old, 0, 20)).isEqualTo(PollingTier.HOT);
+        assertThat(policy.decide(old, 50, 19)).isEqualTo(PollingTier.WARM);
+        assertThat(policy.decide(old, 1, 0)).isEqualTo(PollingTier.DAILY);
+        assertThat(policy.decide(old, 0.5, 0)).isEqualTo(PollingTier.DORMANT);
+    }
+
+    @Test
+    void treatsDecreasingCountsAsNoActivity() {
+        assertThat(policy.decide(Duration.ofDays(365), -100, -5)).isEqualTo(PollingTier.DORMANT);
+    }
+}